@@ -20,6 +20,7 @@ import java.util.Optional;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import java.util.stream.Collectors;
+import uk.ac.ebi.pride.jmztab2.model.MZTabRegexRules;
 import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.REGEX_ABUNDANCE_ASSAY_COLUMN_NAME;
 
 /**
@@ -194,7 +195,7 @@ public class MzTabAccess {
     public Optional<Assay> getAssayFor(OptColumnMapping columnMapping, Metadata metadata) {
         String identifier = columnMapping.getIdentifier();
         if (identifier != null) {
-            Pattern p = Pattern.compile(REGEX_ABUNDANCE_ASSAY_COLUMN_NAME);
+            Pattern p = MZTabRegexRules.pattern(REGEX_ABUNDANCE_ASSAY_COLUMN_NAME);
             Matcher m = p.matcher(identifier);
             if (m.find()) {
                 Integer assayId = Integer.parseInt(m.group(1));
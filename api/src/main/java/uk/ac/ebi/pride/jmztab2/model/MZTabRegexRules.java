@@ -0,0 +1,381 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.model;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.regex.Pattern;
+import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.*;
+
+/**
+ * Registry of precompiled regular expression rules, keyed by the regular
+ * expression, e.g. one of the <code>REGEX_</code> constants in
+ * {@link MZTabConstants}.
+ *
+ * Each regular expression is only compiled once. All rules are immutable and
+ * thread-safe, a new {@link java.util.regex.Matcher} is created per call. The
+ * rules for the adduct, spectra reference and default reliability expressions,
+ * which are checked for every row of a file, are hand-written and do not use a
+ * {@link java.util.regex.Matcher} at all. They accept exactly the same values
+ * as their regular expressions.
+ *
+ * The registry is meant for the fixed set of expressions used by the mzTab
+ * parsers and validators, not for arbitrary, user defined expressions.
+ *
+ * @author nilshoffmann
+ */
+public final class MZTabRegexRules {
+
+    /**
+     * A precompiled regular expression rule.
+     */
+    public interface Rule {
+
+        /**
+         * Returns the compiled pattern of this rule.
+         *
+         * @return the pattern.
+         */
+        Pattern getPattern();
+
+        /**
+         * Whether the entire input matches this rule, as
+         * {@link java.util.regex.Matcher#matches()}.
+         *
+         * @param input the input to check.
+         * @return true, if the input matches.
+         */
+        boolean matches(CharSequence input);
+
+        /**
+         * Whether the input contains a match of this rule, as
+         * {@link java.util.regex.Matcher#find()}.
+         *
+         * @param input the input to check.
+         * @return true, if a match was found.
+         */
+        boolean find(CharSequence input);
+    }
+
+    private static final ConcurrentMap<String, Rule> RULES = new ConcurrentHashMap<>();
+
+    static {
+        register(new AdductRule());
+        register(new ReliabilityRule());
+        register(new SequenceRule(REGEX_SPECTRA_REF_THERMO_NATIVE,
+            literal("controllerType="), Segment.DIGITS,
+            literal(" controllerNumber="), Segment.POSITIVE,
+            literal(" scan="), Segment.POSITIVE));
+        register(new SequenceRule(REGEX_SPECTRA_REF_WATERS_NATIVE,
+            literal("function="), Segment.POSITIVE,
+            literal(" process="), Segment.DIGITS,
+            literal(" scan="), Segment.DIGITS));
+        register(new SequenceRule(REGEX_SPECTRA_REF_WIFF_NATIVE,
+            literal("sample="), Segment.DIGITS,
+            literal(" period="), Segment.DIGITS,
+            literal(" cycle="), Segment.DIGITS,
+            literal(" experiment="), Segment.DIGITS));
+        register(new SequenceRule(REGEX_SPECTRA_REF_INDEX,
+            literal("index="), Segment.DIGITS));
+        register(new SequenceRule(REGEX_SPECTRA_REF_FILE,
+            literal("file="), Segment.WORD));
+        register(new SequenceRule(REGEX_SPECTRA_REF_SPECTRUM,
+            literal("spectrum="), Segment.DIGITS));
+        register(new SequenceRule(REGEX_SPECTRA_REF_MZML_UNIQUE,
+            Segment.WORD));
+        register(new SequenceRule(REGEX_SPECTRA_REF_SCAN,
+            literal("scan="), Segment.DIGITS));
+    }
+
+    /**
+     * Private constructor.
+     */
+    private MZTabRegexRules() {
+    }
+
+    private static void register(Rule rule) {
+        RULES.put(rule.getPattern().
+            pattern(), rule);
+    }
+
+    /**
+     * Returns the rule for the given regular expression. The expression is
+     * compiled on first use.
+     *
+     * @param regex the regular expression.
+     * @return the rule.
+     * @throws java.util.regex.PatternSyntaxException if the expression is
+     * invalid.
+     */
+    public static Rule rule(String regex) {
+        Rule rule = RULES.get(regex);
+        if (rule == null) {
+            rule = RULES.computeIfAbsent(regex, PatternRule::new);
+        }
+        return rule;
+    }
+
+    /**
+     * Returns the compiled pattern for the given regular expression. The
+     * expression is compiled on first use.
+     *
+     * @param regex the regular expression.
+     * @return the pattern.
+     * @throws java.util.regex.PatternSyntaxException if the expression is
+     * invalid.
+     */
+    public static Pattern pattern(String regex) {
+        return rule(regex).getPattern();
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '_';
+    }
+
+    private static boolean isLineTerminator(char c) {
+        return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028'
+            || c == '\u2029';
+    }
+
+    private static int skipDigits(CharSequence input, int from) {
+        int i = from;
+        while (i < input.length() && isDigit(input.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    private static int skipWordChars(CharSequence input, int from) {
+        int i = from;
+        while (i < input.length() && isWordChar(input.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Rule backed by a compiled pattern.
+     */
+    private static final class PatternRule implements Rule {
+
+        private final Pattern pattern;
+
+        PatternRule(String regex) {
+            this.pattern = Pattern.compile(regex);
+        }
+
+        @Override
+        public Pattern getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public boolean matches(CharSequence input) {
+            return pattern.matcher(input).
+                matches();
+        }
+
+        @Override
+        public boolean find(CharSequence input) {
+            return pattern.matcher(input).
+                find();
+        }
+    }
+
+    /**
+     * Hand-written rule for {@link MZTabConstants#REGEX_ADDUCT}.
+     */
+    private static final class AdductRule implements Rule {
+
+        private final Pattern pattern = Pattern.compile(REGEX_ADDUCT);
+
+        @Override
+        public Pattern getPattern() {
+            return pattern;
+        }
+
+        @Override
+        public boolean matches(CharSequence input) {
+            int n = input.length();
+            if (n == 0 || input.charAt(0) != '[') {
+                return false;
+            }
+            int i = skipDigits(input, 1);
+            if (i >= n || input.charAt(i) != 'M') {
+                return false;
+            }
+            i++;
+            while (i < n && (input.charAt(i) == '+' || input.charAt(i) == '-')) {
+                int end = skipWordChars(input, i + 1);
+                if (end == i + 1) {
+                    return false;
+                }
+                i = end;
+            }
+            if (i >= n || input.charAt(i) != ']') {
+                return false;
+            }
+            i = skipDigits(input, i + 1);
+            return i == n - 1 && (input.charAt(i) == '+' || input.charAt(i) == '-');
+        }
+
+        @Override
+        public boolean find(CharSequence input) {
+            // the expression is anchored, but '$' also matches before a final
+            // line terminator, which is rare enough to leave to the pattern
+            return matches(input) || (input.length() > 0 && isLineTerminator(
+                input.charAt(input.length() - 1)) && pattern.matcher(input).
+                find());
+        }
+    }
+
+    /**
+     * Hand-written rule for {@link MZTabConstants#REGEX_DEFAULT_RELIABILITY}.
+     */
+    private static final class ReliabilityRule implements Rule {
+
+        private final Pattern pattern = Pattern.compile(
+            REGEX_DEFAULT_RELIABILITY);
+
+        @Override
+        public Pattern getPattern() {
+            return pattern;
+        }
+
+        private boolean isReliability(char c) {
+            return c >= '1' && c <= '4';
+        }
+
+        @Override
+        public boolean matches(CharSequence input) {
+            return input.length() == 1 && isReliability(input.charAt(0));
+        }
+
+        @Override
+        public boolean find(CharSequence input) {
+            for (int i = 0; i < input.length(); i++) {
+                if (isReliability(input.charAt(i))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Part of a {@link SequenceRule}. Consumes input from the given position
+     * and returns the position after the consumed input, or -1, if the input
+     * does not match.
+     */
+    @FunctionalInterface
+    private interface Segment {
+
+        /**
+         * One or more digits, <code>[\d]+</code>.
+         */
+        Segment DIGITS = (input, from) -> {
+            int end = skipDigits(input, from);
+            return end > from ? end : -1;
+        };
+
+        /**
+         * A number without leading zero, <code>[1-9]\d*</code>.
+         */
+        Segment POSITIVE = (input, from) -> {
+            if (from < input.length() && input.charAt(from) >= '1' && input.
+                charAt(from) <= '9') {
+                return skipDigits(input, from + 1);
+            }
+            return -1;
+        };
+
+        /**
+         * One or more word characters, <code>[\w]+</code>.
+         */
+        Segment WORD = (input, from) -> {
+            int end = skipWordChars(input, from);
+            return end > from ? end : -1;
+        };
+
+        int consume(CharSequence input, int from);
+    }
+
+    private static Segment literal(String text) {
+        return (input, from) -> {
+            if (input.length() - from < text.length()) {
+                return -1;
+            }
+            for (int i = 0; i < text.length(); i++) {
+                if (input.charAt(from + i) != text.charAt(i)) {
+                    return -1;
+                }
+            }
+            return from + text.length();
+        };
+    }
+
+    /**
+     * Hand-written rule for expressions that are a plain sequence of literals
+     * and character class runs, like the spectra reference formats. The runs
+     * are consumed greedily, which is equivalent to the regular expression,
+     * since no run is followed by a character of its own class.
+     */
+    private static final class SequenceRule implements Rule {
+
+        private final Pattern pattern;
+        private final Segment[] segments;
+
+        SequenceRule(String regex, Segment... segments) {
+            this.pattern = Pattern.compile(regex);
+            this.segments = segments;
+        }
+
+        @Override
+        public Pattern getPattern() {
+            return pattern;
+        }
+
+        private int consume(CharSequence input, int from) {
+            int i = from;
+            for (Segment segment : segments) {
+                i = segment.consume(input, i);
+                if (i < 0) {
+                    return -1;
+                }
+            }
+            return i;
+        }
+
+        @Override
+        public boolean matches(CharSequence input) {
+            return consume(input, 0) == input.length();
+        }
+
+        @Override
+        public boolean find(CharSequence input) {
+            for (int start = 0; start < input.length(); start++) {
+                if (consume(input, start) >= 0) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -2,10 +2,6 @@ package uk.ac.ebi.pride.jmztab2.utils.errors;
 
 import org.lifstools.mztab2.model.ValidationMessage;
 import java.io.Serializable;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.NEW_LINE;
 
 /**
@@ -33,11 +29,13 @@ public class MZTabError implements Serializable {
 
     private int lineNumber;
     private MZTabErrorType type;
+    private String[] values;
     private String message;
 
     /**
      * System will fill a couple of values one by one, and generate a concrete
-     * error message during parse {@link #lineNumber} line in mzTab file.
+     * error message during parse {@link #lineNumber} line in mzTab file. The
+     * message is only rendered when it is first requested.
      *
      * @param type SHOULD NOT null.
      * @param lineNumber SHOULD be positive integer. Except "-1", which means
@@ -52,35 +50,14 @@ public class MZTabError implements Serializable {
 
         this.lineNumber = lineNumber;
 
-        List<String> valueList = new ArrayList<String>();
-        for (String value : values) {
-            valueList.add(value == null ? "" : value);
-        }
-
-        this.message = fill(0, valueList, type.getOriginal());
-    }
-
-    /**
-     * fill "{id}" parameter list one by one.
-     */
-    private String fill(int count, List<String> values, String message) {
-        String regexp = "\\{\\w\\}";
-        Pattern pattern = Pattern.compile(regexp);
-        Matcher matcher = pattern.matcher(message);
-
-        String value;
-        if (matcher.find()) {
-            if (count >= values.size()) {
-                throw new ArrayIndexOutOfBoundsException(
-                    "Tried to replace placeholder " + (count + 1) + " but only " + values.
-                        size() + " values are available for " + getClass().
-                        getSimpleName() + " " + type.toString());
-            }
-            value = values.get(count);
-            message = matcher.replaceFirst(Matcher.quoteReplacement(value));
-            return fill(count + 1, values, message);
-        } else {
-            return message;
+        this.values = values == null ? new String[0] : values.clone();
+        int placeholders = type.getTemplate().
+            getPlaceholderCount();
+        if (placeholders > this.values.length) {
+            throw new ArrayIndexOutOfBoundsException(
+                "Tried to replace placeholder " + (this.values.length + 1) + " but only " + this.values.length
+                + " values are available for " + getClass().
+                    getSimpleName() + " " + type.toString());
         }
     }
 
@@ -101,7 +78,26 @@ public class MZTabError implements Serializable {
      * @return a concrete error/warn message.
      */
     public String getMessage() {
-        return message;
+        String m = message;
+        if (m == null) {
+            m = type.getTemplate().
+                format(values);
+            message = m;
+        }
+        return m;
+    }
+
+    /**
+     * Returns the name of the column this error refers to, if the message
+     * pattern of its type names a column, e.g.
+     * <code>Column "{0}" value "{1}"</code>.
+     *
+     * @return the column name, or null.
+     */
+    public String getColumn() {
+        int index = type.getTemplate().
+            getColumnIndex();
+        return index < 0 ? null : values[index];
     }
 
     /**
@@ -135,7 +131,7 @@ public class MZTabError implements Serializable {
         sb.append("line ").
             append(lineNumber).
             append(": ");
-        sb.append(message).
+        sb.append(getMessage()).
             append(NEW_LINE);
 
         return sb.toString();
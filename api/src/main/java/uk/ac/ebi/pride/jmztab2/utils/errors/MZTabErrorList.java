@@ -7,7 +7,6 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.function.BinaryOperator;
-import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import uk.ac.ebi.pride.jmztab2.model.MZTabConstants;
@@ -35,6 +34,10 @@ public class MZTabErrorList {
     private int maxErrorCount;
     private List<MZTabError> errorList;
     private MZTabErrorType.Level level;
+    private MZTabErrorSummary summary;
+    private final List<MZTabErrorListener> listeners = new ArrayList<>();
+    private boolean retainErrors = true;
+    private long reportedCount = 0;
 
     /**
      * Generate a error list, which max size is
@@ -69,9 +72,31 @@ public class MZTabErrorList {
      * is thrown
      */
     public MZTabErrorList(MZTabErrorType.Level level, int maxErrorCount) {
+        this(level, maxErrorCount, null);
+    }
+
+    /**
+     * Generate a error list, with given error level and maximum error count,
+     * that also counts all errors in the given summary.
+     *
+     * If a summary is given, errors beyond the maximum error count are no
+     * longer kept in this list but are still counted by the summary, instead
+     * of raising an
+     * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorOverflowException}.
+     * This allows to check a whole file in one pass with bounded memory.
+     *
+     * @param level if null, default level is
+     * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType.Level#Error}
+     * @param maxErrorCount the maximum number of errors kept by this list
+     * @param summary the summary to count errors in, may be null
+     */
+    public MZTabErrorList(MZTabErrorType.Level level, int maxErrorCount,
+        MZTabErrorSummary summary) {
         this.level = level == null ? MZTabErrorType.Level.Error : level;
         this.maxErrorCount = maxErrorCount >= 0 ? maxErrorCount : 0;
-        this.errorList = new ArrayList<MZTabError>(this.maxErrorCount);
+        this.errorList = new ArrayList<MZTabError>(Math.min(this.maxErrorCount,
+            1024));
+        this.summary = summary;
     }
 
     /**
@@ -103,30 +128,73 @@ public class MZTabErrorList {
             throw new NullPointerException("Can not add a null error into list.");
         }
         
-        switch(error.getType().getLevel()) {
-            case Info -> {
-                if(level==MZTabErrorType.Level.Warn || level==MZTabErrorType.Level.Error) {
-                    return false;
-                }
-            }
-            case Warn -> {
-                if(level==MZTabErrorType.Level.Error) {
-                    return false;
-                }
-                //ERROR is always being reported
-            }
-            //ERROR is always being reported
+        if (!isEnabled(error.getType())) {
+            return false;
         }
 
-        if (errorList.size() >= maxErrorCount) {
+        reportedCount++;
+        if (summary != null) {
+            summary.add(error);
+        }
+        boolean added = true;
+        boolean overflow = false;
+        if (retainErrors) {
+            if (errorList.size() < maxErrorCount) {
+                added = errorList.add(error);
+            } else {
+                added = false;
+                overflow = summary == null;
+            }
+        }
+        for (MZTabErrorListener listener : listeners) {
+            listener.errorReported(error);
+        }
+        if (overflow) {
             LOGGER.error("Max error count of {} reached!", maxErrorCount);
             LOGGER.error("{}", this.toString());
             throw new MZTabErrorOverflowException();
         }
-
-        return errorList.add(error);
+        return added;
     }
     
+    /**
+     * Creates and adds a new
+     * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError}, if the level of
+     * the error type is reported by this list. Errors below the level of this
+     * list are discarded before they are created.
+     *
+     * @param type the error type, SHOULD NOT set null
+     * @param lineNumber the line number, -1 if unknown
+     * @param values the values of the placeholders of the error type's
+     * message pattern
+     * @return a boolean, false if the error was discarded, true on success
+     * @throws uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorOverflowException
+     * if any.
+     */
+    public boolean add(MZTabErrorType type, int lineNumber, String... values) throws MZTabErrorOverflowException {
+        if (type == null) {
+            throw new NullPointerException("MZTabErrorType should not set null");
+        }
+        if (!isEnabled(type)) {
+            return false;
+        }
+        return add(new MZTabError(type, lineNumber, values));
+    }
+
+    /**
+     * Returns true, if errors of the given type are reported by this list,
+     * i.e. if its level is equal to or greater than the level of this list.
+     * Use this to skip building expensive error values for errors that would
+     * be discarded.
+     *
+     * @param type the error type
+     * @return true, if errors of this type are reported
+     */
+    public boolean isEnabled(MZTabErrorType type) {
+        return type.getLevel().
+            compareTo(level) >= 0;
+    }
+
     /**
      * A limit max capacity list, if contains a couple of
      * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError} objects. If
@@ -137,6 +205,9 @@ public class MZTabErrorList {
      * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType#level} SHOULD
      * equal or greater than its level setting.
      *
+     * Each error is added with {@link #add(MZTabError)}, so errors below the
+     * level of this list are discarded and the maximum error count applies.
+     *
      * @param errors the list of MZTabError objects, must not be null
      * @return a boolean, false no elements were added, true otherwise.
      * @throws uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorOverflowException
@@ -146,9 +217,11 @@ public class MZTabErrorList {
         if (errors == null) {
             throw new NullPointerException("Can not add a null list of errors.");
         }
-        return errors.stream().map((t) -> {
-            return errorList.add(t);
-        }).collect(Collectors.reducing((Boolean t, Boolean u) -> t || u)).orElse(Boolean.FALSE);
+        boolean added = false;
+        for (MZTabError error : errors) {
+            added |= add(error);
+        }
+        return added;
     }
 
     /**
@@ -196,11 +269,80 @@ public class MZTabErrorList {
 //        this.level = level;
 //    }
 
+    /**
+     * Adds a listener that is called for every error that is reported by
+     * this list, as soon as it is added. Listeners are called in the order in
+     * which they were added, after the error has been stored in this list and
+     * also for errors beyond the maximum error count.
+     *
+     * @param listener the listener, SHOULD NOT set null
+     */
+    public void addListener(MZTabErrorListener listener) {
+        if (listener == null) {
+            throw new NullPointerException("Can not add a null listener.");
+        }
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener.
+     *
+     * @param listener the listener
+     * @return true, if the listener was removed
+     */
+    public boolean removeListener(MZTabErrorListener listener) {
+        return listeners.remove(listener);
+    }
+
+    /**
+     * Returns true, if reported errors are stored in this list. This is the
+     * default.
+     *
+     * @return true, if errors are stored
+     */
+    public boolean isRetainErrors() {
+        return retainErrors;
+    }
+
+    /**
+     * Defines whether reported errors are stored in this list. If false, errors
+     * are only passed to the summary and the listeners, and the maximum error
+     * count does not apply.
+     *
+     * @param retainErrors true to store errors in this list
+     */
+    public void setRetainErrors(boolean retainErrors) {
+        this.retainErrors = retainErrors;
+    }
+
+    /**
+     * Returns the number of errors that were reported by this list since it was
+     * created or last cleared, including errors that were not stored.
+     *
+     * @return the number of reported errors
+     */
+    public long getReportedCount() {
+        return reportedCount;
+    }
+
+    /**
+     * Returns the summary that counts all errors added to this list.
+     *
+     * @return the summary, or null if errors are not summarized.
+     */
+    public MZTabErrorSummary getSummary() {
+        return summary;
+    }
+
     /**
      * Clear all errors stored in the error list.
      */
     public void clear() {
         errorList.clear();
+        reportedCount = 0;
+        if (summary != null) {
+            summary.clear();
+        }
     }
 
     /**
@@ -246,6 +388,11 @@ public class MZTabErrorList {
             out.write(e.toString().
                 getBytes());
         }
+        if (summary != null && !summary.isEmpty()) {
+            out.write(("Summary of " + summary.getTotalCount() + " reported errors:" + MZTabConstants.NEW_LINE).
+                getBytes());
+            summary.print(out);
+        }
     }
 
     /**
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.utils.errors;
+
+/**
+ * Receives the errors added to an {@link MZTabErrorList} as soon as they are
+ * reported, e.g. while a file is still being parsed.
+ *
+ * Listeners are only called for errors with a level that is reported by the
+ * list. A listener may throw an {@link MZTabErrorOverflowException} to stop
+ * parsing early.
+ *
+ * @author nilshoffmann
+ * @see MZTabErrorList#addListener(MZTabErrorListener)
+ */
+@FunctionalInterface
+public interface MZTabErrorListener {
+
+    /**
+     * Called for each reported error, in the order in which the errors are
+     * added to the list.
+     *
+     * @param error the error.
+     * @throws MZTabErrorOverflowException to stop parsing.
+     */
+    void errorReported(MZTabError error) throws MZTabErrorOverflowException;
+
+    /**
+     * Returns a listener that stops parsing at the first error with the given
+     * level or above.
+     *
+     * @param level the level of errors to stop at.
+     * @return the listener.
+     */
+    static MZTabErrorListener stopAt(MZTabErrorType.Level level) {
+        return (error) ->
+        {
+            if (error.getType().
+                getLevel().
+                compareTo(level) >= 0) {
+                throw new MZTabErrorOverflowException(
+                    "Stopped at first " + level + " on line " + error.
+                        getLineNumber() + ": " + error.getMessage());
+            }
+        };
+    }
+}
@@ -15,4 +15,14 @@ public class MZTabErrorOverflowException extends RuntimeException {
      */
     public MZTabErrorOverflowException() {
     }
+
+    /**
+     * Creates an overflow exception with a message, e.g. if validation was
+     * stopped by an {@link MZTabErrorListener}.
+     *
+     * @param message the message.
+     */
+    public MZTabErrorOverflowException(String message) {
+        super(message);
+    }
 }
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.utils.errors;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.SplittableRandom;
+import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.NEW_LINE;
+
+/**
+ * Aggregates {@link MZTabError}s by their {@link MZTabErrorType} and column.
+ *
+ * For each combination of type and column, the exact number of occurrences is
+ * counted and a bounded reservoir sample of exemplar errors is kept. Memory
+ * use therefore depends on the number of distinct error types and columns, but
+ * not on the number of errors in a file. This class is thread-safe.
+ *
+ * @author nilshoffmann
+ */
+public class MZTabErrorSummary implements MZTabErrorListener {
+
+    /**
+     * The default number of exemplar errors kept per error type and column.
+     */
+    public static final int DEFAULT_EXEMPLAR_COUNT = 5;
+
+    private final int exemplarCount;
+    private final Map<Key, Counter> counters = new LinkedHashMap<>();
+    private final SplittableRandom random = new SplittableRandom(1L);
+    private long totalCount = 0;
+
+    /**
+     * Creates a new summary, keeping up to
+     * {@link #DEFAULT_EXEMPLAR_COUNT} exemplars per error type and column.
+     */
+    public MZTabErrorSummary() {
+        this(DEFAULT_EXEMPLAR_COUNT);
+    }
+
+    /**
+     * Creates a new summary.
+     *
+     * @param exemplarCount the maximum number of exemplar errors kept per error
+     * type and column, may be 0.
+     * @throws IllegalArgumentException if exemplarCount is negative.
+     */
+    public MZTabErrorSummary(int exemplarCount) {
+        if (exemplarCount < 0) {
+            throw new IllegalArgumentException(
+                "Exemplar count must not be negative!");
+        }
+        this.exemplarCount = exemplarCount;
+    }
+
+    /**
+     * Counts the given error. It replaces one of the current exemplars of its
+     * type and column with a probability, so that the exemplars are a uniform
+     * sample of all errors of that type and column.
+     *
+     * @param error the error, must not be null.
+     */
+    public synchronized void add(MZTabError error) {
+        if (error == null) {
+            throw new NullPointerException("Can not add a null error.");
+        }
+        Counter counter = counters.computeIfAbsent(new Key(error.getType(),
+            error.getColumn()), (key) ->
+        {
+            return new Counter(key);
+        });
+        counter.count++;
+        totalCount++;
+        if (counter.exemplars.size() < exemplarCount) {
+            counter.exemplars.add(error);
+        } else if (exemplarCount > 0) {
+            long index = random.nextLong(counter.count);
+            if (index < exemplarCount) {
+                counter.exemplars.set((int) index, error);
+            }
+        }
+    }
+
+    /**
+     * Counts the given error, same as {@link #add(MZTabError)}.
+     *
+     * @param error the error, must not be null.
+     */
+    @Override
+    public void errorReported(MZTabError error) {
+        add(error);
+    }
+
+    /**
+     * Returns the total number of errors added to this summary.
+     *
+     * @return the total number of errors.
+     */
+    public synchronized long getTotalCount() {
+        return totalCount;
+    }
+
+    /**
+     * Returns the number of errors of the given level added to this summary.
+     *
+     * @param level the error level.
+     * @return the number of errors of that level.
+     */
+    public synchronized long getCount(MZTabErrorType.Level level) {
+        long count = 0;
+        for (Counter counter : counters.values()) {
+            if (counter.key.type.getLevel() == level) {
+                count += counter.count;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Returns true, if no errors were added to this summary.
+     *
+     * @return true, if this summary is empty.
+     */
+    public synchronized boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    /**
+     * Returns a snapshot of the entries of this summary, one per error type
+     * and column, in the order in which they first occurred.
+     *
+     * @return the entries.
+     */
+    public synchronized List<Entry> getEntries() {
+        List<Entry> entries = new ArrayList<>(counters.size());
+        for (Counter counter : counters.values()) {
+            List<MZTabError> exemplars = new ArrayList<>(counter.exemplars);
+            exemplars.sort(Comparator.comparingInt(MZTabError::getLineNumber));
+            entries.add(new Entry(counter.key.type, counter.key.column,
+                counter.count, Collections.unmodifiableList(exemplars)));
+        }
+        return Collections.unmodifiableList(entries);
+    }
+
+    /**
+     * Removes all counts and exemplars.
+     */
+    public synchronized void clear() {
+        counters.clear();
+        totalCount = 0;
+    }
+
+    /**
+     * Print the summary to the output stream.
+     *
+     * @param out SHOULD NOT set null.
+     * @throws java.io.IOException if any.
+     */
+    public void print(OutputStream out) throws IOException {
+        if (out == null) {
+            throw new NullPointerException("Output stream should be set first.");
+        }
+        out.write(toString().
+            getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Print the summary to string.
+     *
+     * @return a {@link java.lang.String} object.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        for (Entry entry : getEntries()) {
+            sb.append(entry).
+                append(NEW_LINE);
+            for (MZTabError exemplar : entry.getExemplars()) {
+                sb.append("    line ").
+                    append(exemplar.getLineNumber()).
+                    append(": ").
+                    append(exemplar.getMessage()).
+                    append(NEW_LINE);
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * The count and exemplars of one error type and column.
+     */
+    public static final class Entry {
+
+        private final MZTabErrorType type;
+        private final String column;
+        private final long count;
+        private final List<MZTabError> exemplars;
+
+        Entry(MZTabErrorType type, String column, long count,
+            List<MZTabError> exemplars) {
+            this.type = type;
+            this.column = column;
+            this.count = count;
+            this.exemplars = exemplars;
+        }
+
+        /**
+         * Returns the error type.
+         *
+         * @return the error type.
+         */
+        public MZTabErrorType getType() {
+            return type;
+        }
+
+        /**
+         * Returns the column name.
+         *
+         * @return the column name, or null if the error type does not refer to
+         * a column.
+         */
+        public String getColumn() {
+            return column;
+        }
+
+        /**
+         * Returns the exact number of errors of this type and column.
+         *
+         * @return the number of errors.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * Returns the exemplar errors, ordered by line number.
+         *
+         * @return the exemplar errors.
+         */
+        public List<MZTabError> getExemplars() {
+            return exemplars;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder();
+            sb.append("[").
+                append(type.getLevel()).
+                append("-").
+                append(type.getCode()).
+                append("] ").
+                append(count).
+                append(count == 1 ? " occurrence" : " occurrences");
+            if (column != null) {
+                sb.append(" in column \"").
+                    append(column).
+                    append("\"");
+            }
+            return sb.toString();
+        }
+    }
+
+    private static final class Key {
+
+        private final MZTabErrorType type;
+        private final String column;
+
+        Key(MZTabErrorType type, String column) {
+            this.type = type;
+            this.column = column;
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + Objects.hashCode(column);
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key other = (Key) obj;
+            return type.equals(other.type) && Objects.equals(column,
+                other.column);
+        }
+    }
+
+    private static final class Counter {
+
+        private final Key key;
+        private final List<MZTabError> exemplars = new ArrayList<>();
+        private long count = 0;
+
+        Counter(Key key) {
+            this.key = key;
+        }
+    }
+}
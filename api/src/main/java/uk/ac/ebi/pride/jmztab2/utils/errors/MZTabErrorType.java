@@ -38,6 +38,7 @@ public class MZTabErrorType implements Serializable {
     private Level level;
     private String original;
     private String cause;
+    private transient volatile MessageTemplate template;
 
     /**
      * <p>Constructor for MZTabErrorType.</p>
@@ -65,6 +66,7 @@ public class MZTabErrorType implements Serializable {
         }
         this.original = original.trim();
         this.cause = cause;
+        this.template = MessageTemplate.parse(this.original);
     }
     
     public static MZTabErrorType forLevel(MZTabErrorType.Category category, Level level, String keyword) {
@@ -163,6 +165,20 @@ public class MZTabErrorType implements Serializable {
         return original;
     }
 
+    /**
+     * Returns the pre-parsed template of the original message pattern.
+     *
+     * @return the message template.
+     */
+    MessageTemplate getTemplate() {
+        MessageTemplate t = template;
+        if (t == null) {
+            t = MessageTemplate.parse(original);
+            template = t;
+        }
+        return t;
+    }
+
     /**
      * <p>Getter for the field <code>cause</code>.</p>
      *
@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.utils.errors;
+
+/**
+ * Wraps a {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException} with an
+ * unchecked exception. This is used where structural parse errors need to
+ * surface through APIs that can not declare checked exceptions, e.g.
+ * {@link java.util.Iterator} or {@link java.util.stream.Stream}.
+ *
+ * @author nilshoffmann
+ */
+public class MZTabUncheckedException extends RuntimeException {
+
+    /**
+     * <p>Constructor for MZTabUncheckedException.</p>
+     *
+     * @param cause the {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException} to wrap, must not be null.
+     */
+    public MZTabUncheckedException(MZTabException cause) {
+        super(cause.getMessage(), cause);
+    }
+
+    /**
+     * Returns the wrapped exception.
+     *
+     * @return the {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException}.
+     */
+    @Override
+    public synchronized MZTabException getCause() {
+        return (MZTabException) super.getCause();
+    }
+
+    /**
+     * Returns the error of the wrapped exception.
+     *
+     * @return a {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError} object, may be null.
+     */
+    public MZTabError getError() {
+        return getCause().getError();
+    }
+}
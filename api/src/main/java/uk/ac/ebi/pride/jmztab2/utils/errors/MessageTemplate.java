@@ -0,0 +1,118 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.utils.errors;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * A message pattern of an {@link MZTabErrorType}, split once into its literal
+ * segments and the "{?}" placeholders between them.
+ *
+ * @author nilshoffmann
+ */
+final class MessageTemplate {
+
+    private final String[] segments;
+    private final int columnIndex;
+
+    private MessageTemplate(String[] segments) {
+        this.segments = segments;
+        this.columnIndex = findColumnIndex(segments);
+    }
+
+    /**
+     * Splits the pattern at placeholders of the form "{?}", where ? is a
+     * single word character.
+     *
+     * @param pattern the message pattern.
+     * @return the template.
+     */
+    static MessageTemplate parse(String pattern) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        for (int i = 0; i + 2 < pattern.length(); i++) {
+            if (pattern.charAt(i) == '{' && pattern.charAt(i + 2) == '}'
+                && isWordChar(pattern.charAt(i + 1))) {
+                segments.add(pattern.substring(start, i));
+                start = i + 3;
+                i += 2;
+            }
+        }
+        segments.add(pattern.substring(start));
+        return new MessageTemplate(segments.toArray(new String[0]));
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z')
+            || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    /**
+     * Finds the first placeholder that follows the word "column" or "column
+     * header", e.g. <code>Column "{0}" value "{1}"</code>.
+     */
+    private static int findColumnIndex(String[] segments) {
+        for (int i = 0; i < segments.length - 1; i++) {
+            String literal = segments[i].toLowerCase(Locale.ENGLISH).
+                replaceAll("[\\s\"]+$", "");
+            if (literal.endsWith("column") || literal.endsWith("column header")
+                || literal.endsWith("column headers")) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the index of the placeholder that holds a column name.
+     *
+     * @return the index of the column placeholder, or -1 if there is none.
+     */
+    int getColumnIndex() {
+        return columnIndex;
+    }
+
+    /**
+     * Returns the number of placeholders.
+     *
+     * @return the number of placeholders.
+     */
+    int getPlaceholderCount() {
+        return segments.length - 1;
+    }
+
+    /**
+     * Fills the placeholders with the given values, in order. Null values are
+     * rendered as empty strings, surplus values are ignored.
+     *
+     * @param values the values, at least {@link #getPlaceholderCount()}.
+     * @return the message.
+     */
+    String format(String[] values) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        StringBuilder sb = new StringBuilder(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            String value = values[i - 1];
+            sb.append(value == null ? "" : value).
+                append(segments[i]);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.model;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.*;
+
+/**
+ *
+ * @author nilshoffmann
+ */
+public class MZTabRegexRulesTest {
+
+    private static final List<String> HAND_WRITTEN = Arrays.asList(
+        REGEX_ADDUCT,
+        REGEX_DEFAULT_RELIABILITY,
+        REGEX_SPECTRA_REF_THERMO_NATIVE,
+        REGEX_SPECTRA_REF_WATERS_NATIVE,
+        REGEX_SPECTRA_REF_WIFF_NATIVE,
+        REGEX_SPECTRA_REF_INDEX,
+        REGEX_SPECTRA_REF_FILE,
+        REGEX_SPECTRA_REF_SPECTRUM,
+        REGEX_SPECTRA_REF_MZML_UNIQUE,
+        REGEX_SPECTRA_REF_SCAN
+    );
+
+    private static final List<String> INPUTS = Arrays.asList(
+        "", " ", "null", "1", "4", "5", "0", "12", " 2", "x3",
+        "[M+H]1+", "[M+H]+", "[M]+", "[M]-", "[2M+Na]+", "[M+2H]2+",
+        "[M-H2O+H]+", "[M+H+Na]2+", "[M+]+", "[M+H]", "M+H]+", "[M+H]1+x",
+        "[M+H]1+\n", "[M+H]1+\r\n", "[M+H]1+\n\n", "[3M-H]-", "[M_x]+",
+        "controllerType=0 controllerNumber=1 scan=1",
+        "controllerType=0 controllerNumber=0 scan=1",
+        "controllerType=10 controllerNumber=12 scan=120",
+        "xcontrollerType=0 controllerNumber=1 scan=1 y",
+        "controllerType= controllerNumber=1 scan=1",
+        "function=1 process=0 scan=0", "function=0 process=0 scan=0",
+        "function=12 process=3 scan=45 ",
+        "sample=1 period=0 cycle=23 experiment=4",
+        "sample=1 period=0 cycle=23 experiment=",
+        "index=0", "index=", "index=12a", "aindex=5", "index=index=3",
+        "file=abc_1", "file=", "file=-", "xfile=a",
+        "spectrum=0", "spectrum=x", "scan=1", "scan=", "scan=scan=2",
+        "mzml_unique_id", "-", "a-b", "äöü", "scan=1\n"
+    );
+
+    @Test
+    public void testHandWrittenRulesAgreeWithPatterns() {
+        for (String regex : HAND_WRITTEN) {
+            MZTabRegexRules.Rule rule = MZTabRegexRules.rule(regex);
+            Pattern pattern = Pattern.compile(regex);
+            assertEquals(regex, rule.getPattern().
+                pattern());
+            for (String input : INPUTS) {
+                assertEquals("matches " + regex + " '" + input + "'", pattern.
+                    matcher(input).
+                    matches(), rule.matches(input));
+                assertEquals("find " + regex + " '" + input + "'", pattern.
+                    matcher(input).
+                    find(), rule.find(input));
+            }
+        }
+    }
+
+    @Test
+    public void testRulesAreCompiledOnce() {
+        MZTabRegexRules.Rule rule = MZTabRegexRules.rule(REGEX_NORMAL_METADATA);
+        assertSame(rule, MZTabRegexRules.rule(REGEX_NORMAL_METADATA));
+        assertSame(rule.getPattern(), MZTabRegexRules.pattern(
+            REGEX_NORMAL_METADATA));
+        assertTrue(rule.matches("ms_run[1]-location"));
+        assertFalse(rule.matches("ms_run[1]-location-x-y"));
+    }
+}
@@ -15,6 +15,8 @@
  */
 package uk.ac.ebi.pride.jmztab2.utils.errors;
 
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -59,6 +61,99 @@ public class MZTabErrorListTest {
         Assert.assertEquals(3, list.size());
     }
 
+    /**
+     * Test of add method with an error type, of class MZTabErrorList.
+     */
+    @Test
+    public void testAddByType() {
+        MZTabErrorList list = new MZTabErrorList(MZTabErrorType.Level.Error, 5);
+        Assert.assertTrue(list.isEnabled(FormatErrorType.MTDLine));
+        Assert.assertFalse(list.isEnabled(LogicalErrorType.NotNULL));
+        Assert.assertFalse(list.isEnabled(
+            LogicalErrorType.NoSmallMoleculeFeatureSection));
+        Assert.assertTrue(list.add(FormatErrorType.MTDLine, 1,
+            "MTD\tTEST LINE"));
+        Assert.assertFalse(list.add(LogicalErrorType.NotNULL, 2, "testcolumn"));
+        Assert.assertEquals(1, list.size());
+        Assert.assertEquals(1, list.getError(0).
+            getLineNumber());
+        Assert.assertEquals(new MZTabError(FormatErrorType.MTDLine, 1,
+            "MTD\tTEST LINE").
+            getMessage(), list.getError(0).
+                getMessage());
+
+        list = new MZTabErrorList(MZTabErrorType.Level.Info, 5);
+        Assert.assertTrue(list.isEnabled(
+            LogicalErrorType.NoSmallMoleculeFeatureSection));
+        Assert.assertTrue(list.add(
+            LogicalErrorType.NoSmallMoleculeFeatureSection, 3));
+        Assert.assertEquals(1, list.size());
+    }
+
+    /**
+     * Test of add method with a summary, of class MZTabErrorList.
+     */
+    @Test
+    public void testAddWithSummary() {
+        MZTabErrorSummary summary = new MZTabErrorSummary();
+        MZTabErrorList list = new MZTabErrorList(MZTabErrorType.Level.Warn, 2,
+            summary);
+        Assert.assertSame(summary, list.getSummary());
+        for (int i = 0; i < 10; i++) {
+            list.add(LogicalErrorType.NotNULL, i, "testcolumn");
+        }
+        list.add(LogicalErrorType.NoSmallMoleculeFeatureSection, 11);
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(10, summary.getTotalCount());
+    }
+
+    /**
+     * Test of addListener method, of class MZTabErrorList.
+     */
+    @Test
+    public void testListeners() {
+        List<MZTabError> reported = new ArrayList<>();
+        MZTabErrorList list = new MZTabErrorList(MZTabErrorType.Level.Warn, 2);
+        list.addListener(reported::add);
+        list.add(LogicalErrorType.NotNULL, 1, "column1");
+        list.add(LogicalErrorType.NoSmallMoleculeFeatureSection, 2);
+        list.add(LogicalErrorType.NotNULL, 3, "column3");
+        try {
+            list.add(LogicalErrorType.NotNULL, 4, "column4");
+            Assert.fail("Expected an MZTabErrorOverflowException!");
+        } catch (MZTabErrorOverflowException e) {
+            //expected
+        }
+        Assert.assertEquals(2, list.size());
+        Assert.assertEquals(3, reported.size());
+        Assert.assertEquals(4, reported.get(2).
+            getLineNumber());
+        Assert.assertEquals(3, list.getReportedCount());
+
+        reported.clear();
+        list = new MZTabErrorList(MZTabErrorType.Level.Warn, 2);
+        list.setRetainErrors(false);
+        list.addListener(reported::add);
+        for (int i = 0; i < 10; i++) {
+            list.add(LogicalErrorType.NotNULL, i, "column");
+        }
+        Assert.assertTrue(list.isEmpty());
+        Assert.assertEquals(10, reported.size());
+        Assert.assertEquals(10, list.getReportedCount());
+
+        list = new MZTabErrorList(MZTabErrorType.Level.Info, 10);
+        list.addListener(MZTabErrorListener.stopAt(MZTabErrorType.Level.Warn));
+        list.add(LogicalErrorType.NoSmallMoleculeFeatureSection, 1);
+        try {
+            list.add(LogicalErrorType.NotNULL, 2, "column");
+            Assert.fail("Expected an MZTabErrorOverflowException!");
+        } catch (MZTabErrorOverflowException e) {
+            Assert.assertTrue(e.getMessage().
+                contains("line 2"));
+        }
+        Assert.assertEquals(2, list.size());
+    }
+
     /**
      * Test of getMaxErrorCount method, of class MZTabErrorList.
      */
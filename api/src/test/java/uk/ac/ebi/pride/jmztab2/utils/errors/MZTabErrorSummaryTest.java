@@ -0,0 +1,94 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.utils.errors;
+
+import java.util.List;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author nilshoffmann
+ */
+public class MZTabErrorSummaryTest {
+
+    /**
+     * Test of add method, of class MZTabErrorSummary.
+     */
+    @Test
+    public void testAdd() {
+        MZTabErrorSummary summary = new MZTabErrorSummary(3);
+        Assert.assertTrue(summary.isEmpty());
+        for (int line = 1; line <= 1000; line++) {
+            summary.add(new MZTabError(FormatErrorType.Integer, line, "smf_id",
+                "abc"));
+            if (line % 10 == 0) {
+                summary.add(new MZTabError(FormatErrorType.Integer, line,
+                    "sme_id", "def"));
+            }
+        }
+        summary.add(new MZTabError(LogicalErrorType.NoSmallMoleculeFeatureSection,
+            -1));
+        Assert.assertEquals(1101, summary.getTotalCount());
+        Assert.assertEquals(1100, summary.getCount(MZTabErrorType.Level.Error));
+        Assert.assertEquals(1, summary.getCount(MZTabErrorType.Level.Info));
+        List<MZTabErrorSummary.Entry> entries = summary.getEntries();
+        Assert.assertEquals(3, entries.size());
+        MZTabErrorSummary.Entry smfId = entries.get(0);
+        Assert.assertEquals(FormatErrorType.Integer, smfId.getType());
+        Assert.assertEquals("smf_id", smfId.getColumn());
+        Assert.assertEquals(1000, smfId.getCount());
+        Assert.assertEquals(3, smfId.getExemplars().
+            size());
+        int lastLine = 0;
+        for (MZTabError exemplar : smfId.getExemplars()) {
+            Assert.assertEquals("smf_id", exemplar.getColumn());
+            Assert.assertTrue(exemplar.getLineNumber() > lastLine);
+            lastLine = exemplar.getLineNumber();
+        }
+        Assert.assertEquals("sme_id", entries.get(1).
+            getColumn());
+        Assert.assertEquals(100, entries.get(1).
+            getCount());
+        Assert.assertNull(entries.get(2).
+            getColumn());
+        Assert.assertEquals(1, entries.get(2).
+            getExemplars().
+            size());
+        Assert.assertTrue(summary.toString().
+            contains("1000 occurrences in column \"smf_id\""));
+        summary.clear();
+        Assert.assertTrue(summary.isEmpty());
+        Assert.assertTrue(summary.getEntries().
+            isEmpty());
+    }
+
+    /**
+     * Test of the column of errors, of class MZTabError.
+     */
+    @Test
+    public void testColumn() {
+        Assert.assertEquals("opt_global_x", new MZTabError(
+            LogicalErrorType.MsRunNotDefined, 1, "opt_global_x").
+            getColumn());
+        Assert.assertEquals("exp_mass_to_charge", new MZTabError(
+            LogicalErrorType.NULL, 1, "exp_mass_to_charge").
+            getColumn());
+        Assert.assertNull(new MZTabError(FormatErrorType.MTDLine, 1,
+            "MTD\tTEST LINE").
+            getColumn());
+    }
+}
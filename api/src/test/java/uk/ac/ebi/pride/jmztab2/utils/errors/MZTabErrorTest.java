@@ -0,0 +1,55 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.utils.errors;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ *
+ * @author nilshoffmann
+ */
+public class MZTabErrorTest {
+
+    /**
+     * Test of getMessage method, of class MZTabError.
+     */
+    @Test
+    public void testGetMessage() {
+        MZTabError error = new MZTabError(FormatErrorType.CountMatch, 1, "12",
+            "13");
+        Assert.assertEquals(
+            "The number of Data line items is \"12\", whereas the number of header line items count is \"13\". They MUST be the same.",
+            error.getMessage());
+        Assert.assertSame(error.getMessage(), error.getMessage());
+        error = new MZTabError(FormatErrorType.Integer, 1, "{1}", null);
+        Assert.assertEquals(
+            "Column \"{1}\" value \"\" is not a valid Integer value.", error.
+                getMessage());
+        error = new MZTabError(LogicalErrorType.NoSmallMoleculeFeatureSection,
+            1);
+        Assert.assertEquals(LogicalErrorType.NoSmallMoleculeFeatureSection.
+            getOriginal(), error.getMessage());
+    }
+
+    /**
+     * Test of the constructor with missing values, of class MZTabError.
+     */
+    @Test(expected = ArrayIndexOutOfBoundsException.class)
+    public void testMissingValues() {
+        new MZTabError(FormatErrorType.CountMatch, 1, "12");
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.lifstools.mztab2.io.IdReferenceIndex;
+import org.lifstools.mztab2.model.SmallMoleculeFeature;
+import org.lifstools.mztab2.model.SmallMoleculeSummary;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the SML to SMF id reference check based on {@link IdReferenceIndex}
+ * with the previous implementation, which collected the set of defined SMF ids
+ * again for every SML row.
+ *
+ * @author nilshoffmann
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class IdReferenceBenchmark {
+
+    /**
+     * The number of SML and SMF rows each.
+     */
+    @Param({"1000", "10000"})
+    public int rows;
+
+    private List<SmallMoleculeSummary> summaries;
+    private List<SmallMoleculeFeature> features;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        summaries = new ArrayList<>(rows);
+        features = new ArrayList<>(rows);
+        for (int i = 1; i <= rows; i++) {
+            summaries.add(new SmallMoleculeSummary().smlId(i).
+                addSmfIdRefsItem(i).
+                addSmfIdRefsItem(rows + 1 - i));
+            features.add(new SmallMoleculeFeature().smfId(i));
+        }
+    }
+
+    @Benchmark
+    public int nestedLookup() {
+        int unresolved = 0;
+        for (SmallMoleculeSummary sms : summaries) {
+            Set<Integer> smfIdRefs = new HashSet<>(sms.getSmfIdRefs());
+            Set<Integer> definedIds = features.stream().
+                map((t) ->
+                {
+                    return t.getSmfId();
+                }).
+                collect(Collectors.toSet());
+            smfIdRefs.removeAll(definedIds);
+            unresolved += smfIdRefs.size();
+        }
+        return unresolved;
+    }
+
+    @Benchmark
+    public int indexLookup() {
+        int unresolved = 0;
+        IdReferenceIndex definedIds = IdReferenceIndex.of(features,
+            SmallMoleculeFeature::getSmfId);
+        for (SmallMoleculeSummary sms : summaries) {
+            unresolved += definedIds.unresolved(sms.getSmfIdRefs()).
+                size();
+        }
+        return unresolved;
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.benchmarks;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.lifstools.mztab2.model.IndexedElement;
+import org.lifstools.mztab2.model.Metadata;
+import org.lifstools.mztab2.model.MsRun;
+import org.lifstools.mztab2.model.Parameter;
+import org.lifstools.mztab2.model.SpectraRef;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.BAR;
+import uk.ac.ebi.pride.jmztab2.model.MZTabUtils;
+import uk.ac.ebi.pride.jmztab2.model.MetadataElement;
+import uk.ac.ebi.pride.jmztab2.utils.parser.MZTabParserContext;
+
+/**
+ * Measures the individual cell parsing functions of {@link MZTabUtils} that
+ * are called for every cell of a data line.
+ *
+ * @author nilshoffmann
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MZTabUtilsBenchmark {
+
+    private static final String PARAM = "[MS, MS:1002887, Progenesis QI normalised abundance, ]";
+    private static final String PARAM_LIST = PARAM + "|[MS, MS:1000511, ms level, 1]|[, , Extraction date, 2011-12-21]";
+    private static final String DOUBLE_LIST = "1.5 | 2.25 | 1.0E-5 | NaN | INF | 42";
+    private static final String INTEGER_LIST = "1 | 2 | 3 | 4 | 5 | 6 | 7 | 8";
+    private static final String STRING_LIST = "HMDB:HMDB0000123 | HMDB:HMDB0000124 | LM:LMFA01010001";
+    private static final String REF_LIST = "assay[1]|assay[2]|assay[3]";
+    private static final String SPECTRA_REF = "ms_run[1]:index=5|ms_run[2]:index=7";
+
+    private MZTabParserContext context;
+    private Metadata metadata;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new MZTabParserContext();
+        metadata = new Metadata();
+        for (int i = 1; i <= 2; i++) {
+            context.addMsRun(metadata, new MsRun().id(i).
+                location(URI.create("file:///data/run" + i + ".mzML")));
+        }
+    }
+
+    @Benchmark
+    public Parameter parseParam() {
+        return MZTabUtils.parseParam(PARAM);
+    }
+
+    @Benchmark
+    public List<Parameter> parseParamList() {
+        return MZTabUtils.parseParamList(PARAM_LIST);
+    }
+
+    @Benchmark
+    public List<Double> parseDoubleList() {
+        return MZTabUtils.parseDoubleList(DOUBLE_LIST);
+    }
+
+    @Benchmark
+    public List<Integer> parseIntegerList() {
+        return MZTabUtils.parseIntegerList(INTEGER_LIST);
+    }
+
+    @Benchmark
+    public List<String> parseStringList() {
+        return MZTabUtils.parseStringList(BAR, STRING_LIST);
+    }
+
+    @Benchmark
+    public List<IndexedElement> parseRefList() {
+        return MZTabUtils.parseRefList(REF_LIST, MetadataElement.ASSAY);
+    }
+
+    @Benchmark
+    public List<SpectraRef> parseSpectraRefList() {
+        return MZTabUtils.parseSpectraRefList(context, metadata, SPECTRA_REF);
+    }
+
+    @Benchmark
+    public Double parseDouble() {
+        return MZTabUtils.parseDouble("1.0E-5");
+    }
+
+    @Benchmark
+    public Integer parseInteger() {
+        return MZTabUtils.parseInteger("12345");
+    }
+}
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+import org.lifstools.mztab2.io.MzTabFileParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import static uk.ac.ebi.pride.jmztab2.utils.MZTabProperties.MAX_ERROR_COUNT;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
+
+/**
+ * Measures parsing of synthetic mzTab-M files with {@link MzTabFileParser},
+ * sequentially and with multiple threads.
+ *
+ * @author nilshoffmann
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParserBenchmark {
+
+    /**
+     * The number of threads for data line parsing.
+     */
+    @Param({"1", "4"})
+    public int threads;
+
+    @Benchmark
+    public MZTabErrorList parse(SyntheticFileState state) throws IOException {
+        MzTabFileParser parser = new MzTabFileParser(state.file.toFile());
+        MZTabErrorList errorList = parser.parse(OutputStream.nullOutputStream(),
+            MZTabErrorType.Level.Info, MAX_ERROR_COUNT, threads);
+        if (!errorList.isEmpty()) {
+            throw new IllegalStateException("Synthetic file has errors: " + errorList);
+        }
+        return errorList;
+    }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.benchmarks;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.lifstools.mztab2.io.MzTabStreamingReader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
+
+/**
+ * Measures row by row reading of synthetic mzTab-M files with the
+ * {@link MzTabStreamingReader}.
+ *
+ * @author nilshoffmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StreamingReaderBenchmark {
+
+    @Benchmark
+    public void read(SyntheticFileState state, Blackhole blackhole) throws IOException, MZTabException {
+        try (MzTabStreamingReader reader = new MzTabStreamingReader(state.file.
+            toFile())) {
+            blackhole.consume(reader.getMetadata());
+            reader.smallMoleculeSummaries().
+                forEach(blackhole::consume);
+            reader.smallMoleculeFeatures().
+                forEach(blackhole::consume);
+            reader.smallMoleculeEvidences().
+                forEach(blackhole::consume);
+        }
+    }
+}
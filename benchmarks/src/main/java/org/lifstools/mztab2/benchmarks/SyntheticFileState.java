@@ -0,0 +1,96 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.lifstools.mztab2.io.MzTabFileParser;
+import org.lifstools.mztab2.model.MzTab;
+import org.lifstools.mztab2.test.utils.SyntheticMzTabGenerator;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import static uk.ac.ebi.pride.jmztab2.utils.MZTabProperties.MAX_ERROR_COUNT;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
+
+/**
+ * Benchmark state holding a synthetic mzTab-M file, created with the
+ * {@link SyntheticMzTabGenerator}, and its parsed mzTab object. The size of
+ * the data is controlled by the benchmark parameters, e.g.
+ * <code>-p rows=100000 -p assays=50 -p optColumns=10</code>.
+ *
+ * @author nilshoffmann
+ */
+@State(Scope.Benchmark)
+public class SyntheticFileState {
+
+    /**
+     * The number of SML, SMF and SME rows each.
+     */
+    @Param({"1000", "10000"})
+    public int rows;
+
+    /**
+     * The number of assays and ms runs.
+     */
+    @Param({"10"})
+    public int assays;
+
+    /**
+     * The number of global optional columns per section.
+     */
+    @Param({"5"})
+    public int optColumns;
+
+    /**
+     * The synthetic mzTab object, parsed from {@link #file}.
+     */
+    public MzTab mzTab;
+
+    /**
+     * The synthetic mzTab-M file.
+     */
+    public Path file;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        file = new SyntheticMzTabGenerator().
+            summaries(rows).
+            assays(assays).
+            msRuns(assays).
+            studyVariables(Math.min(assays, 2)).
+            optColumns(optColumns).
+            write(Files.createTempFile("synthetic-", ".mztab"));
+        MzTabFileParser parser = new MzTabFileParser(file.toFile());
+        MZTabErrorList errorList = parser.parse(OutputStream.nullOutputStream(),
+            MZTabErrorType.Level.Info, MAX_ERROR_COUNT);
+        if (!errorList.isEmpty()) {
+            throw new IllegalStateException("Synthetic file has errors: " + errorList);
+        }
+        mzTab = parser.getMZTabFile();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+}
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.benchmarks;
+
+import jakarta.xml.bind.JAXBException;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.lifstools.mztab2.cvmapping.CvParameterLookupService;
+import org.lifstools.mztab2.model.ValidationMessage;
+import org.lifstools.mztab2.validation.CvMappingValidator;
+import org.lifstools.mztab2.validation.MzTabBeanValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures semantic validation with the {@link CvMappingValidator} using the
+ * default mapping file and bean validation with the
+ * {@link MzTabBeanValidator} of synthetic mzTab-M objects.
+ *
+ * The cv mapping validation resolves child terms with the
+ * {@link CvParameterLookupService} and therefore requires network access to
+ * the ontology lookup service.
+ *
+ * @author nilshoffmann
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ValidationBenchmark {
+
+    private CvMappingValidator cvMappingValidator;
+    private MzTabBeanValidator beanValidator;
+    private MzTabBeanValidator parallelBeanValidator;
+
+    @Setup(Level.Trial)
+    public void setUp() throws JAXBException {
+        cvMappingValidator = CvMappingValidator.of(CvMappingValidator.class.
+            getResource("/mappings/mzTab-M-mapping.xml"),
+            new CvParameterLookupService(), false);
+        beanValidator = new MzTabBeanValidator();
+        parallelBeanValidator = new MzTabBeanValidator(false, ForkJoinPool.
+            commonPool(), MzTabBeanValidator.UNBOUNDED);
+    }
+
+    @Benchmark
+    public List<ValidationMessage> cvMappingValidation(SyntheticFileState state) {
+        return cvMappingValidator.validate(state.mzTab);
+    }
+
+    @Benchmark
+    public List<ValidationMessage> beanValidation(SyntheticFileState state) {
+        return beanValidator.validate(state.mzTab);
+    }
+
+    @Benchmark
+    public List<ValidationMessage> parallelBeanValidation(
+        SyntheticFileState state) {
+        return parallelBeanValidator.validate(state.mzTab);
+    }
+}
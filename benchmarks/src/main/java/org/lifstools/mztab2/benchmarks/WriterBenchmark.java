@@ -0,0 +1,92 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.benchmarks;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.lifstools.mztab2.io.MzTabNonValidatingWriter;
+import org.lifstools.mztab2.io.MzTabStreamingWriter;
+import org.lifstools.mztab2.io.MzTabValidatingWriter;
+import org.lifstools.mztab2.model.ValidationMessage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import static uk.ac.ebi.pride.jmztab2.utils.MZTabProperties.MAX_ERROR_COUNT;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
+
+/**
+ * Measures serialization of synthetic mzTab-M objects with the
+ * {@link MzTabNonValidatingWriter}, the {@link MzTabStreamingWriter} and the
+ * {@link MzTabValidatingWriter}, which additionally writes and parses the
+ * mzTab content for validation.
+ *
+ * @author nilshoffmann
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class WriterBenchmark {
+
+    @Benchmark
+    public void nonValidatingWrite(SyntheticFileState state) throws IOException {
+        try (OutputStreamWriter writer = new OutputStreamWriter(OutputStream.
+            nullOutputStream(), StandardCharsets.UTF_8)) {
+            new MzTabNonValidatingWriter().write(writer, state.mzTab);
+        }
+    }
+
+    @Benchmark
+    public void streamingWrite(SyntheticFileState state) throws IOException {
+        try (MzTabStreamingWriter writer = new MzTabStreamingWriter(
+            new OutputStreamWriter(OutputStream.nullOutputStream(),
+                StandardCharsets.UTF_8))) {
+            writer.writeMetadata(state.mzTab.getMetadata());
+            writer.writeSmallMoleculeSummaries(state.mzTab.
+                getSmallMoleculeSummary().
+                iterator());
+            writer.writeSmallMoleculeFeatures(state.mzTab.
+                getSmallMoleculeFeature().
+                iterator());
+            writer.writeSmallMoleculeEvidences(state.mzTab.
+                getSmallMoleculeEvidence().
+                iterator());
+        }
+    }
+
+    @Benchmark
+    public Optional<List<ValidationMessage>> validatingWrite(
+        SyntheticFileState state) throws IOException {
+        MzTabValidatingWriter validatingWriter = new MzTabValidatingWriter(
+            new MzTabValidatingWriter.WriteAndParseValidator(OutputStream.
+                nullOutputStream(), MZTabErrorType.Level.Info, MAX_ERROR_COUNT),
+            false);
+        try (OutputStreamWriter writer = new OutputStreamWriter(OutputStream.
+            nullOutputStream(), StandardCharsets.UTF_8)) {
+            return validatingWriter.write(writer, state.mzTab);
+        }
+    }
+}
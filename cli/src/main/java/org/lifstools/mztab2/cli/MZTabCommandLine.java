@@ -20,6 +20,10 @@ import ch.qos.logback.classic.LoggerContext;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import org.lifstools.mztab2.cvmapping.CvLookupService;
+import org.lifstools.mztab2.cvmapping.CvParameterLookupService;
+import org.lifstools.mztab2.cvmapping.OboCvParameterLookupService;
+import org.lifstools.mztab2.cvmapping.PersistentCvLookupService;
 import org.lifstools.mztab2.io.MzTabFileParser;
 import org.lifstools.mztab2.io.MzTabNonValidatingWriter;
 import org.lifstools.mztab2.model.MzTab;
@@ -35,6 +39,8 @@ import java.io.PrintStream;
 import java.net.MalformedURLException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
 import java.time.Instant;
 import java.util.List;
 import java.util.Properties;
@@ -43,8 +49,10 @@ import jakarta.xml.bind.JAXBException;
 import org.apache.commons.cli.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import static uk.ac.ebi.pride.jmztab2.utils.MZTabProperties.MAX_ERROR_COUNT;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorSummary;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorTypeMap;
 
@@ -123,6 +131,10 @@ public class MZTabCommandLine {
         String serializeOpt = addSerializeOption(options);
         String deserializeOpt = addDeserializeOption(options);
         String checkSemanticOpt = addCheckSemanticOption(options);
+        String threadsOpt = addThreadsOption(options);
+        String ontologyOpt = addOntologyOption(options);
+        String cvCacheOpt = addCvCacheOption(options);
+        String summaryOpt = addSummaryOption(options);
 
         //TODO add option to set whether extra terms not defined in mapping file create a warning or error
 //        options.addOption()
@@ -142,9 +154,11 @@ public class MZTabCommandLine {
                 LoggerContext ctx = (LoggerContext) LoggerFactory.getILoggerFactory();
                 LOGGER.info("Using default global logger level: '{}'", ctx.getLogger(Logger.ROOT_LOGGER_NAME).getLevel());
             }
+            int threads = handleThreadsOption(line, threadsOpt);
             boolean hadErrorsOrWarnings = handleValidationOptions(line, outOpt,
                 levelOpt, serializeOpt,
-                deserializeOpt, checkOpt, checkSemanticOpt);
+                deserializeOpt, checkOpt, checkSemanticOpt, threads,
+                ontologyOpt, cvCacheOpt, summaryOpt);
             if (hadErrorsOrWarnings) {
                 System.exit(1);
             }
@@ -169,7 +183,7 @@ public class MZTabCommandLine {
             withLongOpt("checkSemantic").
             isRequired(false).
             hasOptionalArgs(1).
-            withDescription("Example: -s /path/to/mappingFile.xml. Use the provided mapping file for semantic validation. If no mapping file is provided, the default one will be used. Requires an active internet connection!").
+            withDescription("Example: -s /path/to/mappingFile.xml. Use the provided mapping file for semantic validation. If no mapping file is provided, the default one will be used. Requires an active internet connection, unless local ontologies are provided with --ontology!").
             create(checkSemanticOpt);
         options.addOption(checkSemanticOption);
         return checkSemanticOpt;
@@ -196,6 +210,35 @@ public class MZTabCommandLine {
         return levelOpt;
     }
     
+    protected static String addThreadsOption(Options options) {
+        String threadsOpt = "threads";
+        options.addOption("t", threadsOpt, true,
+            "Example: -t 8. Number of threads to use for parsing of the table sections, default is 1!");
+        return threadsOpt;
+    }
+
+    protected static String addOntologyOption(Options options) {
+        String ontologyOpt = "ontology";
+        options.addOption(null, ontologyOpt, true,
+            "Example: --ontology /path/to/psi-ms.obo,/path/to/ontologies. Use the provided local OBO files or directories containing OBO files for semantic validation instead of the online ontology lookup service.");
+        return ontologyOpt;
+    }
+
+    protected static String addCvCacheOption(Options options) {
+        String cvCacheOpt = "cvCache";
+        options.addOption(null, cvCacheOpt, true,
+            "Example: --cvCache /path/to/cv-lookup-cache.json. File to keep online ontology lookup results in between runs, default is " + PersistentCvLookupService.
+                defaultCacheFile() + "!");
+        return cvCacheOpt;
+    }
+
+    protected static String addSummaryOption(Options options) {
+        String summaryOpt = "summary";
+        options.addOption(null, summaryOpt, false,
+            "Count all messages by type and column and print a summary with example lines, instead of stopping after " + MAX_ERROR_COUNT + " messages.");
+        return summaryOpt;
+    }
+
     protected static String addLogLevelOption(Options options) {
         String levelOpt = "logLevel";
         options.addOption(null, levelOpt, true,
@@ -260,7 +303,9 @@ public class MZTabCommandLine {
 
     protected static boolean handleValidationOptions(CommandLine line,
         String outOpt, String levelOpt, String serializeOpt,
-        String deserializeOpt, String checkOpt, String checkSemanticOpt) throws IOException, JAXBException, IllegalArgumentException, URISyntaxException {
+        String deserializeOpt, String checkOpt, String checkSemanticOpt,
+        int threads, String ontologyOpt, String cvCacheOpt,
+        String summaryOpt) throws IOException, JAXBException, IllegalArgumentException, URISyntaxException {
         File outFile = null;
         if (line.hasOption(outOpt)) {
             outFile = new File(line.getOptionValue(outOpt));
@@ -292,8 +337,8 @@ public class MZTabCommandLine {
                 deserializeFromJson = true;
             }
             return handleValidation(line, checkOpt, out, level,
-                checkSemanticOpt,
-                serializeToJson, deserializeFromJson);
+                checkSemanticOpt, ontologyOpt, cvCacheOpt, summaryOpt,
+                serializeToJson, deserializeFromJson, threads);
         }
 //        } catch (IOException ex) {
 //            LOGGER.error( 
@@ -303,6 +348,26 @@ public class MZTabCommandLine {
 //        }
     }
 
+    protected static int handleThreadsOption(CommandLine line,
+        String threadsOpt) throws ParseException {
+        int threads = 1;
+        if (line.hasOption(threadsOpt)) {
+            String value = line.getOptionValue(threadsOpt).
+                trim();
+            try {
+                threads = Integer.parseInt(value);
+            } catch (NumberFormatException nfe) {
+                threads = 0;
+            }
+            if (threads < 1) {
+                throw new ParseException(
+                    "Illegal value '" + value + "' for option --" + threadsOpt + ", number of threads must be a positive integer!");
+            }
+            LOGGER.info("Parser set to use {} threads", threads);
+        }
+        return threads;
+    }
+
     protected static void handleMsgOption(CommandLine line, String msgOpt,
         MZTabErrorTypeMap typeMap) throws NumberFormatException {
         String[] values = line.getOptionValues(msgOpt);
@@ -319,7 +384,7 @@ public class MZTabCommandLine {
 
     protected static boolean handleValidation(CommandLine line, String checkOpt,
         PrintStream outFile, MZTabErrorType.Level level, String checkSemanticOpt,
-        boolean toJson, boolean fromJson) throws URISyntaxException, JAXBException, IllegalArgumentException, IOException {
+        String ontologyOpt, String cvCacheOpt, String summaryOpt, boolean toJson, boolean fromJson, int threads) throws URISyntaxException, JAXBException, IllegalArgumentException, IOException {
         boolean errorsOrWarnings = false;
         if (line.hasOption(checkOpt)) {
             String value = line.getOptionValue(checkOpt);
@@ -349,8 +414,16 @@ public class MZTabCommandLine {
                 getAbsolutePath());
             try {
                 MzTabFileParser mzTabParser = new MzTabFileParser(inFile);
-                MZTabErrorList errorList = mzTabParser.parse(outFile, level);
-                if (!errorList.isEmpty()) {
+                MZTabErrorSummary summary = line.hasOption(summaryOpt) ? new MZTabErrorSummary() : null;
+                MZTabErrorList errorList = mzTabParser.parse(outFile, level,
+                    MAX_ERROR_COUNT, threads, summary);
+                if (summary != null && !summary.isEmpty()) {
+                    long nErrorsOrWarnings = summary.getCount(MZTabErrorType.Level.Error)
+                        + summary.getCount(MZTabErrorType.Level.Warn);
+                    errorsOrWarnings = nErrorsOrWarnings > 0;
+                    LOGGER.error(
+                        "There were " + summary.getTotalCount() + " validation messages including " + nErrorsOrWarnings + " warnings or errors during validation of your file, please check the output for details!");
+                } else if (!errorList.isEmpty()) {
                     long nErrorsOrWarnings = errorList.getErrorList().
                         stream().
                         filter((error) ->
@@ -385,7 +458,7 @@ public class MZTabCommandLine {
                     }
                 }
                 errorsOrWarnings = errorsOrWarnings || handleSemanticValidation(line,
-                    checkSemanticOpt, inFile, outFile,
+                    checkSemanticOpt, ontologyOpt, cvCacheOpt, inFile, outFile,
                     mzTabParser, level);
                 LOGGER.info("Finished validation!");
             } catch(IOException | IllegalArgumentException ioex) {
@@ -396,9 +469,9 @@ public class MZTabCommandLine {
     }
 
     protected static boolean handleSemanticValidation(CommandLine line,
-        String checkSemanticOpt, File inFile, PrintStream outFile,
-        MzTabFileParser mzTabParser,
-        MZTabErrorType.Level level) throws JAXBException, MalformedURLException, URISyntaxException {
+        String checkSemanticOpt, String ontologyOpt, String cvCacheOpt, File inFile,
+        PrintStream outFile, MzTabFileParser mzTabParser,
+        MZTabErrorType.Level level) throws JAXBException, MalformedURLException, URISyntaxException, IOException {
         boolean errorsOrWarnings = false;
         if (line.hasOption(checkSemanticOpt)) {
             String semValue = line.getOptionValue(
@@ -425,10 +498,42 @@ public class MZTabCommandLine {
                 "Beginning semantic validation of mztab file: " + inFile.
                     getAbsolutePath() + " with mapping file: " + mappingFile.
                     toASCIIString());
+            CvLookupService lookupService;
+            if (line.hasOption(ontologyOpt)) {
+                String[] ontologyFiles = line.getOptionValue(ontologyOpt).
+                    split(",");
+                Path[] ontologyPaths = new Path[ontologyFiles.length];
+                for (int i = 0; i < ontologyFiles.length; i++) {
+                    ontologyPaths[i] = Paths.get(ontologyFiles[i].trim());
+                }
+                LOGGER.info("Using local ontologies from: {}", String.join(
+                    ", ", ontologyFiles));
+                lookupService = OboCvParameterLookupService.of(ontologyPaths);
+            } else {
+                Path cacheFile = line.hasOption(cvCacheOpt) ? Paths.get(line.
+                    getOptionValue(cvCacheOpt).
+                    trim()) : PersistentCvLookupService.defaultCacheFile();
+                LOGGER.info("Using ontology lookup cache file: {}", cacheFile);
+                lookupService = new PersistentCvLookupService(
+                    new CvParameterLookupService(), cacheFile,
+                    PersistentCvLookupService.DEFAULT_TTL);
+            }
             CvMappingValidator cvMappingValidator = CvMappingValidator.of(
-                mappingFile.toURL(), true);
-            List<ValidationMessage> validationMessages = cvMappingValidator.
-                validate(mzTabParser.getMZTabFile()).
+                mappingFile.toURL(), lookupService, true);
+            List<ValidationMessage> validationMessages;
+            try {
+                validationMessages = cvMappingValidator.
+                    validate(mzTabParser.getMZTabFile());
+            } finally {
+                if (lookupService instanceof PersistentCvLookupService) {
+                    try {
+                        ((PersistentCvLookupService) lookupService).save();
+                    } catch (IOException ioex) {
+                        LOGGER.warn("Could not write ontology lookup cache file!", ioex);
+                    }
+                }
+            }
+            validationMessages = validationMessages.
                 stream().
                 filter((message) ->
                 {
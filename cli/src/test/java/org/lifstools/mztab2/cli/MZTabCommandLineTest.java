@@ -15,6 +15,12 @@
  */
 package org.lifstools.mztab2.cli;
 
+import org.apache.commons.cli.CommandLine;
+import org.apache.commons.cli.Options;
+import org.apache.commons.cli.ParseException;
+import org.apache.commons.cli.PosixParser;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
 import org.junit.Test;
 
 /**
@@ -32,5 +38,31 @@ public class MZTabCommandLineTest {
     @Test
     public void testMain() throws Exception {
     }
+
+    /**
+     * Test of handleThreadsOption method, of class MZTabCommandLine.
+     */
+    @Test
+    public void testHandleThreadsOption() throws Exception {
+        assertEquals(1, threads());
+        assertEquals(8, threads("--threads", "8"));
+        assertEquals(4, threads("-t", " 4 "));
+        for (String value : new String[]{"0", "-2", "eight", "99999999999"}) {
+            try {
+                threads("--threads", value);
+                fail("Expected ParseException for value " + value);
+            } catch (ParseException pe) {
+                // expected
+            }
+        }
+    }
+
+    private int threads(String... args) throws ParseException {
+        Options options = new Options();
+        String threadsOpt = MZTabCommandLine.addThreadsOption(options);
+        CommandLine line = new PosixParser().
+            parse(options, args);
+        return MZTabCommandLine.handleThreadsOption(line, threadsOpt);
+    }
     
 }
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.io;
+
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.function.Function;
+
+/**
+ * Index of the ids defined by the rows of an mzTab section, e.g. the SMF_ID
+ * values of the small molecule feature section. It is built once per section
+ * and resolves references from another section, e.g. the SMF_ID_REFS of the
+ * small molecule summary section, in constant time per reference.
+ *
+ * Small non-negative ids are kept in a {@link java.util.BitSet}. Its size is
+ * bounded by a small multiple of the number of ids, so that a few very large
+ * ids do not blow up the memory. Larger and negative ids are kept in a
+ * separate hash set.
+ *
+ * @author nilshoffmann
+ */
+public final class IdReferenceIndex {
+
+    private static final int MIN_DENSE_LIMIT = 1024;
+    private static final int DENSE_FACTOR = 8;
+
+    private final BitSet ids = new BitSet();
+    private final Set<Integer> sparseIds = new HashSet<>();
+    private int count = 0;
+    private boolean containsNull = false;
+
+    /**
+     * Create a new index with the ids of the given rows.
+     *
+     * @param <T> the row type.
+     * @param rows the rows defining the ids.
+     * @param idFunction returns the id of a row, may return null.
+     * @return the index.
+     */
+    public static <T> IdReferenceIndex of(Collection<T> rows,
+        Function<T, Integer> idFunction) {
+        IdReferenceIndex index = new IdReferenceIndex();
+        for (T row : rows) {
+            index.add(idFunction.apply(row));
+        }
+        return index;
+    }
+
+    /**
+     * Add a defined id.
+     *
+     * @param id the id, may be null.
+     */
+    public void add(Integer id) {
+        if (id == null) {
+            containsNull = true;
+        } else {
+            count++;
+            long denseLimit = Math.max(MIN_DENSE_LIMIT, (long) count
+                * DENSE_FACTOR);
+            if (id >= 0 && id < denseLimit) {
+                ids.set(id);
+            } else {
+                sparseIds.add(id);
+            }
+        }
+    }
+
+    /**
+     * Check whether the given id is defined.
+     *
+     * @param id the id, may be null.
+     * @return true, if the id has been added to this index.
+     */
+    public boolean contains(Integer id) {
+        if (id == null) {
+            return containsNull;
+        } else if (id >= 0 && ids.get(id)) {
+            return true;
+        }
+        return sparseIds.contains(id);
+    }
+
+    /**
+     * Returns the distinct ids of the given references that are not defined in
+     * this index, in ascending order.
+     *
+     * @param references the referenced ids, may be null.
+     * @return the undefined references, empty if all references could be
+     * resolved.
+     */
+    public SortedSet<Integer> unresolved(List<Integer> references) {
+        SortedSet<Integer> unresolved = null;
+        if (references != null) {
+            for (Integer reference : references) {
+                if (!contains(reference)) {
+                    if (unresolved == null) {
+                        unresolved = new TreeSet<>(Comparator.nullsFirst(
+                            Comparator.naturalOrder()));
+                    }
+                    unresolved.add(reference);
+                }
+            }
+        }
+        return unresolved == null ? Collections.emptySortedSet() : unresolved;
+    }
+}
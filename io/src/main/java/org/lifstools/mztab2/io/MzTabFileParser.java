@@ -26,22 +26,24 @@ import org.lifstools.mztab2.model.SmallMoleculeSummary;
 import java.io.*;
 import java.net.URI;
 import java.net.URL;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.SortedMap;
 import java.util.TreeMap;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.zip.GZIPInputStream;
 import uk.ac.ebi.pride.jmztab2.model.IMZTabColumn;
 import uk.ac.ebi.pride.jmztab2.model.MZTabColumnFactory;
 import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.NEW_LINE;
 import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.REGEX_DEFAULT_RELIABILITY;
-import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.TAB;
+import uk.ac.ebi.pride.jmztab2.model.MZTabRegexRules;
 import uk.ac.ebi.pride.jmztab2.model.MZTabStringUtils;
 import uk.ac.ebi.pride.jmztab2.model.Section;
 import static uk.ac.ebi.pride.jmztab2.utils.MZTabProperties.*;
@@ -49,10 +51,13 @@ import uk.ac.ebi.pride.jmztab2.utils.errors.FormatErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.errors.LogicalErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorListener;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorOverflowException;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorSummary;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
 import uk.ac.ebi.pride.jmztab2.utils.parser.COMLineParser;
+import uk.ac.ebi.pride.jmztab2.utils.parser.ColumnDispatchTable;
 import uk.ac.ebi.pride.jmztab2.utils.parser.MTDLineParser;
 import uk.ac.ebi.pride.jmztab2.utils.parser.MZTabParserContext;
 import uk.ac.ebi.pride.jmztab2.utils.parser.PositionMapping;
@@ -62,6 +67,7 @@ import uk.ac.ebi.pride.jmztab2.utils.parser.SMELineParser;
 import uk.ac.ebi.pride.jmztab2.utils.parser.SMFLineParser;
 import uk.ac.ebi.pride.jmztab2.utils.parser.SMHLineParser;
 import uk.ac.ebi.pride.jmztab2.utils.parser.SMLLineParser;
+import uk.ac.ebi.pride.jmztab2.utils.parser.TabTokenizer;
 
 /**
  *
@@ -77,10 +83,24 @@ import uk.ac.ebi.pride.jmztab2.utils.parser.SMLLineParser;
 public class MzTabFileParser {
 
     private MzTab mzTabFile;
-    private URI tabFile;
+    private final String tabSourceName;
+    private final TabSource tabSource;
 
     private MZTabErrorList errorList;
     private MZTabParserContext context;
+    private int chunkSize = ParallelDataLineParser.DEFAULT_CHUNK_SIZE;
+    private final List<MZTabErrorListener> errorListeners = new ArrayList<>();
+    private boolean retainErrors = true;
+    private MzTabReadSelection selection = MzTabReadSelection.all();
+
+    /**
+     * Opens a new reader for the mzTab content.
+     */
+    @FunctionalInterface
+    interface TabSource {
+
+        BufferedReader open() throws IOException;
+    }
 
     /**
      * Create a new {@code MZTabFileParser} for the given file.
@@ -114,7 +134,90 @@ public class MzTabFileParser {
                 toASCIIString() + " does not exist!");
         }
 
-        this.tabFile = tabFileUri;
+        this.tabSourceName = tabFileUri.toString();
+        this.tabSource = () -> readFile(tabFileUri);
+    }
+
+    /**
+     * Create a new {@code MZTabFileParser} for the given path. Paths of all
+     * file system providers are supported, e.g. of zip file systems. Gzip
+     * compressed content is detected automatically.
+     *
+     * @param tabFilePath the MZTab file path. MUST exist.
+     * @throws java.lang.IllegalArgumentException if the provided argument in
+     * invalid.
+     */
+    public MzTabFileParser(Path tabFilePath) throws IllegalArgumentException {
+        if (tabFilePath == null) {
+            throw new IllegalArgumentException(
+                "MZTab file path must not be null!");
+        }
+        if (!Files.exists(tabFilePath)) {
+            throw new IllegalArgumentException("MZTab file path " + tabFilePath + " does not exist!");
+        }
+        this.tabSourceName = tabFilePath.toUri().
+            toString();
+        this.tabSource = () -> readStream(Files.newInputStream(tabFilePath));
+    }
+
+    /**
+     * Create a new {@code MZTabFileParser} that reads the mzTab content from
+     * the given reader, e.g. a {@link java.io.StringReader} for content that
+     * is already in memory. The reader is closed after parsing, so
+     * {@code parse} can only be called once for this parser.
+     *
+     * @param tabReader the reader for the mzTab content. MUST not be null.
+     * @throws java.lang.IllegalArgumentException if the provided argument in
+     * invalid.
+     */
+    public MzTabFileParser(Reader tabReader) throws IllegalArgumentException {
+        if (tabReader == null) {
+            throw new IllegalArgumentException(
+                "MZTab reader must not be null!");
+        }
+        this.tabSourceName = "mzTab input";
+        this.tabSource = once(() -> tabReader instanceof BufferedReader ? (BufferedReader) tabReader : new BufferedReader(
+            tabReader));
+    }
+
+    /**
+     * Create a new {@code MZTabFileParser} that reads the mzTab content from
+     * the given input stream. Gzip compressed content is detected
+     * automatically. The stream is closed after parsing, so {@code parse} can
+     * only be called once for this parser.
+     *
+     * @param tabStream the input stream for the mzTab content. MUST not be
+     * null.
+     * @throws java.lang.IllegalArgumentException if the provided argument in
+     * invalid.
+     */
+    public MzTabFileParser(InputStream tabStream) throws IllegalArgumentException {
+        if (tabStream == null) {
+            throw new IllegalArgumentException(
+                "MZTab input stream must not be null!");
+        }
+        this.tabSourceName = "mzTab input";
+        this.tabSource = once(() -> readStream(tabStream));
+    }
+
+    /**
+     * Create a new {@code MZTabFileParser} that reads the mzTab content from
+     * the given channel. Gzip compressed content is detected automatically.
+     * The channel is closed after parsing, so {@code parse} can only be called
+     * once for this parser.
+     *
+     * @param tabChannel the channel for the mzTab content. MUST not be null.
+     * @throws java.lang.IllegalArgumentException if the provided argument in
+     * invalid.
+     */
+    public MzTabFileParser(ReadableByteChannel tabChannel) throws IllegalArgumentException {
+        if (tabChannel == null) {
+            throw new IllegalArgumentException(
+                "MZTab channel must not be null!");
+        }
+        this.tabSourceName = "mzTab input";
+        this.tabSource = once(() -> readStream(Channels.newInputStream(
+            tabChannel)));
     }
 
     /**
@@ -132,17 +235,124 @@ public class MzTabFileParser {
      */
     public MZTabErrorList parse(OutputStream out, MZTabErrorType.Level level,
         int maxErrorCount) throws IOException {
+        return parse(out, level, maxErrorCount, 1);
+    }
+
+    /**
+     * Create a new {@code MZTabParserContext} and {@code MZTabErrorList} for
+     * the given file URI. Parsing output and errors are written to the provided
+     * {@link java.io.OutputStream}.
+     *
+     * If more than one thread is requested, the small molecule summary, feature
+     * and evidence data lines are parsed in parallel on the given number of
+     * worker threads, while metadata and header lines are still parsed by the
+     * calling thread. The resulting {@link org.lifstools.mztab2.model.MzTab}
+     * object and the reported errors, including their order, are the same as
+     * for sequential parsing.
+     *
+     * @param out the output stream for parsing messages
+     * @param level the minimum error level to report errors for
+     * @param maxErrorCount the maximum number of errors to report in the
+     * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList} return by
+     * {@link org.lifstools.mztab2.io.MzTabFileParser#getErrorList()}
+     * @param threads the number of threads to use for parsing data lines, 1
+     * for sequential parsing
+     * @return the error list
+     * @throws java.io.IOException if any io related errors occur.
+     * @throws java.lang.IllegalArgumentException if threads is smaller than 1.
+     */
+    public MZTabErrorList parse(OutputStream out, MZTabErrorType.Level level,
+        int maxErrorCount, int threads) throws IOException {
+        return parse(out, level, maxErrorCount, threads, null);
+    }
+
+    /**
+     * Create a new {@code MZTabParserContext} and {@code MZTabErrorList} for
+     * the given file URI. Parsing output and errors are written to the provided
+     * {@link java.io.OutputStream}.
+     *
+     * If a summary is given, all errors are counted by error type and column
+     * in the summary, and parsing does not stop when the maximum error count
+     * is reached. The returned error list then keeps only the first
+     * maxErrorCount errors.
+     *
+     * @param out the output stream for parsing messages
+     * @param level the minimum error level to report errors for
+     * @param maxErrorCount the maximum number of errors to report in the
+     * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList} return by
+     * {@link org.lifstools.mztab2.io.MzTabFileParser#getErrorList()}
+     * @param threads the number of threads to use for parsing data lines, 1
+     * for sequential parsing
+     * @param summary the summary to aggregate all errors in, may be null
+     * @return the error list
+     * @throws java.io.IOException if any io related errors occur.
+     * @throws java.lang.IllegalArgumentException if threads is smaller than 1.
+     */
+    public MZTabErrorList parse(OutputStream out, MZTabErrorType.Level level,
+        int maxErrorCount, int threads, MZTabErrorSummary summary) throws IOException {
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                "Number of threads must be greater than 0!");
+        }
+        return parse(out, level, maxErrorCount, summary, () ->
+        {
+            check(threads);
+        });
+    }
+
+    /**
+     * Parses and validates only the metadata section and the comments before
+     * the first line of another section. Reading stops at the first small
+     * molecule header or any other non-metadata line, so the table sections
+     * are neither read nor validated. Compressed content is supported as for
+     * {@link #parse(java.io.OutputStream, uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType.Level, int)}.
+     *
+     * If no errors were reported, {@link #getMZTabFile()} returns an
+     * {@link org.lifstools.mztab2.model.MzTab} object with the metadata and
+     * comments only. Checks that need the table sections, e.g. for missing
+     * sections, are not performed.
+     *
+     * @param out the output stream for parsing messages
+     * @param level the minimum error level to report errors for
+     * @param maxErrorCount the maximum number of errors to report in the
+     * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList} return by
+     * {@link org.lifstools.mztab2.io.MzTabFileParser#getErrorList()}
+     * @return the error list
+     * @throws java.io.IOException if any io related errors occur.
+     */
+    public MZTabErrorList parseMetadata(OutputStream out,
+        MZTabErrorType.Level level, int maxErrorCount) throws IOException {
+        return parse(out, level, maxErrorCount, null, this::checkMetadata);
+    }
+
+    /**
+     * Reads and checks the content.
+     */
+    @FunctionalInterface
+    private interface ContentCheck {
+
+        void run() throws IOException, MZTabException, MZTabErrorOverflowException;
+    }
+
+    private MZTabErrorList parse(OutputStream out, MZTabErrorType.Level level,
+        int maxErrorCount, MZTabErrorSummary summary, ContentCheck check) throws IOException {
         try {
             context = new MZTabParserContext();
-            errorList = new MZTabErrorList(level, maxErrorCount);
-            check();
+            errorList = new MZTabErrorList(level, maxErrorCount, summary);
+            errorList.setRetainErrors(retainErrors);
+            errorListeners.forEach(errorList::addListener);
+            check.run();
             refine();
         } catch (MZTabException e) {
             out.write(e.getMessage().getBytes());
             try (PrintStream ps = new PrintStream(out)) {
                 e.printStackTrace(ps);
             }
-            errorList.add(e.getError());
+            try {
+                errorList.add(e.getError());
+            } catch (MZTabErrorOverflowException oe) {
+                // a listener may stop at this error, it has been reported
+            }
         } catch (MZTabErrorOverflowException e) {
             try (PrintStream ps = new PrintStream(out)) {
                 e.printStackTrace(ps);
@@ -155,9 +365,9 @@ public class MzTabFileParser {
         }
 
         errorList.print(out);
-        if (mzTabFile != null && errorList.isEmpty()) {
+        if (mzTabFile != null && errorList.getReportedCount() == 0) {
             out.write(
-                ("No structural or logical errors in " + tabFile + " file!" + NEW_LINE).
+                ("No structural or logical errors in " + tabSourceName + " file!" + NEW_LINE).
                     getBytes());
         }
         return errorList;
@@ -206,36 +416,111 @@ public class MzTabFileParser {
         return errorList;
     }
 
-    private Section getSection(String line) {
-        String[] items = line.split("\\s*" + TAB + "\\s*");
-        String section = items[0].trim();
-        return Section.findSection(section);
+    /**
+     * Adds a listener that is called for each reported error while the
+     * content is parsed. The listener is added to the error list of each
+     * following call of parse. It may throw an
+     * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorOverflowException}
+     * to stop parsing.
+     *
+     * @param listener the listener, must not be null.
+     */
+    public void addErrorListener(MZTabErrorListener listener) {
+        if (listener == null) {
+            throw new NullPointerException("Can not add a null listener.");
+        }
+        errorListeners.add(listener);
+    }
+
+    /**
+     * Defines whether reported errors are kept in the error list returned by
+     * parse. Set this to false, if errors are only consumed by listeners or a
+     * summary. The default is true.
+     *
+     * @param retainErrors true to keep errors in the error list.
+     */
+    public void setRetainErrors(boolean retainErrors) {
+        this.retainErrors = retainErrors;
+    }
+
+    /**
+     * Defines the sections and columns that are read by parse. Lines of
+     * unselected sections and cells of unselected columns are skipped without
+     * parsing or validating them. The default is
+     * {@link MzTabReadSelection#all()}.
+     *
+     * @param selection the sections and columns to read.
+     */
+    public void setSelection(MzTabReadSelection selection) {
+        if (selection == null) {
+            throw new NullPointerException("Selection must not be null.");
+        }
+        this.selection = selection;
+    }
+
+    /**
+     * Set the number of data lines that are parsed as one unit of work during
+     * parallel parsing.
+     *
+     * @param chunkSize the number of lines per chunk, must be greater than 0.
+     */
+    void setChunkSize(int chunkSize) {
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(
+                "Chunk size must be greater than 0!");
+        }
+        this.chunkSize = chunkSize;
     }
 
-    private BufferedReader readFile(URI tabFile) throws IOException {
-        BufferedReader reader;
+    static Section getSection(String line) {
+        return Section.findSection(TabTokenizer.firstField(line));
+    }
 
+    static BufferedReader readFile(URI tabFile) throws IOException {
         InputStream is;
-        File file = new File(tabFile);
-        if (file.isFile()) {
-            is = new FileInputStream(file);
+        if ("file".equals(tabFile.getScheme())) {
+            is = new FileInputStream(new File(tabFile));
         } else {
             URL tabFileUrl = tabFile.toURL();
             is = tabFileUrl.openStream();
         }
-        if (tabFile.getPath().
-            endsWith(".gz")) {
-            reader = new BufferedReader(new InputStreamReader(
-                new GZIPInputStream(is), ENCODE));
-        } else {
-            reader = new BufferedReader(new InputStreamReader(
-                is, ENCODE));
+        return readStream(is);
+    }
+
+    /**
+     * Creates a buffered reader for the given stream. Gzip compressed content
+     * is detected by its magic bytes, independent of any file name.
+     *
+     * @param is the input stream
+     * @return the reader
+     * @throws IOException if the stream can not be read
+     */
+    static BufferedReader readStream(InputStream is) throws IOException {
+        BufferedInputStream bis = new BufferedInputStream(is);
+        bis.mark(2);
+        int first = bis.read();
+        int second = bis.read();
+        bis.reset();
+        InputStream content = bis;
+        if (first == (GZIPInputStream.GZIP_MAGIC & 0xff) && second == (GZIPInputStream.GZIP_MAGIC >> 8)) {
+            content = new GZIPInputStream(bis);
         }
+        return new BufferedReader(new InputStreamReader(content, ENCODE));
+    }
 
-        return reader;
+    private static TabSource once(TabSource tabSource) {
+        AtomicBoolean opened = new AtomicBoolean();
+        return () ->
+        {
+            if (opened.getAndSet(true)) {
+                throw new IllegalStateException(
+                    "MZTab input has already been parsed!");
+            }
+            return tabSource.open();
+        };
     }
 
-    private String subString(String source) {
+    static String subString(String source) {
         int length = 20;
 
         if (length >= source.length()) {
@@ -266,9 +551,62 @@ public class MzTabFileParser {
         }
     }
 
+    /**
+     * Reads the comments and metadata lines up to the first line of another
+     * section.
+     */
+    private void checkMetadata() throws IOException, MZTabException, MZTabErrorOverflowException {
+        COMLineParser comParser = new COMLineParser(context);
+        MTDLineParser mtdParser = new MTDLineParser(context);
+        SortedMap<Integer, Comment> commentMap = new TreeMap<>();
+        String line;
+        int lineNumber = 0;
+        try (BufferedReader reader = tabSource.open()) {
+            while ((line = reader.readLine()) != null) {
+                try {
+                    lineNumber++;
+                    if (MZTabStringUtils.isEmpty(line)) {
+                        continue;
+                    }
+                    if (line.startsWith(Section.Comment.getPrefix())) {
+                        comParser.parse(lineNumber, line, errorList);
+                        commentMap.put(lineNumber, comParser.getComment());
+                        continue;
+                    }
+                    Section section = getSection(line);
+                    if (section == null) {
+                        throw new MZTabException(new MZTabError(
+                            FormatErrorType.LinePrefix, lineNumber,
+                            subString(line)));
+                    }
+                    if (section != Section.Metadata) {
+                        break;
+                    }
+                    mtdParser.parse(lineNumber, line, errorList);
+                } catch (NullPointerException npe) {
+                    throw new MZTabException(new MZTabError(
+                        LogicalErrorType.NULL,
+                        lineNumber, subString(line)), npe);
+                }
+            }
+        }
+
+        mtdParser.refineNormalMetadata();
+
+        if (errorList.getReportedCount() == 0) {
+            mzTabFile = new MzTab();
+            mzTabFile.metadata(mtdParser.getMetadata());
+            for (Integer id : commentMap.keySet()) {
+                mzTabFile.addCommentItem(commentMap.get(id));
+            }
+        }
+    }
+
     /**
      * Query {@link MZTabErrorList} to check exist errors or not.
      *
+     * @param threads the number of threads for data line parsing, data lines
+     * are parsed by the calling thread if 1.
      * @throws java.io.IOException
      * @throws uk.ac.ebi.pride.jmztab.utils.errors.MZTabException during parsing
      * of metadata,
@@ -278,7 +616,7 @@ public class MzTabFileParser {
      * when too many errors are detected, as defined by the mztab.properties
      * file mztab.max_error_count parameter.
      */
-    private void check() throws IOException, MZTabException, MZTabErrorOverflowException {
+    private void check(int threads) throws IOException, MZTabException, MZTabErrorOverflowException {
         COMLineParser comParser = new COMLineParser(context);
         MTDLineParser mtdParser = new MTDLineParser(context);
         SMHLineParser smhParser = null;
@@ -293,15 +631,21 @@ public class MzTabFileParser {
         SortedMap<Integer, SmallMoleculeFeature> smallMoleculeFeatureMap = new TreeMap<>();
         SortedMap<Integer, SmallMoleculeEvidence> smallMoleculeEvidenceMap = new TreeMap<>();
 
-        PositionMapping smlPositionMapping = null;
-        PositionMapping smfPositionMapping = null;
-        PositionMapping smePositionMapping = null;
+        ColumnDispatchTable<SMLLineParser> smlDispatchTable = null;
+        ColumnDispatchTable<SMFLineParser> smfDispatchTable = null;
+        ColumnDispatchTable<SMELineParser> smeDispatchTable = null;
+
+        ParallelDataLineParser.Sink<SmallMoleculeSummary> smlSink = null;
+        ParallelDataLineParser.Sink<SmallMoleculeFeature> smfSink = null;
+        ParallelDataLineParser.Sink<SmallMoleculeEvidence> smeSink = null;
 
         String line;
         int highWaterMark = 1;
         int lineNumber = 0;
         Section section;
-        try (BufferedReader reader = readFile(tabFile)) {
+        try (BufferedReader reader = tabSource.open();
+            ParallelDataLineParser dataParser = threads > 1 ? new ParallelDataLineParser(
+                threads, chunkSize, errorList) : null) {
             while ((line = reader.readLine()) != null) {
                 try {
                     lineNumber++;
@@ -311,12 +655,21 @@ public class MzTabFileParser {
                     }
 
                     if (line.startsWith(Section.Comment.getPrefix())) {
+                        if (dataParser != null) {
+                            dataParser.drain();
+                        }
                         comParser.parse(lineNumber, line, errorList);
                         commentMap.put(lineNumber, comParser.getComment());
                         continue;
                     }
 
                     section = getSection(line);
+                    if (dataParser != null && (section == null || section.
+                        getLevel() != highWaterMark)) {
+                        // all queued data lines need to be merged before a
+                        // line of another section is processed
+                        dataParser.drain();
+                    }
                     if (section == null) {
                         MZTabError sectionNullError = new MZTabError(
                             FormatErrorType.LinePrefix, lineNumber,
@@ -334,6 +687,11 @@ public class MzTabFileParser {
 
                     highWaterMark = section.getLevel();
 
+                    if (!selection.isSelected(section)) {
+                        // fast-forward over unselected sections
+                        continue;
+                    }
+
                     switch (highWaterMark) {
                         case 1:
                             // metadata section.
@@ -352,8 +710,10 @@ public class MzTabFileParser {
                             smhParser = new SMHLineParser(context, mtdParser.
                                 getMetadata());
                             smhParser.parse(lineNumber, line, errorList);
-                            smlPositionMapping = new PositionMapping(smhParser.
-                                getFactory(), line);
+                            smlDispatchTable = selection.select(
+                                Section.Small_Molecule, smhParser.compileDispatchTable(
+                                    new PositionMapping(smhParser.getFactory(),
+                                        line)));
 
                             // tell system to continue check small molecule data line.
                             highWaterMark = 9;
@@ -368,14 +728,24 @@ public class MzTabFileParser {
 
                             if (smlParser == null) {
                                 smlParser = new SMLLineParser(context,
-                                    smhParser.
-                                        getFactory(),
-                                    smlPositionMapping, mtdParser.getMetadata(),
+                                    smlDispatchTable, mtdParser.getMetadata(),
                                     errorList);
+                                if (dataParser != null) {
+                                    ColumnDispatchTable<SMLLineParser> dispatchTable = smlDispatchTable;
+                                    Metadata metadata = mtdParser.getMetadata();
+                                    smlSink = new ParallelDataLineParser.Sink<>(
+                                        () -> new SMLLineParser(context,
+                                            dispatchTable, metadata, null),
+                                        smallMoleculeSummaryMap);
+                                }
+                            }
+                            if (dataParser != null) {
+                                dataParser.submit(smlSink, lineNumber, line);
+                            } else {
+                                smlParser.parse(lineNumber, line, errorList);
+                                smallMoleculeSummaryMap.put(lineNumber, smlParser.
+                                    getRecord());
                             }
-                            smlParser.parse(lineNumber, line, errorList);
-                            smallMoleculeSummaryMap.put(lineNumber, smlParser.
-                                getRecord());
 
                             break;
                         case 10:
@@ -390,8 +760,10 @@ public class MzTabFileParser {
                             sfhParser = new SFHLineParser(context, mtdParser.
                                 getMetadata());
                             sfhParser.parse(lineNumber, line, errorList);
-                            smfPositionMapping = new PositionMapping(sfhParser.
-                                getFactory(), line);
+                            smfDispatchTable = selection.select(
+                                Section.Small_Molecule_Feature, sfhParser.compileDispatchTable(
+                                    new PositionMapping(sfhParser.getFactory(),
+                                        line)));
 
                             // tell system to continue check small molecule data line.
                             highWaterMark = 11;
@@ -406,14 +778,24 @@ public class MzTabFileParser {
 
                             if (smfParser == null) {
                                 smfParser = new SMFLineParser(context,
-                                    sfhParser.
-                                        getFactory(),
-                                    smfPositionMapping, mtdParser.getMetadata(),
+                                    smfDispatchTable, mtdParser.getMetadata(),
                                     errorList);
+                                if (dataParser != null) {
+                                    ColumnDispatchTable<SMFLineParser> dispatchTable = smfDispatchTable;
+                                    Metadata metadata = mtdParser.getMetadata();
+                                    smfSink = new ParallelDataLineParser.Sink<>(
+                                        () -> new SMFLineParser(context,
+                                            dispatchTable, metadata, null),
+                                        smallMoleculeFeatureMap);
+                                }
+                            }
+                            if (dataParser != null) {
+                                dataParser.submit(smfSink, lineNumber, line);
+                            } else {
+                                smfParser.parse(lineNumber, line, errorList);
+                                smallMoleculeFeatureMap.put(lineNumber, smfParser.
+                                    getRecord());
                             }
-                            smfParser.parse(lineNumber, line, errorList);
-                            smallMoleculeFeatureMap.put(lineNumber, smfParser.
-                                getRecord());
 
                             break;
                         case 12:
@@ -428,8 +810,10 @@ public class MzTabFileParser {
                             sehParser = new SEHLineParser(context, mtdParser.
                                 getMetadata());
                             sehParser.parse(lineNumber, line, errorList);
-                            smePositionMapping = new PositionMapping(sehParser.
-                                getFactory(), line);
+                            smeDispatchTable = selection.select(
+                                Section.Small_Molecule_Evidence, sehParser.compileDispatchTable(
+                                    new PositionMapping(sehParser.getFactory(),
+                                        line)));
 
                             // tell system to continue check small molecule data line.
                             highWaterMark = 13;
@@ -444,14 +828,24 @@ public class MzTabFileParser {
 
                             if (smeParser == null) {
                                 smeParser = new SMELineParser(context,
-                                    sehParser.
-                                        getFactory(),
-                                    smePositionMapping, mtdParser.getMetadata(),
+                                    smeDispatchTable, mtdParser.getMetadata(),
                                     errorList);
+                                if (dataParser != null) {
+                                    ColumnDispatchTable<SMELineParser> dispatchTable = smeDispatchTable;
+                                    Metadata metadata = mtdParser.getMetadata();
+                                    smeSink = new ParallelDataLineParser.Sink<>(
+                                        () -> new SMELineParser(context,
+                                            dispatchTable, metadata, null),
+                                        smallMoleculeEvidenceMap);
+                                }
+                            }
+                            if (dataParser != null) {
+                                dataParser.submit(smeSink, lineNumber, line);
+                            } else {
+                                smeParser.parse(lineNumber, line, errorList);
+                                smallMoleculeEvidenceMap.put(lineNumber, smeParser.
+                                    getRecord());
                             }
-                            smeParser.parse(lineNumber, line, errorList);
-                            smallMoleculeEvidenceMap.put(lineNumber, smeParser.
-                                getRecord());
 
                             break;
                         default:
@@ -464,21 +858,24 @@ public class MzTabFileParser {
                         lineNumber, subString(line)), npe);
                 }
             }
-
+            if (dataParser != null) {
+                dataParser.drain();
+            }
         }
 
         mtdParser.refineNormalMetadata();
 
-        if (errorList.isEmpty()) {
+        if (errorList.getReportedCount() == 0) {
             mzTabFile = new MzTab();
             mzTabFile.metadata(mtdParser.getMetadata());
             for (Integer id : commentMap.keySet()) {
                 mzTabFile.addCommentItem(commentMap.get(id));
             }
             
-            if (smallMoleculeSummaryMap.isEmpty()) {
-                errorList.add(new MZTabError(
-                    LogicalErrorType.NoSmallMoleculeSummarySection, -1));
+            if (smallMoleculeSummaryMap.isEmpty() && selection.isSelected(
+                Section.Small_Molecule)) {
+                errorList.add(
+                    LogicalErrorType.NoSmallMoleculeSummarySection, -1);
             }
             if (smlParser != null) {
 
@@ -489,20 +886,23 @@ public class MzTabFileParser {
                 }
                 //check that reliability values are correct
                 if (mzTabFile.getMetadata().
-                    getSmallMoleculeIdentificationReliability() == null) {
-                    Pattern p = Pattern.compile(REGEX_DEFAULT_RELIABILITY);
+                    getSmallMoleculeIdentificationReliability() == null
+                    && smlDispatchTable.isSelected(
+                        SmallMoleculeSummary.Properties.reliability.
+                            getPropertyName())) {
+                    MZTabRegexRules.Rule reliabilityRule = MZTabRegexRules.
+                        rule(REGEX_DEFAULT_RELIABILITY);
                     for (SmallMoleculeSummary smi : mzTabFile.
                         getSmallMoleculeSummary()) {
                         String reliability = smi.getReliability();
-                        Matcher matcher = p.matcher(reliability);
-                        if (!matcher.matches()) {
-                            errorList.add(new MZTabError(
+                        if (!reliabilityRule.matches(reliability)) {
+                            errorList.add(
                                 FormatErrorType.RegexMismatch, -1,
                                 SmallMoleculeSummary.Properties.reliability.
                                     getPropertyName(), reliability,
                                 MzTab.Properties.smallMoleculeSummary.
                                     getPropertyName(), "" + smi.getSmlId(),
-                                REGEX_DEFAULT_RELIABILITY));
+                                REGEX_DEFAULT_RELIABILITY);
                         }
                     }
                 }
@@ -515,9 +915,9 @@ public class MzTabFileParser {
             }
 
             if (smallMoleculeFeatureMap.isEmpty() && !smallMoleculeSummaryMap.
-                isEmpty()) {
-                errorList.add(new MZTabError(
-                    LogicalErrorType.NoSmallMoleculeFeatureSection, -1));
+                isEmpty() && selection.isSelected(Section.Small_Molecule_Feature)) {
+                errorList.add(
+                    LogicalErrorType.NoSmallMoleculeFeatureSection, -1);
             }
             if (smfParser != null) {
                 for (Integer id : smallMoleculeFeatureMap.keySet()) {
@@ -529,9 +929,9 @@ public class MzTabFileParser {
                 if (smallMoleculeFeatureMap.size() > 0 && mzTabFile.
                     getMetadata().
                     getSmallMoleculeFeatureQuantificationUnit() == null) {
-                    errorList.add(new MZTabError(
+                    errorList.add(
                         LogicalErrorType.NoSmallMoleculeFeatureQuantificationUnit,
-                        -1));
+                        -1);
                 }
                 checkColunitMapping(sfhParser.getFactory(), Optional.ofNullable(
                     mzTabFile.
@@ -541,9 +941,9 @@ public class MzTabFileParser {
                     MzTab.Properties.smallMoleculeFeature);
             }
             if (smallMoleculeEvidenceMap.isEmpty() && !smallMoleculeSummaryMap.
-                isEmpty()) {
-                errorList.add(new MZTabError(
-                    LogicalErrorType.NoSmallMoleculeEvidenceSection, -1));
+                isEmpty() && selection.isSelected(Section.Small_Molecule_Evidence)) {
+                errorList.add(
+                    LogicalErrorType.NoSmallMoleculeEvidenceSection, -1);
             }
             if (smeParser != null) {
                 for (Integer id : smallMoleculeEvidenceMap.keySet()) {
@@ -560,63 +960,52 @@ public class MzTabFileParser {
                 );
             }
             //check ID refs, starting at SML level
-            if (smlParser != null && smfParser != null) {
-                for (Integer id : smallMoleculeSummaryMap.keySet()) {
-                    SmallMoleculeSummary sms = smallMoleculeSummaryMap.get(id);
-                    Set<Integer> smfIdRefs = new HashSet<>(sms.getSmfIdRefs());
-                    Set<Integer> definedIds = smallMoleculeFeatureMap.values().
-                        stream().
-                        map((t) ->
-                        {
-                            return t.getSmfId();
-                        }).
-                        collect(Collectors.toSet());
-                    smfIdRefs.removeAll(definedIds);
-                    if (!smfIdRefs.isEmpty()) {
-                        for (Integer smfRefId : smfIdRefs) {
-                            //raise a warning about unmatched SMF id
-                            //Reference id "{0}" for column "{1}" from element "{2}" in section "{3}" to section "{4}" must have a matching element defined.
-                            errorList.add(new MZTabError(
-                                LogicalErrorType.UnknownRefId, -1, "" + smfRefId,
-                                SmallMoleculeSummary.Properties.smfIdRefs.
-                                    getPropertyName(), "" + sms.getSmlId(),
-                                MzTab.Properties.smallMoleculeSummary.
-                                    getPropertyName(),
-                                MzTab.Properties.smallMoleculeFeature.
-                                    getPropertyName()));
-                        }
+            if (smlParser != null && smfParser != null && smlDispatchTable.
+                isSelected(SmallMoleculeSummary.Properties.smfIdRefs.toUpper())
+                && smfDispatchTable.isSelected(
+                    SmallMoleculeFeature.Properties.smfId.toUpper())) {
+                IdReferenceIndex definedSmfIds = IdReferenceIndex.of(
+                    smallMoleculeFeatureMap.values(),
+                    SmallMoleculeFeature::getSmfId);
+                for (SmallMoleculeSummary sms : smallMoleculeSummaryMap.
+                    values()) {
+                    for (Integer smfRefId : definedSmfIds.unresolved(sms.
+                        getSmfIdRefs())) {
+                        //raise a warning about unmatched SMF id
+                        //Reference id "{0}" for column "{1}" from element "{2}" in section "{3}" to section "{4}" must have a matching element defined.
+                        errorList.add(
+                            LogicalErrorType.UnknownRefId, -1, "" + smfRefId,
+                            SmallMoleculeSummary.Properties.smfIdRefs.
+                                getPropertyName(), "" + sms.getSmlId(),
+                            MzTab.Properties.smallMoleculeSummary.
+                                getPropertyName(),
+                            MzTab.Properties.smallMoleculeFeature.
+                                getPropertyName());
                     }
                 }
-                if (smeParser != null) {
-                    for (Integer id : smallMoleculeFeatureMap.keySet()) {
-                        SmallMoleculeFeature smf = smallMoleculeFeatureMap.get(
-                            id);
-                        Set<Integer> smeIdRefs = new HashSet<>(smf.
-                            getSmeIdRefs());
-                        Set<Integer> definedIds = smallMoleculeEvidenceMap.
-                            values().
-                            stream().
-                            map((t) ->
-                            {
-                                return t.getSmeId();
-                            }).
-                            collect(Collectors.toSet());
-                        smeIdRefs.removeAll(definedIds);
-                        if (!smeIdRefs.isEmpty()) {
-                            for (Integer smeRefId : smeIdRefs) {
-                                //raise a warning about unmatched SMF id
-                                //Reference id "{0}" for column "{1}" from element "{2}" in section "{3}" to section "{4}" must have a matching element defined.
-                                errorList.add(new MZTabError(
-                                    LogicalErrorType.UnknownRefId, -1,
-                                    "" + smeRefId,
-                                    SmallMoleculeFeature.Properties.smeIdRefs.
-                                        getPropertyName(), "" + smf.getSmfId(),
-                                    MzTab.Properties.smallMoleculeFeature.
-                                        getPropertyName(),
-                                    MzTab.Properties.smallMoleculeEvidence.
-                                        getPropertyName()));
-                            }
-                        }
+            }
+            if (smfParser != null && smeParser != null && smfDispatchTable.
+                isSelected(SmallMoleculeFeature.Properties.smeIdRefs.toUpper())
+                && smeDispatchTable.isSelected(
+                    SmallMoleculeEvidence.Properties.smeId.toUpper())) {
+                IdReferenceIndex definedSmeIds = IdReferenceIndex.of(
+                    smallMoleculeEvidenceMap.values(),
+                    SmallMoleculeEvidence::getSmeId);
+                for (SmallMoleculeFeature smf : smallMoleculeFeatureMap.
+                    values()) {
+                    for (Integer smeRefId : definedSmeIds.unresolved(smf.
+                        getSmeIdRefs())) {
+                        //raise a warning about unmatched SME id
+                        //Reference id "{0}" for column "{1}" from element "{2}" in section "{3}" to section "{4}" must have a matching element defined.
+                        errorList.add(
+                            LogicalErrorType.UnknownRefId, -1,
+                            "" + smeRefId,
+                            SmallMoleculeFeature.Properties.smeIdRefs.
+                                getPropertyName(), "" + smf.getSmfId(),
+                            MzTab.Properties.smallMoleculeFeature.
+                                getPropertyName(),
+                            MzTab.Properties.smallMoleculeEvidence.
+                                getPropertyName());
                     }
                 }
             }
@@ -625,6 +1014,14 @@ public class MzTabFileParser {
     }
 
     protected void checkColunitMapping(MZTabColumnFactory columnFactory,
+        Optional<Collection<ColumnParameterMapping>> columnParameterMapping,
+        Metadata.Properties colUnitProperty, MzTab.Properties mzTabSection) {
+        checkColunitMapping(errorList, columnFactory, columnParameterMapping,
+            colUnitProperty, mzTabSection);
+    }
+
+    static void checkColunitMapping(MZTabErrorList errorList,
+        MZTabColumnFactory columnFactory,
         Optional<Collection<ColumnParameterMapping>> columnParameterMapping,
         Metadata.Properties colUnitProperty, MzTab.Properties mzTabSection) {
         columnParameterMapping.orElse(Collections.emptyList()).
@@ -634,12 +1031,12 @@ public class MzTabFileParser {
                 IMZTabColumn column = columnFactory.findColumnByHeader(
                     columnName);
                 if (column == null) {
-                    errorList.add(new MZTabError(
+                    errorList.add(
                         FormatErrorType.ColUnit, -1,
                         colUnitProperty.
                             getPropertyName(), columnName,
                         mzTabSection.
-                            getPropertyName()));
+                            getPropertyName());
                 }
             });
     }
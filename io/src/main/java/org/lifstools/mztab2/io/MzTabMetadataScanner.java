@@ -0,0 +1,257 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.io;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.lifstools.mztab2.model.Metadata;
+import org.lifstools.mztab2.model.MzTab;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
+
+/**
+ * Reads the metadata sections of many mzTab-M files on a pool of worker
+ * threads, e.g. to index a directory of files. Only the lines up to the first
+ * line of a table section are read from each file, see
+ * {@link MzTabFileParser#parseMetadata(java.io.OutputStream, uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType.Level, int)}.
+ * Gzip compressed files are detected and decompressed transparently.
+ *
+ * @author nilshoffmann
+ */
+public final class MzTabMetadataScanner implements AutoCloseable {
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    /**
+     * Discards the parser output, closing it has no effect.
+     */
+    private static final OutputStream DISCARD = new OutputStream() {
+        @Override
+        public void write(int b) {
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+        }
+    };
+
+    private final ExecutorService executor;
+    private final MZTabErrorType.Level level;
+    private final int maxErrorCount;
+
+    /**
+     * The metadata of one file.
+     */
+    public static final class Result {
+
+        private final Path path;
+        private final Metadata metadata;
+        private final MZTabErrorList errorList;
+        private final IOException exception;
+
+        Result(Path path, Metadata metadata, MZTabErrorList errorList,
+            IOException exception) {
+            this.path = path;
+            this.metadata = metadata;
+            this.errorList = errorList;
+            this.exception = exception;
+        }
+
+        /**
+         * @return the path of the file.
+         */
+        public Path getPath() {
+            return path;
+        }
+
+        /**
+         * @return the metadata, or null, if the file could not be read or
+         * the metadata section contained errors.
+         */
+        public Metadata getMetadata() {
+            return metadata;
+        }
+
+        /**
+         * @return the errors reported for the metadata section, or null, if
+         * the file could not be read.
+         */
+        public MZTabErrorList getErrorList() {
+            return errorList;
+        }
+
+        /**
+         * @return the exception thrown while reading the file, or null.
+         */
+        public IOException getException() {
+            return exception;
+        }
+
+        /**
+         * @return true, if metadata is available for the file.
+         */
+        public boolean isSuccess() {
+            return metadata != null;
+        }
+    }
+
+    /**
+     * Create a new scanner reporting errors of level
+     * {@link MZTabErrorType.Level#Error}.
+     *
+     * @param threads the number of worker threads, must be greater than 0.
+     */
+    public MzTabMetadataScanner(int threads) {
+        this(threads, MZTabErrorType.Level.Error, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Create a new scanner.
+     *
+     * @param threads the number of worker threads, must be greater than 0.
+     * @param level the minimum error level to report errors for.
+     * @param maxErrorCount the maximum number of errors to report per file.
+     */
+    public MzTabMetadataScanner(int threads, MZTabErrorType.Level level,
+        int maxErrorCount) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                "Number of threads must be greater than 0!");
+        }
+        this.level = level;
+        this.maxErrorCount = maxErrorCount;
+        String prefix = "mztab-scanner-" + POOL_COUNT.incrementAndGet() + "-";
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, (r) ->
+        {
+            Thread t = new Thread(r, prefix + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Returns true, if the file name ends with <code>.mztab</code> or
+     * <code>.mztab.gz</code>, ignoring case.
+     *
+     * @param path the path to test.
+     * @return true, if the path names an mzTab file.
+     */
+    public static boolean isMzTabFile(Path path) {
+        Path fileName = path.getFileName();
+        if (fileName == null) {
+            return false;
+        }
+        String name = fileName.toString().
+            toLowerCase(Locale.ROOT);
+        return name.endsWith(".mztab") || name.endsWith(".mztab.gz");
+    }
+
+    /**
+     * Scans the directory and its sub directories for mzTab files and reads
+     * their metadata.
+     *
+     * @param directory the directory to scan.
+     * @return the results, ordered by path.
+     * @throws IOException if the directory can not be traversed.
+     */
+    public List<Result> scan(Path directory) throws IOException {
+        List<Path> paths;
+        try (Stream<Path> files = Files.walk(directory)) {
+            paths = files.filter(Files::isRegularFile).
+                filter(MzTabMetadataScanner::isMzTabFile).
+                sorted().
+                collect(Collectors.toList());
+        }
+        return scan(paths);
+    }
+
+    /**
+     * Reads the metadata of the given files. A file that does not exist or
+     * can not be read results in a failed {@link Result} carrying the
+     * exception, the remaining files are still read.
+     *
+     * @param paths the files to read.
+     * @return the results, in the order of the given paths.
+     */
+    public List<Result> scan(Collection<Path> paths) {
+        List<Future<Result>> futures = new ArrayList<>(paths.size());
+        for (Path path : paths) {
+            futures.add(executor.submit(() -> read(path)));
+        }
+        List<Result> results = new ArrayList<>(futures.size());
+        try {
+            for (Future<Result> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException ex) {
+            futures.forEach((f) -> f.cancel(true));
+            Thread.currentThread().
+                interrupt();
+            throw new IllegalStateException("Interrupted while scanning!", ex);
+        } catch (ExecutionException ex) {
+            futures.forEach((f) -> f.cancel(true));
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    private Result read(Path path) {
+        MzTabFileParser parser;
+        try {
+            parser = new MzTabFileParser(path);
+        } catch (IllegalArgumentException ex) {
+            // e.g. the file was removed after the directory was scanned
+            return new Result(path, null, null, new IOException(ex.
+                getMessage(), ex));
+        }
+        try {
+            MZTabErrorList errorList = parser.parseMetadata(DISCARD, level,
+                maxErrorCount);
+            MzTab mzTab = parser.getMZTabFile();
+            return new Result(path, mzTab == null ? null : mzTab.getMetadata(),
+                errorList, null);
+        } catch (IOException ex) {
+            return new Result(path, null, null, ex);
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
@@ -16,8 +16,6 @@
 package org.lifstools.mztab2.io;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.dataformat.csv.CsvMapper;
-import com.fasterxml.jackson.dataformat.csv.CsvSchema;
 import org.lifstools.mztab2.model.MzTab;
 import java.io.BufferedWriter;
 import java.io.IOException;
@@ -55,7 +53,7 @@ public class MzTabNonValidatingWriter implements MzTabWriter<Void> {
     private final MzTabWriterDefaults writerDefaults;
 
     public MzTabNonValidatingWriter() {
-        this.writerDefaults = new MzTabWriterDefaults();
+        this.writerDefaults = MzTabWriterDefaults.getDefault();
     }
 
     public MzTabNonValidatingWriter(MzTabWriterDefaults writerDefaults) {
@@ -116,11 +114,8 @@ public class MzTabNonValidatingWriter implements MzTabWriter<Void> {
     }
 
     void writeMetadataWithJackson(MzTab mztabfile, Writer writer) throws IOException {
-        CsvMapper mapper = writerDefaults.metadataMapper();
-        CsvSchema schema = writerDefaults.metaDataSchema(mapper);
-        
         try {
-            mapper.writer(schema).
+            writerDefaults.metadataWriter().
                 writeValue(writer, mztabfile.getMetadata());
         } catch (JsonProcessingException ex) {
             throw new IOException(ex);
@@ -128,11 +123,8 @@ public class MzTabNonValidatingWriter implements MzTabWriter<Void> {
     }
 
     void writeSmallMoleculeSummaryWithJackson(MzTab mztabfile, Writer writer) throws IOException {
-        CsvMapper mapper = writerDefaults.smallMoleculeSummaryMapper();
         try {
-            CsvSchema schema = writerDefaults.smallMoleculeSummarySchema(mapper,
-                mztabfile);
-            mapper.writer(schema).
+            writerDefaults.smallMoleculeSummaryWriter(mztabfile).
                 writeValue(writer, mztabfile.getSmallMoleculeSummary());
         } catch (JsonProcessingException | MZTabException ex) {
             throw new IOException(ex);
@@ -140,11 +132,8 @@ public class MzTabNonValidatingWriter implements MzTabWriter<Void> {
     }
 
     void writeSmallMoleculeFeaturesWithJackson(MzTab mztabfile, Writer writer) throws IOException {
-        CsvMapper mapper = writerDefaults.smallMoleculeFeatureMapper();
         try {
-            CsvSchema schema = writerDefaults.smallMoleculeFeatureSchema(mapper,
-                mztabfile);
-            mapper.writer(schema).
+            writerDefaults.smallMoleculeFeatureWriter(mztabfile).
                 writeValue(writer, mztabfile.getSmallMoleculeFeature());
         } catch (JsonProcessingException | MZTabException ex) {
             throw new IOException(ex);
@@ -152,12 +141,8 @@ public class MzTabNonValidatingWriter implements MzTabWriter<Void> {
     }
 
     void writeSmallMoleculeEvidenceWithJackson(MzTab mztabfile, Writer writer) throws IOException {
-        CsvMapper mapper = writerDefaults.smallMoleculeEvidenceMapper();
         try {
-            CsvSchema schema = writerDefaults.
-                smallMoleculeEvidenceSchema(mapper,
-                    mztabfile);
-            mapper.writer(schema).
+            writerDefaults.smallMoleculeEvidenceWriter(mztabfile).
                 writeValue(writer, mztabfile.getSmallMoleculeEvidence());
         } catch (JsonProcessingException | MZTabException ex) {
             throw new IOException(ex);
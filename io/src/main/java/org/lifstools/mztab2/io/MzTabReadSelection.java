@@ -0,0 +1,202 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.io;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import uk.ac.ebi.pride.jmztab2.model.IMZTabColumn;
+import uk.ac.ebi.pride.jmztab2.model.Section;
+import uk.ac.ebi.pride.jmztab2.utils.parser.ColumnDispatchTable;
+import uk.ac.ebi.pride.jmztab2.utils.parser.MZTabDataLineParser;
+
+/**
+ * Selects the table sections and columns that are materialized when an mzTab
+ * file is read.
+ *
+ * The lines of unselected sections are skipped after their line prefix has
+ * been checked, they are neither tokenized nor parsed or validated. Cells of
+ * unselected columns are skipped in the same way within the lines of a
+ * selected section, the corresponding properties of the records remain
+ * unset. Checks that combine several columns or sections, e.g. of
+ * <code>SMF_ID_REFS</code> against <code>SMF_ID</code>, are only applied if all
+ * of the involved columns and sections are selected. The metadata section and
+ * comments are always read, only the small molecule table sections can be
+ * selected.
+ *
+ * Columns are selected by their header, e.g.
+ * <code>abundance_study_variable[1]</code>, or by their name, e.g.
+ * <code>abundance_study_variable</code> for all study variable abundance
+ * columns.
+ *
+ * Instances are immutable, the <code>with*</code> methods return a new
+ * selection.
+ *
+ * <pre>
+ * MzTabReadSelection selection = MzTabReadSelection.of(Section.Small_Molecule).
+ *     withColumns(Section.Small_Molecule, "SML_ID", "chemical_name",
+ *         "abundance_study_variable");
+ * </pre>
+ *
+ * @author nilshoffmann
+ * @see MzTabFileParser#setSelection(MzTabReadSelection)
+ * @see MzTabStreamingReader#setSelection(MzTabReadSelection)
+ */
+public final class MzTabReadSelection {
+
+    private static final Set<Section> TABLE_SECTIONS = Collections.
+        unmodifiableSet(EnumSet.of(Section.Small_Molecule,
+            Section.Small_Molecule_Feature, Section.Small_Molecule_Evidence));
+
+    private static final MzTabReadSelection ALL = new MzTabReadSelection(
+        TABLE_SECTIONS, Collections.emptyMap());
+
+    private final Set<Section> sections;
+    private final Map<Section, Set<String>> columns;
+
+    private MzTabReadSelection(Set<Section> sections,
+        Map<Section, Set<String>> columns) {
+        this.sections = sections;
+        this.columns = columns;
+    }
+
+    /**
+     * Selects all sections and columns.
+     *
+     * @return the selection of the complete file.
+     */
+    public static MzTabReadSelection all() {
+        return ALL;
+    }
+
+    /**
+     * Selects all columns of the given table sections.
+     *
+     * @param sections the data or header sections to read, e.g.
+     * {@link Section#Small_Molecule}.
+     * @return the selection.
+     * @throws IllegalArgumentException if a section is not a small molecule
+     * table section.
+     */
+    public static MzTabReadSelection of(Section... sections) throws IllegalArgumentException {
+        Set<Section> selected = EnumSet.noneOf(Section.class);
+        for (Section section : sections) {
+            selected.add(toTableSection(section));
+        }
+        return new MzTabReadSelection(Collections.unmodifiableSet(selected),
+            Collections.emptyMap());
+    }
+
+    /**
+     * Restricts a table section to the given columns, the section is
+     * selected, if it was not before. Replaces a previous column selection of
+     * the section.
+     *
+     * @param section the data or header section.
+     * @param columns the headers or names of the columns to read.
+     * @return the new selection.
+     * @throws IllegalArgumentException if the section is not a small molecule
+     * table section.
+     */
+    public MzTabReadSelection withColumns(Section section, String... columns) throws IllegalArgumentException {
+        Section tableSection = toTableSection(section);
+        Set<Section> selected = EnumSet.noneOf(Section.class);
+        selected.addAll(this.sections);
+        selected.add(tableSection);
+        Map<Section, Set<String>> selectedColumns = new EnumMap<>(Section.class);
+        selectedColumns.putAll(this.columns);
+        selectedColumns.put(tableSection, Collections.unmodifiableSet(
+            new LinkedHashSet<>(Arrays.asList(columns))));
+        return new MzTabReadSelection(Collections.unmodifiableSet(selected),
+            Collections.unmodifiableMap(selectedColumns));
+    }
+
+    /**
+     * Returns true, if the lines of the given section are read. Sections that
+     * can not be selected, e.g. comment and metadata, are always read.
+     *
+     * @param section the section.
+     * @return true, if the section is selected.
+     */
+    public boolean isSelected(Section section) {
+        Section dataSection = Section.toDataSection(section);
+        return !TABLE_SECTIONS.contains(dataSection) || sections.contains(
+            dataSection);
+    }
+
+    /**
+     * Returns true, if the given column of a table section is read.
+     *
+     * @param section the data or header section.
+     * @param column the column.
+     * @return true, if the section and column are selected.
+     */
+    public boolean isSelected(Section section, IMZTabColumn column) {
+        if (!isSelected(section)) {
+            return false;
+        }
+        Set<String> selected = columns.get(Section.toDataSection(section));
+        return selected == null || selected.contains(column.getHeader())
+            || selected.contains(column.getName());
+    }
+
+    /**
+     * Returns true, if all sections and columns are selected.
+     *
+     * @return true, if nothing is skipped.
+     */
+    public boolean isAll() {
+        return sections.equals(TABLE_SECTIONS) && columns.isEmpty();
+    }
+
+    /**
+     * Restricts the dispatch table of a table section to the selected
+     * columns.
+     *
+     * @param <P> the data line parser type.
+     * @param section the data or header section.
+     * @param table the dispatch table compiled from the section header.
+     * @return the restricted dispatch table.
+     */
+    <P extends MZTabDataLineParser<?>> ColumnDispatchTable<P> select(
+        Section section, ColumnDispatchTable<P> table) {
+        if (!columns.containsKey(Section.toDataSection(section))) {
+            return table;
+        }
+        return table.select((column) ->
+        {
+            return isSelected(section, column);
+        });
+    }
+
+    private static Section toTableSection(Section section) {
+        Section tableSection = Section.toDataSection(section);
+        if (!TABLE_SECTIONS.contains(tableSection)) {
+            throw new IllegalArgumentException(
+                "Only small molecule table sections can be selected, not " + section);
+        }
+        return tableSection;
+    }
+
+    @Override
+    public String toString() {
+        return "MzTabReadSelection{" + "sections=" + sections + ", columns=" + columns + '}';
+    }
+}
@@ -0,0 +1,665 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.io;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.lifstools.mztab2.model.Comment;
+import org.lifstools.mztab2.model.Metadata;
+import org.lifstools.mztab2.model.MsRun;
+import org.lifstools.mztab2.model.MzTab;
+import org.lifstools.mztab2.model.SmallMoleculeEvidence;
+import org.lifstools.mztab2.model.SmallMoleculeFeature;
+import org.lifstools.mztab2.model.SmallMoleculeSummary;
+import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.REGEX_DEFAULT_RELIABILITY;
+import uk.ac.ebi.pride.jmztab2.model.MZTabRegexRules;
+import uk.ac.ebi.pride.jmztab2.model.MZTabStringUtils;
+import uk.ac.ebi.pride.jmztab2.model.Section;
+import static uk.ac.ebi.pride.jmztab2.utils.MZTabProperties.LEVEL;
+import static uk.ac.ebi.pride.jmztab2.utils.MZTabProperties.MAX_ERROR_COUNT;
+import uk.ac.ebi.pride.jmztab2.utils.errors.FormatErrorType;
+import uk.ac.ebi.pride.jmztab2.utils.errors.LogicalErrorType;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabUncheckedException;
+import uk.ac.ebi.pride.jmztab2.utils.parser.COMLineParser;
+import uk.ac.ebi.pride.jmztab2.utils.parser.ColumnDispatchTable;
+import uk.ac.ebi.pride.jmztab2.utils.parser.MTDLineParser;
+import uk.ac.ebi.pride.jmztab2.utils.parser.MZTabParserContext;
+import uk.ac.ebi.pride.jmztab2.utils.parser.PositionMapping;
+import uk.ac.ebi.pride.jmztab2.utils.parser.SEHLineParser;
+import uk.ac.ebi.pride.jmztab2.utils.parser.SFHLineParser;
+import uk.ac.ebi.pride.jmztab2.utils.parser.SMELineParser;
+import uk.ac.ebi.pride.jmztab2.utils.parser.SMFLineParser;
+import uk.ac.ebi.pride.jmztab2.utils.parser.SMHLineParser;
+import uk.ac.ebi.pride.jmztab2.utils.parser.SMLLineParser;
+
+/**
+ * Pull-based reader for mzTab-M files that returns the table rows one at a
+ * time instead of materializing a complete
+ * {@link org.lifstools.mztab2.model.MzTab} object.
+ *
+ * The metadata section is parsed and refined first, then the small molecule
+ * summary, feature and evidence rows are parsed on demand by the same line
+ * parsers that {@link MzTabFileParser} uses. Only the current row is held in
+ * memory, so memory usage does not grow with the number of rows in the file.
+ *
+ * Sections can only be consumed in file order. Requesting the rows of a later
+ * section skips all remaining, unread rows of the earlier sections without
+ * parsing them. Checks that need all rows of a file at once, like the SML to
+ * SMF and SMF to SME id reference checks, are not performed by this reader.
+ * Use {@link MzTabFileParser} for full validation.
+ *
+ * <pre>
+ * try (MzTabStreamingReader reader = new MzTabStreamingReader(file)) {
+ *     Metadata metadata = reader.getMetadata();
+ *     reader.smallMoleculeSummaries().forEach((sml) -&gt; { ... });
+ *     reader.smallMoleculeFeatures().forEach((smf) -&gt; { ... });
+ *     reader.smallMoleculeEvidences().forEach((sme) -&gt; { ... });
+ * }
+ * </pre>
+ *
+ * Structural errors that stop parsing are thrown as
+ * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException} from
+ * {@link #getMetadata()} and wrapped into
+ * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabUncheckedException} by the
+ * row iterators. All other errors are collected in the
+ * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList} returned by
+ * {@link #getErrorList()}.
+ *
+ * @author nilshoffmann
+ */
+public class MzTabStreamingReader implements Closeable {
+
+    private final URI tabFile;
+    private final BufferedReader reader;
+    private final MZTabErrorList errorList;
+    private final MZTabParserContext context = new MZTabParserContext();
+    private final COMLineParser comParser;
+    private final MTDLineParser mtdParser;
+    private final List<Comment> comments = new ArrayList<>();
+    private final MZTabRegexRules.Rule defaultReliabilityRule = MZTabRegexRules.
+        rule(REGEX_DEFAULT_RELIABILITY);
+
+    private Metadata metadata;
+    private SMHLineParser smhParser;
+    private SMLLineParser smlParser;
+    private SFHLineParser sfhParser;
+    private SMFLineParser smfParser;
+    private SEHLineParser sehParser;
+    private SMELineParser smeParser;
+    private ColumnDispatchTable<SMLLineParser> smlDispatchTable;
+    private ColumnDispatchTable<SMFLineParser> smfDispatchTable;
+    private ColumnDispatchTable<SMELineParser> smeDispatchTable;
+
+    private String line;
+    private Section section;
+    private boolean lineConsumed = true;
+    private boolean endOfFile = false;
+    private int lineNumber = 0;
+    private int highWaterMark = 1;
+    private boolean hasSmallMoleculeSummaries = false;
+    private boolean hasSmallMoleculeFeatures = false;
+    private boolean hasSmallMoleculeEvidences = false;
+    private MzTabReadSelection selection = MzTabReadSelection.all();
+
+    /**
+     * Create a new {@code MzTabStreamingReader} for the given file, reporting
+     * up to
+     * {@link uk.ac.ebi.pride.jmztab2.utils.MZTabProperties#MAX_ERROR_COUNT}
+     * errors on level
+     * {@link uk.ac.ebi.pride.jmztab2.utils.MZTabProperties#LEVEL}.
+     *
+     * @param tabFile the mzTab file. The file MUST exist.
+     * @throws java.io.IOException if the file can not be opened.
+     */
+    public MzTabStreamingReader(File tabFile) throws IOException {
+        this(tabFile.toURI());
+    }
+
+    /**
+     * Create a new {@code MzTabStreamingReader} for the given file URI,
+     * reporting up to
+     * {@link uk.ac.ebi.pride.jmztab2.utils.MZTabProperties#MAX_ERROR_COUNT}
+     * errors on level
+     * {@link uk.ac.ebi.pride.jmztab2.utils.MZTabProperties#LEVEL}.
+     *
+     * @param tabFileUri the mzTab file URI.
+     * @throws java.io.IOException if the URI can not be opened.
+     */
+    public MzTabStreamingReader(URI tabFileUri) throws IOException {
+        this(tabFileUri, LEVEL, MAX_ERROR_COUNT);
+    }
+
+    /**
+     * Create a new {@code MzTabStreamingReader} for the given file URI.
+     *
+     * @param tabFileUri the mzTab file URI.
+     * @param level the minimum error level to report errors for
+     * @param maxErrorCount the maximum number of errors to report in the
+     * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList} returned by
+     * {@link #getErrorList()}
+     * @throws java.io.IOException if the URI can not be opened.
+     */
+    public MzTabStreamingReader(URI tabFileUri, MZTabErrorType.Level level,
+        int maxErrorCount) throws IOException {
+        if (tabFileUri == null) {
+            throw new IllegalArgumentException(
+                "MZTab file uri must not be null!");
+        }
+        this.tabFile = tabFileUri;
+        this.errorList = new MZTabErrorList(level, maxErrorCount);
+        this.comParser = new COMLineParser(context);
+        this.mtdParser = new MTDLineParser(context);
+        this.reader = MzTabFileParser.readFile(tabFileUri);
+    }
+
+    /**
+     * Defines the sections and columns that are read. The iterators of
+     * unselected sections return no rows and cells of unselected columns are
+     * skipped without parsing or validating them. The selection must be set
+     * before the first row is read, the default is
+     * {@link MzTabReadSelection#all()}.
+     *
+     * @param selection the sections and columns to read.
+     */
+    public void setSelection(MzTabReadSelection selection) {
+        if (selection == null) {
+            throw new NullPointerException("Selection must not be null.");
+        }
+        this.selection = selection;
+    }
+
+    /**
+     * Returns the metadata of the file. On the first call, the metadata
+     * section is read and refined.
+     *
+     * @return the metadata.
+     * @throws java.io.IOException if any io related errors occur.
+     * @throws uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException for
+     * structural errors that prevent further parsing.
+     */
+    public Metadata getMetadata() throws IOException, MZTabException {
+        if (metadata == null) {
+            while (peek() == Section.Metadata) {
+                try {
+                    mtdParser.parse(lineNumber, line, errorList);
+                } catch (NullPointerException npe) {
+                    throw nullError(npe);
+                }
+                lineConsumed = true;
+            }
+            mtdParser.refineNormalMetadata();
+            Metadata parsed = mtdParser.getMetadata();
+            //If ms_run[1-n]-hash is present,  ms_run[1-n]-hash_method SHOULD also be present
+            for (MsRun msRun : parsed.getMsRun()) {
+                if (msRun.getHash() != null && msRun.getHashMethod() == null) {
+                    throw new MZTabException(new MZTabError(
+                        LogicalErrorType.MsRunHashMethodNotDefined, -1, msRun.
+                            getId().
+                            toString()));
+                }
+            }
+            metadata = parsed;
+        }
+        return metadata;
+    }
+
+    /**
+     * Returns an iterator over the small molecule summary rows. The rows are
+     * parsed lazily, while the iterator is advanced.
+     *
+     * @return the small molecule summary iterator.
+     */
+    public Iterator<SmallMoleculeSummary> smallMoleculeSummaryIterator() {
+        return new RowIterator<>(() -> nextSmallMoleculeSummary());
+    }
+
+    /**
+     * Returns a sequential, ordered stream over the small molecule summary
+     * rows.
+     *
+     * @return the small molecule summary stream.
+     */
+    public Stream<SmallMoleculeSummary> smallMoleculeSummaries() {
+        return toStream(smallMoleculeSummaryIterator());
+    }
+
+    /**
+     * Returns an iterator over the small molecule feature rows. Unread small
+     * molecule summary rows are skipped.
+     *
+     * @return the small molecule feature iterator.
+     */
+    public Iterator<SmallMoleculeFeature> smallMoleculeFeatureIterator() {
+        return new RowIterator<>(() -> nextSmallMoleculeFeature());
+    }
+
+    /**
+     * Returns a sequential, ordered stream over the small molecule feature
+     * rows. Unread small molecule summary rows are skipped.
+     *
+     * @return the small molecule feature stream.
+     */
+    public Stream<SmallMoleculeFeature> smallMoleculeFeatures() {
+        return toStream(smallMoleculeFeatureIterator());
+    }
+
+    /**
+     * Returns an iterator over the small molecule evidence rows. Unread small
+     * molecule summary and feature rows are skipped.
+     *
+     * @return the small molecule evidence iterator.
+     */
+    public Iterator<SmallMoleculeEvidence> smallMoleculeEvidenceIterator() {
+        return new RowIterator<>(() -> nextSmallMoleculeEvidence());
+    }
+
+    /**
+     * Returns a sequential, ordered stream over the small molecule evidence
+     * rows. Unread small molecule summary and feature rows are skipped.
+     *
+     * @return the small molecule evidence stream.
+     */
+    public Stream<SmallMoleculeEvidence> smallMoleculeEvidences() {
+        return toStream(smallMoleculeEvidenceIterator());
+    }
+
+    /**
+     * Returns the comments that have been read so far.
+     *
+     * @return an unmodifiable list of comments.
+     */
+    public List<Comment> getComments() {
+        return Collections.unmodifiableList(comments);
+    }
+
+    /**
+     * Returns the errors that have been reported so far. Section level checks,
+     * like missing sections, are added once the end of the file has been
+     * reached.
+     *
+     * @return the error list.
+     */
+    public MZTabErrorList getErrorList() {
+        return errorList;
+    }
+
+    /**
+     * Returns the URI of the file that is read.
+     *
+     * @return the file URI.
+     */
+    public URI getTabFile() {
+        return tabFile;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    /**
+     * Parses and returns the next small molecule summary row.
+     *
+     * @return the next row, or null, if there are no more rows in this
+     * section.
+     */
+    SmallMoleculeSummary nextSmallMoleculeSummary() throws IOException, MZTabException {
+        if (!advanceTo(Section.Small_Molecule_Header, Section.Small_Molecule)) {
+            return null;
+        }
+        if (smlParser == null) {
+            smlParser = new SMLLineParser(context, smlDispatchTable, metadata,
+                errorList);
+        }
+        try {
+            smlParser.parse(lineNumber, line, errorList);
+        } catch (NullPointerException npe) {
+            throw nullError(npe);
+        }
+        lineConsumed = true;
+        SmallMoleculeSummary sml = smlParser.getRecord();
+        //check that reliability values are correct
+        if (metadata.getSmallMoleculeIdentificationReliability() == null) {
+            String reliability = sml.getReliability();
+            if (reliability != null && !defaultReliabilityRule.matches(
+                reliability)) {
+                errorList.add(
+                    FormatErrorType.RegexMismatch, lineNumber,
+                    SmallMoleculeSummary.Properties.reliability.
+                        getPropertyName(), reliability,
+                    MzTab.Properties.smallMoleculeSummary.
+                        getPropertyName(), "" + sml.getSmlId(),
+                    REGEX_DEFAULT_RELIABILITY);
+            }
+        }
+        return sml;
+    }
+
+    /**
+     * Parses and returns the next small molecule feature row.
+     *
+     * @return the next row, or null, if there are no more rows in this
+     * section.
+     */
+    SmallMoleculeFeature nextSmallMoleculeFeature() throws IOException, MZTabException {
+        if (!advanceTo(Section.Small_Molecule_Feature_Header,
+            Section.Small_Molecule_Feature)) {
+            return null;
+        }
+        if (smfParser == null) {
+            smfParser = new SMFLineParser(context, smfDispatchTable, metadata,
+                errorList);
+        }
+        try {
+            smfParser.parse(lineNumber, line, errorList);
+        } catch (NullPointerException npe) {
+            throw nullError(npe);
+        }
+        lineConsumed = true;
+        return smfParser.getRecord();
+    }
+
+    /**
+     * Parses and returns the next small molecule evidence row.
+     *
+     * @return the next row, or null, if there are no more rows in this
+     * section.
+     */
+    SmallMoleculeEvidence nextSmallMoleculeEvidence() throws IOException, MZTabException {
+        if (!advanceTo(Section.Small_Molecule_Evidence_Header,
+            Section.Small_Molecule_Evidence)) {
+            return null;
+        }
+        if (smeParser == null) {
+            smeParser = new SMELineParser(context, smeDispatchTable, metadata,
+                errorList);
+        }
+        try {
+            smeParser.parse(lineNumber, line, errorList);
+        } catch (NullPointerException npe) {
+            throw nullError(npe);
+        }
+        lineConsumed = true;
+        return smeParser.getRecord();
+    }
+
+    /**
+     * Advances the reader to the next data line of the given data section.
+     * Header lines of the requested section are parsed on the way, lines of
+     * earlier sections are skipped.
+     *
+     * @return true, if the current line is a data line of the requested
+     * section, false otherwise.
+     */
+    private boolean advanceTo(Section headerSection, Section dataSection) throws IOException, MZTabException {
+        getMetadata();
+        if (!selection.isSelected(dataSection)) {
+            return false;
+        }
+        Section current;
+        while ((current = peek()) != null) {
+            if (current.getLevel() < headerSection.getLevel()) {
+                lineConsumed = true;
+            } else if (current == headerSection) {
+                parseHeader(current);
+                lineConsumed = true;
+            } else if (current == dataSection) {
+                if (!hasHeader(headerSection)) {
+                    // header line should be check first.
+                    throw new MZTabException(new MZTabError(
+                        LogicalErrorType.NoHeaderLine,
+                        lineNumber, MzTabFileParser.subString(line)));
+                }
+                return true;
+            } else {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    private boolean hasHeader(Section headerSection) {
+        return switch (headerSection) {
+            case Small_Molecule_Header ->
+                smhParser != null;
+            case Small_Molecule_Feature_Header ->
+                sfhParser != null;
+            case Small_Molecule_Evidence_Header ->
+                sehParser != null;
+            default ->
+                false;
+        };
+    }
+
+    private void parseHeader(Section headerSection) throws MZTabException {
+        try {
+            switch (headerSection) {
+                case Small_Molecule_Header -> {
+                    smhParser = new SMHLineParser(context, metadata);
+                    smhParser.parse(lineNumber, line, errorList);
+                    smlDispatchTable = selection.select(Section.Small_Molecule,
+                        smhParser.compileDispatchTable(new PositionMapping(
+                            smhParser.getFactory(), line)));
+                    MzTabFileParser.checkColunitMapping(errorList, smhParser.
+                        getFactory(), Optional.ofNullable(metadata.
+                        getColunitSmallMolecule()),
+                        Metadata.Properties.colunitSmallMolecule,
+                        MzTab.Properties.smallMoleculeSummary);
+                }
+                case Small_Molecule_Feature_Header -> {
+                    sfhParser = new SFHLineParser(context, metadata);
+                    sfhParser.parse(lineNumber, line, errorList);
+                    smfDispatchTable = selection.select(Section.Small_Molecule_Feature,
+                        sfhParser.compileDispatchTable(new PositionMapping(
+                            sfhParser.getFactory(), line)));
+                    MzTabFileParser.checkColunitMapping(errorList, sfhParser.
+                        getFactory(), Optional.ofNullable(metadata.
+                        getColunitSmallMoleculeFeature()),
+                        Metadata.Properties.colunitSmallMoleculeFeature,
+                        MzTab.Properties.smallMoleculeFeature);
+                }
+                case Small_Molecule_Evidence_Header -> {
+                    sehParser = new SEHLineParser(context, metadata);
+                    sehParser.parse(lineNumber, line, errorList);
+                    smeDispatchTable = selection.select(Section.Small_Molecule_Evidence,
+                        sehParser.compileDispatchTable(new PositionMapping(
+                            sehParser.getFactory(), line)));
+                    MzTabFileParser.checkColunitMapping(errorList, sehParser.
+                        getFactory(), Optional.ofNullable(metadata.
+                        getColunitSmallMoleculeEvidence()),
+                        Metadata.Properties.colunitSmallMoleculeEvidence,
+                        MzTab.Properties.smallMoleculeEvidence);
+                }
+                default ->
+                    throw new IllegalArgumentException(
+                        "Not a header section: " + headerSection);
+            }
+        } catch (NullPointerException npe) {
+            throw nullError(npe);
+        }
+    }
+
+    /**
+     * Reads up to the next line that is neither empty nor a comment, unless
+     * the current line has not been consumed yet, and checks the section
+     * order.
+     *
+     * @return the section of the current line, or null at the end of the
+     * file.
+     */
+    private Section peek() throws IOException, MZTabException {
+        if (!lineConsumed) {
+            return section;
+        }
+        if (endOfFile) {
+            return null;
+        }
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (MZTabStringUtils.isEmpty(line)) {
+                continue;
+            }
+            if (line.startsWith(Section.Comment.getPrefix())) {
+                comParser.parse(lineNumber, line, errorList);
+                comments.add(comParser.getComment());
+                continue;
+            }
+            Section current = MzTabFileParser.getSection(line);
+            if (current == null) {
+                throw new MZTabException(new MZTabError(
+                    FormatErrorType.LinePrefix, lineNumber,
+                    MzTabFileParser.subString(line)));
+            }
+            if (current.getLevel() < highWaterMark) {
+                throw new MZTabException(new MZTabError(
+                    LogicalErrorType.LineOrder, lineNumber,
+                    Section.findSection(highWaterMark).
+                        getName(), current.getName()));
+            }
+            switch (current) {
+                case Metadata ->
+                    highWaterMark = current.getLevel();
+                case Small_Molecule -> {
+                    hasSmallMoleculeSummaries = true;
+                    highWaterMark = current.getLevel();
+                }
+                case Small_Molecule_Feature -> {
+                    hasSmallMoleculeFeatures = true;
+                    highWaterMark = current.getLevel();
+                }
+                case Small_Molecule_Evidence -> {
+                    hasSmallMoleculeEvidences = true;
+                    highWaterMark = current.getLevel();
+                }
+                case Small_Molecule_Header, Small_Molecule_Feature_Header, Small_Molecule_Evidence_Header ->
+                    // header lines may only appear once, continue with data lines
+                    highWaterMark = current.getLevel() + 1;
+                default ->
+                    throw new IllegalArgumentException(
+                        "Unknown section level " + current.getLevel());
+            }
+            section = current;
+            lineConsumed = false;
+            return section;
+        }
+        endOfFile = true;
+        section = null;
+        checkSections();
+        return null;
+    }
+
+    /**
+     * Adds the section level errors once the end of the file has been reached.
+     */
+    private void checkSections() {
+        if (!hasSmallMoleculeSummaries) {
+            errorList.add(
+                LogicalErrorType.NoSmallMoleculeSummarySection, -1);
+        }
+        if (!hasSmallMoleculeFeatures && hasSmallMoleculeSummaries) {
+            errorList.add(
+                LogicalErrorType.NoSmallMoleculeFeatureSection, -1);
+        }
+        if (hasSmallMoleculeFeatures && metadata != null && metadata.
+            getSmallMoleculeFeatureQuantificationUnit() == null) {
+            errorList.add(
+                LogicalErrorType.NoSmallMoleculeFeatureQuantificationUnit,
+                -1);
+        }
+        if (!hasSmallMoleculeEvidences && hasSmallMoleculeSummaries) {
+            errorList.add(
+                LogicalErrorType.NoSmallMoleculeEvidenceSection, -1);
+        }
+    }
+
+    private MZTabException nullError(NullPointerException npe) {
+        return new MZTabException(new MZTabError(
+            LogicalErrorType.NULL,
+            lineNumber, MzTabFileParser.subString(line)), npe);
+    }
+
+    private static <T> Stream<T> toStream(Iterator<T> iterator) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(
+            iterator, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    /**
+     * Supplier of the next row of a section that may fail with checked
+     * exceptions.
+     */
+    @FunctionalInterface
+    private interface RowSupplier<T> {
+
+        T next() throws IOException, MZTabException;
+    }
+
+    /**
+     * Adapts a {@link RowSupplier} to the {@link Iterator} interface.
+     */
+    private static final class RowIterator<T> implements Iterator<T> {
+
+        private final RowSupplier<T> supplier;
+        private T next;
+        private boolean done = false;
+
+        RowIterator(RowSupplier<T> supplier) {
+            this.supplier = supplier;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (next == null && !done) {
+                try {
+                    next = supplier.next();
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                } catch (MZTabException ex) {
+                    throw new MZTabUncheckedException(ex);
+                }
+                done = next == null;
+            }
+            return next != null;
+        }
+
+        @Override
+        public T next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            T current = next;
+            next = null;
+            return current;
+        }
+    }
+}
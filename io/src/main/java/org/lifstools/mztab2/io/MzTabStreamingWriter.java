@@ -0,0 +1,362 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.io;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
+import org.lifstools.mztab2.model.Metadata;
+import org.lifstools.mztab2.model.OptColumnMapping;
+import org.lifstools.mztab2.model.SmallMoleculeEvidence;
+import org.lifstools.mztab2.model.SmallMoleculeFeature;
+import org.lifstools.mztab2.model.SmallMoleculeSummary;
+import uk.ac.ebi.pride.jmztab2.model.Section;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
+
+/**
+ * <p>
+ * Streaming writer for mzTab-M files that accepts the table rows one at a
+ * time, instead of requiring a completely populated
+ * {@link org.lifstools.mztab2.model.MzTab} object.</p>
+ *
+ * <p>
+ * The metadata is written first, followed by the small molecule summary,
+ * feature and evidence sections, in this order. Each row is serialized as soon
+ * as it is written, using the same mappers and schemas as the
+ * {@link MzTabNonValidatingWriter}, so memory usage does not grow with the
+ * number of rows. Since the column header of a section is written before its
+ * first row, optional columns must be declared when a section is started.
+ * Optional column values of rows that were not declared for their section are
+ * not written. If a section is not started explicitly, the optional columns of
+ * its first row are used. Sections without any rows, including those that
+ * have not been written when the writer is closed, are written with their
+ * column header only, as by the {@link MzTabNonValidatingWriter}.</p>
+ *
+ * <pre>
+ * try (MzTabStreamingWriter writer = new MzTabStreamingWriter(path)) {
+ *     writer.writeMetadata(metadata);
+ *     writer.startSmallMoleculeSummaries(smlOptColumns);
+ *     writer.writeSmallMoleculeSummaries(summaries.iterator());
+ *     writer.startSmallMoleculeFeatures(smfOptColumns);
+ *     for (SmallMoleculeFeature smf : features) {
+ *         writer.writeSmallMoleculeFeature(smf);
+ *     }
+ *     writer.writeSmallMoleculeEvidences(evidences.iterator());
+ * }
+ * </pre>
+ *
+ * <p>
+ * No validation is performed, see {@link MzTabValidatingWriter} if validation
+ * of the complete object model is required.</p>
+ *
+ * @author nilshoffmann
+ * @see MzTabNonValidatingWriter
+ */
+public class MzTabStreamingWriter implements Closeable {
+
+    private final Writer writer;
+    private final boolean closeWriter;
+    private final MzTabWriterDefaults writerDefaults;
+    private Metadata metadata;
+    private Section section;
+    private SequenceWriter sequenceWriter;
+
+    /**
+     * Create a new streaming writer for the given path, using UTF-8. Existing
+     * files are overwritten. The file is closed by {@link #close()}.
+     *
+     * @param path the path to write to.
+     * @throws IOException if the file can not be opened.
+     */
+    public MzTabStreamingWriter(Path path) throws IOException {
+        this(Files.newBufferedWriter(path, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING), true,
+            MzTabWriterDefaults.getDefault());
+    }
+
+    /**
+     * Create a new streaming writer for the given writer. The writer is
+     * flushed but not closed by {@link #close()}. The writer should be
+     * buffered and use UTF-8 encoding.
+     *
+     * @param writer the writer.
+     */
+    public MzTabStreamingWriter(Writer writer) {
+        this(writer, MzTabWriterDefaults.getDefault());
+    }
+
+    /**
+     * Create a new streaming writer for the given writer, with custom writer
+     * defaults. The writer is flushed but not closed by {@link #close()}.
+     *
+     * @param writer the writer.
+     * @param writerDefaults the mapper and schema defaults.
+     */
+    public MzTabStreamingWriter(Writer writer,
+        MzTabWriterDefaults writerDefaults) {
+        this(writer, false, writerDefaults);
+    }
+
+    private MzTabStreamingWriter(Writer writer, boolean closeWriter,
+        MzTabWriterDefaults writerDefaults) {
+        if (writer == null) {
+            throw new IllegalArgumentException("Writer must not be null!");
+        }
+        this.writer = writer instanceof BufferedWriter ? writer : new BufferedWriter(
+            writer);
+        this.closeWriter = closeWriter;
+        this.writerDefaults = writerDefaults;
+    }
+
+    /**
+     * Write the metadata section. Must be called exactly once, before any
+     * rows are written.
+     *
+     * @param metadata the metadata.
+     * @throws IOException if writing fails.
+     */
+    public void writeMetadata(Metadata metadata) throws IOException {
+        if (section != null) {
+            throw new IllegalStateException(
+                "Metadata has already been written!");
+        }
+        if (metadata == null) {
+            throw new IllegalArgumentException("Metadata must not be null!");
+        }
+        writerDefaults.metadataWriter().
+            writeValue(writer, metadata);
+        this.metadata = metadata;
+        this.section = Section.Metadata;
+    }
+
+    /**
+     * Start the small molecule summary section and write its header.
+     *
+     * @param optColumns the optional columns of the section, in column order.
+     * @throws IOException if writing fails.
+     */
+    public void startSmallMoleculeSummaries(
+        Collection<OptColumnMapping> optColumns) throws IOException {
+        startSection(Section.Small_Molecule);
+        try {
+            startRows(writerDefaults.smallMoleculeSummaryWriter(metadata, optColumns));
+        } catch (MZTabException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Write a single small molecule summary row. Starts the section with the
+     * optional columns of this row, if it has not been started yet.
+     *
+     * @param smallMoleculeSummary the row.
+     * @throws IOException if writing fails.
+     */
+    public void writeSmallMoleculeSummary(
+        SmallMoleculeSummary smallMoleculeSummary) throws IOException {
+        if (section != Section.Small_Molecule) {
+            startSmallMoleculeSummaries(opt(smallMoleculeSummary.getOpt()));
+        }
+        sequenceWriter.write(smallMoleculeSummary);
+    }
+
+    /**
+     * Write all remaining small molecule summary rows of the iterator.
+     *
+     * @param smallMoleculeSummaries the rows.
+     * @throws IOException if writing fails.
+     */
+    public void writeSmallMoleculeSummaries(
+        Iterator<? extends SmallMoleculeSummary> smallMoleculeSummaries) throws IOException {
+        while (smallMoleculeSummaries.hasNext()) {
+            writeSmallMoleculeSummary(smallMoleculeSummaries.next());
+        }
+    }
+
+    /**
+     * Start the small molecule feature section and write its header.
+     *
+     * @param optColumns the optional columns of the section, in column order.
+     * @throws IOException if writing fails.
+     */
+    public void startSmallMoleculeFeatures(
+        Collection<OptColumnMapping> optColumns) throws IOException {
+        startSection(Section.Small_Molecule_Feature);
+        try {
+            startRows(writerDefaults.smallMoleculeFeatureWriter(metadata, optColumns));
+        } catch (MZTabException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Write a single small molecule feature row. Starts the section with the
+     * optional columns of this row, if it has not been started yet.
+     *
+     * @param smallMoleculeFeature the row.
+     * @throws IOException if writing fails.
+     */
+    public void writeSmallMoleculeFeature(
+        SmallMoleculeFeature smallMoleculeFeature) throws IOException {
+        if (section != Section.Small_Molecule_Feature) {
+            startSmallMoleculeFeatures(opt(smallMoleculeFeature.getOpt()));
+        }
+        sequenceWriter.write(smallMoleculeFeature);
+    }
+
+    /**
+     * Write all remaining small molecule feature rows of the iterator.
+     *
+     * @param smallMoleculeFeatures the rows.
+     * @throws IOException if writing fails.
+     */
+    public void writeSmallMoleculeFeatures(
+        Iterator<? extends SmallMoleculeFeature> smallMoleculeFeatures) throws IOException {
+        while (smallMoleculeFeatures.hasNext()) {
+            writeSmallMoleculeFeature(smallMoleculeFeatures.next());
+        }
+    }
+
+    /**
+     * Start the small molecule evidence section and write its header.
+     *
+     * @param optColumns the optional columns of the section, in column order.
+     * @throws IOException if writing fails.
+     */
+    public void startSmallMoleculeEvidences(
+        Collection<OptColumnMapping> optColumns) throws IOException {
+        startSection(Section.Small_Molecule_Evidence);
+        try {
+            startRows(writerDefaults.smallMoleculeEvidenceWriter(metadata, optColumns));
+        } catch (MZTabException ex) {
+            throw new IOException(ex);
+        }
+    }
+
+    /**
+     * Write a single small molecule evidence row. Starts the section with the
+     * optional columns of this row, if it has not been started yet.
+     *
+     * @param smallMoleculeEvidence the row.
+     * @throws IOException if writing fails.
+     */
+    public void writeSmallMoleculeEvidence(
+        SmallMoleculeEvidence smallMoleculeEvidence) throws IOException {
+        if (section != Section.Small_Molecule_Evidence) {
+            startSmallMoleculeEvidences(opt(smallMoleculeEvidence.getOpt()));
+        }
+        sequenceWriter.write(smallMoleculeEvidence);
+    }
+
+    /**
+     * Write all remaining small molecule evidence rows of the iterator.
+     *
+     * @param smallMoleculeEvidences the rows.
+     * @throws IOException if writing fails.
+     */
+    public void writeSmallMoleculeEvidences(
+        Iterator<? extends SmallMoleculeEvidence> smallMoleculeEvidences) throws IOException {
+        while (smallMoleculeEvidences.hasNext()) {
+            writeSmallMoleculeEvidence(smallMoleculeEvidences.next());
+        }
+    }
+
+    /**
+     * Flush all rows written so far to the underlying writer.
+     *
+     * @throws IOException if writing fails.
+     */
+    public void flush() throws IOException {
+        if (sequenceWriter != null) {
+            sequenceWriter.flush();
+        }
+        writer.flush();
+    }
+
+    /**
+     * Finish the current section and flush the underlying writer. The
+     * underlying writer is only closed if this writer was created for a path.
+     *
+     * @throws IOException if writing fails.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            if (section != null && section != Section.Small_Molecule_Evidence) {
+                startSmallMoleculeEvidences(Collections.emptyList());
+            }
+            finishSection();
+            writer.flush();
+        } finally {
+            if (closeWriter) {
+                writer.close();
+            }
+        }
+    }
+
+    private void startSection(Section next) throws IOException {
+        if (section == null) {
+            throw new IllegalStateException(
+                "Metadata must be written before " + next.getName() + " rows!");
+        }
+        if (section.getLevel() >= next.getLevel()) {
+            throw new IllegalStateException(
+                "Can not write " + next.getName() + " rows after " + section.
+                getName() + " rows!");
+        }
+        finishSection();
+        // skipped sections are written as empty sections
+        if (section.getLevel() < Section.Small_Molecule.getLevel() && next != Section.Small_Molecule) {
+            startSmallMoleculeSummaries(Collections.emptyList());
+            finishSection();
+        }
+        if (section.getLevel() < Section.Small_Molecule_Feature.getLevel() && next == Section.Small_Molecule_Evidence) {
+            startSmallMoleculeFeatures(Collections.emptyList());
+            finishSection();
+        }
+        section = next;
+    }
+
+    private void startRows(ObjectWriter objectWriter) throws IOException {
+        writer.write("\n");
+        sequenceWriter = objectWriter.writeValuesAsArray(writer);
+    }
+
+    private void finishSection() throws IOException {
+        if (sequenceWriter != null) {
+            sequenceWriter.close();
+            sequenceWriter = null;
+        }
+    }
+
+    private Collection<OptColumnMapping> opt(List<OptColumnMapping> optColumns) {
+        return Optional.ofNullable(optColumns).
+            orElse(Collections.emptyList());
+    }
+}
@@ -19,17 +19,17 @@ import org.lifstools.mztab2.validation.MzTabValidator;
 import org.lifstools.mztab2.validation.Validator;
 import org.lifstools.mztab2.model.MzTab;
 import org.lifstools.mztab2.model.ValidationMessage;
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.io.OutputStreamWriter;
-import java.nio.charset.StandardCharsets;
+import java.io.PipedReader;
+import java.io.PipedWriter;
+import java.io.Writer;
 import java.nio.file.Path;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -71,7 +71,7 @@ public class MzTabValidatingWriter implements MzTabWriter<List<ValidationMessage
      */
     public MzTabValidatingWriter() {
         this(new WriteAndParseValidator(System.out, Level.Info, 100),
-            new MzTabWriterDefaults(), true);
+            MzTabWriterDefaults.getDefault(), true);
     }
 
     /**
@@ -84,7 +84,7 @@ public class MzTabValidatingWriter implements MzTabWriter<List<ValidationMessage
      */
     public MzTabValidatingWriter(Validator<MzTab> validator,
         boolean skipWriteOnValidationFailure) {
-        this(validator, new MzTabWriterDefaults(), skipWriteOnValidationFailure);
+        this(validator, MzTabWriterDefaults.getDefault(), skipWriteOnValidationFailure);
     }
 
     /**
@@ -103,14 +103,19 @@ public class MzTabValidatingWriter implements MzTabWriter<List<ValidationMessage
     }
 
     /**
-     * A default validator implemenation that first writes and then parses the
-     * created temporary file, performing the parser checks.
+     * A default validator implemenation that writes the mzTab object and
+     * parses the written content, performing the parser checks. Writing and
+     * parsing run concurrently and are connected by an in-memory pipe, so no
+     * temporary file is created. Runtime exceptions and errors of the writer
+     * are rethrown by {@link #validate(MzTab)} after parsing has finished.
      */
     public static class WriteAndParseValidator implements Validator<MzTab> {
 
         private static final Logger LOGGER = LoggerFactory.getLogger(
             WriteAndParseValidator.class);
 
+        private static final int PIPE_SIZE = 1 << 16;
+
         private final OutputStream outputStream;
         private final Level level;
         private final int maxErrorCount;
@@ -132,32 +137,52 @@ public class MzTabValidatingWriter implements MzTabWriter<List<ValidationMessage
 
         @Override
         public List<ValidationMessage> validate(MzTab mzTab) {
-            MzTabNonValidatingWriter writer = new MzTabNonValidatingWriter();
-            File mzTabFile = null;
-            try {
-                mzTabFile = File.createTempFile(UUID.randomUUID().
-                    toString(), ".mztab");
-                try (OutputStreamWriter osw = new OutputStreamWriter(
-                    new FileOutputStream(mzTabFile),
-                    StandardCharsets.UTF_8)) {
-                    writer.
-                        write(
-                            osw, mzTab);
-
-                    MzTabFileParser parser = new MzTabFileParser(mzTabFile);
+            AtomicReference<Throwable> writeFailure = new AtomicReference<>();
+            try (PipedReader pipedReader = new PipedReader(PIPE_SIZE)) {
+                PipedWriter pipedWriter = new PipedWriter(pipedReader);
+                Thread writerThread = new Thread(() ->
+                {
+                    try (Writer writer = pipedWriter) {
+                        new MzTabNonValidatingWriter().writeMzTab(mzTab, writer);
+                    } catch (IOException ex) {
+                        // also thrown if the parser stops reading early
+                        writeFailure.set(ex);
+                    } catch (RuntimeException | Error ex) {
+                        writeFailure.set(ex);
+                    }
+                }, "mztab-write-and-parse");
+                writerThread.setDaemon(true);
+                writerThread.start();
+                MzTabFileParser parser = new MzTabFileParser(pipedReader);
+                try {
                     parser.parse(outputStream, level, maxErrorCount);
-                    return parser.getErrorList().
-                        convertToValidationMessages();
+                } finally {
+                    // unblocks the writer if the parser stopped early
+                    pipedReader.close();
+                    writerThread.join();
+                }
+                // the parser only saw a truncated file, its messages are incomplete
+                Throwable failure = writeFailure.get();
+                if (failure instanceof RuntimeException) {
+                    throw (RuntimeException) failure;
+                }
+                if (failure instanceof Error) {
+                    throw (Error) failure;
                 }
+                if (parser.getErrorList().
+                    isEmpty() && failure != null) {
+                    throw (IOException) failure;
+                }
+                return parser.getErrorList().
+                    convertToValidationMessages();
             } catch (IOException ex) {
                 LOGGER.error(
-                    "Caught exception while trying to parse " + mzTabFile, ex);
-            } finally {
-                if (mzTabFile != null && mzTabFile.exists()) {
-                    if(!mzTabFile.delete()) {
-                        LOGGER.warn("Deletion of "+mzTabFile+" failed!");
-                    }
-                }
+                    "Caught exception while trying to write and parse mzTab", ex);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().
+                    interrupt();
+                LOGGER.error(
+                    "Interrupted while trying to write and parse mzTab", ex);
             }
             return Collections.emptyList();
         }
@@ -18,6 +18,7 @@ package org.lifstools.mztab2.io;
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonGenerator.Feature;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
 import com.fasterxml.jackson.dataformat.csv.CsvFactory;
 import com.fasterxml.jackson.dataformat.csv.CsvMapper;
@@ -60,11 +61,16 @@ import org.lifstools.mztab2.model.SmallMoleculeSummary;
 import org.lifstools.mztab2.model.Software;
 import org.lifstools.mztab2.model.StudyVariable;
 import org.lifstools.mztab2.model.Uri;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 import uk.ac.ebi.pride.jmztab2.model.MZTabConstants;
 import uk.ac.ebi.pride.jmztab2.model.SmallMoleculeColumn;
@@ -78,10 +84,239 @@ import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
  * Default mapper and schema definitions for writing of mzTab files using the
  * Jackson CSV mapper.
  *
+ * The <code>*Mapper()</code> and <code>*Schema(...)</code> methods create new
+ * instances on every call. The <code>*Writer(...)</code> methods return
+ * {@link ObjectWriter} instances that are created from one mapper per section
+ * and cached by column layout, so that mixins, serializers and schemas are only
+ * set up once per {@code MzTabWriterDefaults} instance. Instances are thread-safe and
+ * should be reused, {@link #getDefault()} returns a shared instance.
+ *
  * @author nilshoffmann
  */
 public class MzTabWriterDefaults {
 
+    private static final int MAX_CACHED_WRITERS = 64;
+
+    private static final MzTabWriterDefaults DEFAULT = new MzTabWriterDefaults();
+
+    private volatile ObjectWriter metadataWriter;
+    private volatile CsvMapper smallMoleculeSummaryMapper;
+    private volatile CsvMapper smallMoleculeFeatureMapper;
+    private volatile CsvMapper smallMoleculeEvidenceMapper;
+    private final Map<List<String>, ObjectWriter> writerCache = Collections.
+            synchronizedMap(new LinkedHashMap<List<String>, ObjectWriter>(16,
+                    0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                        Map.Entry<List<String>, ObjectWriter> eldest) {
+                    return size() > MAX_CACHED_WRITERS;
+                }
+            });
+
+    /**
+     * Returns the shared default instance.
+     *
+     * @return the shared default writer defaults.
+     */
+    public static MzTabWriterDefaults getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * Returns the cached writer for the metadata section.
+     *
+     * @return the metadata section writer.
+     */
+    public ObjectWriter metadataWriter() {
+        ObjectWriter writer = metadataWriter;
+        if (writer == null) {
+            CsvMapper mapper = metadataMapper();
+            writer = mapper.writer(metaDataSchema(mapper));
+            metadataWriter = writer;
+        }
+        return writer;
+    }
+
+    /**
+     * Returns the cached writer for the small molecule summary section of the
+     * mzTab object.
+     *
+     * @param mzTabFile the mztab object
+     * @return the small molecule summary section writer.
+     * @throws MZTabException if metadata is null
+     */
+    public ObjectWriter smallMoleculeSummaryWriter(MzTab mzTabFile) throws MZTabException {
+        return smallMoleculeSummaryWriter(mzTabFile.getMetadata(),
+                optColumnMappings(mzTabFile.getSmallMoleculeSummary(),
+                        SmallMoleculeSummary::getOpt));
+    }
+
+    /**
+     * Returns the cached writer for the small molecule summary section with
+     * the given metadata and optional columns.
+     *
+     * @param metadata the metadata
+     * @param optColumns the optional columns, in column order
+     * @return the small molecule summary section writer.
+     * @throws MZTabException if metadata is null
+     */
+    public ObjectWriter smallMoleculeSummaryWriter(Metadata metadata,
+            Collection<OptColumnMapping> optColumns) throws MZTabException {
+        List<String> layout = columnLayout(SmallMoleculeSummary.HeaderPrefixEnum.SMH.
+                getValue(), metadata, optColumns);
+        ObjectWriter writer = writerCache.get(layout);
+        if (writer == null) {
+            CsvMapper mapper = smallMoleculeSummaryMapperInstance();
+            writer = mapper.writer(smallMoleculeSummarySchema(mapper, metadata,
+                    optColumns));
+            writerCache.put(layout, writer);
+        }
+        return writer;
+    }
+
+    /**
+     * Returns the cached writer for the small molecule feature section of the
+     * mzTab object.
+     *
+     * @param mzTabFile the mztab object
+     * @return the small molecule feature section writer.
+     * @throws MZTabException if metadata is null
+     */
+    public ObjectWriter smallMoleculeFeatureWriter(MzTab mzTabFile) throws MZTabException {
+        return smallMoleculeFeatureWriter(mzTabFile.getMetadata(),
+                optColumnMappings(mzTabFile.getSmallMoleculeFeature(),
+                        SmallMoleculeFeature::getOpt));
+    }
+
+    /**
+     * Returns the cached writer for the small molecule feature section with
+     * the given metadata and optional columns.
+     *
+     * @param metadata the metadata
+     * @param optColumns the optional columns, in column order
+     * @return the small molecule feature section writer.
+     * @throws MZTabException if metadata is null
+     */
+    public ObjectWriter smallMoleculeFeatureWriter(Metadata metadata,
+            Collection<OptColumnMapping> optColumns) throws MZTabException {
+        List<String> layout = columnLayout(SmallMoleculeFeature.HeaderPrefixEnum.SFH.
+                getValue(), metadata, optColumns);
+        ObjectWriter writer = writerCache.get(layout);
+        if (writer == null) {
+            CsvMapper mapper = smallMoleculeFeatureMapperInstance();
+            writer = mapper.writer(smallMoleculeFeatureSchema(mapper, metadata,
+                    optColumns));
+            writerCache.put(layout, writer);
+        }
+        return writer;
+    }
+
+    /**
+     * Returns the cached writer for the small molecule evidence section of the
+     * mzTab object.
+     *
+     * @param mzTabFile the mztab object
+     * @return the small molecule evidence section writer.
+     * @throws MZTabException if metadata is null
+     */
+    public ObjectWriter smallMoleculeEvidenceWriter(MzTab mzTabFile) throws MZTabException {
+        return smallMoleculeEvidenceWriter(mzTabFile.getMetadata(),
+                optColumnMappings(mzTabFile.getSmallMoleculeEvidence(),
+                        SmallMoleculeEvidence::getOpt));
+    }
+
+    /**
+     * Returns the cached writer for the small molecule evidence section with
+     * the given metadata and optional columns.
+     *
+     * @param metadata the metadata
+     * @param optColumns the optional columns, in column order
+     * @return the small molecule evidence section writer.
+     * @throws MZTabException if metadata is null
+     */
+    public ObjectWriter smallMoleculeEvidenceWriter(Metadata metadata,
+            Collection<OptColumnMapping> optColumns) throws MZTabException {
+        List<String> layout = columnLayout(SmallMoleculeEvidence.HeaderPrefixEnum.SEH.
+                getValue(), metadata, optColumns);
+        ObjectWriter writer = writerCache.get(layout);
+        if (writer == null) {
+            CsvMapper mapper = smallMoleculeEvidenceMapperInstance();
+            writer = mapper.writer(smallMoleculeEvidenceSchema(mapper, metadata,
+                    optColumns));
+            writerCache.put(layout, writer);
+        }
+        return writer;
+    }
+
+    private CsvMapper smallMoleculeSummaryMapperInstance() {
+        CsvMapper mapper = smallMoleculeSummaryMapper;
+        if (mapper == null) {
+            mapper = smallMoleculeSummaryMapper();
+            smallMoleculeSummaryMapper = mapper;
+        }
+        return mapper;
+    }
+
+    private CsvMapper smallMoleculeFeatureMapperInstance() {
+        CsvMapper mapper = smallMoleculeFeatureMapper;
+        if (mapper == null) {
+            mapper = smallMoleculeFeatureMapper();
+            smallMoleculeFeatureMapper = mapper;
+        }
+        return mapper;
+    }
+
+    private CsvMapper smallMoleculeEvidenceMapperInstance() {
+        CsvMapper mapper = smallMoleculeEvidenceMapper;
+        if (mapper == null) {
+            mapper = smallMoleculeEvidenceMapper();
+            smallMoleculeEvidenceMapper = mapper;
+        }
+        return mapper;
+    }
+
+    /**
+     * Derives the cache key of a section writer from the inputs of its schema,
+     * so that a cached writer can be found without building the schema first.
+     * The key contains the section header prefix, the assay and study
+     * variable ids, the number of id confidence measures and the distinct
+     * optional column headers.
+     */
+    private List<String> columnLayout(String section, Metadata metadata,
+            Collection<OptColumnMapping> optColumns) throws MZTabException {
+        if (metadata == null) {
+            throw new MZTabException(new MZTabError(
+                    LogicalErrorType.NoMetadataSection, -1));
+        }
+        List<String> layout = new ArrayList<>();
+        layout.add(section);
+        Optional.ofNullable(metadata.getAssay()).
+                orElse(Collections.emptyList()).
+                forEach((assay)
+                        -> {
+                    layout.add("assay[" + assay.getId() + "]");
+                });
+        Optional.ofNullable(metadata.getStudyVariable()).
+                orElse(Collections.emptyList()).
+                forEach((studyVariable)
+                        -> {
+                    layout.add("study_variable[" + studyVariable.getId() + "]");
+                });
+        layout.add("id_confidence_measure[" + Optional.ofNullable(metadata.
+                getIdConfidenceMeasure()).
+                orElse(Collections.emptyList()).
+                size() + "]");
+        Set<String> optHeaders = new LinkedHashSet<>();
+        Optional.ofNullable(optColumns).
+                orElse(Collections.emptyList()).
+                forEach((ocm)
+                        -> {
+                    optHeaders.add(Serializers.printOptColumnMapping(ocm));
+                });
+        layout.addAll(optHeaders);
+        return layout;
+    }
+
     /**
      * Create a default csv mapper instance.
      *
@@ -220,6 +455,32 @@ public class MzTabWriterDefaults {
      */
     public CsvSchema smallMoleculeSummarySchema(CsvMapper mapper,
             MzTab mzTabFile) throws MZTabException {
+        Metadata metadata = Optional.ofNullable(mzTabFile.getMetadata()).orElseThrow(() -> new MZTabException(new MZTabError(
+                LogicalErrorType.NoMetadataSection, -1)));
+
+        List<SmallMoleculeSummary> smsList = Optional.ofNullable(mzTabFile.getSmallMoleculeSummary()).orElse(Collections.emptyList());
+        //orElseThrow(() -> new MZTabException(new MZTabError(
+        //            LogicalErrorType.NoSmallMoleculeSummarySection, -1)));
+
+        return smallMoleculeSummarySchema(mapper, metadata, optColumnMappings(
+                smsList, SmallMoleculeSummary::getOpt));
+    }
+
+    /**
+     * Creates the csv schema (column names and types) for the small molecule
+     * summary section from the metadata and the given optional columns. Use
+     * this method if the rows are not available up front, e.g. when writing
+     * with the {@link MzTabStreamingWriter}.
+     *
+     * @param mapper the csv mapper
+     * @param metadata the metadata
+     * @param optColumns the optional columns of the small molecule summary
+     * section, in column order
+     * @return the configured csv schema for the small molecule summary section
+     * @throws MZTabException if metadata is null
+     */
+    public CsvSchema smallMoleculeSummarySchema(CsvMapper mapper,
+            Metadata metadata, Collection<OptColumnMapping> optColumns) throws MZTabException {
         CsvSchema.Builder builder = mapper.schema().
                 builder();
         builder.addColumn(SmallMoleculeSummary.HeaderPrefixEnum.SMH.getValue(),
@@ -275,12 +536,10 @@ public class MzTabWriterDefaults {
                         SmallMoleculeColumn.Stable.BEST_ID_CONFIDENCE_VALUE).
                         getHeader(), CsvSchema.ColumnType.NUMBER_OR_STRING);
 
-        Metadata metadata = Optional.ofNullable(mzTabFile.getMetadata()).orElseThrow(() -> new MZTabException(new MZTabError(
-                LogicalErrorType.NoMetadataSection, -1)));
-
-        List<SmallMoleculeSummary> smsList = Optional.ofNullable(mzTabFile.getSmallMoleculeSummary()).orElse(Collections.emptyList());
-        //orElseThrow(() -> new MZTabException(new MZTabError(
-        //            LogicalErrorType.NoSmallMoleculeSummarySection, -1)));
+        if (metadata == null) {
+            throw new MZTabException(new MZTabError(
+                    LogicalErrorType.NoMetadataSection, -1));
+        }
 
         metadata.
                 getAssay().
@@ -308,24 +567,7 @@ public class MzTabWriterDefaults {
                                     getId() + "]",
                             CsvSchema.ColumnType.NUMBER_OR_STRING);
                 });
-        Map<String, OptColumnMapping> optColumns = new LinkedHashMap<>();
-        smsList.
-                forEach((SmallMoleculeSummary sms)
-                        -> {
-                    Optional.ofNullable(sms.getOpt()).
-                            orElse(Collections.emptyList()).
-                            forEach((ocm)
-                                    -> {
-                                optColumns.putIfAbsent(Serializers.
-                                        printOptColumnMapping(ocm),
-                                        ocm);
-                            });
-                });
-        optColumns.keySet().
-                forEach((key)
-                        -> {
-                    builder.addColumn(key, CsvSchema.ColumnType.NUMBER_OR_STRING);
-                });
+        addOptColumns(builder, optColumns);
         return defaultSchemaForBuilder(builder);
     }
 
@@ -340,6 +582,27 @@ public class MzTabWriterDefaults {
      */
     public CsvSchema smallMoleculeFeatureSchema(CsvMapper mapper,
             MzTab mzTabFile) throws MZTabException {
+        Metadata metadata = Optional.ofNullable(mzTabFile.getMetadata()).orElseThrow(
+                () -> new MZTabException(new MZTabError(
+                        LogicalErrorType.NoMetadataSection, -1)));
+        return smallMoleculeFeatureSchema(mapper, metadata, optColumnMappings(
+                mzTabFile.getSmallMoleculeFeature(),
+                SmallMoleculeFeature::getOpt));
+    }
+
+    /**
+     * Creates the csv schema (column names and types) for the small molecule
+     * feature section from the metadata and the given optional columns.
+     *
+     * @param mapper the csv mapper
+     * @param metadata the metadata
+     * @param optColumns the optional columns of the small molecule feature
+     * section, in column order
+     * @return the configured csv schema for the small molecule feature section
+     * @throws MZTabException if metadata is null
+     */
+    public CsvSchema smallMoleculeFeatureSchema(CsvMapper mapper,
+            Metadata metadata, Collection<OptColumnMapping> optColumns) throws MZTabException {
         CsvSchema.Builder builder = mapper.schema().
                 builder();
         builder.addColumn(SmallMoleculeFeature.HeaderPrefixEnum.SFH.getValue(),
@@ -383,9 +646,10 @@ public class MzTabWriterDefaults {
                         SmallMoleculeFeatureColumn.Stable.columnFor(
                                 SmallMoleculeFeatureColumn.Stable.RETENTION_TIME_IN_SECONDS_END).
                                 getHeader(), CsvSchema.ColumnType.NUMBER_OR_STRING);
-        Metadata metadata = Optional.ofNullable(mzTabFile.getMetadata()).orElseThrow(
-                () -> new MZTabException(new MZTabError(
-                        LogicalErrorType.NoMetadataSection, -1)));
+        if (metadata == null) {
+            throw new MZTabException(new MZTabError(
+                    LogicalErrorType.NoMetadataSection, -1));
+        }
         Optional.ofNullable(metadata.
                 getAssay()).
                 ifPresent((assayList)
@@ -398,24 +662,7 @@ public class MzTabWriterDefaults {
                 })
                 );
 
-        Map<String, OptColumnMapping> optColumns = new LinkedHashMap<>();
-        mzTabFile.getSmallMoleculeFeature().
-                forEach((SmallMoleculeFeature smf)
-                        -> {
-                    Optional.ofNullable(smf.getOpt()).
-                            orElse(Collections.emptyList()).
-                            forEach((ocm)
-                                    -> {
-                                optColumns.putIfAbsent(Serializers.
-                                        printOptColumnMapping(ocm),
-                                        ocm);
-                            });
-                });
-        optColumns.keySet().
-                forEach((key)
-                        -> {
-                    builder.addColumn(key, CsvSchema.ColumnType.NUMBER_OR_STRING);
-                });
+        addOptColumns(builder, optColumns);
         return defaultSchemaForBuilder(builder);
     }
 
@@ -430,6 +677,27 @@ public class MzTabWriterDefaults {
      */
     public CsvSchema smallMoleculeEvidenceSchema(CsvMapper mapper,
             MzTab mzTabFile) throws MZTabException {
+        Metadata metadata = Optional.ofNullable(mzTabFile.getMetadata()).orElseThrow(()
+                -> new MZTabException(new MZTabError(
+                        LogicalErrorType.NoMetadataSection, -1)));
+        return smallMoleculeEvidenceSchema(mapper, metadata, optColumnMappings(
+                mzTabFile.getSmallMoleculeEvidence(),
+                SmallMoleculeEvidence::getOpt));
+    }
+
+    /**
+     * Creates the csv schema (column names and types) for the small molecule
+     * evidence section from the metadata and the given optional columns.
+     *
+     * @param mapper the csv mapper
+     * @param metadata the metadata
+     * @param optColumns the optional columns of the small molecule evidence
+     * section, in column order
+     * @return the configured csv schema for the small molecule evidence section
+     * @throws MZTabException if metadata is null
+     */
+    public CsvSchema smallMoleculeEvidenceSchema(CsvMapper mapper,
+            Metadata metadata, Collection<OptColumnMapping> optColumns) throws MZTabException {
         CsvSchema.Builder builder = mapper.schema().
                 builder();
         builder.addColumn(SmallMoleculeEvidence.HeaderPrefixEnum.SEH.getValue(),
@@ -491,9 +759,10 @@ public class MzTabWriterDefaults {
                         SmallMoleculeEvidenceColumn.Stable.MS_LEVEL).
                         getHeader(),
                         CsvSchema.ColumnType.STRING);
-        Metadata metadata = Optional.ofNullable(mzTabFile.getMetadata()).orElseThrow(()
-                -> new MZTabException(new MZTabError(
-                        LogicalErrorType.NoMetadataSection, -1)));
+        if (metadata == null) {
+            throw new MZTabException(new MZTabError(
+                    LogicalErrorType.NoMetadataSection, -1));
+        }
         Optional.ofNullable(metadata.
                 getIdConfidenceMeasure()).
                 ifPresent((parameterList)
@@ -513,11 +782,27 @@ public class MzTabWriterDefaults {
                 SmallMoleculeEvidenceColumn.Stable.RANK).
                 getHeader(),
                 CsvSchema.ColumnType.NUMBER_OR_STRING);
+        addOptColumns(builder, optColumns);
+        return defaultSchemaForBuilder(builder);
+    }
+
+    /**
+     * Collects the distinct optional columns of all rows, in order of their
+     * first occurrence.
+     *
+     * @param <T> the row type
+     * @param rows the rows
+     * @param optAccessor the accessor for the optional columns of a row
+     * @return the distinct optional columns
+     */
+    public <T> Collection<OptColumnMapping> optColumnMappings(List<T> rows,
+            Function<T, List<OptColumnMapping>> optAccessor) {
         Map<String, OptColumnMapping> optColumns = new LinkedHashMap<>();
-        mzTabFile.getSmallMoleculeEvidence().
-                forEach((SmallMoleculeEvidence sme)
+        Optional.ofNullable(rows).
+                orElse(Collections.emptyList()).
+                forEach((row)
                         -> {
-                    Optional.ofNullable(sme.getOpt()).
+                    Optional.ofNullable(optAccessor.apply(row)).
                             orElse(Collections.emptyList()).
                             forEach((ocm)
                                     -> {
@@ -526,11 +811,23 @@ public class MzTabWriterDefaults {
                                         ocm);
                             });
                 });
-        optColumns.keySet().
+        return optColumns.values();
+    }
+
+    private void addOptColumns(CsvSchema.Builder builder,
+            Collection<OptColumnMapping> optColumns) {
+        Map<String, OptColumnMapping> distinctColumns = new LinkedHashMap<>();
+        Optional.ofNullable(optColumns).
+                orElse(Collections.emptyList()).
+                forEach((ocm)
+                        -> {
+                    distinctColumns.putIfAbsent(Serializers.
+                            printOptColumnMapping(ocm), ocm);
+                });
+        distinctColumns.keySet().
                 forEach((key)
                         -> {
                     builder.addColumn(key, CsvSchema.ColumnType.NUMBER_OR_STRING);
                 });
-        return defaultSchemaForBuilder(builder);
     }
 }
@@ -0,0 +1,282 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.io;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+import uk.ac.ebi.pride.jmztab2.utils.errors.LogicalErrorType;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorOverflowException;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
+import uk.ac.ebi.pride.jmztab2.utils.parser.MZTabDataLineParser;
+
+/**
+ * Parses SML, SMF and SME data lines on a pool of worker threads.
+ *
+ * Once the metadata and the header line of a section have been parsed, its
+ * data lines are independent of each other. The reading thread collects them
+ * into chunks, which are parsed by the workers with their own line parser
+ * instances and their own error lists. Results are merged back into the
+ * record maps and the shared error list strictly in chunk order, so that
+ * errors are reported in line order, the maximum error count is applied at the
+ * same line and an {@link MZTabException} stops parsing at the same line as
+ * with sequential parsing.
+ *
+ * The number of chunks in flight is bounded, the reading thread merges the
+ * oldest chunk before it submits a new one, once the limit is reached.
+ *
+ * @author nilshoffmann
+ */
+final class ParallelDataLineParser implements AutoCloseable {
+
+    static final int DEFAULT_CHUNK_SIZE = 1024;
+
+    private static final AtomicInteger POOL_COUNT = new AtomicInteger();
+
+    private final ExecutorService executor;
+    private final MZTabErrorList errorList;
+    private final int chunkSize;
+    private final int maxPendingChunks;
+    private final Deque<Future<Chunk<?>>> pending = new ArrayDeque<>();
+    private Chunk<?> current;
+
+    /**
+     * Sink for the data lines of one section.
+     *
+     * @param <T> the record type.
+     */
+    static final class Sink<T> {
+
+        private final Supplier<? extends MZTabDataLineParser<T>> parsers;
+        private final Map<Integer, T> records;
+
+        /**
+         * @param parsers creates a new line parser for each chunk.
+         * @param records receives the parsed records by line number.
+         */
+        Sink(Supplier<? extends MZTabDataLineParser<T>> parsers,
+            Map<Integer, T> records) {
+            this.parsers = parsers;
+            this.records = records;
+        }
+    }
+
+    /**
+     * Create a new parallel parser.
+     *
+     * @param threads the number of worker threads, must be greater than 0.
+     * @param chunkSize the number of lines per chunk, must be greater than 0.
+     * @param errorList the error list to merge the chunk errors into.
+     */
+    ParallelDataLineParser(int threads, int chunkSize,
+        MZTabErrorList errorList) {
+        if (threads < 1) {
+            throw new IllegalArgumentException(
+                "Number of threads must be greater than 0!");
+        }
+        if (chunkSize < 1) {
+            throw new IllegalArgumentException(
+                "Chunk size must be greater than 0!");
+        }
+        this.chunkSize = chunkSize;
+        this.maxPendingChunks = threads * 4;
+        this.errorList = errorList;
+        String prefix = "mztab-parser-" + POOL_COUNT.incrementAndGet() + "-";
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(threads, (r) ->
+        {
+            Thread t = new Thread(r, prefix + threadCount.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    /**
+     * Queue a data line for parsing.
+     *
+     * @param <T> the record type.
+     * @param section the section sink of the line.
+     * @param lineNumber the line number.
+     * @param line the line.
+     * @throws MZTabException if a previous chunk failed with an exception.
+     * @throws MZTabErrorOverflowException if the maximum number of errors was
+     * exceeded by a previous chunk.
+     */
+    <T> void submit(Sink<T> section, int lineNumber, String line) throws MZTabException, MZTabErrorOverflowException {
+        if (current != null && current.section != section) {
+            flush();
+        }
+        if (current == null) {
+            current = new Chunk<>(section, chunkSize);
+        }
+        current.add(lineNumber, line);
+        if (current.size() == chunkSize) {
+            flush();
+        }
+    }
+
+    /**
+     * Parse all queued lines and merge their results. Must be called before
+     * any line that is not a data line is processed and before the parsed
+     * records are accessed.
+     *
+     * @throws MZTabException if a chunk failed with an exception.
+     * @throws MZTabErrorOverflowException if the maximum number of errors was
+     * exceeded.
+     */
+    void drain() throws MZTabException, MZTabErrorOverflowException {
+        flush();
+        while (!pending.isEmpty()) {
+            mergeOldest();
+        }
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    private void flush() throws MZTabException, MZTabErrorOverflowException {
+        if (current == null) {
+            return;
+        }
+        while (pending.size() >= maxPendingChunks) {
+            mergeOldest();
+        }
+        Chunk<?> chunk = current;
+        current = null;
+        pending.add(executor.submit(() ->
+        {
+            chunk.parse(errorList);
+            return chunk;
+        }));
+    }
+
+    private void mergeOldest() throws MZTabException, MZTabErrorOverflowException {
+        Chunk<?> chunk;
+        try {
+            chunk = pending.removeFirst().
+                get();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().
+                interrupt();
+            throw new IllegalStateException(
+                "Interrupted while waiting for data line parser!", ex);
+        } catch (ExecutionException ex) {
+            Throwable cause = ex.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+        chunk.merge(errorList);
+    }
+
+    /**
+     * A consecutive block of data lines of one section.
+     */
+    private static final class Chunk<T> {
+
+        private final Sink<T> section;
+        private final int[] lineNumbers;
+        private final String[] lines;
+        private int size = 0;
+        private List<T> records;
+        private MZTabErrorList errors;
+        private MZTabException exception;
+        private boolean overflow = false;
+
+        Chunk(Sink<T> section, int capacity) {
+            this.section = section;
+            this.lineNumbers = new int[capacity];
+            this.lines = new String[capacity];
+        }
+
+        void add(int lineNumber, String line) {
+            lineNumbers[size] = lineNumber;
+            lines[size] = line;
+            size++;
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * Runs on a worker thread. Stops at the first line that raises an
+         * exception, like the sequential parser.
+         */
+        void parse(MZTabErrorList target) {
+            // with a summary or without retaining errors, the target does not
+            // overflow, so neither may the chunk
+            errors = new MZTabErrorList(target.getLevel(), target.
+                getSummary() == null && target.isRetainErrors() ? target.
+                getMaxErrorCount() : Integer.MAX_VALUE);
+            records = new ArrayList<>(size);
+            MZTabDataLineParser<T> parser = section.parsers.get();
+            for (int i = 0; i < size; i++) {
+                try {
+                    parser.parse(lineNumbers[i], lines[i], errors);
+                    records.add(parser.getRecord());
+                } catch (MZTabException ex) {
+                    exception = ex;
+                    break;
+                } catch (MZTabErrorOverflowException ex) {
+                    overflow = true;
+                    break;
+                } catch (NullPointerException npe) {
+                    exception = new MZTabException(new MZTabError(
+                        LogicalErrorType.NULL,
+                        lineNumbers[i], MzTabFileParser.subString(lines[i])),
+                        npe);
+                    break;
+                }
+                lines[i] = null;
+            }
+        }
+
+        /**
+         * Runs on the reading thread.
+         */
+        void merge(MZTabErrorList target) throws MZTabException, MZTabErrorOverflowException {
+            for (MZTabError error : errors.getErrorList()) {
+                target.add(error);
+            }
+            for (int i = 0; i < records.size(); i++) {
+                section.records.put(lineNumbers[i], records.get(i));
+            }
+            if (exception != null) {
+                throw exception;
+            }
+            if (overflow) {
+                throw new MZTabErrorOverflowException();
+            }
+        }
+    }
+}
@@ -59,6 +59,9 @@ import uk.ac.ebi.pride.jmztab2.model.MetadataProperty;
 @Slf4j
 public class Serializers {
 
+    private static final Pattern CAMEL_CASE_PATTERN = Pattern.compile(
+            "(?<=[a-z])[A-Z]");
+
     /**
      * <p>
      * getReference.</p>
@@ -526,8 +529,7 @@ public class Serializers {
      * @return a {@link java.lang.String} object.
      */
     public static String camelCaseToUnderscoreLowerCase(String camelCase) {
-        Matcher m = Pattern.compile("(?<=[a-z])[A-Z]").
-                matcher(camelCase);
+        Matcher m = CAMEL_CASE_PATTERN.matcher(camelCase);
 
         StringBuffer sb = new StringBuffer();
         while (m.find()) {
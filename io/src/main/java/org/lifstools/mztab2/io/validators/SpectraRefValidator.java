@@ -21,36 +21,64 @@ import org.lifstools.mztab2.model.SpectraRef;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import uk.ac.ebi.pride.jmztab2.model.IMZTabColumn;
 import uk.ac.ebi.pride.jmztab2.model.MZTabConstants;
+import uk.ac.ebi.pride.jmztab2.model.MZTabRegexRules;
 import uk.ac.ebi.pride.jmztab2.utils.errors.FormatErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.errors.LogicalErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.parser.MZTabParserContext;
 
 /**
+ * Validates the spectra_ref references against the id format of their ms run.
+ * Errors of types that are not enabled are skipped before they are created.
  *
  * @author nilshoffmann
  */
 public class SpectraRefValidator implements FieldValidator<List<SpectraRef>> {
 
+    private final Predicate<MZTabErrorType> enabled;
+
+    /**
+     * Create a new validator that reports errors of all types.
+     */
+    public SpectraRefValidator() {
+        this((type) -> true);
+    }
+
+    /**
+     * Create a new validator that only reports errors of enabled types, e.g.
+     * {@code errorList::isEnabled}.
+     *
+     * @param enabled returns true for error types that should be reported.
+     */
+    public SpectraRefValidator(Predicate<MZTabErrorType> enabled) {
+        this.enabled = enabled;
+    }
+
     @Override
     public List<MZTabError> validateLine(int lineNumber, MZTabParserContext parserContext, IMZTabColumn column, String field, List<SpectraRef> refList) {
         List<MZTabError> errorList = new LinkedList<>();
         if (refList.isEmpty()) {
-            errorList.add(new MZTabError(FormatErrorType.SpectraRef,
-                    lineNumber, column.getHeader(), field));
+            if (enabled.test(FormatErrorType.SpectraRef)) {
+                errorList.add(new MZTabError(FormatErrorType.SpectraRef,
+                        lineNumber, column.getHeader(), field));
+            }
         } else {
             for (SpectraRef ref : refList) {
                 MsRun run = ref.getMsRun();
                 if (!Optional.ofNullable(run.getLocation()).isPresent()) {
                     //As the location can be null and the field is mandatory, this is not an error, it is a warning
-                    errorList.add(new MZTabError(
-                            LogicalErrorType.SpectraRef, lineNumber, column.
-                                    getHeader(), field, "ms_run[" + run.
-                                    getId() + "]-location"));
+                    if (enabled.test(LogicalErrorType.SpectraRef)) {
+                        errorList.add(new MZTabError(
+                                LogicalErrorType.SpectraRef, lineNumber, column.
+                                        getHeader(), field, "ms_run[" + run.
+                                        getId() + "]-location"));
+                    }
                 } else {
                     String referenceString = ref.getReference();
                     Parameter idFormatParam = run.getIdFormat();
@@ -101,12 +129,15 @@ public class SpectraRefValidator implements FieldValidator<List<SpectraRef>> {
                                     break;
                                 default:
                                     //As the given idFormat may be unsupported by this validator, we issue a warning!
-                                    errorList.add(new MZTabError(
-                                            LogicalErrorType.SpectraIdFormatNotSupported, lineNumber, referenceString, column.
-                                                    getHeader()));
+                                    if (enabled.test(LogicalErrorType.SpectraIdFormatNotSupported)) {
+                                        errorList.add(new MZTabError(
+                                                LogicalErrorType.SpectraIdFormatNotSupported, lineNumber, referenceString, column.
+                                                        getHeader()));
+                                    }
                             }
-                            if(!validationPattern.isEmpty()) {
-                                Optional<MZTabError> error = validatePattern(Pattern.compile(validationPattern), referenceString, lineNumber, column, field, run);
+                            if (!validationPattern.isEmpty() && enabled.test(
+                                    LogicalErrorType.SpectraIdFormatNotValid)) {
+                                Optional<MZTabError> error = validatePattern(MZTabRegexRules.rule(validationPattern), referenceString, lineNumber, column, field, run);
                                 if (error.isPresent()) {
                                     errorList.add(error.get());
                                 }
@@ -119,6 +150,20 @@ public class SpectraRefValidator implements FieldValidator<List<SpectraRef>> {
         return errorList;
     }
 
+    protected Optional<MZTabError> validatePattern(MZTabRegexRules.Rule rule, String reference, int lineNumber, IMZTabColumn column, String field, MsRun run) {
+        if (rule.find(reference)) {
+            return Optional.empty();
+        }
+        return Optional.of(new MZTabError(
+                LogicalErrorType.SpectraIdFormatNotValid,
+                lineNumber,
+                reference,
+                column.getHeader(),
+                rule.getPattern().toString()
+            )
+        );
+    }
+
     protected Optional<MZTabError> validatePattern(Pattern pattern, String reference, int lineNumber, IMZTabColumn column, String field, MsRun run) {
         Matcher matcher = pattern.matcher(reference);
 
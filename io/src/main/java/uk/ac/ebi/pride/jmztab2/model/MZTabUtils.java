@@ -89,7 +89,7 @@ public class MZTabUtils {
         }
         
         String regexp = REGEX_EMAIL;
-        Pattern pattern = Pattern.compile(regexp);
+        Pattern pattern = MZTabRegexRules.pattern(regexp);
         Matcher matcher = pattern.matcher(target);
         
         return matcher.find() ? target : null;
@@ -109,7 +109,7 @@ public class MZTabUtils {
         }
         
         String regexp = REGEX_ORCID;
-        Pattern pattern = Pattern.compile(regexp);
+        Pattern pattern = MZTabRegexRules.pattern(regexp);
         Matcher matcher = pattern.matcher(target);
 
         return matcher.find() ? target : null;
@@ -128,7 +128,7 @@ public class MZTabUtils {
             return null;
         }
         
-        Pattern versionPattern = Pattern.compile(MZTabConstants.REGEX_MZTAB_M);
+        Pattern versionPattern = MZTabRegexRules.pattern(MZTabConstants.REGEX_MZTAB_M);
         Matcher m = versionPattern.matcher(target);
         if (m.matches()) {
             Integer major = Integer.parseInt(m.group("major"));
@@ -278,7 +278,7 @@ public class MZTabUtils {
             return null;
         }
         
-        Pattern pattern = Pattern.compile(element + "\\[(\\d+)\\]");
+        Pattern pattern = MZTabRegexRules.pattern(element + "\\[(\\d+)\\]");
         Matcher matcher = pattern.matcher(target);
         if (matcher.find()) {
             Integer id = Integer.parseInt(matcher.group(1));
@@ -575,7 +575,7 @@ public class MZTabUtils {
         List<String> list = parseStringList(BAR, target);
         List<SpectraRef> refList = new ArrayList<>();
         
-        Pattern pattern = Pattern.compile("ms_run\\[(\\d+)\\]:(.*)");
+        Pattern pattern = MZTabRegexRules.pattern("ms_run\\[(\\d+)\\]:(.*)");
         Matcher matcher;
         Integer ms_file_id;
         String reference;
@@ -615,7 +615,7 @@ public class MZTabUtils {
      * @return a {@link java.lang.String} object.
      */
     public static String translateMinusToUnicode(String target) {
-        Pattern pattern = Pattern.compile("(CHEMMOD:.*)(-)(.*)");
+        Pattern pattern = MZTabRegexRules.pattern("(CHEMMOD:.*)(-)(.*)");
         Matcher matcher = pattern.matcher(target);
         StringBuilder sb = new StringBuilder();
         if (matcher.find()) {
@@ -637,7 +637,7 @@ public class MZTabUtils {
      * @return a {@link java.lang.String} object.
      */
     public static String translateMinusInCVtoUnicode(String target) {
-        Pattern pattern = Pattern.compile("\\[([^\\[\\]]+)\\]");
+        Pattern pattern = MZTabRegexRules.pattern("\\[([^\\[\\]]+)\\]");
         Matcher matcher = pattern.matcher(target);
         
         StringBuilder sb = new StringBuilder();
@@ -675,7 +675,7 @@ public class MZTabUtils {
      * @return a {@link java.lang.String} object.
      */
     public static String translateUnicodeToMinus(String target) {
-        Pattern pattern = Pattern.compile("(.*CHEMMOD:.*)(&minus;)(.*)");
+        Pattern pattern = MZTabRegexRules.pattern("(.*CHEMMOD:.*)(&minus;)(.*)");
         Matcher matcher = pattern.matcher(target);
         if (matcher.find()) {
             StringBuilder sb = new StringBuilder();
@@ -697,7 +697,7 @@ public class MZTabUtils {
      * @return a {@link java.lang.String} object.
      */
     public static String translateCommaToTab(String target) {
-        Pattern pattern = Pattern.compile("\\[([^\\[\\]]+)\\]");
+        Pattern pattern = MZTabRegexRules.pattern("\\[([^\\[\\]]+)\\]");
         Matcher matcher = pattern.matcher(target);
         
         StringBuilder sb = new StringBuilder();
@@ -724,7 +724,7 @@ public class MZTabUtils {
      * @return a {@link java.lang.String} object.
      */
     public static String translateTabToComma(String target) {
-        Pattern pattern = Pattern.compile("\\[([^\\[\\]]+)\\]");
+        Pattern pattern = MZTabRegexRules.pattern("\\[([^\\[\\]]+)\\]");
         Matcher matcher = pattern.matcher(target);
         
         StringBuilder sb = new StringBuilder();
@@ -752,7 +752,7 @@ public class MZTabUtils {
      * @return a {@link java.lang.String} object.
      */
     public static String translateMinusToTab(String target) {
-        Pattern pattern = Pattern.compile("\\[([^\\[\\]]+)\\]");
+        Pattern pattern = MZTabRegexRules.pattern("\\[([^\\[\\]]+)\\]");
         Matcher matcher = pattern.matcher(target);
         
         StringBuilder sb = new StringBuilder();
@@ -791,7 +791,7 @@ public class MZTabUtils {
      * @return a {@link java.lang.String} object.
      */
     public static String translateLastToTab(String target) {
-        Pattern pattern = Pattern.compile("\\[([^\\[\\]]+)\\]");
+        Pattern pattern = MZTabRegexRules.pattern("\\[([^\\[\\]]+)\\]");
         Matcher matcher = pattern.matcher(target);
         
         StringBuilder sb = new StringBuilder();
@@ -818,7 +818,7 @@ public class MZTabUtils {
      * @return a {@link java.lang.String} object.
      */
     public static String translateTabToMinus(String target) {
-        Pattern pattern = Pattern.compile("\\[([^\\[\\]]+)\\]");
+        Pattern pattern = MZTabRegexRules.pattern("\\[([^\\[\\]]+)\\]");
         Matcher matcher = pattern.matcher(target);
         
         StringBuilder sb = new StringBuilder();
@@ -0,0 +1,215 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.utils.parser;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import uk.ac.ebi.pride.jmztab2.model.IMZTabColumn;
+import uk.ac.ebi.pride.jmztab2.model.MZTabColumnFactory;
+
+/**
+ * Compiled form of a parsed section header, mapping each physical column
+ * position of a data line to its column and to the handler that checks and
+ * stores the cell value.
+ *
+ * The table is built once from the {@link MZTabColumnFactory} and
+ * {@link PositionMapping} of a header line. Data line parsers then index the
+ * table by physical position instead of resolving the logical position, the
+ * column and its type for every cell of every line. Positions without a known
+ * column have no handler, so that their cells are never read. A table can be
+ * restricted to a subset of its columns with {@link #select(Predicate)}, the
+ * cells of all other columns are then skipped in the same way, without
+ * parsing or validating them.
+ *
+ * Instances are immutable and may be shared between parsers on different
+ * threads, e.g. the per chunk parsers of a parallel parse.
+ *
+ * @param <P> the type of data line parser that the handlers apply to.
+ * @see SMHLineParser#compileDispatchTable(PositionMapping)
+ * @see SFHLineParser#compileDispatchTable(PositionMapping)
+ * @see SEHLineParser#compileDispatchTable(PositionMapping)
+ * @author nilshoffmann
+ */
+public final class ColumnDispatchTable<P extends MZTabDataLineParser<?>> {
+
+    /**
+     * Checks a single cell value and stores it in the current record of the
+     * parser.
+     *
+     * @param <P> the type of data line parser.
+     */
+    @FunctionalInterface
+    public interface CellHandler<P> {
+
+        /**
+         * Handles the cell value of the given column.
+         *
+         * @param parser the data line parser, holding the current record.
+         * @param column the column of the cell.
+         * @param target the raw cell value.
+         */
+        void handle(P parser, IMZTabColumn column, String target);
+    }
+
+    private final MZTabColumnFactory factory;
+    private final PositionMapping positionMapping;
+    private final IMZTabColumn[] columns;
+    private final CellHandler<P>[] handlers;
+    private final Set<String> unselected;
+
+    /**
+     * Compiles the dispatch table for the given header.
+     *
+     * @param factory the column factory of the parsed header.
+     * @param positionMapping the physical to logical position mapping of the
+     * header.
+     * @param compiler creates the handler for a column, may return null for
+     * columns whose values are ignored.
+     */
+    @SuppressWarnings("unchecked")
+    ColumnDispatchTable(MZTabColumnFactory factory,
+        PositionMapping positionMapping,
+        Function<IMZTabColumn, CellHandler<P>> compiler) {
+        if (factory == null) {
+            throw new NullPointerException(
+                "Column header factory should be created first.");
+        }
+        this.factory = factory;
+        this.positionMapping = positionMapping;
+        int length = positionMapping.isEmpty() ? 0 : positionMapping.keySet().
+            stream().
+            mapToInt(Integer::intValue).
+            max().
+            getAsInt() + 1;
+        this.columns = new IMZTabColumn[length];
+        this.handlers = new CellHandler[length];
+        SortedMap<String, IMZTabColumn> columnMapping = factory.
+            getColumnMapping();
+        for (Integer physicalPosition : positionMapping.keySet()) {
+            IMZTabColumn column = columnMapping.get(positionMapping.get(
+                physicalPosition));
+            if (column != null) {
+                columns[physicalPosition] = column;
+                handlers[physicalPosition] = compiler.apply(column);
+            }
+        }
+        this.unselected = Collections.emptySet();
+    }
+
+    private ColumnDispatchTable(ColumnDispatchTable<P> table,
+        CellHandler<P>[] handlers, Set<String> unselected) {
+        this.factory = table.factory;
+        this.positionMapping = table.positionMapping;
+        this.columns = table.columns;
+        this.handlers = handlers;
+        this.unselected = Collections.unmodifiableSet(unselected);
+    }
+
+    /**
+     * Returns a table that only handles the cells of the selected columns.
+     * The cells of all other columns are neither read, nor parsed or
+     * validated.
+     *
+     * @param selection returns true for the columns to handle.
+     * @return the restricted table, or this table, if all columns are
+     * selected.
+     */
+    public ColumnDispatchTable<P> select(Predicate<IMZTabColumn> selection) {
+        CellHandler<P>[] selected = handlers.clone();
+        Set<String> deselected = new HashSet<>(this.unselected);
+        for (int i = 0; i < columns.length; i++) {
+            if (columns[i] != null && !selection.test(columns[i])) {
+                selected[i] = null;
+                deselected.add(columns[i].getName());
+            }
+        }
+        if (deselected.size() == this.unselected.size()) {
+            return this;
+        }
+        return new ColumnDispatchTable<>(this, selected, deselected);
+    }
+
+    /**
+     * Returns true, if cells of columns with the given name are handled, i.e.
+     * if the column was not excluded by {@link #select(Predicate)}. Checks that
+     * combine the values of several columns should only be applied, if all of
+     * these columns are selected.
+     *
+     * @param columnName the column name, e.g.
+     * <code>database_identifier</code>.
+     * @return true, if no column with that name was excluded.
+     */
+    public boolean isSelected(String columnName) {
+        return !unselected.contains(columnName);
+    }
+
+    /**
+     * Returns true, if this table was restricted to a subset of the columns.
+     *
+     * @return true, if some columns are not handled.
+     */
+    public boolean isProjected() {
+        return !unselected.isEmpty();
+    }
+
+    /**
+     * Returns the column factory that this table was compiled from.
+     *
+     * @return the column factory.
+     */
+    public MZTabColumnFactory getFactory() {
+        return factory;
+    }
+
+    /**
+     * Returns the position mapping that this table was compiled from.
+     *
+     * @return the position mapping.
+     */
+    public PositionMapping getPositionMapping() {
+        return positionMapping;
+    }
+
+    /**
+     * Returns the column at the given physical position.
+     *
+     * @param physicalPosition the physical position of the column.
+     * @return the column, or null, if no column is mapped to the position.
+     */
+    public IMZTabColumn getColumn(int physicalPosition) {
+        return physicalPosition < columns.length ? columns[physicalPosition] : null;
+    }
+
+    /**
+     * Returns the cell handler at the given physical position.
+     *
+     * @param physicalPosition the physical position of the column.
+     * @return the handler, or null, if the cell is not handled.
+     */
+    public CellHandler<P> getHandler(int physicalPosition) {
+        return physicalPosition < handlers.length ? handlers[physicalPosition] : null;
+    }
+
+    @Override
+    public String toString() {
+        return "ColumnDispatchTable{" + "columns=" + Arrays.toString(columns) + '}';
+    }
+}
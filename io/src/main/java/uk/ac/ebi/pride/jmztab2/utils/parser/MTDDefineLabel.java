@@ -0,0 +1,189 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.utils.parser;
+
+/**
+ * Reusable, single pass lexer for metadata define labels, like
+ * <code>assay[1]-ms_run_ref</code> or <code>ms_run[2]-format</code>.
+ *
+ * A define label has the structure
+ * <code>element([id])(-sub_element([sub_id]))(-property)</code>. The lexer
+ * accepts exactly the labels that
+ * {@link uk.ac.ebi.pride.jmztab2.model.MZTabConstants#REGEX_NORMAL_METADATA}
+ * finds, with the same parts, but records the part boundaries in a single
+ * scan without backtracking. Part values are only created on access.
+ *
+ * Instances are not thread-safe, each {@link MTDLineParser} owns its own
+ * lexer.
+ *
+ * @author nilshoffmann
+ */
+public final class MTDDefineLabel {
+
+    private CharSequence label = "";
+    private int elementStart = -1;
+    private int elementEnd = -1;
+    private int idStart = -1;
+    private int idEnd = -1;
+    private int subElementStart = -1;
+    private int subElementEnd = -1;
+    private int subIdStart = -1;
+    private int subIdEnd = -1;
+    private int propertyStart = -1;
+    private int propertyEnd = -1;
+
+    /**
+     * Tokenizes the given define label, replacing the parts of the previous
+     * label.
+     *
+     * @param label the define label, must not be null.
+     * @return true, if the label contains an element name, false otherwise.
+     */
+    public boolean reset(CharSequence label) {
+        if (label == null) {
+            throw new NullPointerException("Label must not be null!");
+        }
+        this.label = label;
+        elementStart = elementEnd = idStart = idEnd = -1;
+        subElementStart = subElementEnd = subIdStart = subIdEnd = -1;
+        propertyStart = propertyEnd = -1;
+
+        int length = label.length();
+        int i = 0;
+        while (i < length && !isWordChar(label.charAt(i))) {
+            i++;
+        }
+        if (i == length) {
+            return false;
+        }
+        elementStart = i;
+        elementEnd = i = skipWordChars(label, i);
+
+        int end = index(label, i);
+        if (end > 0) {
+            idStart = i + 1;
+            idEnd = end - 1;
+            i = end;
+        }
+
+        if (i + 1 < length && label.charAt(i) == '-' && isWordChar(label.
+            charAt(i + 1))) {
+            subElementStart = i + 1;
+            subElementEnd = i = skipWordChars(label, i + 1);
+            end = index(label, i);
+            if (end > 0) {
+                subIdStart = i + 1;
+                subIdEnd = end - 1;
+                i = end;
+            }
+
+            if (i + 1 < length && label.charAt(i) == '-' && isWordChar(label.
+                charAt(i + 1))) {
+                propertyStart = i + 1;
+                propertyEnd = skipWordChars(label, i + 1);
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the element name, e.g. <code>assay</code>.
+     *
+     * @return the element name, or null, if the label has no element.
+     */
+    public String getElementName() {
+        return part(elementStart, elementEnd);
+    }
+
+    /**
+     * Returns the element index, e.g. <code>1</code> for
+     * <code>assay[1]</code>.
+     *
+     * @return the element index, or null, if the element has no index.
+     */
+    public String getId() {
+        return part(idStart, idEnd);
+    }
+
+    /**
+     * Returns the name following the element, e.g. <code>ms_run_ref</code>
+     * for <code>assay[1]-ms_run_ref</code>. For most elements, this is the
+     * property name.
+     *
+     * @return the sub element name, or null, if the label ends after the
+     * element.
+     */
+    public String getSubElementName() {
+        return part(subElementStart, subElementEnd);
+    }
+
+    /**
+     * Returns the sub element index.
+     *
+     * @return the sub element index, or null, if the sub element has no
+     * index.
+     */
+    public String getSubId() {
+        return part(subIdStart, subIdEnd);
+    }
+
+    /**
+     * Returns the name following the sub element.
+     *
+     * @return the property name, or null, if the label ends after the sub
+     * element.
+     */
+    public String getPropertyName() {
+        return part(propertyStart, propertyEnd);
+    }
+
+    @Override
+    public String toString() {
+        return label.toString();
+    }
+
+    private String part(int start, int end) {
+        return start < 0 ? null : label.subSequence(start, end).
+            toString();
+    }
+
+    /**
+     * Returns the position after an index <code>[\w+]</code> that starts at
+     * the given position, or -1, if there is none.
+     */
+    private static int index(CharSequence label, int from) {
+        if (from >= label.length() || label.charAt(from) != '[') {
+            return -1;
+        }
+        int end = skipWordChars(label, from + 1);
+        if (end == from + 1 || end >= label.length() || label.charAt(end) != ']') {
+            return -1;
+        }
+        return end + 1;
+    }
+
+    private static boolean isWordChar(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || (c >= '0' && c <= '9') || c == '_';
+    }
+
+    private static int skipWordChars(CharSequence label, int from) {
+        int i = from;
+        while (i < label.length() && isWordChar(label.charAt(i))) {
+            i++;
+        }
+        return i;
+    }
+}
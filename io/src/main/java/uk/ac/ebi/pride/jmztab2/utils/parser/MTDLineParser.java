@@ -44,10 +44,7 @@ import org.lifstools.mztab2.model.Uri;
 import java.net.URI;
 import java.util.*;
 import java.util.function.Consumer;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import java.util.stream.Collectors;
-import uk.ac.ebi.pride.jmztab2.model.MZTabConstants;
 import static uk.ac.ebi.pride.jmztab2.model.MZTabStringUtils.*;
 import static uk.ac.ebi.pride.jmztab2.model.MZTabUtils.*;
 import uk.ac.ebi.pride.jmztab2.model.MetadataElement;
@@ -79,6 +76,7 @@ public class MTDLineParser extends MZTabLineParser {
         getValue() + "\t";
 
     private final Metadata metadata = new Metadata();
+    private final MTDDefineLabel label = new MTDDefineLabel();
 
     /**
      * <p>
@@ -122,8 +120,8 @@ public class MTDLineParser extends MZTabLineParser {
         String email = parseEmail(valueLabel);
 
         if (email == null) {
-            errorList.add(new MZTabError(FormatErrorType.Email, lineNumber,
-                Error_Header + defineLabel, valueLabel));
+            errorList.add(FormatErrorType.Email, lineNumber,
+                Error_Header + defineLabel, valueLabel);
         }
 
         return email;
@@ -137,8 +135,8 @@ public class MTDLineParser extends MZTabLineParser {
         String orcid = parseOrcid(valueLabel);
 
         if (orcid == null) {
-            errorList.add(new MZTabError(FormatErrorType.Orcid, lineNumber,
-                Error_Header + defineLabel, valueLabel));
+            errorList.add(FormatErrorType.Orcid, lineNumber,
+                Error_Header + defineLabel, valueLabel);
         }
 
         return orcid;
@@ -173,8 +171,8 @@ public class MTDLineParser extends MZTabLineParser {
     private Parameter checkParameter(String defineLabel, String valueLabel) {
         Parameter param = parseParam(valueLabel);
         if (param == null) {
-            errorList.add(new MZTabError(FormatErrorType.Param, lineNumber,
-                Error_Header + defineLabel, valueLabel));
+            errorList.add(FormatErrorType.Param, lineNumber,
+                Error_Header + defineLabel, valueLabel);
         }
         return param;
     }
@@ -188,8 +186,8 @@ public class MTDLineParser extends MZTabLineParser {
         List<Parameter> paramList = parseParamList(valueLabel);
 
         if (paramList.isEmpty()) {
-            errorList.add(new MZTabError(FormatErrorType.ParamList, lineNumber,
-                Error_Header + defineLabel, valueLabel));
+            errorList.add(FormatErrorType.ParamList, lineNumber,
+                Error_Header + defineLabel, valueLabel);
         }
 
         return paramList;
@@ -232,19 +230,19 @@ public class MTDLineParser extends MZTabLineParser {
     private java.net.URI checkURI(String defineLabel, String valueLabel,
         boolean mandatory) {
         if (null == parseString(valueLabel)) {
-            if (mandatory) {
+            if (mandatory && errorList.isEnabled(LogicalErrorType.NotNULL)) {
                 // "null" value is supported when the ms_run[1-n]-location is unknown
-                errorList.add(new MZTabError(LogicalErrorType.NotNULL,
+                errorList.add(LogicalErrorType.NotNULL,
                     lineNumber,
-                    Error_Header + defineLabel, valueLabel));
+                    Error_Header + defineLabel, valueLabel);
             }
             return null;
         }
 
         java.net.URI uri = parseURI(valueLabel);
         if (uri == null) {
-            errorList.add(new MZTabError(FormatErrorType.URI, lineNumber,
-                Error_Header + defineLabel, valueLabel));
+            errorList.add(FormatErrorType.URI, lineNumber,
+                Error_Header + defineLabel, valueLabel);
         }
 
         return uri;
@@ -311,16 +309,16 @@ public class MTDLineParser extends MZTabLineParser {
      * @see MetadataSubElement : Optional
      * @see MetadataProperty : Optional.
      *
+     * The define label is split into these parts by the reusable
+     * {@link MTDDefineLabel} lexer.
+     *
      * If exists parse error, add it into {@link MZTabErrorList}
      */
     private void parseNormalMetadata(String defineLabel, String valueLabel) throws MZTabException {
-        Pattern pattern = Pattern.compile(MZTabConstants.REGEX_NORMAL_METADATA);
-        Matcher matcher = pattern.matcher(defineLabel);
-
-        if (matcher.find()) {
+        if (label.reset(defineLabel)) {
             // Stage 1: create Unit.
-            MetadataElement element = MetadataElement.findElement(matcher.group(
-                1));
+            MetadataElement element = MetadataElement.findElement(label.
+                getElementName());
             if (element == null) {
                 throw new MZTabException(new MZTabError(
                     FormatErrorType.MTDDefineLabel, lineNumber, defineLabel));
@@ -328,7 +326,7 @@ public class MTDLineParser extends MZTabLineParser {
 
             switch (element) {
                 case MZTAB:
-                    handleMzTab(element, matcher, defineLabel, valueLabel);
+                    handleMzTab(element, label, defineLabel, valueLabel);
                     break;
                 case TITLE:
                     handleTitle(defineLabel, valueLabel);
@@ -337,61 +335,61 @@ public class MTDLineParser extends MZTabLineParser {
                     handleDescription(defineLabel, valueLabel);
                     break;
                 case SAMPLE_PROCESSING:
-                    handleSampleProcessing(defineLabel, matcher, valueLabel);
+                    handleSampleProcessing(defineLabel, label, valueLabel);
                     break;
                 case INSTRUMENT:
-                    handleInstrument(defineLabel, matcher, element, valueLabel);
+                    handleInstrument(defineLabel, label, element, valueLabel);
                     break;
                 case SOFTWARE:
-                    handleSoftware(defineLabel, matcher, element, valueLabel);
+                    handleSoftware(defineLabel, label, element, valueLabel);
                     break;
                 case PUBLICATION:
-                    handlePublication(defineLabel, matcher, valueLabel);
+                    handlePublication(defineLabel, label, valueLabel);
                     break;
                 case CONTACT:
-                    handleContact(defineLabel, matcher, element, valueLabel);
+                    handleContact(defineLabel, label, element, valueLabel);
                     break;
                 case URI:
-                    handleUri(defineLabel, matcher, valueLabel, false);
+                    handleUri(defineLabel, label, valueLabel, false);
                     break;
                 case EXTERNAL_STUDY_URI:
-                    handleExternalStudyUri(defineLabel, matcher, valueLabel);
+                    handleExternalStudyUri(defineLabel, label, valueLabel);
                     break;
                 case QUANTIFICATION_METHOD:
                     handleQuantificationMethod(defineLabel, valueLabel);
                     break;
                 case SMALL_MOLECULE:
-                    handleSmallMolecule(element, matcher, defineLabel,
+                    handleSmallMolecule(element, label, defineLabel,
                         valueLabel);
                     break;
                 case SMALL_MOLECULE_FEATURE:
-                    handleSmallMoleculeFeature(element, matcher, defineLabel,
+                    handleSmallMoleculeFeature(element, label, defineLabel,
                         valueLabel);
                     break;
                 case MS_RUN:
-                    handleMsRun(defineLabel, matcher, element, valueLabel);
+                    handleMsRun(defineLabel, label, element, valueLabel);
                     break;
                 case SAMPLE:
-                    handleSample(defineLabel, matcher, element, valueLabel);
+                    handleSample(defineLabel, label, element, valueLabel);
                     break;
                 case ASSAY:
-                    handleAssay(matcher, defineLabel, element, valueLabel);
+                    handleAssay(label, defineLabel, element, valueLabel);
                     break;
                 case STUDY_VARIABLE:
-                    handleStudyVariable(defineLabel, matcher, element,
+                    handleStudyVariable(defineLabel, label, element,
                         valueLabel);
                     break;
                 case CUSTOM:
-                    handleCustom(defineLabel, matcher, valueLabel);
+                    handleCustom(defineLabel, label, valueLabel);
                     break;
                 case CV:
-                    handleCv(defineLabel, matcher, element, valueLabel);
+                    handleCv(defineLabel, label, element, valueLabel);
                     break;
                 case DATABASE:
-                    handleDatabase(defineLabel, matcher, element, valueLabel);
+                    handleDatabase(defineLabel, label, element, valueLabel);
                     break;
                 case DERIVATIZATION_AGENT:
-                    handleDerivatizationAgent(defineLabel, matcher, valueLabel);
+                    handleDerivatizationAgent(defineLabel, label, valueLabel);
                     break;
                 case COLUNIT:
                 case COLUNIT_SMALL_MOLECULE:
@@ -400,7 +398,7 @@ public class MTDLineParser extends MZTabLineParser {
                     handleColunit(defineLabel, valueLabel);
                     break;
                 case ID_CONFIDENCE_MEASURE:
-                    handleIdConfidenceMeasure(defineLabel, matcher, valueLabel);
+                    handleIdConfidenceMeasure(defineLabel, label, valueLabel);
                     break;
                 //opt column definitions are handled later
             }
@@ -411,10 +409,10 @@ public class MTDLineParser extends MZTabLineParser {
         }
     }
 
-    protected void handleIdConfidenceMeasure(String defineLabel, Matcher matcher,
+    protected void handleIdConfidenceMeasure(String defineLabel, MTDDefineLabel label,
         String valueLabel) throws MZTabException {
         Integer id;
-        id = checkIndex(defineLabel, matcher.group(3));
+        id = checkIndex(defineLabel, label.getId());
         context.addIdConfidenceMeasure(metadata, id, checkParameter(
             defineLabel, valueLabel));
     }
@@ -433,20 +431,20 @@ public class MTDLineParser extends MZTabLineParser {
             && !defineLabel.equals(
                 Metadata.Properties.colunitSmallMoleculeFeature.
                     getPropertyName())) {
-            errorList.add(new MZTabError(
+            errorList.add(
                 FormatErrorType.MTDDefineLabel, lineNumber,
-                defineLabel));
+                defineLabel);
         } else {
             String[] colunitDef = valueLabel.split("=");
             if (colunitDef.length != 2) {
-                errorList.add(new MZTabError(
-                    FormatErrorType.InvalidColunitFormat, lineNumber, valueLabel));
+                errorList.add(
+                    FormatErrorType.InvalidColunitFormat, lineNumber, valueLabel);
             }
             Parameter p = checkParameter(defineLabel, colunitDef[1]);
             String columnName = colunitDef[0];
             if (columnName == null) {
-                errorList.add(new MZTabError(
-                    FormatErrorType.InvalidColunitFormat, lineNumber, valueLabel));
+                errorList.add(
+                    FormatErrorType.InvalidColunitFormat, lineNumber, valueLabel);
             } else {
                 if (defineLabel.equals(
                     Metadata.Properties.colunitSmallMolecule.getPropertyName())) {
@@ -462,50 +460,50 @@ public class MTDLineParser extends MZTabLineParser {
                     context.
                         addSmallMoleculeEvidenceColUnit(metadata, columnName, p);
                 } else {
-                    errorList.add(new MZTabError(
+                    errorList.add(
                         FormatErrorType.MTDDefineLabel, lineNumber,
-                        defineLabel));
+                        defineLabel);
                 }
             }
         }
     }
 
-    protected void handleDatabase(String defineLabel, Matcher matcher,
+    protected void handleDatabase(String defineLabel, MTDDefineLabel label,
         MetadataElement element, String valueLabel) throws MZTabException {
         Integer id;
         MetadataProperty property;
-        id = checkIndex(defineLabel, matcher.group(3));
-        property = checkProperty(element, matcher.group(5));
+        id = checkIndex(defineLabel, label.getId());
+        property = checkProperty(element, label.getSubElementName());
         addDatabase(context, metadata, property, id, defineLabel, valueLabel);
     }
 
-    protected void handleCv(String defineLabel, Matcher matcher,
+    protected void handleCv(String defineLabel, MTDDefineLabel label,
         MetadataElement element, String valueLabel) throws MZTabException {
         Integer id;
         MetadataProperty property;
-        id = checkIndex(defineLabel, matcher.group(3));
-        property = checkProperty(element, matcher.group(5));
+        id = checkIndex(defineLabel, label.getId());
+        property = checkProperty(element, label.getSubElementName());
         addCv(context, metadata, property, id, valueLabel);
     }
 
-    protected void handleStudyVariable(String defineLabel, Matcher matcher,
+    protected void handleStudyVariable(String defineLabel, MTDDefineLabel label,
         MetadataElement element, String valueLabel) throws MZTabException, MZTabErrorOverflowException {
         Integer id;
         MetadataProperty property;
-        id = checkIndex(defineLabel, matcher.group(3));
-        property = checkProperty(element, matcher.group(5));
+        id = checkIndex(defineLabel, label.getId());
+        property = checkProperty(element, label.getSubElementName());
         addStudyVariable(context, metadata, property, defineLabel, valueLabel,
             id);
     }
 
-    protected void handleAssay(Matcher matcher, String defineLabel,
+    protected void handleAssay(MTDDefineLabel label, String defineLabel,
         MetadataElement element, String valueLabel) throws MZTabException {
         Integer id;
         MetadataProperty property;
-        if (isEmpty(matcher.group(6))) {
+        if (label.getSubId() == null) {
             // no quantification modification. For example: assay[1-n]-quantification_reagent
-            id = checkIndex(defineLabel, matcher.group(3));
-            property = checkProperty(element, matcher.group(5));
+            id = checkIndex(defineLabel, label.getId());
+            property = checkProperty(element, label.getSubElementName());
             addAssay(context, metadata, property, defineLabel, valueLabel, id);
         } else {
             throw new MZTabException(
@@ -513,44 +511,44 @@ public class MTDLineParser extends MZTabLineParser {
         }
     }
 
-    protected void handleSample(String defineLabel, Matcher matcher,
+    protected void handleSample(String defineLabel, MTDDefineLabel label,
         MetadataElement element, String valueLabel) throws MZTabException {
         Integer id;
         MetadataProperty property;
-        id = checkIndex(defineLabel, matcher.group(3));
-        property = checkProperty(element, matcher.group(5));
+        id = checkIndex(defineLabel, label.getId());
+        property = checkProperty(element, label.getSubElementName());
         addSample(context, metadata, property, id, defineLabel, valueLabel);
     }
 
-    protected void handleCustom(String defineLabel, Matcher matcher,
+    protected void handleCustom(String defineLabel, MTDDefineLabel label,
         String valueLabel) throws MZTabException {
         Integer id;
-        id = checkIndex(defineLabel, matcher.group(3));
+        id = checkIndex(defineLabel, label.getId());
         context.addCustomItem(metadata, id, checkParameter(
             defineLabel, valueLabel));
     }
 
-    protected void handleDerivatizationAgent(String defineLabel, Matcher matcher,
+    protected void handleDerivatizationAgent(String defineLabel, MTDDefineLabel label,
         String valueLabel) throws MZTabException {
         Integer id;
-        id = checkIndex(defineLabel, matcher.group(3));
+        id = checkIndex(defineLabel, label.getId());
         context.addDerivatizationAgentItem(metadata, id, checkParameter(
             defineLabel, valueLabel));
     }
 
-    protected void handleMsRun(String defineLabel, Matcher matcher,
+    protected void handleMsRun(String defineLabel, MTDDefineLabel label,
         MetadataElement element, String valueLabel) throws MZTabException {
         Integer id;
         MetadataProperty property;
-        id = checkIndex(defineLabel, matcher.group(3));
-        property = checkProperty(element, matcher.group(5));
+        id = checkIndex(defineLabel, label.getId());
+        property = checkProperty(element, label.getSubElementName());
         addMsRun(context, metadata, property, id, defineLabel, valueLabel);
     }
 
     protected void handleSmallMoleculeFeature(MetadataElement element,
-        Matcher matcher, String defineLabel, String valueLabel) throws MZTabException {
+        MTDDefineLabel label, String defineLabel, String valueLabel) throws MZTabException {
         MetadataProperty property;
-        property = checkProperty(element, matcher.group(5));
+        property = checkProperty(element, label.getSubElementName());
         if (property == null) {
             MZTabError error = new MZTabError(
                 FormatErrorType.MTDDefineLabel,
@@ -569,10 +567,10 @@ public class MTDLineParser extends MZTabLineParser {
         }
     }
 
-    protected void handleSmallMolecule(MetadataElement element, Matcher matcher,
+    protected void handleSmallMolecule(MetadataElement element, MTDDefineLabel label,
         String defineLabel, String valueLabel) throws MZTabException {
         MetadataProperty property;
-        property = checkProperty(element, matcher.group(5));
+        property = checkProperty(element, label.getSubElementName());
         if (property == null) {
             MZTabError error = new MZTabError(
                 FormatErrorType.MTDDefineLabel,
@@ -610,64 +608,64 @@ public class MTDLineParser extends MZTabLineParser {
             setQuantificationMethod(checkParameter(defineLabel, valueLabel));
     }
 
-    protected void handleExternalStudyUri(String defineLabel, Matcher matcher,
+    protected void handleExternalStudyUri(String defineLabel, MTDDefineLabel label,
         String valueLabel) throws MZTabException {
         Integer id;
-        id = checkIndex(defineLabel, matcher.group(3));
+        id = checkIndex(defineLabel, label.getId());
         URI uri = checkURI(defineLabel, valueLabel, false);
         metadata.addExternalStudyUriItem(new Uri().id(id).
             value(uri));
     }
 
-    protected void handleUri(String defineLabel, Matcher matcher,
+    protected void handleUri(String defineLabel, MTDDefineLabel label,
         String valueLabel, boolean mandatory) throws MZTabException {
         Integer id;
-        id = checkIndex(defineLabel, matcher.group(3));
+        id = checkIndex(defineLabel, label.getId());
         URI uri = checkURI(defineLabel, valueLabel, mandatory);
         metadata.addUriItem(new Uri().id(id).
             value(uri));
     }
 
-    protected void handleContact(String defineLabel, Matcher matcher,
+    protected void handleContact(String defineLabel, MTDDefineLabel label,
         MetadataElement element, String valueLabel) throws MZTabException {
         Integer id;
         MetadataProperty property;
-        id = checkIndex(defineLabel, matcher.group(3));
-        property = checkProperty(element, matcher.group(5));
+        id = checkIndex(defineLabel, label.getId());
+        property = checkProperty(element, label.getSubElementName());
         addContact(context, metadata, property, id, valueLabel, defineLabel);
     }
 
-    protected void handlePublication(String defineLabel, Matcher matcher,
+    protected void handlePublication(String defineLabel, MTDDefineLabel label,
         String valueLabel) throws MZTabException {
         Integer id;
-        id = checkIndex(defineLabel, matcher.group(3));
+        id = checkIndex(defineLabel, label.getId());
         checkPublication(id, defineLabel, valueLabel);
     }
 
-    protected void handleSoftware(String defineLabel, Matcher matcher,
+    protected void handleSoftware(String defineLabel, MTDDefineLabel label,
         MetadataElement element, String valueLabel) throws MZTabErrorOverflowException, MZTabException {
         Integer id;
         MetadataProperty property;
-        id = checkIndex(defineLabel, matcher.group(3));
-        property = checkProperty(element, matcher.group(5));
+        id = checkIndex(defineLabel, label.getId());
+        property = checkProperty(element, label.getSubElementName());
         addSoftware(context, metadata, property, defineLabel, valueLabel, id);
     }
 
-    protected void handleInstrument(String defineLabel, Matcher matcher,
+    protected void handleInstrument(String defineLabel, MTDDefineLabel label,
         MetadataElement element, String valueLabel) throws MZTabException {
         Integer id;
         MetadataProperty property;
         Parameter param;
-        id = checkIndex(defineLabel, matcher.group(3));
-        property = checkProperty(element, matcher.group(5));
+        id = checkIndex(defineLabel, label.getId());
+        property = checkProperty(element, label.getSubElementName());
         param = checkParameter(defineLabel, valueLabel);
         addInstrument(context, metadata, property, id, param);
     }
 
-    protected void handleSampleProcessing(String defineLabel, Matcher matcher,
+    protected void handleSampleProcessing(String defineLabel, MTDDefineLabel label,
         String valueLabel) throws MZTabException {
         Integer id;
-        id = checkIndex(defineLabel, matcher.group(3));
+        id = checkIndex(defineLabel, label.getId());
         addSampleProcessing(context, metadata, id, checkParameterList(
             defineLabel, valueLabel));
     }
@@ -690,10 +688,10 @@ public class MTDLineParser extends MZTabLineParser {
         metadata.setTitle(valueLabel);
     }
 
-    protected void handleMzTab(MetadataElement element, Matcher matcher,
+    protected void handleMzTab(MetadataElement element, MTDDefineLabel label,
         String defineLabel, String valueLabel) throws MZTabException {
         MetadataProperty property;
-        property = checkProperty(element, matcher.group(5));
+        property = checkProperty(element, label.getSubElementName());
         if (property == null) {
             MZTabError error = new MZTabError(
                 FormatErrorType.MTDDefineLabel,
@@ -807,7 +805,7 @@ public class MTDLineParser extends MZTabLineParser {
         if (param != null && (param.getValue() == null || param.getValue().
             trim().
             length() == 0)) {
-            errorList.add(new MZTabError(errorType, lineNumber, valueLabel));
+            errorList.add(errorType, lineNumber, valueLabel);
         } else {
             consumer.accept(param);
         }
@@ -865,8 +863,8 @@ public class MTDLineParser extends MZTabLineParser {
                 trim().
                 length() == 0)) {
                 // this is a warn.
-                errorList.add(new MZTabError(LogicalErrorType.SoftwareVersion,
-                    lineNumber, valueLabel));
+                errorList.add(LogicalErrorType.SoftwareVersion,
+                    lineNumber, valueLabel);
             }
             software = context.addSoftwareParameter(metadata, id, param);
         } else {
@@ -1150,9 +1148,9 @@ public class MTDLineParser extends MZTabLineParser {
                         collect(Collectors.toSet()).
                         forEach((indexedElement) ->
                         {
-                            errorList.add(new MZTabError(
+                            errorList.add(
                                 LogicalErrorType.DuplicationID, lineNumber,
-                                valueLabel));
+                                valueLabel);
                         });
                     // check that assays exist
                     for (IndexedElement e : indexedElementList) {
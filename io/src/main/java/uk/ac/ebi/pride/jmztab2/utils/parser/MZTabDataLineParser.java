@@ -18,12 +18,14 @@ package uk.ac.ebi.pride.jmztab2.utils.parser;
 import java.net.URI;
 import org.lifstools.mztab2.io.validators.SpectraRefValidator;
 import org.lifstools.mztab2.model.Metadata;
+import org.lifstools.mztab2.model.OptColumnMapping;
 import org.lifstools.mztab2.model.Parameter;
 import org.lifstools.mztab2.model.SpectraRef;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.SortedMap;
+import java.util.function.BiConsumer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 import lombok.extern.slf4j.Slf4j;
@@ -38,7 +40,6 @@ import static uk.ac.ebi.pride.jmztab2.model.MZTabUtils.*;
 import uk.ac.ebi.pride.jmztab2.model.SplitList;
 import uk.ac.ebi.pride.jmztab2.utils.errors.FormatErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.errors.LogicalErrorType;
-import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
 
@@ -66,6 +67,11 @@ import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
 @Slf4j
 public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
+    private static final Pattern BEST_SEARCH_ENGINE_SCORE_PATTERN = Pattern.
+            compile("search_engine_score\\[(\\d+)\\](\\w+)?");
+    private static final Pattern SEARCH_ENGINE_SCORE_PATTERN = Pattern.compile(
+            "search_engine_score\\[(\\d+)\\]\\w*");
+
     protected MZTabColumnFactory factory;
     protected PositionMapping positionMapping;
     protected SortedMap<String, Integer> exchangeMapping; // reverse the key and value of positionMapping.
@@ -125,6 +131,24 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
         this.errorList = errorList == null ? new MZTabErrorList() : errorList;
     }
 
+    /**
+     * Generate a mzTab data line parser for a header that was compiled into a
+     * {@link ColumnDispatchTable}.
+     *
+     * @param context the parser context, keeping dynamic state and lookup
+     * associations.
+     * @param dispatchTable SHOULD NOT be set to null
+     * @param metadata SHOULD NOT be set to null
+     * @param errorList a
+     * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList} object.
+     */
+    protected MZTabDataLineParser(MZTabParserContext context,
+            ColumnDispatchTable<?> dispatchTable, Metadata metadata,
+            MZTabErrorList errorList) {
+        this(context, dispatchTable.getFactory(), dispatchTable.
+                getPositionMapping(), metadata, errorList);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -137,19 +161,30 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
         checkCount();
 
         int offset = checkData();
-        if (offset != items.length) {
+        if (offset != tokenizer.size()) {
             log.error(
                     "Number of expected items after parsing header is: {} but data line has: {} items!",
                     offset,
-                    items.length);
+                    tokenizer.size());
             log.error("Current mapping is: {}", mapping);
-            log.error("Items given: {} expected: {}", Arrays.toString(items),
+            log.error("Items given: {} expected: {}", tokenizer,
                     Arrays.toString(line.split("\\t")));
-            this.errorList.add(new MZTabError(FormatErrorType.CountMatch,
-                    lineNumber, "" + offset, "" + items.length));
+            this.errorList.add(FormatErrorType.CountMatch,
+                    lineNumber, "" + offset, "" + tokenizer.size());
         }
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * Data line parsers read the fields from the {@link #tokenizer} on demand
+     * and only create values for mapped columns.
+     */
+    @Override
+    protected boolean requiresItems() {
+        return false;
+    }
+
     /**
      * Check header line items size equals data line items size. The number of
      * Data line items does not match with the number of Header line items.
@@ -160,7 +195,7 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
      */
     private void checkCount() {
         int headerCount = mapping.size();
-        int dataCount = items.length - 1;
+        int dataCount = tokenizer.size() - 1;
 
         if (headerCount != dataCount) {
             log.error(
@@ -168,10 +203,10 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
                     headerCount,
                     dataCount);
             log.error("Current mapping is: {}", mapping);
-            log.error("Items given: {} expected: {}", Arrays.toString(items),
+            log.error("Items given: {} expected: {}", tokenizer,
                     Arrays.toString(line.split("\\t")));
-            this.errorList.add(new MZTabError(FormatErrorType.CountMatch,
-                    lineNumber, "" + dataCount, "" + headerCount));
+            this.errorList.add(FormatErrorType.CountMatch,
+                    lineNumber, "" + dataCount, "" + headerCount);
         }
     }
 
@@ -189,6 +224,49 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
      */
     protected abstract int checkData();
 
+    /**
+     * Creates the cell handler for an optional column, which checks the cell
+     * value according to the column's data type and passes it as an
+     * {@link OptColumnMapping} to the given consumer. Cell values of columns
+     * with other data types are passed without value.
+     *
+     * @param <P> the type of data line parser.
+     * @param column the optional column.
+     * @param consumer adds the mapping to the current record of the parser.
+     * @return the cell handler.
+     */
+    protected static <P extends MZTabDataLineParser<?>> ColumnDispatchTable.CellHandler<P> optColumnHandler(
+            IMZTabColumn column, BiConsumer<P, OptColumnMapping> consumer) {
+        String identifier = column.getName().
+                substring(MZTabConstants.OPT_PREFIX.length());
+        Class dataType = column.getDataType();
+        ColumnDispatchTable.CellHandler<P> handler;
+        if (dataType.equals(String.class)) {
+            handler = (parser, col, target) ->
+                    consumer.accept(parser, new OptColumnMapping().
+                            identifier(identifier).
+                            value(parser.checkString(col, target)));
+        } else if (dataType.equals(Double.class)) {
+            handler = (parser, col, target) ->
+                    consumer.accept(parser, new OptColumnMapping().
+                            identifier(identifier).
+                            value(Double.toString(parser.checkDouble(col,
+                                    target))));
+        } else if (dataType.equals(MZBoolean.class)) {
+            handler = (parser, col, target) ->
+                    consumer.accept(parser, new OptColumnMapping().
+                            identifier(identifier).
+                            value(Boolean.toString(parser.checkMZBoolean(col,
+                                    target).
+                                    toBoolean())));
+        } else {
+            handler = (parser, col, target) ->
+                    consumer.accept(parser, new OptColumnMapping().
+                            identifier(identifier));
+        }
+        return handler;
+    }
+
     /**
      * load best_search_engine_score[id], read id value.
      *
@@ -197,9 +275,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
      */
     protected Integer loadBestSearchEngineScoreId(
             String bestSearchEngineScoreLabel) {
-        Pattern pattern = Pattern.compile(
-                "search_engine_score\\[(\\d+)\\](\\w+)?");
-        Matcher matcher = pattern.matcher(bestSearchEngineScoreLabel);
+        Matcher matcher = BEST_SEARCH_ENGINE_SCORE_PATTERN.matcher(
+                bestSearchEngineScoreLabel);
 
         if (matcher.find()) {
             return Integer.parseInt(matcher.group(1));
@@ -215,8 +292,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
      * @return a {@link java.lang.Integer} object.
      */
     protected Integer loadSearchEngineScoreId(String searchEngineLabel) {
-        Pattern pattern = Pattern.compile("search_engine_score\\[(\\d+)\\]\\w*");
-        Matcher matcher = pattern.matcher(searchEngineLabel);
+        Matcher matcher = SEARCH_ENGINE_SCORE_PATTERN.matcher(
+                searchEngineLabel);
 
         if (matcher.find()) {
             return Integer.parseInt(matcher.group(1));
@@ -242,20 +319,20 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
             return null;
         }
         if (target == null) {
-            this.errorList.add(new MZTabError(LogicalErrorType.NULL, lineNumber,
-                    column.getHeader()));
+            this.errorList.add(LogicalErrorType.NULL, lineNumber,
+                    column.getHeader());
             return null;
         }
 
         target = target.trim();
         if (target.isEmpty()) {
-            this.errorList.add(new MZTabError(LogicalErrorType.NULL, lineNumber,
-                    column.getHeader()));
+            this.errorList.add(LogicalErrorType.NULL, lineNumber,
+                    column.getHeader());
             return null;
         }
         if (MZTabConstants.NULL.equals(target) && !allowNull) {
-            this.errorList.add(new MZTabError(LogicalErrorType.NULL, lineNumber,
-                    column.getHeader()));
+            this.errorList.add(LogicalErrorType.NULL, lineNumber,
+                    column.getHeader());
             return null;
         }
 
@@ -329,8 +406,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         Integer value = parseInteger(result);
         if (value == null) {
-            this.errorList.add(new MZTabError(FormatErrorType.Integer,
-                    lineNumber, column.getHeader(), target));
+            this.errorList.add(FormatErrorType.Integer,
+                    lineNumber, column.getHeader(), target);
         }
 
         return value;
@@ -380,9 +457,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         Double value = parseDouble(result);
         if (value == null) {
-            this.errorList.add(
-                    new MZTabError(FormatErrorType.Double, lineNumber, column.
-                            getHeader(), target));
+            this.errorList.add(FormatErrorType.Double, lineNumber, column.
+                    getHeader(), target);
             return null;
         }
         if (value.equals(Double.NaN) || value.equals(Double.POSITIVE_INFINITY)) {
@@ -411,19 +487,20 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         List<Parameter> paramList = parseParamList(result);
         if (paramList.isEmpty()) {
-            this.errorList.add(new MZTabError(FormatErrorType.ParamList,
-                    lineNumber, "Column " + column.getHeader(), target));
+            this.errorList.add(FormatErrorType.ParamList,
+                    lineNumber, "Column " + column.getHeader(), target);
         }
         for (Parameter param : paramList) {
             if (param != null && param.getCvAccession() != null && !param.
                     getCvAccession().
                     isEmpty()) {
                 if (!param.getCvAccession().
-                        contains(":")) {
-                    this.errorList.add(new MZTabError(
+                        contains(":") && this.errorList.isEnabled(
+                        FormatErrorType.ParamAccessionNotNamespaced)) {
+                    this.errorList.add(
                             FormatErrorType.ParamAccessionNotNamespaced, lineNumber,
                             column.getHeader(), param.getCvAccession(),
-                            new ParameterConverter().convert(param)));
+                            new ParameterConverter().convert(param));
                 }
             }
         }
@@ -445,24 +522,25 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
             boolean allowNull) {
         String result = checkData(column, target, true);
         if (result == null || (result.equalsIgnoreCase(NULL) && !allowNull)) {
-            this.errorList.add(new MZTabError(FormatErrorType.Param, lineNumber,
-                    "Column " + column.getHeader(), target));
+            this.errorList.add(FormatErrorType.Param, lineNumber,
+                    "Column " + column.getHeader(), target);
         }
         Parameter param = MZTabUtils.parseParam(target);
         if (param != null && param.getCvAccession() != null && !param.
                 getCvAccession().
                 isEmpty()) {
             if (!param.getCvAccession().
-                    contains(":")) {
-                this.errorList.add(new MZTabError(
+                    contains(":") && this.errorList.isEnabled(
+                    FormatErrorType.ParamAccessionNotNamespaced)) {
+                this.errorList.add(
                         FormatErrorType.ParamAccessionNotNamespaced, lineNumber,
                         column.getHeader(), param.getCvAccession(),
-                        new ParameterConverter().convert(param)));
+                        new ParameterConverter().convert(param));
             }
         } else if (param == null && result != null && !result.isEmpty() && !(result.
                 equalsIgnoreCase(NULL))) {
-            this.errorList.add(new MZTabError(FormatErrorType.Param, lineNumber,
-                    "Column " + column.getHeader(), target));
+            this.errorList.add(FormatErrorType.Param, lineNumber,
+                    "Column " + column.getHeader(), target);
         }
         return param;
     }
@@ -488,8 +566,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         List<String> stringList = parseStringList(splitChar, result);
         if (stringList.isEmpty()) {
-            this.errorList.add(new MZTabError(FormatErrorType.StringList,
-                    lineNumber, column.getHeader(), result, "" + splitChar));
+            this.errorList.add(FormatErrorType.StringList,
+                    lineNumber, column.getHeader(), result, "" + splitChar);
         }
 
         return stringList;
@@ -516,8 +594,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         List<String> stringList = parseStringList(splitChar, result);
         if (stringList.isEmpty()) {
-            this.errorList.add(new MZTabError(FormatErrorType.StringList,
-                    lineNumber, column.getHeader(), result, "" + splitChar));
+            this.errorList.add(FormatErrorType.StringList,
+                    lineNumber, column.getHeader(), result, "" + splitChar);
         }
 
         return stringList.stream().map(uri -> URI.create(uri)).toList();
@@ -562,8 +640,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         List<Integer> stringList = parseIntegerList(result);
         if (stringList.isEmpty()) {
-            this.errorList.add(new MZTabError(FormatErrorType.IntegerList,
-                    lineNumber, column.getHeader(), result, "" + splitChar));
+            this.errorList.add(FormatErrorType.IntegerList,
+                    lineNumber, column.getHeader(), result, "" + splitChar);
         }
 
         return stringList;
@@ -588,8 +666,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         List<Double> doubleList = parseDoubleList(target);
         if (doubleList.isEmpty()) {
-            this.errorList.add(new MZTabError(FormatErrorType.DoubleList,
-                    lineNumber, column.getHeader(), result, "" + MZTabConstants.BAR));
+            this.errorList.add(FormatErrorType.DoubleList,
+                    lineNumber, column.getHeader(), result, "" + MZTabConstants.BAR);
         }
 
         return doubleList;
@@ -615,8 +693,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         MZBoolean value = MZBoolean.findBoolean(result);
         if (value == null) {
-            this.errorList.add(new MZTabError(FormatErrorType.MZBoolean,
-                    lineNumber, column.getHeader(), result));
+            this.errorList.add(FormatErrorType.MZBoolean,
+                    lineNumber, column.getHeader(), result);
         }
 
         return value;
@@ -814,8 +892,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         java.net.URI result = parseURI(result_uri);
         if (result == null) {
-            this.errorList.add(new MZTabError(FormatErrorType.URI, lineNumber,
-                    "Column " + column.getHeader(), result_uri));
+            this.errorList.add(FormatErrorType.URI, lineNumber,
+                    "Column " + column.getHeader(), result_uri);
             return null;
         } else {
             return result;
@@ -849,7 +927,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         List<SpectraRef> refList = parseSpectraRefList(context, metadata,
                 result_spectraRef);
-        SpectraRefValidator validator = new SpectraRefValidator();
+        SpectraRefValidator validator = new SpectraRefValidator(
+            this.errorList::isEnabled);
         this.errorList.addAll(
             validator.validateLine(
                 lineNumber, 
@@ -938,8 +1017,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         List<String> stringList = parseGOTermList(result_go_terms);
         if (stringList.isEmpty()) {
-            this.errorList.add(new MZTabError(FormatErrorType.GOTermList,
-                    lineNumber, column.getHeader(), result_go_terms));
+            this.errorList.add(FormatErrorType.GOTermList,
+                    lineNumber, column.getHeader(), result_go_terms);
         }
 
         return stringList;
@@ -970,8 +1049,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
         }
 
         if (result < 0 || result > 1) {
-            this.errorList.add(new MZTabError(LogicalErrorType.ProteinCoverage,
-                    lineNumber, column.getHeader(), printDouble(result)));
+            this.errorList.add(LogicalErrorType.ProteinCoverage,
+                    lineNumber, column.getHeader(), printDouble(result));
             return null;
         }
 
@@ -998,11 +1077,9 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         result = result.toUpperCase();
 
-        Pattern pattern = Pattern.compile("[OU]");
-        Matcher matcher = pattern.matcher(result);
-        if (matcher.find()) {
-            this.errorList.add(new MZTabError(FormatErrorType.Sequence,
-                    lineNumber, column.getHeader(), sequence));
+        if (result.indexOf('O') >= 0 || result.indexOf('U') >= 0) {
+            this.errorList.add(FormatErrorType.Sequence,
+                    lineNumber, column.getHeader(), sequence);
         }
 
         return result;
@@ -1191,8 +1268,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         List<Double> valueList = parseDoubleList(result);
         if (valueList.isEmpty()) {
-            this.errorList.add(new MZTabError(FormatErrorType.DoubleList,
-                    lineNumber, column.getHeader(), result, "" + BAR));
+            this.errorList.add(FormatErrorType.DoubleList,
+                    lineNumber, column.getHeader(), result, "" + BAR);
         }
 
         return valueList;
@@ -1219,8 +1296,8 @@ public abstract class MZTabDataLineParser<T> extends MZTabLineParser {
 
         List<Double> valueList = parseDoubleList(result);
         if (valueList.isEmpty()) {
-            this.errorList.add(new MZTabError(FormatErrorType.DoubleList,
-                    lineNumber, column.getHeader(), result, "" + BAR));
+            this.errorList.add(FormatErrorType.DoubleList,
+                    lineNumber, column.getHeader(), result, "" + BAR);
         }
 
         return valueList;
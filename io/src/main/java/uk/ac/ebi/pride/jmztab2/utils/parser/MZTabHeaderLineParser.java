@@ -27,6 +27,7 @@ import uk.ac.ebi.pride.jmztab2.model.MZBoolean;
 import uk.ac.ebi.pride.jmztab2.model.MZTabColumn;
 import uk.ac.ebi.pride.jmztab2.model.MZTabColumnFactory;
 import uk.ac.ebi.pride.jmztab2.model.MZTabConstants;
+import uk.ac.ebi.pride.jmztab2.model.MZTabRegexRules;
 import uk.ac.ebi.pride.jmztab2.model.Section;
 import uk.ac.ebi.pride.jmztab2.utils.errors.FormatErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.errors.LogicalErrorType;
@@ -89,7 +90,7 @@ public abstract class MZTabHeaderLineParser extends MZTabLineParser {
 
         int offset = parseColumns();
         if (offset != items.length) {
-            this.errorList.add(new MZTabError(LogicalErrorType.HeaderLine, lineNumber, section.getName(), "" + offset, "" + items.length));
+            this.errorList.add(LogicalErrorType.HeaderLine, lineNumber, section.getName(), "" + offset, "" + items.length);
         }
 
         refine();
@@ -154,7 +155,7 @@ public abstract class MZTabHeaderLineParser extends MZTabLineParser {
         nameLabel = nameLabel.trim();
 
         String regexp = MZTabConstants.REGEX_OPT_COLUMN_NAME;
-        Pattern pattern = Pattern.compile(regexp);
+        Pattern pattern = MZTabRegexRules.pattern(regexp);
         Matcher matcher = pattern.matcher(nameLabel);
 
         Integer id;
@@ -232,7 +233,7 @@ public abstract class MZTabHeaderLineParser extends MZTabLineParser {
         valueLabel = valueLabel.trim();
 
         String regexp = MZTabConstants.REGEX_CV_PARAM_OPT_COLUMN_NAME;
-        Pattern pattern = Pattern.compile(regexp);
+        Pattern pattern = MZTabRegexRules.pattern(regexp);
         Matcher matcher = pattern.matcher(valueLabel);
 
         Parameter param;
@@ -306,7 +307,7 @@ public abstract class MZTabHeaderLineParser extends MZTabLineParser {
     private String checkAbundanceSection(String abundanceHeader) throws MZTabException {
         abundanceHeader = abundanceHeader.trim().toLowerCase();
 
-        Pattern pattern = Pattern.compile(MZTabConstants.REGEX_ABUNDANCE_COLUMN_NAME);
+        Pattern pattern = MZTabRegexRules.pattern(MZTabConstants.REGEX_ABUNDANCE_COLUMN_NAME);
         Matcher matcher = pattern.matcher(abundanceHeader);
 
         if (matcher.find()) {
@@ -329,7 +330,7 @@ public abstract class MZTabHeaderLineParser extends MZTabLineParser {
     private void checkAbundanceAssayColumn(String abundanceHeader, String order) throws MZTabException {
         String valueLabel = checkAbundanceSection(abundanceHeader);
 
-        Pattern pattern = Pattern.compile(MZTabConstants.REGEX_ABUNDANCE_ASSAY_COLUMN_NAME);
+        Pattern pattern = MZTabRegexRules.pattern(MZTabConstants.REGEX_ABUNDANCE_ASSAY_COLUMN_NAME);
         Matcher matcher = pattern.matcher(valueLabel);
         if (!matcher.find()) {
             MZTabError error = new MZTabError(FormatErrorType.AbundanceColumn, lineNumber, abundanceHeader);
@@ -371,7 +372,7 @@ public abstract class MZTabHeaderLineParser extends MZTabLineParser {
     private StudyVariable checkAbundanceStudyVariableColumn(String abundanceHeader) throws MZTabException {
         String valueLabel = checkAbundanceSection(abundanceHeader);
 
-        Pattern pattern = Pattern.compile(MZTabConstants.REGEX_STUDY_VARIABLE_COLUMN_NAME);
+        Pattern pattern = MZTabRegexRules.pattern(MZTabConstants.REGEX_STUDY_VARIABLE_COLUMN_NAME);
         Matcher matcher = pattern.matcher(valueLabel);
         if (!matcher.find()) {
             MZTabError error = new MZTabError(FormatErrorType.AbundanceColumn, lineNumber, abundanceHeader);
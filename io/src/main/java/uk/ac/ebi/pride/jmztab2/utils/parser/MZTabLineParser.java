@@ -15,7 +15,6 @@
  */
 package uk.ac.ebi.pride.jmztab2.utils.parser;
 
-import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.TAB;
 import uk.ac.ebi.pride.jmztab2.model.Section;
 import uk.ac.ebi.pride.jmztab2.utils.errors.FormatErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError;
@@ -45,6 +44,11 @@ public class MZTabLineParser {
      */
     protected String[] items;
 
+    /**
+     * field offsets of the current line, reused for every line.
+     */
+    protected final TabTokenizer tokenizer = new TabTokenizer();
+
     protected final MZTabParserContext context;
     protected MZTabErrorList errorList;
     
@@ -74,15 +78,26 @@ public class MZTabLineParser {
         this.line = line;
         this.errorList = errorList == null ? new MZTabErrorList() : errorList;
 
-        this.items = line.split("\\s*" + TAB + "\\s*");
-        items[0] = items[0].trim();
-        items[items.length - 1] = items[items.length - 1].trim();
+        tokenizer.reset(line);
+        this.items = requiresItems() ? tokenizer.toArray() : null;
+        String prefix = tokenizer.size() == 0 ? "" : tokenizer.get(0);
 
-        section = Section.findSection(items[0]);
+        section = Section.findSection(prefix);
 
         if (section == null) {
-            MZTabError error = new MZTabError(FormatErrorType.LinePrefix, lineNumber, items[0]);
+            MZTabError error = new MZTabError(FormatErrorType.LinePrefix, lineNumber, prefix);
             this.errorList.add(error);
         }
     }
+
+    /**
+     * Whether {@link #items} should be populated for each parsed line.
+     * Subclasses that only access the fields via {@link #tokenizer} can
+     * return false to avoid creating a String for every field.
+     *
+     * @return true, if the items array is required.
+     */
+    protected boolean requiresItems() {
+        return true;
+    }
 }
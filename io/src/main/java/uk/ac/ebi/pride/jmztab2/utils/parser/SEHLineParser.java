@@ -28,6 +28,7 @@ import uk.ac.ebi.pride.jmztab2.model.IMZTabColumn;
 import uk.ac.ebi.pride.jmztab2.model.ISmallMoleculeColumn;
 import uk.ac.ebi.pride.jmztab2.model.MZTabColumnFactory;
 import uk.ac.ebi.pride.jmztab2.model.MZTabConstants;
+import uk.ac.ebi.pride.jmztab2.model.MZTabRegexRules;
 import uk.ac.ebi.pride.jmztab2.model.Section;
 import uk.ac.ebi.pride.jmztab2.model.SmallMoleculeEvidenceColumn;
 import uk.ac.ebi.pride.jmztab2.utils.errors.FormatErrorType;
@@ -110,7 +111,7 @@ public class SEHLineParser extends MZTabHeaderLineParser {
     private void checkIdConfidenceMeasure(String header) throws MZTabException {
         String valueLabel = header;
         
-        Pattern pattern = Pattern.compile(SmallMoleculeEvidence.Properties.idConfidenceMeasure.getPropertyName()+MZTabConstants.REGEX_INDEXED_VALUE);
+        Pattern pattern = MZTabRegexRules.pattern(SmallMoleculeEvidence.Properties.idConfidenceMeasure.getPropertyName()+MZTabConstants.REGEX_INDEXED_VALUE);
         Matcher matcher = pattern.matcher(valueLabel);
         if (!matcher.find()) {
             MZTabError error = new MZTabError(FormatErrorType.StableColumn, lineNumber, header);
@@ -166,4 +167,18 @@ public class SEHLineParser extends MZTabHeaderLineParser {
             }
         }
     }
+
+    /**
+     * Compiles the parsed small molecule evidence header into a dispatch table, which
+     * the {@link SMELineParser} uses to handle the cells of each data line by
+     * their physical position. Call this method once after
+     * {@link #parse(int, String, MZTabErrorList)} and share the table between
+     * all data line parsers of the section.
+     *
+     * @param positionMapping the position mapping of the header line.
+     * @return the dispatch table.
+     */
+    public ColumnDispatchTable<SMELineParser> compileDispatchTable(PositionMapping positionMapping) {
+        return SMELineParser.compile(factory, positionMapping);
+    }
 }
@@ -152,4 +152,18 @@ public class SFHLineParser extends MZTabHeaderLineParser {
             refineOptionalColumn(Section.Small_Molecule_Feature_Header, "abundance" + assayLabel);
         }
     }
+
+    /**
+     * Compiles the parsed small molecule feature header into a dispatch table, which
+     * the {@link SMFLineParser} uses to handle the cells of each data line by
+     * their physical position. Call this method once after
+     * {@link #parse(int, String, MZTabErrorList)} and share the table between
+     * all data line parsers of the section.
+     *
+     * @param positionMapping the position mapping of the header line.
+     * @return the dispatch table.
+     */
+    public ColumnDispatchTable<SMFLineParser> compileDispatchTable(PositionMapping positionMapping) {
+        return SMFLineParser.compile(factory, positionMapping);
+    }
 }
@@ -20,13 +20,13 @@ import org.lifstools.mztab2.model.OptColumnMapping;
 import org.lifstools.mztab2.model.SmallMoleculeEvidence;
 import uk.ac.ebi.pride.jmztab2.model.IMZTabColumn;
 import uk.ac.ebi.pride.jmztab2.model.ISmallMoleculeEvidenceColumn;
-import uk.ac.ebi.pride.jmztab2.model.MZBoolean;
 import uk.ac.ebi.pride.jmztab2.model.MZTabColumnFactory;
 import uk.ac.ebi.pride.jmztab2.model.MZTabConstants;
 import uk.ac.ebi.pride.jmztab2.model.OptionColumn;
 import uk.ac.ebi.pride.jmztab2.model.SmallMoleculeEvidenceColumn;
 import uk.ac.ebi.pride.jmztab2.model.SmallMoleculeEvidenceColumn.Stable;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.parser.ColumnDispatchTable.CellHandler;
 
 
 /**
@@ -38,6 +38,7 @@ import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
  */
 public class SMELineParser extends MZTabDataLineParser<SmallMoleculeEvidence> {
 
+    private final ColumnDispatchTable<SMELineParser> dispatchTable;
     private SmallMoleculeEvidence smallMoleculeEvidence;
 
     /**
@@ -51,103 +52,102 @@ public class SMELineParser extends MZTabDataLineParser<SmallMoleculeEvidence> {
      */
     public SMELineParser(MZTabParserContext context, MZTabColumnFactory factory, PositionMapping positionMapping,
                          Metadata metadata, MZTabErrorList errorList) {
-        super(context, factory, positionMapping, metadata, errorList);
+        this(context, compile(factory, positionMapping), metadata, errorList);
+    }
+
+    /**
+     * <p>Constructor for SMELineParser, using a header that was compiled with
+     * {@link #compile(MZTabColumnFactory, PositionMapping)}.</p>
+     *
+     * @param context a {@link uk.ac.ebi.pride.jmztab2.utils.parser.MZTabParserContext} object.
+     * @param dispatchTable the compiled small molecule evidence header.
+     * @param metadata a {@link org.lifstools.mztab2.model.Metadata} object.
+     * @param errorList a {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList} object.
+     */
+    public SMELineParser(MZTabParserContext context, ColumnDispatchTable<SMELineParser> dispatchTable,
+                         Metadata metadata, MZTabErrorList errorList) {
+        super(context, dispatchTable, metadata, errorList);
+        this.dispatchTable = dispatchTable;
+    }
+
+    /**
+     * Compiles the small molecule evidence header, given by the column factory
+     * and position mapping, into a dispatch table for the data lines.
+     *
+     * @param factory a {@link uk.ac.ebi.pride.jmztab2.model.MZTabColumnFactory} object.
+     * @param positionMapping a {@link uk.ac.ebi.pride.jmztab2.utils.parser.PositionMapping} object.
+     * @return the dispatch table.
+     */
+    public static ColumnDispatchTable<SMELineParser> compile(MZTabColumnFactory factory, PositionMapping positionMapping) {
+        return new ColumnDispatchTable<>(factory, positionMapping, SMELineParser::handlerFor);
+    }
+
+    private static CellHandler<SMELineParser> handlerFor(IMZTabColumn column) {
+        String columnName = column.getName();
+        if (column instanceof ISmallMoleculeEvidenceColumn) {
+            Stable stableColumn = SmallMoleculeEvidenceColumn.Stable.forName(columnName);
+            switch(stableColumn) {
+                case ADDUCT_ION:
+                    return (p, c, target) -> p.smallMoleculeEvidence.adductIon(p.checkString(c, target));
+                case CHARGE:
+                    return (p, c, target) -> p.smallMoleculeEvidence.charge(p.checkInteger(c,
+                        p.checkData(c, target, false)));
+                case CHEMICAL_FORMULA:
+                    return (p, c, target) -> p.smallMoleculeEvidence.chemicalFormula(p.checkString(c, target));
+                case CHEMICAL_NAME:
+                    return (p, c, target) -> p.smallMoleculeEvidence.chemicalName(p.checkString(c, target));
+                case DATABASE_IDENTIFIER:
+                    return (p, c, target) -> p.smallMoleculeEvidence.databaseIdentifier(p.checkString(c, target, true));
+                case DERIVATIZED_FORM:
+                    return (p, c, target) -> p.smallMoleculeEvidence.derivatizedForm(p.checkParameter(c, target, true));
+                case EVIDENCE_INPUT_ID:
+                    return (p, c, target) -> p.smallMoleculeEvidence.evidenceInputId(p.checkString(c, target, false));
+                case EXP_MASS_TO_CHARGE:
+                    return (p, c, target) -> p.smallMoleculeEvidence.expMassToCharge(p.checkDouble(c, target, false));
+                case IDENTIFICATION_METHOD:
+                    return (p, c, target) -> p.smallMoleculeEvidence.identificationMethod(p.checkParameter(c, target, false));
+                case INCHI:
+                    return (p, c, target) -> p.smallMoleculeEvidence.inchi(p.checkString(c, target));
+                case MS_LEVEL:
+                    return (p, c, target) -> p.smallMoleculeEvidence.msLevel(p.checkParameter(c, target, false));
+                case RANK:
+                    return (p, c, target) -> p.smallMoleculeEvidence.rank(p.checkInteger(c, target, false));
+                case SME_ID:
+                    return (p, c, target) -> p.smallMoleculeEvidence.smeId(p.checkInteger(c, target, false));
+                case SMILES:
+                    return (p, c, target) -> p.smallMoleculeEvidence.smiles(p.checkString(c, target));
+                case SPECTRA_REF:
+                    return (p, c, target) -> p.smallMoleculeEvidence.spectraRef(p.checkSpectraRef(p.context, c, target, false));
+                case THEORETICAL_MASS_TO_CHARGE:
+                    return (p, c, target) -> p.smallMoleculeEvidence.theoreticalMassToCharge(p.checkDouble(c, target, false));
+                case URI:
+                    return (p, c, target) -> p.smallMoleculeEvidence.uri(p.checkURI(c, target));
+                default:
+                    return null;
+            }
+        } else if (column instanceof OptionColumn) {
+            if (columnName.startsWith(MZTabConstants.OPT_PREFIX)) {
+                return optColumnHandler(column, (SMELineParser p, OptColumnMapping optColMapping) ->
+                    p.smallMoleculeEvidence.addOptItem(optColMapping));
+            }
+        } else if (columnName.equals(SmallMoleculeEvidence.Properties.idConfidenceMeasure.getPropertyName())) {
+            return (p, c, target) -> p.smallMoleculeEvidence.addIdConfidenceMeasureItem(p.checkDouble(c, target));
+        }
+        return null;
     }
 
     /** {@inheritDoc} */
     @Override
     protected int checkData() {
 
-        IMZTabColumn column;
-        String columnName;
-        String target;
+        CellHandler<SMELineParser> handler;
         int physicalPosition;
-        String logicalPosition;
         smallMoleculeEvidence = new SmallMoleculeEvidence();
 
-        for (physicalPosition = 1; physicalPosition < items.length; physicalPosition++) {
-            logicalPosition = positionMapping.get(physicalPosition);
-            column = factory.getColumnMapping().get(logicalPosition);
-
-            if (column != null) {
-                columnName = column.getName();
-                target = items[physicalPosition];
-                if (column instanceof ISmallMoleculeEvidenceColumn) {
-                    Stable stableColumn = SmallMoleculeEvidenceColumn.Stable.forName(columnName);
-                    switch(stableColumn) {
-                        case ADDUCT_ION:
-                            smallMoleculeEvidence.adductIon(checkString(column,
-                                target));
-                            break;
-                        case CHARGE:
-                            smallMoleculeEvidence.charge(checkInteger(column,
-                                checkData(column, target, false)));
-                            break;
-                        case CHEMICAL_FORMULA:
-                            smallMoleculeEvidence.chemicalFormula(
-                                checkString(column, target));
-                            break;
-                        case CHEMICAL_NAME:
-                            smallMoleculeEvidence.chemicalName(checkString(column, target));
-                            break;
-                        case DATABASE_IDENTIFIER:
-                            smallMoleculeEvidence.databaseIdentifier(checkString(column, target, true));
-                            break;
-                        case DERIVATIZED_FORM:
-                            smallMoleculeEvidence.derivatizedForm(checkParameter(column, target, true));
-                            break;
-                        case EVIDENCE_INPUT_ID:
-                            smallMoleculeEvidence.evidenceInputId(checkString(column, target, false));
-                            break;
-                        case EXP_MASS_TO_CHARGE:
-                            smallMoleculeEvidence.expMassToCharge(checkDouble(column, target, false));
-                            break;
-                        case IDENTIFICATION_METHOD:
-                            smallMoleculeEvidence.identificationMethod(checkParameter(column, target, false));
-                            break;
-                        case INCHI:
-                            smallMoleculeEvidence.inchi(checkString(column, target));
-                            break;
-                        case MS_LEVEL:
-                            smallMoleculeEvidence.msLevel(checkParameter(column, target, false));
-                            break;
-                        case RANK:
-                            smallMoleculeEvidence.rank(checkInteger(column, target, false));
-                            break;
-                        case SME_ID:
-                            smallMoleculeEvidence.smeId(checkInteger(column, target, false));
-                            break;
-                        case SMILES:
-                            smallMoleculeEvidence.smiles(checkString(column, target));
-                            break;
-                        case SPECTRA_REF:
-                            smallMoleculeEvidence.spectraRef(checkSpectraRef(context, column, target, false));
-                            break;
-                        case THEORETICAL_MASS_TO_CHARGE:
-                            smallMoleculeEvidence.theoreticalMassToCharge(checkDouble(column, target, false));
-                            break;
-                        case URI:
-                            smallMoleculeEvidence.uri(checkURI(column, target));
-                            break;
-                    }
-
-                } else if (column instanceof OptionColumn) {
-                   if (columnName.startsWith(MZTabConstants.OPT_PREFIX)) {
-                        Class dataType = column.getDataType();
-                        OptColumnMapping optColMapping = new OptColumnMapping();
-                        optColMapping.identifier(columnName.substring(MZTabConstants.OPT_PREFIX.length()));
-                        if (dataType.equals(String.class)) {
-                            optColMapping.value(checkString(column, target));
-                        } else if (dataType.equals(Double.class)) {
-                            optColMapping.value(Double.toString(checkDouble(column, target)));
-                        } else if (dataType.equals(MZBoolean.class)) {
-                            optColMapping.value(Boolean.toString(checkMZBoolean(column, target).toBoolean()));
-                        }
-                        smallMoleculeEvidence.addOptItem(optColMapping);
-                   }
-                } else if (column.getName().equals(SmallMoleculeEvidence.Properties.idConfidenceMeasure.getPropertyName())) {
-                    smallMoleculeEvidence.addIdConfidenceMeasureItem(checkDouble(column, target));
-                }
+        for (physicalPosition = 1; physicalPosition < tokenizer.size(); physicalPosition++) {
+            handler = dispatchTable.getHandler(physicalPosition);
+            if (handler != null) {
+                handler.handle(this, dispatchTable.getColumn(physicalPosition), tokenizer.get(physicalPosition));
             }
         }
 
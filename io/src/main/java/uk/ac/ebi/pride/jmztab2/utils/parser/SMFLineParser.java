@@ -20,20 +20,18 @@ import org.lifstools.mztab2.model.OptColumnMapping;
 import org.lifstools.mztab2.model.SmallMoleculeFeature;
 import java.util.Arrays;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import uk.ac.ebi.pride.jmztab2.model.AbundanceColumn;
 import uk.ac.ebi.pride.jmztab2.model.IMZTabColumn;
 import uk.ac.ebi.pride.jmztab2.model.ISmallMoleculeFeatureColumn;
-import uk.ac.ebi.pride.jmztab2.model.MZBoolean;
 import uk.ac.ebi.pride.jmztab2.model.MZTabColumnFactory;
 import uk.ac.ebi.pride.jmztab2.model.MZTabConstants;
+import uk.ac.ebi.pride.jmztab2.model.MZTabRegexRules;
 import uk.ac.ebi.pride.jmztab2.model.OptionColumn;
 import uk.ac.ebi.pride.jmztab2.model.SmallMoleculeFeatureColumn;
 import uk.ac.ebi.pride.jmztab2.model.SmallMoleculeFeatureColumn.Stable;
 import uk.ac.ebi.pride.jmztab2.utils.errors.FormatErrorType;
-import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.parser.ColumnDispatchTable.CellHandler;
 
 /**
  * <p>
@@ -45,6 +43,7 @@ import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
  */
 public class SMFLineParser extends MZTabDataLineParser<SmallMoleculeFeature> {
 
+    private final ColumnDispatchTable<SMFLineParser> dispatchTable;
     private SmallMoleculeFeature smallMoleculeFeature;
 
     /**
@@ -64,7 +63,113 @@ public class SMFLineParser extends MZTabDataLineParser<SmallMoleculeFeature> {
     public SMFLineParser(MZTabParserContext context, MZTabColumnFactory factory,
         PositionMapping positionMapping,
         Metadata metadata, MZTabErrorList errorList) {
-        super(context, factory, positionMapping, metadata, errorList);
+        this(context, compile(factory, positionMapping), metadata, errorList);
+    }
+
+    /**
+     * Constructor for SMFLineParser, using a header that was compiled with
+     * {@link #compile(MZTabColumnFactory, PositionMapping)}.
+     *
+     * @param context a
+     * {@link uk.ac.ebi.pride.jmztab2.utils.parser.MZTabParserContext} object.
+     * @param dispatchTable the compiled small molecule feature header.
+     * @param metadata a {@link org.lifstools.mztab2.model.Metadata} object.
+     * @param errorList a
+     * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList} object.
+     */
+    public SMFLineParser(MZTabParserContext context,
+        ColumnDispatchTable<SMFLineParser> dispatchTable,
+        Metadata metadata, MZTabErrorList errorList) {
+        super(context, dispatchTable, metadata, errorList);
+        this.dispatchTable = dispatchTable;
+    }
+
+    /**
+     * Compiles the small molecule feature header, given by the column factory
+     * and position mapping, into a dispatch table for the data lines.
+     *
+     * @param factory a {@link uk.ac.ebi.pride.jmztab2.model.MZTabColumnFactory}
+     * object.
+     * @param positionMapping a
+     * {@link uk.ac.ebi.pride.jmztab2.utils.parser.PositionMapping} object.
+     * @return the dispatch table.
+     */
+    public static ColumnDispatchTable<SMFLineParser> compile(
+        MZTabColumnFactory factory, PositionMapping positionMapping) {
+        return new ColumnDispatchTable<>(factory, positionMapping,
+            SMFLineParser::handlerFor);
+    }
+
+    private static CellHandler<SMFLineParser> handlerFor(IMZTabColumn column) {
+        String columnName = column.getName();
+        if (column instanceof ISmallMoleculeFeatureColumn) {
+            Stable stableColumn = SmallMoleculeFeatureColumn.Stable.
+                forName(columnName);
+            switch (stableColumn) {
+                case ADDUCT_ION:
+                    return (p, c, target) -> {
+                        String adductIon = p.checkString(c, target);
+                        p.checkRegexMatches(p.errorList, p.lineNumber,
+                            SmallMoleculeFeature.Properties.adductIon,
+                            MZTabConstants.REGEX_ADDUCT, Arrays.asList(
+                                adductIon));
+                        p.smallMoleculeFeature.adductIon(adductIon);
+                    };
+                case CHARGE:
+                    return (p, c, target) ->
+                        p.smallMoleculeFeature.charge(p.checkInteger(c,
+                            p.checkData(c, target, true)));
+                case EXP_MASS_TO_CHARGE:
+                    return (p, c, target) ->
+                        p.smallMoleculeFeature.expMassToCharge(
+                            p.checkDouble(c, p.checkData(c, target, false)));
+                case ISOTOPOMER:
+                    return (p, c, target) ->
+                        p.smallMoleculeFeature.isotopomer(
+                            p.checkParameter(c, target, true));
+                case RETENTION_TIME_IN_SECONDS:
+                    return (p, c, target) ->
+                        p.smallMoleculeFeature.retentionTimeInSeconds(
+                            p.checkDouble(c, target));
+                case RETENTION_TIME_IN_SECONDS_END:
+                    return (p, c, target) ->
+                        p.smallMoleculeFeature.retentionTimeInSecondsEnd(
+                            p.checkDouble(c, target));
+                case RETENTION_TIME_IN_SECONDS_START:
+                    return (p, c, target) ->
+                        p.smallMoleculeFeature.retentionTimeInSecondsStart(
+                            p.checkDouble(c, target));
+                case SME_ID_REFS:
+                    return (p, c, target) ->
+                        p.smallMoleculeFeature.smeIdRefs(
+                            p.checkIntegerList(c, target, MZTabConstants.BAR));
+                case SME_ID_REF_AMBIGUITY_CODE:
+                    return (p, c, target) ->
+                        p.smallMoleculeFeature.smeIdRefAmbiguityCode(
+                            p.checkInteger(c, target));
+                case SMF_ID:
+                    return (p, c, target) ->
+                        p.smallMoleculeFeature.smfId(p.checkInteger(c,
+                            p.checkData(c, target, false)));
+                default:
+                    return null;
+            }
+        } else if (column instanceof AbundanceColumn) {
+            if (columnName.startsWith(
+                SmallMoleculeFeature.Properties.abundanceAssay.
+                    getPropertyName())) {
+                return (p, c, target) ->
+                    p.smallMoleculeFeature.addAbundanceAssayItem(
+                        p.checkDouble(c, target));
+            }
+        } else if (column instanceof OptionColumn) {
+            if (columnName.startsWith(MZTabConstants.OPT_PREFIX)) {
+                return optColumnHandler(column, (SMFLineParser p,
+                    OptColumnMapping optColMapping) ->
+                    p.smallMoleculeFeature.addOptItem(optColMapping));
+            }
+        }
+        return null;
     }
 
     /**
@@ -73,103 +178,15 @@ public class SMFLineParser extends MZTabDataLineParser<SmallMoleculeFeature> {
     @Override
     protected int checkData() {
 
-        IMZTabColumn column;
-        String columnName;
-        String target;
+        CellHandler<SMFLineParser> handler;
         int physicalPosition;
-        String logicalPosition;
         smallMoleculeFeature = new SmallMoleculeFeature();
 
-        for (physicalPosition = 1; physicalPosition < items.length; physicalPosition++) {
-            logicalPosition = positionMapping.get(physicalPosition);
-            column = factory.getColumnMapping().
-                get(logicalPosition);
-
-            if (column != null) {
-                columnName = column.getName();
-                target = items[physicalPosition];
-                if (column instanceof ISmallMoleculeFeatureColumn) {
-                    Stable stableColumn = SmallMoleculeFeatureColumn.Stable.
-                        forName(columnName);
-                    switch (stableColumn) {
-                        case ADDUCT_ION:
-                            String adductIon = checkString(column,
-                                target);
-                            checkRegexMatches(errorList, lineNumber,
-                                SmallMoleculeFeature.Properties.adductIon,
-                                MZTabConstants.REGEX_ADDUCT, Arrays.asList(
-                                    adductIon));
-                            smallMoleculeFeature.adductIon(adductIon);
-                            break;
-                        case CHARGE:
-                            smallMoleculeFeature.charge(checkInteger(column,
-                                checkData(column, target, true)));
-                            break;
-                        case EXP_MASS_TO_CHARGE:
-                            smallMoleculeFeature.expMassToCharge(
-                                checkDouble(column, checkData(column, target,
-                                    false)));
-                            break;
-                        case ISOTOPOMER:
-                            smallMoleculeFeature.isotopomer(checkParameter(
-                                column, target, true));
-                            break;
-                        case RETENTION_TIME_IN_SECONDS:
-                            smallMoleculeFeature.retentionTimeInSeconds(
-                                checkDouble(
-                                    column, target));
-                            break;
-                        case RETENTION_TIME_IN_SECONDS_END:
-                            smallMoleculeFeature.retentionTimeInSecondsEnd(
-                                checkDouble(
-                                    column, target));
-                            break;
-                        case RETENTION_TIME_IN_SECONDS_START:
-                            smallMoleculeFeature.retentionTimeInSecondsStart(
-                                checkDouble(
-                                    column, target));
-                            break;
-                        case SME_ID_REFS:
-                            smallMoleculeFeature.smeIdRefs(checkIntegerList(
-                                column, target, MZTabConstants.BAR));
-                            break;
-                        case SME_ID_REF_AMBIGUITY_CODE:
-                            smallMoleculeFeature.smeIdRefAmbiguityCode(
-                                checkInteger(
-                                    column, target));
-                            break;
-                        case SMF_ID:
-                            smallMoleculeFeature.smfId(checkInteger(
-                                column, checkData(column, target, false)));
-                            break;
-                    }
-
-                } else if (column instanceof AbundanceColumn) {
-                    if (columnName.startsWith(
-                        SmallMoleculeFeature.Properties.abundanceAssay.
-                            getPropertyName())) {
-                        smallMoleculeFeature.addAbundanceAssayItem(checkDouble(
-                            column, target));
-                    }
-                } else if (column instanceof OptionColumn) {
-                    if (columnName.startsWith(MZTabConstants.OPT_PREFIX)) {
-                        Class dataType = column.getDataType();
-                        OptColumnMapping optColMapping = new OptColumnMapping();
-                        optColMapping.identifier(columnName.substring(
-                            MZTabConstants.OPT_PREFIX.length()));
-                        if (dataType.equals(String.class)) {
-                            optColMapping.value(checkString(column, target));
-                        } else if (dataType.equals(Double.class)) {
-                            optColMapping.value(Double.toString(checkDouble(
-                                column, target)));
-                        } else if (dataType.equals(MZBoolean.class)) {
-                            optColMapping.value(Boolean.toString(checkMZBoolean(
-                                column, target).
-                                toBoolean()));
-                        }
-                        smallMoleculeFeature.addOptItem(optColMapping);
-                    }
-                }
+        for (physicalPosition = 1; physicalPosition < tokenizer.size(); physicalPosition++) {
+            handler = dispatchTable.getHandler(physicalPosition);
+            if (handler != null) {
+                handler.handle(this, dispatchTable.getColumn(physicalPosition),
+                    tokenizer.get(physicalPosition));
             }
         }
 
@@ -180,17 +197,17 @@ public class SMFLineParser extends MZTabDataLineParser<SmallMoleculeFeature> {
         SmallMoleculeFeature.Properties elementProperty,
         String regularExpression, List<String> elements) {
         if (!elements.isEmpty()) {
-            Pattern p = Pattern.compile(regularExpression);
+            MZTabRegexRules.Rule rule = MZTabRegexRules.rule(
+                regularExpression);
             for (int i = 0; i < elements.size(); i++) {
                 String element = elements.get(i);
                 if (!"null".equals(element)) {
-                    Matcher m = p.matcher(element);
-                    if (!m.matches()) {
-                        errorList.add(new MZTabError(
+                    if (!rule.matches(element)) {
+                        errorList.add(
                             FormatErrorType.RegexMismatch,
                             lineNumber, elementProperty.getPropertyName(),
                             element,
-                            "" + (i + 1), regularExpression));
+                            "" + (i + 1), regularExpression);
                     }
                 }
             }
@@ -147,7 +147,7 @@ public class SMHLineParser extends MZTabHeaderLineParser {
             new MZTabException(new MZTabError(LogicalErrorType.NoSmallMoleculeQuantificationUnit, lineNumber)));
 
         if (metadata.getSmallMoleculeIdentificationReliability() == null) {
-            errorList.add(new MZTabError(LogicalErrorType.NoSmallMoleculeIdentificationReliability, lineNumber));
+            errorList.add(LogicalErrorType.NoSmallMoleculeIdentificationReliability, lineNumber);
         }
         for (StudyVariable studyVariable : metadata.getStudyVariable()) {
             String svLabel = "_"+Metadata.Properties.studyVariable+"[" + studyVariable.getId() + "]";
@@ -159,4 +159,18 @@ public class SMHLineParser extends MZTabHeaderLineParser {
             refineOptionalColumn(Section.Small_Molecule_Header, "abundance" + assayLabel);
         }
     }
+
+    /**
+     * Compiles the parsed small molecule header into a dispatch table, which
+     * the {@link SMLLineParser} uses to handle the cells of each data line by
+     * their physical position. Call this method once after
+     * {@link #parse(int, String, MZTabErrorList)} and share the table between
+     * all data line parsers of the section.
+     *
+     * @param positionMapping the position mapping of the header line.
+     * @return the dispatch table.
+     */
+    public ColumnDispatchTable<SMLLineParser> compileDispatchTable(PositionMapping positionMapping) {
+        return SMLLineParser.compile(factory, positionMapping);
+    }
 }
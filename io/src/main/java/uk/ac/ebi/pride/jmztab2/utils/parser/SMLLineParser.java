@@ -19,21 +19,19 @@ import org.lifstools.mztab2.model.Metadata;
 import org.lifstools.mztab2.model.OptColumnMapping;
 import org.lifstools.mztab2.model.SmallMoleculeSummary;
 import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import uk.ac.ebi.pride.jmztab2.model.AbundanceColumn;
 import uk.ac.ebi.pride.jmztab2.model.IMZTabColumn;
 import uk.ac.ebi.pride.jmztab2.model.ISmallMoleculeColumn;
-import uk.ac.ebi.pride.jmztab2.model.MZBoolean;
 import uk.ac.ebi.pride.jmztab2.model.MZTabColumnFactory;
 import uk.ac.ebi.pride.jmztab2.model.MZTabConstants;
+import uk.ac.ebi.pride.jmztab2.model.MZTabRegexRules;
 import uk.ac.ebi.pride.jmztab2.model.OptionColumn;
 import uk.ac.ebi.pride.jmztab2.model.SmallMoleculeColumn;
 import uk.ac.ebi.pride.jmztab2.utils.errors.FormatErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.errors.LogicalErrorType;
-import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorOverflowException;
+import uk.ac.ebi.pride.jmztab2.utils.parser.ColumnDispatchTable.CellHandler;
 
 /**
  * <p>
@@ -46,6 +44,7 @@ import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorOverflowException;
  */
 public class SMLLineParser extends MZTabDataLineParser<SmallMoleculeSummary> {
 
+    private final ColumnDispatchTable<SMLLineParser> dispatchTable;
     private SmallMoleculeSummary smallMoleculeSummary;
 
     /**
@@ -65,7 +64,138 @@ public class SMLLineParser extends MZTabDataLineParser<SmallMoleculeSummary> {
     public SMLLineParser(MZTabParserContext context, MZTabColumnFactory factory,
         PositionMapping positionMapping,
         Metadata metadata, MZTabErrorList errorList) {
-        super(context, factory, positionMapping, metadata, errorList);
+        this(context, compile(factory, positionMapping), metadata, errorList);
+    }
+
+    /**
+     * Constructor for SMLLineParser, using a header that was compiled with
+     * {@link #compile(MZTabColumnFactory, PositionMapping)}.
+     *
+     * @param context a
+     * {@link uk.ac.ebi.pride.jmztab2.utils.parser.MZTabParserContext} object.
+     * @param dispatchTable the compiled small molecule header.
+     * @param metadata a {@link org.lifstools.mztab2.model.Metadata} object.
+     * @param errorList a
+     * {@link uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList} object.
+     */
+    public SMLLineParser(MZTabParserContext context,
+        ColumnDispatchTable<SMLLineParser> dispatchTable,
+        Metadata metadata, MZTabErrorList errorList) {
+        super(context, dispatchTable, metadata, errorList);
+        this.dispatchTable = dispatchTable;
+    }
+
+    /**
+     * Compiles the small molecule header, given by the column factory and
+     * position mapping, into a dispatch table for the data lines.
+     *
+     * @param factory a {@link uk.ac.ebi.pride.jmztab2.model.MZTabColumnFactory}
+     * object.
+     * @param positionMapping a
+     * {@link uk.ac.ebi.pride.jmztab2.utils.parser.PositionMapping} object.
+     * @return the dispatch table.
+     */
+    public static ColumnDispatchTable<SMLLineParser> compile(
+        MZTabColumnFactory factory, PositionMapping positionMapping) {
+        return new ColumnDispatchTable<>(factory, positionMapping,
+            SMLLineParser::handlerFor);
+    }
+
+    private static CellHandler<SMLLineParser> handlerFor(IMZTabColumn column) {
+        String columnName = column.getName();
+        if (column instanceof ISmallMoleculeColumn) {
+            SmallMoleculeColumn.Stable stableColumn = SmallMoleculeColumn.Stable.
+                forName(columnName);
+            switch (stableColumn) {
+                case ADDUCT_IONS:
+                    return (p, c, target) -> {
+                        List<String> adductIons = p.checkStringList(
+                            c, target, MZTabConstants.BAR);
+                        p.checkRegexMatches(p.errorList, p.lineNumber,
+                            SmallMoleculeSummary.Properties.adductIons,
+                            MZTabConstants.REGEX_ADDUCT, adductIons);
+                        p.smallMoleculeSummary.adductIons(adductIons);
+                    };
+                case BEST_ID_CONFIDENCE_MEASURE:
+                    return (p, c, target) ->
+                        p.smallMoleculeSummary.bestIdConfidenceMeasure(
+                            p.checkParameter(c, target, true));
+                case BEST_ID_CONFIDENCE_VALUE:
+                    return (p, c, target) ->
+                        p.smallMoleculeSummary.bestIdConfidenceValue(
+                            p.checkDouble(c, target));
+                case CHEMICAL_FORMULA:
+                    return (p, c, target) ->
+                        p.smallMoleculeSummary.chemicalFormula(
+                            p.checkStringList(c, target, MZTabConstants.BAR));
+                case CHEMICAL_NAME:
+                    return (p, c, target) ->
+                        p.smallMoleculeSummary.chemicalName(
+                            p.checkStringList(c, target, MZTabConstants.BAR));
+                case DATABASE_IDENTIFIER:
+                    return (p, c, target) ->
+                        p.smallMoleculeSummary.databaseIdentifier(
+                            p.checkStringList(c, target, MZTabConstants.BAR));
+                case INCHI:
+                    return (p, c, target) ->
+                        p.smallMoleculeSummary.inchi(
+                            p.checkStringList(c, target, MZTabConstants.BAR));
+                case RELIABILITY:
+                    return (p, c, target) ->
+                        p.smallMoleculeSummary.reliability(
+                            p.checkString(c, target, false));
+                case SMF_ID_REFS:
+                    return (p, c, target) ->
+                        p.smallMoleculeSummary.smfIdRefs(
+                            p.checkIntegerList(c, target, MZTabConstants.BAR));
+                case SMILES:
+                    return (p, c, target) ->
+                        p.smallMoleculeSummary.smiles(
+                            p.checkSmiles(c, target));
+                case SML_ID:
+                    return (p, c, target) ->
+                        p.smallMoleculeSummary.smlId(
+                            p.checkInteger(c, target, false));
+                case THEOR_NEUTRAL_MASS:
+                    return (p, c, target) ->
+                        p.smallMoleculeSummary.theoreticalNeutralMass(
+                            p.checkDoubleList(c, target));
+                case URI:
+                    return (p, c, target) ->
+                        p.smallMoleculeSummary.uri(
+                            p.checkUriList(c, target, MZTabConstants.BAR));
+                default:
+                    return null;
+            }
+        } else if (column instanceof AbundanceColumn) {
+            if (columnName.startsWith(
+                SmallMoleculeSummary.Properties.abundanceAssay.
+                    getPropertyName())) {
+                return (p, c, target) ->
+                    p.smallMoleculeSummary.addAbundanceAssayItem(
+                        p.checkDouble(c, target));
+            } else if (columnName.startsWith(
+                SmallMoleculeSummary.Properties.abundanceStudyVariable.
+                    getPropertyName())) {
+                return (p, c, target) ->
+                    p.smallMoleculeSummary.addAbundanceStudyVariableItem(
+                        p.checkDouble(c, target));
+            } else if (columnName.startsWith(
+                SmallMoleculeSummary.Properties.abundanceVariationStudyVariable.
+                    getPropertyName())) {
+                return (p, c, target) ->
+                    p.smallMoleculeSummary.
+                        addAbundanceVariationStudyVariableItem(
+                            p.checkDouble(c, target));
+            }
+        } else if (column instanceof OptionColumn) {
+            if (columnName.startsWith(MZTabConstants.OPT_PREFIX)) {
+                return optColumnHandler(column, (SMLLineParser p,
+                    OptColumnMapping optColMapping) ->
+                    p.smallMoleculeSummary.addOptItem(optColMapping));
+            }
+        }
+        return null;
     }
 
     /**
@@ -74,124 +204,15 @@ public class SMLLineParser extends MZTabDataLineParser<SmallMoleculeSummary> {
     @Override
     protected int checkData() {
 
-        IMZTabColumn column;
-        String columnName;
-        String target;
+        CellHandler<SMLLineParser> handler;
         int physicalPosition;
-        String logicalPosition;
         smallMoleculeSummary = new SmallMoleculeSummary();
 
-        for (physicalPosition = 1; physicalPosition < items.length; physicalPosition++) {
-            logicalPosition = positionMapping.get(physicalPosition);
-            column = factory.getColumnMapping().
-                get(logicalPosition);
-
-            if (column != null) {
-                columnName = column.getName();
-                target = items[physicalPosition];
-                if (column instanceof ISmallMoleculeColumn) {
-                    SmallMoleculeColumn.Stable stableColumn = SmallMoleculeColumn.Stable.
-                        forName(columnName);
-                    switch (stableColumn) {
-                        case ADDUCT_IONS:
-                            List<String> adductIons = checkStringList(
-                                column, target, MZTabConstants.BAR);
-                            checkRegexMatches(errorList, lineNumber,
-                                SmallMoleculeSummary.Properties.adductIons,
-                                MZTabConstants.REGEX_ADDUCT, adductIons);
-                            smallMoleculeSummary.adductIons(adductIons);
-                            break;
-                        case BEST_ID_CONFIDENCE_MEASURE:
-                            smallMoleculeSummary.bestIdConfidenceMeasure(
-                                checkParameter(column, target, true));
-                            break;
-                        case BEST_ID_CONFIDENCE_VALUE:
-                            smallMoleculeSummary.bestIdConfidenceValue(
-                                checkDouble(column, target));
-                            break;
-                        case CHEMICAL_FORMULA:
-                            smallMoleculeSummary.chemicalFormula(
-                                checkStringList(column, target,
-                                    MZTabConstants.BAR));
-                            break;
-                        case CHEMICAL_NAME:
-                            smallMoleculeSummary.chemicalName(checkStringList(
-                                column, target, MZTabConstants.BAR));
-                            break;
-                        case DATABASE_IDENTIFIER:
-                            smallMoleculeSummary.databaseIdentifier(
-                                checkStringList(column, target,
-                                    MZTabConstants.BAR));
-                            break;
-                        case INCHI:
-                            smallMoleculeSummary.inchi(checkStringList(column,
-                                target, MZTabConstants.BAR));
-                            break;
-                        case RELIABILITY:
-                            smallMoleculeSummary.reliability(checkString(column,
-                                target, false));
-                            break;
-                        case SMF_ID_REFS:
-                            smallMoleculeSummary.smfIdRefs(checkIntegerList(
-                                column, target, MZTabConstants.BAR));
-                            break;
-                        case SMILES:
-                            smallMoleculeSummary.smiles(checkSmiles(column,
-                                target));
-                            break;
-                        case SML_ID:
-                            smallMoleculeSummary.smlId(checkInteger(column,
-                                target, false));
-                            break;
-                        case THEOR_NEUTRAL_MASS:
-                            smallMoleculeSummary.theoreticalNeutralMass(
-                                checkDoubleList(column, target));
-                            break;
-                        case URI:
-                            smallMoleculeSummary.uri(
-                                checkUriList(column, target,
-                                    MZTabConstants.BAR));
-                            break;
-
-                    }
-
-                } else if (column instanceof AbundanceColumn) {
-                    if (columnName.startsWith(
-                        SmallMoleculeSummary.Properties.abundanceAssay.
-                            getPropertyName())) {
-                        smallMoleculeSummary.addAbundanceAssayItem(checkDouble(
-                            column, target));
-                    } else if (columnName.startsWith(
-                        SmallMoleculeSummary.Properties.abundanceStudyVariable.
-                            getPropertyName())) {
-                        smallMoleculeSummary.addAbundanceStudyVariableItem(
-                            checkDouble(column, target));
-                    } else if (columnName.startsWith(
-                        SmallMoleculeSummary.Properties.abundanceVariationStudyVariable.
-                            getPropertyName())) {
-                        smallMoleculeSummary.
-                            addAbundanceVariationStudyVariableItem(checkDouble(
-                                column, target));
-                    }
-                } else if (column instanceof OptionColumn) {
-                    if (columnName.startsWith(MZTabConstants.OPT_PREFIX)) {
-                        Class dataType = column.getDataType();
-                        OptColumnMapping optColMapping = new OptColumnMapping();
-                        optColMapping.identifier(columnName.substring(
-                            MZTabConstants.OPT_PREFIX.length()));
-                        if (dataType.equals(String.class)) {
-                            optColMapping.value(checkString(column, target));
-                        } else if (dataType.equals(Double.class)) {
-                            optColMapping.value(Double.toString(checkDouble(
-                                column, target)));
-                        } else if (dataType.equals(MZBoolean.class)) {
-                            optColMapping.value(Boolean.toString(checkMZBoolean(
-                                column, target).
-                                toBoolean()));
-                        }
-                        smallMoleculeSummary.addOptItem(optColMapping);
-                    }
-                }
+        for (physicalPosition = 1; physicalPosition < tokenizer.size(); physicalPosition++) {
+            handler = dispatchTable.getHandler(physicalPosition);
+            if (handler != null) {
+                handler.handle(this, dispatchTable.getColumn(physicalPosition),
+                    tokenizer.get(physicalPosition));
             }
         }
 
@@ -232,15 +253,15 @@ public class SMLLineParser extends MZTabDataLineParser<SmallMoleculeSummary> {
         SmallMoleculeSummary.Properties elementProperty,
         String regularExpression, List<String> elements) {
         if (!elements.isEmpty()) {
-            Pattern p = Pattern.compile(regularExpression);
+            MZTabRegexRules.Rule rule = MZTabRegexRules.rule(
+                regularExpression);
             for (int i = 0; i < elements.size(); i++) {
                 String element = elements.get(i);
                 if(!"null".equals(element)) {
-                    Matcher m = p.matcher(element);
-                    if (!m.matches()) {
-                        errorList.add(new MZTabError(FormatErrorType.RegexMismatch,
+                    if (!rule.matches(element)) {
+                        errorList.add(FormatErrorType.RegexMismatch,
                             lineNumber, elementProperty.getPropertyName(), element,
-                            "" + (i + 1), regularExpression));
+                            "" + (i + 1), regularExpression);
                     }
                 }
             }
@@ -251,12 +272,17 @@ public class SMLLineParser extends MZTabDataLineParser<SmallMoleculeSummary> {
     protected void checkItemNumbers(MZTabErrorList errorList, int lineNumber,
         List<?> reference, SmallMoleculeSummary.Properties referenceProperty,
         List<?> toCheck, SmallMoleculeSummary.Properties toCheckProperty) throws MZTabErrorOverflowException {
+        if (!dispatchTable.isSelected(referenceProperty.getPropertyName())
+            || !dispatchTable.isSelected(toCheckProperty.getPropertyName())) {
+            // one of the columns was not read
+            return;
+        }
         //check that array types have same element number
         if (!toCheck.isEmpty() && reference.size() != toCheck.size()) {
-            errorList.add(new MZTabError(LogicalErrorType.ItemNumberMismatch,
+            errorList.add(LogicalErrorType.ItemNumberMismatch,
                 lineNumber, toCheckProperty.getPropertyName(), "" + toCheck.
                 size(), referenceProperty.getPropertyName(), "" + reference.
-                size()));
+                size());
         }
     }
 
@@ -0,0 +1,261 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.utils.parser;
+
+import java.util.Arrays;
+
+/**
+ * Reusable, index based tokenizer for tab separated mzTab lines.
+ *
+ * The tokenizer records the start and end offsets of each field of the
+ * current line, without running a regular expression and without creating a
+ * String object per field. Field values are only created on access with
+ * {@link #get(int)}, so that callers pay only for the fields that they
+ * actually use. The offset arrays grow with the widest line seen and are then
+ * reused for all following lines.
+ *
+ * The field boundaries are identical to those of
+ * <code>line.split("\\s*\t\\s*")</code> with the first and last field trimmed,
+ * which the line parsers used before: a field delimiter is a run of white
+ * space that contains at least one tab character, and trailing empty fields
+ * are dropped.
+ *
+ * Instances are not thread-safe, each line parser owns its own tokenizer.
+ *
+ * @author nilshoffmann
+ */
+public final class TabTokenizer {
+
+    private static final int INITIAL_CAPACITY = 64;
+
+    private CharSequence line = "";
+    private int[] starts = new int[INITIAL_CAPACITY];
+    private int[] ends = new int[INITIAL_CAPACITY];
+    private int size = 0;
+
+    /**
+     * Tokenizes the given line, replacing the fields of the previous line.
+     *
+     * @param line the line to tokenize, must not be null.
+     * @return this tokenizer.
+     */
+    public TabTokenizer reset(CharSequence line) {
+        if (line == null) {
+            throw new NullPointerException("Line must not be null!");
+        }
+        this.line = line;
+        this.size = 0;
+        int length = line.length();
+        int fieldStart = 0;
+        boolean delimited = false;
+        int i = 0;
+        while (i < length) {
+            if (isWhitespace(line.charAt(i))) {
+                int runStart = i;
+                boolean hasTab = false;
+                while (i < length && isWhitespace(line.charAt(i))) {
+                    if (line.charAt(i) == '\t') {
+                        hasTab = true;
+                    }
+                    i++;
+                }
+                if (hasTab) {
+                    add(fieldStart, runStart);
+                    fieldStart = i;
+                    delimited = true;
+                }
+            } else {
+                i++;
+            }
+        }
+        add(fieldStart, length);
+        if (delimited) {
+            while (size > 0 && starts[size - 1] == ends[size - 1]) {
+                size--;
+            }
+        }
+        if (size > 0) {
+            trim(0);
+            trim(size - 1);
+        }
+        return this;
+    }
+
+    /**
+     * Returns the number of fields of the current line.
+     *
+     * @return the number of fields.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the start offset of a field in the current line.
+     *
+     * @param index the field index.
+     * @return the start offset (inclusive).
+     */
+    public int start(int index) {
+        checkIndex(index);
+        return starts[index];
+    }
+
+    /**
+     * Returns the end offset of a field in the current line.
+     *
+     * @param index the field index.
+     * @return the end offset (exclusive).
+     */
+    public int end(int index) {
+        checkIndex(index);
+        return ends[index];
+    }
+
+    /**
+     * Returns a view of a field of the current line.
+     *
+     * @param index the field index.
+     * @return the field as a character sequence.
+     */
+    public CharSequence field(int index) {
+        checkIndex(index);
+        return line.subSequence(starts[index], ends[index]);
+    }
+
+    /**
+     * Returns a field of the current line as a String.
+     *
+     * @param index the field index.
+     * @return the field value.
+     */
+    public String get(int index) {
+        checkIndex(index);
+        return line.subSequence(starts[index], ends[index]).
+            toString();
+    }
+
+    /**
+     * Compares a field of the current line with the given value, without
+     * creating a String for the field.
+     *
+     * @param index the field index.
+     * @param value the value to compare with.
+     * @return true, if the field is equal to the value.
+     */
+    public boolean fieldEquals(int index, String value) {
+        checkIndex(index);
+        int start = starts[index];
+        int length = ends[index] - start;
+        if (value == null || value.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (line.charAt(start + i) != value.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns all fields of the current line as a newly allocated array.
+     *
+     * @return the fields.
+     */
+    public String[] toArray() {
+        String[] items = new String[size];
+        for (int i = 0; i < size; i++) {
+            items[i] = get(i);
+        }
+        return items;
+    }
+
+    /**
+     * Returns the first, trimmed field of a line, e.g. the section prefix,
+     * without tokenizing the rest of the line.
+     *
+     * @param line the line.
+     * @return the first field, may be empty.
+     */
+    public static String firstField(CharSequence line) {
+        int length = line.length();
+        int i = 0;
+        while (i < length) {
+            if (isWhitespace(line.charAt(i))) {
+                int runStart = i;
+                while (i < length && isWhitespace(line.charAt(i))) {
+                    if (line.charAt(i) == '\t') {
+                        return line.subSequence(0, runStart).
+                            toString().
+                            trim();
+                    }
+                    i++;
+                }
+            } else {
+                i++;
+            }
+        }
+        return line.toString().
+            trim();
+    }
+
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+
+    private void add(int start, int end) {
+        if (size == starts.length) {
+            starts = Arrays.copyOf(starts, size * 2);
+            ends = Arrays.copyOf(ends, size * 2);
+        }
+        starts[size] = start;
+        ends[size] = end;
+        size++;
+    }
+
+    /**
+     * Trims control and white space characters at both ends of a field, like
+     * {@link String#trim()}.
+     */
+    private void trim(int index) {
+        int start = starts[index];
+        int end = ends[index];
+        while (start < end && line.charAt(start) <= ' ') {
+            start++;
+        }
+        while (end > start && line.charAt(end - 1) <= ' ') {
+            end--;
+        }
+        starts[index] = start;
+        ends[index] = end;
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index
+                + " out of bounds for " + size + " fields!");
+        }
+    }
+
+    /**
+     * White space as matched by the regular expression class <code>\s</code>.
+     */
+    private static boolean isWhitespace(char c) {
+        return c == ' ' || c == '\t' || c == '\n' || c == 0x0B || c == '\f' || c == '\r';
+    }
+}
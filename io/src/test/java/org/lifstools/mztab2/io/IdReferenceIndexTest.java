@@ -0,0 +1,78 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.io;
+
+import java.util.Arrays;
+import java.util.Collections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ * Tests for IdReferenceIndex
+ *
+ * @author nilshoffmann
+ */
+public class IdReferenceIndexTest {
+
+    @Test
+    public void testContains() {
+        IdReferenceIndex index = IdReferenceIndex.of(Arrays.asList(1, 2, 5,
+            -3), (id) -> id);
+        assertTrue(index.contains(1));
+        assertTrue(index.contains(5));
+        assertTrue(index.contains(-3));
+        assertFalse(index.contains(3));
+        assertFalse(index.contains(-1));
+        assertFalse(index.contains(null));
+        index.add(null);
+        assertTrue(index.contains(null));
+    }
+
+    @Test
+    public void testUnresolved() {
+        IdReferenceIndex index = IdReferenceIndex.of(Arrays.asList(1, 2, 3),
+            (id) -> id);
+        assertTrue(index.unresolved(Arrays.asList(3, 1, 2)).
+            isEmpty());
+        assertTrue(index.unresolved(null).
+            isEmpty());
+        assertEquals(Arrays.asList(null, 4, 7), Arrays.asList(index.unresolved(
+            Arrays.asList(7, 1, 4, null, 7)).
+            toArray()));
+        assertEquals(Collections.emptySet(), index.unresolved(Collections.
+            emptyList()));
+    }
+
+    @Test
+    public void testLargeIds() {
+        IdReferenceIndex index = IdReferenceIndex.of(Arrays.asList(1,
+            Integer.MAX_VALUE, Integer.MAX_VALUE - 1, 5000, Integer.MIN_VALUE),
+            (id) -> id);
+        assertTrue(index.contains(1));
+        assertTrue(index.contains(5000));
+        assertTrue(index.contains(Integer.MAX_VALUE));
+        assertTrue(index.contains(Integer.MAX_VALUE - 1));
+        assertTrue(index.contains(Integer.MIN_VALUE));
+        assertFalse(index.contains(Integer.MAX_VALUE - 2));
+        assertFalse(index.contains(4999));
+        assertEquals(Arrays.asList(2, Integer.MAX_VALUE - 2), Arrays.asList(
+            index.unresolved(Arrays.asList(Integer.MAX_VALUE, 2,
+                Integer.MAX_VALUE - 2)).
+                toArray()));
+    }
+}
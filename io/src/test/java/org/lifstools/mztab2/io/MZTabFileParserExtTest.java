@@ -30,13 +30,40 @@ import static org.lifstools.mztab2.test.utils.ClassPathFile.STANDARDMIX_POSITIVE
 import static org.lifstools.mztab2.test.utils.ClassPathFile.STANDARDMIX_POSITIVE_EXPORTSPECIESLEVEL;
 import org.lifstools.mztab2.test.utils.ExtractClassPathFiles;
 import org.lifstools.mztab2.test.utils.LogMethodName;
+import org.lifstools.mztab2.test.utils.SyntheticMzTabGenerator;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.zip.GZIPOutputStream;
 import java.net.URISyntaxException;
 import jakarta.xml.bind.JAXBException;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import org.junit.ClassRule;
+import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.NEW_LINE;
 import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import uk.ac.ebi.pride.jmztab2.utils.errors.LogicalErrorType;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorListener;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorSummary;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
 
@@ -51,9 +78,14 @@ public class MZTabFileParserExtTest {
 
     @ClassRule
     public static final ExtractClassPathFiles EXTRACT_FILES = new ExtractClassPathFiles(
-            MTBLS263
+            MTBLS263,
+            LIPIDOMICS_EXAMPLE,
+            GCXGC_MS_EXAMPLE
     );
 
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
     @Test
     public void testStudyVariableAssayRefs() throws MZTabException, JAXBException, URISyntaxException, IOException {
         MzTab mzTab = TestResources.parseResource(EXTRACT_FILES.getBaseDir(),
@@ -62,4 +94,329 @@ public class MZTabFileParserExtTest {
                 0, false);
         assertEquals(3, mzTab.getMetadata().getStudyVariable().get(0).getAssayRefs().size());
     }
+
+    @Test
+    public void testUnknownRefIds() throws IOException {
+        String content = Files.readString(new File(EXTRACT_FILES.getBaseDir(),
+                LIPIDOMICS_EXAMPLE.fileName()).toPath(), StandardCharsets.UTF_8);
+        content = content.replace("SML\t1\t1 | 2 | 3 | 4\t",
+                "SML\t1\t1 | 2 | 7 | 4 | 7\t");
+        content = content.replace("SMF\t4\t4\t", "SMF\t4\t5\t");
+        File testFile = temporaryFolder.newFile("unknown-ref-ids.mztab");
+        Files.writeString(testFile.toPath(), content, StandardCharsets.UTF_8);
+        MzTabFileParser parser = new MzTabFileParser(testFile);
+        MZTabErrorList errorList = parser.parse(System.err,
+                MZTabErrorType.Level.Error, 500);
+        List<MZTabError> unknownRefIds = errorList.getErrorList().
+                stream().
+                filter((error) -> error.getType() == LogicalErrorType.UnknownRefId).
+                collect(Collectors.toList());
+        assertEquals(errorList.toString(), 2, unknownRefIds.size());
+        assertTrue(unknownRefIds.get(0).getMessage().startsWith("Reference id \"7\""));
+        assertTrue(unknownRefIds.get(1).getMessage().startsWith("Reference id \"5\""));
+    }
+
+    @Test
+    public void testParseFromReader() throws IOException {
+        File testFile = new File(EXTRACT_FILES.getBaseDir(),
+                LIPIDOMICS_EXAMPLE.fileName());
+        MzTabFileParser fileParser = new MzTabFileParser(testFile);
+        MZTabErrorList fileErrors = fileParser.parse(System.err,
+                MZTabErrorType.Level.Info, 500);
+        MzTabFileParser readerParser = new MzTabFileParser(new StringReader(
+                Files.readString(testFile.toPath(), StandardCharsets.UTF_8)));
+        MZTabErrorList readerErrors = readerParser.parse(System.err,
+                MZTabErrorType.Level.Info, 500);
+        assertEquals(fileErrors.toString(), readerErrors.toString());
+        assertEquals(fileParser.getMZTabFile(), readerParser.getMZTabFile());
+        try {
+            readerParser.parse(System.err, MZTabErrorType.Level.Info, 500);
+            fail("Expected IllegalStateException for second parse of a reader!");
+        } catch (IllegalStateException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testParseFromStreamsChannelsAndPaths() throws IOException {
+        File testFile = new File(EXTRACT_FILES.getBaseDir(),
+                LIPIDOMICS_EXAMPLE.fileName());
+        MzTabFileParser fileParser = new MzTabFileParser(testFile);
+        MZTabErrorList fileErrors = fileParser.parse(System.err,
+                MZTabErrorType.Level.Info, 500);
+        byte[] plain = Files.readAllBytes(testFile.toPath());
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzos = new GZIPOutputStream(compressed)) {
+            gzos.write(plain);
+        }
+        // compression is detected from the content, not from the file name
+        File gzFile = temporaryFolder.newFile("compressed.mztab");
+        Files.write(gzFile.toPath(), compressed.toByteArray());
+        List<MzTabFileParser> parsers = Arrays.asList(
+                new MzTabFileParser(new ByteArrayInputStream(plain)),
+                new MzTabFileParser(new ByteArrayInputStream(compressed.
+                        toByteArray())),
+                new MzTabFileParser(Channels.newChannel(
+                        new ByteArrayInputStream(compressed.toByteArray()))),
+                new MzTabFileParser(gzFile.toPath()),
+                new MzTabFileParser(gzFile)
+        );
+        for (MzTabFileParser parser : parsers) {
+            MZTabErrorList errors = parser.parse(System.err,
+                    MZTabErrorType.Level.Info, 500);
+            assertEquals(fileErrors.toString(), errors.toString());
+            assertEquals(fileParser.getMZTabFile(), parser.getMZTabFile());
+        }
+    }
+
+    @Test
+    public void testParallelErrorOrderAndOverflow() throws IOException {
+        String content = Files.readString(new File(EXTRACT_FILES.getBaseDir(),
+                LIPIDOMICS_EXAMPLE.fileName()).toPath(), StandardCharsets.UTF_8);
+        content = content.replace("\t[M+H]1+\t", "\tM+H\t");
+        File testFile = temporaryFolder.newFile("invalid-adducts.mztab");
+        Files.writeString(testFile.toPath(), content, StandardCharsets.UTF_8);
+        for (int maxErrorCount : new int[]{2, 500}) {
+            MzTabFileParser sequential = new MzTabFileParser(testFile);
+            MZTabErrorList sequentialErrors = sequential.parse(System.err,
+                    MZTabErrorType.Level.Info, maxErrorCount);
+            assertFalse(sequentialErrors.isEmpty());
+            MzTabFileParser parallel = new MzTabFileParser(testFile);
+            parallel.setChunkSize(1);
+            MZTabErrorList parallelErrors = parallel.parse(System.err,
+                    MZTabErrorType.Level.Info, maxErrorCount, 3);
+            assertEquals(sequentialErrors.toString(), parallelErrors.toString());
+        }
+    }
+
+    @Test
+    public void testParallelSpectraRefErrorLevel() throws IOException {
+        String content = Files.readString(new File(EXTRACT_FILES.getBaseDir(),
+                GCXGC_MS_EXAMPLE.fileName()).toPath(), StandardCharsets.UTF_8);
+        // spectra_ref validation only warns about unsupported id formats
+        content = content.replace("[MS, MS:1000776, scan number only nativeID format, ]",
+                "[MS, MS:1000999, unsupported nativeID format, ]");
+        File testFile = temporaryFolder.newFile("unsupported-id-format.mztab");
+        Files.writeString(testFile.toPath(), content, StandardCharsets.UTF_8);
+        for (MZTabErrorType.Level level : new MZTabErrorType.Level[]{
+            MZTabErrorType.Level.Error, MZTabErrorType.Level.Warn}) {
+            MzTabFileParser sequential = new MzTabFileParser(testFile);
+            MZTabErrorList sequentialErrors = sequential.parse(System.err,
+                    level, 500, 1);
+            MzTabFileParser parallel = new MzTabFileParser(testFile);
+            parallel.setChunkSize(1);
+            MZTabErrorList parallelErrors = parallel.parse(System.err,
+                    level, 500, 2);
+            assertEquals(sequentialErrors.toString(), parallelErrors.toString());
+            assertEquals(sequential.getMZTabFile(), parallel.getMZTabFile());
+            boolean unsupportedIdFormat = sequentialErrors.getErrorList().
+                    stream().
+                    anyMatch((error) -> error.getType() == LogicalErrorType.SpectraIdFormatNotSupported);
+            assertEquals(level == MZTabErrorType.Level.Warn, unsupportedIdFormat);
+        }
+        MzTabFileParser parser = new MzTabFileParser(testFile);
+        assertTrue(parser.parse(System.err, MZTabErrorType.Level.Error, 500, 1).
+                isEmpty());
+        assertNotNull(parser.getMZTabFile());
+    }
+
+    @Test
+    public void testErrorSummaryBeyondMaxErrorCount() throws IOException {
+        File testFile = writeInvalidMassFile();
+        MZTabErrorList allErrors = new MzTabFileParser(testFile).parse(
+                System.err, MZTabErrorType.Level.Info, 500);
+        assertTrue(allErrors.size() > 2);
+        assertTrue(allErrors.size() < 500);
+        for (int threads : new int[]{1, 3}) {
+            MzTabFileParser parser = new MzTabFileParser(testFile);
+            parser.setChunkSize(1);
+            MZTabErrorSummary summary = new MZTabErrorSummary(1);
+            MZTabErrorList errors = parser.parse(System.err,
+                    MZTabErrorType.Level.Info, 2, threads, summary);
+            assertEquals(2, errors.size());
+            assertEquals(allErrors.size(), summary.getTotalCount());
+            long counted = 0;
+            for (MZTabErrorSummary.Entry entry : summary.getEntries()) {
+                long expected = allErrors.getErrorList().
+                        stream().
+                        filter((error) -> {
+                            return error.getType().
+                                    equals(entry.getType()) && Objects.equals(
+                                    error.getColumn(), entry.getColumn());
+                        }).
+                        count();
+                assertEquals(expected, entry.getCount());
+                assertEquals(1, entry.getExemplars().
+                        size());
+                counted += entry.getCount();
+            }
+            assertEquals(summary.getTotalCount(), counted);
+        }
+    }
+
+    @Test
+    public void testErrorListener() throws IOException {
+        File testFile = writeInvalidMassFile();
+        MZTabErrorList allErrors = new MzTabFileParser(testFile).parse(
+                System.err, MZTabErrorType.Level.Info, 500);
+        List<MZTabError> reported = new ArrayList<>();
+        MzTabFileParser parser = new MzTabFileParser(testFile);
+        parser.addErrorListener(reported::add);
+        parser.setRetainErrors(false);
+        MZTabErrorList errors = parser.parse(System.err,
+                MZTabErrorType.Level.Info, 2);
+        assertTrue(errors.isEmpty());
+        assertEquals(allErrors.size(), errors.getReportedCount());
+        assertEquals(allErrors.toString(), reported.stream().
+                map(MZTabError::toString).
+                collect(Collectors.joining(NEW_LINE, "", NEW_LINE)));
+        assertNull(parser.getMZTabFile());
+
+        reported.clear();
+        parser = new MzTabFileParser(testFile);
+        parser.addErrorListener(reported::add);
+        parser.addErrorListener(MZTabErrorListener.stopAt(
+                MZTabErrorType.Level.Error));
+        errors = parser.parse(System.err, MZTabErrorType.Level.Info, 500);
+        assertEquals(1, reported.size());
+        assertEquals(1, errors.size());
+        assertEquals(allErrors.getError(0).
+                toString(), reported.get(0).
+                        toString());
+        assertNull(parser.getMZTabFile());
+    }
+
+    @Test
+    public void testParseMetadata() throws IOException {
+        File testFile = writeInvalidMassFile();
+        MzTabFileParser fullParser = new MzTabFileParser(testFile);
+        assertFalse(fullParser.parse(System.err, MZTabErrorType.Level.Info,
+                500).
+                isEmpty());
+        byte[] plain = Files.readAllBytes(testFile.toPath());
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzos = new GZIPOutputStream(compressed)) {
+            gzos.write(plain);
+        }
+        File gzFile = temporaryFolder.newFile("invalid-mass.mztab.gz");
+        Files.write(gzFile.toPath(), compressed.toByteArray());
+        MzTabFileParser validParser = new MzTabFileParser(new File(
+                EXTRACT_FILES.getBaseDir(), LIPIDOMICS_EXAMPLE.fileName()));
+        assertTrue(validParser.parse(System.err, MZTabErrorType.Level.Error,
+                500).
+                isEmpty());
+        MzTabFileParser validMetadataParser = new MzTabFileParser(new File(
+                EXTRACT_FILES.getBaseDir(), LIPIDOMICS_EXAMPLE.fileName()));
+        assertTrue(validMetadataParser.parseMetadata(System.err,
+                MZTabErrorType.Level.Error, 500).
+                isEmpty());
+        assertEquals(validParser.getMZTabFile().
+                getMetadata(), validMetadataParser.getMZTabFile().
+                        getMetadata());
+        // only the comments before the first table section are read
+        assertTrue(validParser.getMZTabFile().
+                getComment().
+                containsAll(validMetadataParser.getMZTabFile().
+                        getComment()));
+        assertTrue(validMetadataParser.getMZTabFile().
+                getSmallMoleculeSummary().
+                isEmpty());
+        // the invalid evidence lines are never read
+        List<MzTab> metadataOnly = new ArrayList<>();
+        for (File file : new File[]{testFile, gzFile}) {
+            MzTabFileParser parser = new MzTabFileParser(file);
+            MZTabErrorList errors = parser.parseMetadata(System.err,
+                    MZTabErrorType.Level.Info, 500);
+            assertTrue(errors.toString(), errors.isEmpty());
+            assertFalse(parser.getMZTabFile().
+                    getMetadata().
+                    getAssay().
+                    isEmpty());
+            metadataOnly.add(parser.getMZTabFile());
+        }
+        assertEquals(metadataOnly.get(0), metadataOnly.get(1));
+    }
+
+    @Test
+    public void testMetadataScanner() throws IOException {
+        File dir = temporaryFolder.newFolder("scan");
+        File sub = new File(dir, "sub");
+        assertTrue(sub.mkdir());
+        byte[] plain = Files.readAllBytes(new File(EXTRACT_FILES.getBaseDir(),
+                LIPIDOMICS_EXAMPLE.fileName()).toPath());
+        Files.write(new File(dir, "a.mzTab").toPath(), plain);
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzos = new GZIPOutputStream(compressed)) {
+            gzos.write(plain);
+        }
+        Files.write(new File(sub, "b.mztab.gz").toPath(), compressed.
+                toByteArray());
+        Files.writeString(new File(dir, "c.mztab").toPath(),
+                "MTD\tmzTab-version\t2.0.0-M\nXXX\tfoo\n",
+                StandardCharsets.UTF_8);
+        Files.writeString(new File(dir, "notes.txt").toPath(), "ignored",
+                StandardCharsets.UTF_8);
+        MzTabFileParser parser = new MzTabFileParser(new File(dir, "a.mzTab"));
+        parser.parseMetadata(System.err, MZTabErrorType.Level.Error, 500);
+        try (MzTabMetadataScanner scanner = new MzTabMetadataScanner(2)) {
+            List<MzTabMetadataScanner.Result> results = scanner.scan(dir.
+                    toPath());
+            assertEquals(3, results.size());
+            assertEquals("a.mzTab", results.get(0).
+                    getPath().
+                    getFileName().
+                    toString());
+            assertEquals("c.mztab", results.get(1).
+                    getPath().
+                    getFileName().
+                    toString());
+            assertEquals("b.mztab.gz", results.get(2).
+                    getPath().
+                    getFileName().
+                    toString());
+            for (int i : new int[]{0, 2}) {
+                MzTabMetadataScanner.Result result = results.get(i);
+                assertTrue(result.isSuccess());
+                assertNull(result.getException());
+                assertEquals(parser.getMZTabFile().
+                        getMetadata(), result.getMetadata());
+            }
+            MzTabMetadataScanner.Result broken = results.get(1);
+            assertFalse(broken.isSuccess());
+            assertFalse(broken.getErrorList().
+                    isEmpty());
+            List<MzTabMetadataScanner.Result> withMissing = scanner.scan(
+                    Arrays.asList(new File(dir, "missing.mztab").toPath(),
+                            new File(dir, "a.mzTab").toPath()));
+            assertEquals(2, withMissing.size());
+            MzTabMetadataScanner.Result missing = withMissing.get(0);
+            assertFalse(missing.isSuccess());
+            assertNull(missing.getErrorList());
+            assertNotNull(missing.getException());
+            assertTrue(withMissing.get(1).
+                    isSuccess());
+        }
+    }
+
+    private File writeInvalidMassFile() throws IOException {
+        StringWriter writer = new StringWriter();
+        new SyntheticMzTabGenerator().
+                summaries(20).
+                write(writer);
+        String content = writer.toString();
+        // make exp_mass_to_charge invalid on every evidence line
+        content = Arrays.stream(content.split("\n")).
+                map((line) -> {
+                    if (!line.startsWith("SME\t")) {
+                        return line;
+                    }
+                    String[] fields = line.split("\t", -1);
+                    fields[11] = "abc";
+                    return String.join("\t", fields);
+                }).
+                collect(Collectors.joining("\n", "", "\n"));
+        File testFile = temporaryFolder.newFile("invalid-mass.mztab");
+        Files.writeString(testFile.toPath(), content, StandardCharsets.UTF_8);
+        return testFile;
+    }
 }
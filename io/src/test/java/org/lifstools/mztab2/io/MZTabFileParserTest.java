@@ -50,6 +50,8 @@ import org.junit.runner.RunWith;
 import org.junit.runners.Parameterized;
 import static org.lifstools.mztab2.test.utils.ClassPathFile.XCMS_EXAMPLE;
 import static org.lifstools.mztab2.test.utils.ClassPathFile.XCMS_NO_SML_EXAMPLE;
+import static uk.ac.ebi.pride.jmztab2.utils.MZTabProperties.MAX_ERROR_COUNT;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorOverflowException;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
@@ -126,6 +128,21 @@ public class MZTabFileParserTest {
                 validationLevel, expectedStructuralLogicalErrors, mzTabMustBeNull);
     }
 
+    @Test
+    public void testExamplesInParallel() throws IOException {
+        File file = new File(EXTRACT_FILES.getBaseDir(), resource.fileName());
+        MzTabFileParser sequential = new MzTabFileParser(file);
+        MZTabErrorList sequentialErrors = sequential.parse(
+                new ByteArrayOutputStream(), validationLevel);
+        MzTabFileParser parallel = new MzTabFileParser(file);
+        parallel.setChunkSize(3);
+        MZTabErrorList parallelErrors = parallel.parse(
+                new ByteArrayOutputStream(), validationLevel, MAX_ERROR_COUNT,
+                4);
+        assertEquals(sequentialErrors.toString(), parallelErrors.toString());
+        assertEquals(sequential.getMZTabFile(), parallel.getMZTabFile());
+    }
+
     void testExample(File tf, ClassPathFile resource,
             MZTabErrorType.Level level,
             Integer expectedErrors,
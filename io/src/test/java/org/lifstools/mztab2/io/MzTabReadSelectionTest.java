@@ -0,0 +1,244 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.lifstools.mztab2.model.MzTab;
+import org.lifstools.mztab2.model.SmallMoleculeSummary;
+import org.lifstools.mztab2.test.utils.ExtractClassPathFiles;
+import org.lifstools.mztab2.test.utils.LogMethodName;
+import org.lifstools.mztab2.test.utils.SyntheticMzTabGenerator;
+import uk.ac.ebi.pride.jmztab2.model.Section;
+import uk.ac.ebi.pride.jmztab2.utils.errors.LogicalErrorType;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.lifstools.mztab2.test.utils.ClassPathFile.LIPIDOMICS_EXAMPLE;
+
+/**
+ *
+ * @author nilshoffmann
+ */
+public class MzTabReadSelectionTest {
+
+    @Rule
+    public LogMethodName methodNameLogger = new LogMethodName();
+
+    @ClassRule
+    public static final ExtractClassPathFiles EXTRACT_FILES = new ExtractClassPathFiles(
+            LIPIDOMICS_EXAMPLE
+    );
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testSelection() {
+        MzTabReadSelection all = MzTabReadSelection.all();
+        assertTrue(all.isAll());
+        assertTrue(all.isSelected(Section.Small_Molecule_Evidence_Header));
+        MzTabReadSelection selection = MzTabReadSelection.of(
+                Section.Small_Molecule_Header).
+                withColumns(Section.Small_Molecule_Feature, "SMF_ID");
+        assertFalse(selection.isAll());
+        assertTrue(selection.isSelected(Section.Metadata));
+        assertTrue(selection.isSelected(Section.Comment));
+        assertTrue(selection.isSelected(Section.Small_Molecule));
+        assertTrue(selection.isSelected(Section.Small_Molecule_Feature_Header));
+        assertFalse(selection.isSelected(Section.Small_Molecule_Evidence));
+        assertFalse(selection.isSelected(Section.Small_Molecule_Evidence_Header));
+        try {
+            MzTabReadSelection.of(Section.Metadata);
+            throw new AssertionError("Expected IllegalArgumentException!");
+        } catch (IllegalArgumentException ex) {
+            // expected
+        }
+    }
+
+    @Test
+    public void testColumnProjection() throws IOException {
+        File testFile = new File(EXTRACT_FILES.getBaseDir(),
+                LIPIDOMICS_EXAMPLE.fileName());
+        MzTabFileParser fullParser = new MzTabFileParser(testFile);
+        assertTrue(fullParser.parse(System.err, MZTabErrorType.Level.Info, 500).
+                isEmpty());
+        MzTab full = fullParser.getMZTabFile();
+        MzTabReadSelection selection = MzTabReadSelection.of(
+                Section.Small_Molecule).
+                withColumns(Section.Small_Molecule, "SML_ID", "chemical_name",
+                        "abundance_study_variable");
+        for (int threads : new int[]{1, 3}) {
+            MzTabFileParser parser = new MzTabFileParser(testFile);
+            parser.setChunkSize(1);
+            parser.setSelection(selection);
+            MZTabErrorList errors = parser.parse(System.err,
+                    MZTabErrorType.Level.Info, 500, threads);
+            assertTrue(errors.toString(), errors.isEmpty());
+            MzTab projected = parser.getMZTabFile();
+            assertEquals(full.getMetadata(), projected.getMetadata());
+            assertTrue(projected.getSmallMoleculeFeature().
+                    isEmpty());
+            assertTrue(projected.getSmallMoleculeEvidence().
+                    isEmpty());
+            assertProjected(full.getSmallMoleculeSummary(), projected.
+                    getSmallMoleculeSummary());
+        }
+    }
+
+    @Test
+    public void testUnselectedColumnsAreNotValidated() throws IOException {
+        File testFile = writeInvalidMassFile();
+        assertFalse(new MzTabFileParser(testFile).parse(System.err,
+                MZTabErrorType.Level.Info, 500).
+                isEmpty());
+
+        MzTabFileParser parser = new MzTabFileParser(testFile);
+        parser.setSelection(MzTabReadSelection.of(Section.Small_Molecule,
+                Section.Small_Molecule_Feature));
+        MZTabErrorList errors = parser.parse(System.err,
+                MZTabErrorType.Level.Info, 500);
+        assertTrue(errors.toString(), errors.isEmpty());
+        assertTrue(parser.getMZTabFile().
+                getSmallMoleculeEvidence().
+                isEmpty());
+        assertFalse(parser.getMZTabFile().
+                getSmallMoleculeFeature().
+                isEmpty());
+
+        parser = new MzTabFileParser(testFile);
+        parser.setSelection(MzTabReadSelection.all().
+                withColumns(Section.Small_Molecule_Evidence, "SME_ID",
+                        "spectra_ref"));
+        errors = parser.parse(System.err, MZTabErrorType.Level.Info, 500);
+        assertTrue(errors.toString(), errors.isEmpty());
+        assertNull(parser.getMZTabFile().
+                getSmallMoleculeEvidence().
+                get(0).
+                getExpMassToCharge());
+
+        parser = new MzTabFileParser(testFile);
+        parser.setSelection(MzTabReadSelection.all().
+                withColumns(Section.Small_Molecule_Evidence, "SME_ID",
+                        "exp_mass_to_charge"));
+        assertFalse(parser.parse(System.err, MZTabErrorType.Level.Info, 500).
+                isEmpty());
+    }
+
+    @Test
+    public void testEvidenceRefsAreCheckedWithoutSummary() throws IOException {
+        String content = Files.readString(new File(EXTRACT_FILES.getBaseDir(),
+                LIPIDOMICS_EXAMPLE.fileName()).toPath(), StandardCharsets.UTF_8);
+        content = content.replace("SMF\t4\t4\t", "SMF\t4\t5\t");
+        File testFile = temporaryFolder.newFile("unknown-sme-ref.mztab");
+        Files.writeString(testFile.toPath(), content, StandardCharsets.UTF_8);
+        MzTabFileParser parser = new MzTabFileParser(testFile);
+        parser.setSelection(MzTabReadSelection.of(
+                Section.Small_Molecule_Feature,
+                Section.Small_Molecule_Evidence));
+        MZTabErrorList errors = parser.parse(System.err,
+                MZTabErrorType.Level.Error, 500);
+        List<MZTabError> unknownRefIds = errors.getErrorList().
+                stream().
+                filter((error) -> error.getType() == LogicalErrorType.UnknownRefId).
+                collect(Collectors.toList());
+        assertEquals(errors.toString(), 1, unknownRefIds.size());
+        assertTrue(unknownRefIds.get(0).
+                getMessage().
+                startsWith("Reference id \"5\""));
+        assertTrue(parser.getMZTabFile().
+                getSmallMoleculeSummary().
+                isEmpty());
+    }
+
+    @Test
+    public void testStreamingReaderSelection() throws IOException, MZTabException {
+        File testFile = new File(EXTRACT_FILES.getBaseDir(),
+                LIPIDOMICS_EXAMPLE.fileName());
+        MzTabFileParser fullParser = new MzTabFileParser(testFile);
+        fullParser.parse(System.err, MZTabErrorType.Level.Info, 500);
+        try (MzTabStreamingReader reader = new MzTabStreamingReader(testFile)) {
+            reader.setSelection(MzTabReadSelection.of(Section.Small_Molecule,
+                    Section.Small_Molecule_Evidence).
+                    withColumns(Section.Small_Molecule, "SML_ID",
+                            "chemical_name", "abundance_study_variable"));
+            assertProjected(fullParser.getMZTabFile().
+                    getSmallMoleculeSummary(), reader.smallMoleculeSummaries().
+                    collect(Collectors.toList()));
+            assertEquals(0, reader.smallMoleculeFeatures().
+                    count());
+            assertEquals(fullParser.getMZTabFile().
+                    getSmallMoleculeEvidence(), reader.smallMoleculeEvidences().
+                    collect(Collectors.toList()));
+        }
+    }
+
+    private static void assertProjected(List<SmallMoleculeSummary> expected,
+            List<SmallMoleculeSummary> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            SmallMoleculeSummary e = expected.get(i);
+            SmallMoleculeSummary a = actual.get(i);
+            assertEquals(e.getSmlId(), a.getSmlId());
+            assertEquals(e.getChemicalName(), a.getChemicalName());
+            assertEquals(e.getAbundanceStudyVariable(), a.
+                    getAbundanceStudyVariable());
+            assertTrue(a.getDatabaseIdentifier().
+                    isEmpty());
+            assertTrue(a.getAbundanceAssay().
+                    isEmpty());
+            assertNull(a.getReliability());
+        }
+    }
+
+    private File writeInvalidMassFile() throws IOException {
+        StringWriter writer = new StringWriter();
+        new SyntheticMzTabGenerator().
+                summaries(20).
+                write(writer);
+        // make exp_mass_to_charge invalid on every evidence line
+        String content = Arrays.stream(writer.toString().
+                split("\n")).
+                map((line) -> {
+                    if (!line.startsWith("SME\t")) {
+                        return line;
+                    }
+                    String[] fields = line.split("\t", -1);
+                    fields[11] = "abc";
+                    return String.join("\t", fields);
+                }).
+                collect(Collectors.joining("\n", "", "\n"));
+        File testFile = temporaryFolder.newFile("invalid-mass.mztab");
+        Files.writeString(testFile.toPath(), content, StandardCharsets.UTF_8);
+        return testFile;
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.lifstools.mztab2.model.Metadata;
+import org.lifstools.mztab2.model.MzTab;
+import org.lifstools.mztab2.model.SmallMoleculeEvidence;
+import org.lifstools.mztab2.model.SmallMoleculeFeature;
+import org.lifstools.mztab2.model.SmallMoleculeSummary;
+import static org.lifstools.mztab2.test.utils.ClassPathFile.LIPIDOMICS_EXAMPLE;
+import static org.lifstools.mztab2.test.utils.ClassPathFile.MTBLS263;
+import org.lifstools.mztab2.test.utils.ExtractClassPathFiles;
+import org.lifstools.mztab2.test.utils.LogMethodName;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
+
+/**
+ * Tests for MzTabStreamingReader
+ *
+ * @author nilshoffmann
+ */
+public class MzTabStreamingReaderTest {
+
+    @Rule
+    public LogMethodName methodNameLogger = new LogMethodName();
+
+    @ClassRule
+    public static final ExtractClassPathFiles EXTRACT_FILES = new ExtractClassPathFiles(
+        MTBLS263,
+        LIPIDOMICS_EXAMPLE
+    );
+
+    @Test
+    public void testRowsMatchFileParser() throws IOException, MZTabException {
+        File testFile = new File(EXTRACT_FILES.getBaseDir(), LIPIDOMICS_EXAMPLE.
+            fileName());
+        MzTabFileParser parser = new MzTabFileParser(testFile);
+        parser.parse(System.err, MZTabErrorType.Level.Warn, 500);
+        MzTab expected = parser.getMZTabFile();
+        assertNotNull(expected);
+
+        try (MzTabStreamingReader reader = new MzTabStreamingReader(testFile.
+            toURI(), MZTabErrorType.Level.Warn, 500)) {
+            Metadata metadata = reader.getMetadata();
+            assertEquals(expected.getMetadata(), metadata);
+            List<SmallMoleculeSummary> smls = reader.smallMoleculeSummaries().
+                collect(Collectors.toList());
+            assertEquals(expected.getSmallMoleculeSummary(), smls);
+            List<SmallMoleculeFeature> smfs = reader.smallMoleculeFeatures().
+                collect(Collectors.toList());
+            assertEquals(expected.getSmallMoleculeFeature(), smfs);
+            List<SmallMoleculeEvidence> smes = reader.smallMoleculeEvidences().
+                collect(Collectors.toList());
+            assertEquals(expected.getSmallMoleculeEvidence(), smes);
+            assertEquals(expected.getComment().size(), reader.getComments().size());
+            assertTrue(reader.getErrorList().
+                toString(), reader.getErrorList().
+                    isEmpty());
+        }
+    }
+
+    @Test
+    public void testSkipToEvidences() throws IOException, MZTabException {
+        File testFile = new File(EXTRACT_FILES.getBaseDir(), MTBLS263.
+            fileName());
+        MzTabFileParser parser = new MzTabFileParser(testFile);
+        parser.parse(System.err, MZTabErrorType.Level.Warn, 500);
+        MzTab expected = parser.getMZTabFile();
+        assertNotNull(expected);
+
+        try (MzTabStreamingReader reader = new MzTabStreamingReader(testFile)) {
+            Iterator<SmallMoleculeSummary> smlIterator = reader.
+                smallMoleculeSummaryIterator();
+            assertTrue(smlIterator.hasNext());
+            assertEquals(expected.getSmallMoleculeSummary().
+                get(0), smlIterator.next());
+            // skips the remaining SML and all SMF rows
+            Iterator<SmallMoleculeEvidence> smeIterator = reader.
+                smallMoleculeEvidenceIterator();
+            int count = 0;
+            while (smeIterator.hasNext()) {
+                assertEquals(expected.getSmallMoleculeEvidence().
+                    get(count++), smeIterator.next());
+            }
+            assertEquals(expected.getSmallMoleculeEvidence().
+                size(), count);
+            assertFalse(smlIterator.hasNext());
+            assertFalse(reader.smallMoleculeFeatureIterator().
+                hasNext());
+        }
+    }
+}
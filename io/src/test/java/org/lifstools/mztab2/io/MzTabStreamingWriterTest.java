@@ -0,0 +1,172 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.io;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Collections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.ClassRule;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.lifstools.mztab2.model.Metadata;
+import org.lifstools.mztab2.model.MzTab;
+import org.lifstools.mztab2.model.SmallMoleculeEvidence;
+import org.lifstools.mztab2.model.SmallMoleculeFeature;
+import org.lifstools.mztab2.model.SmallMoleculeSummary;
+import static org.lifstools.mztab2.test.utils.ClassPathFile.LIPIDOMICS_EXAMPLE;
+import static org.lifstools.mztab2.test.utils.ClassPathFile.MTBLS263;
+import org.lifstools.mztab2.test.utils.ExtractClassPathFiles;
+import org.lifstools.mztab2.test.utils.LogMethodName;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
+
+/**
+ * Tests for MzTabStreamingWriter
+ *
+ * @author nilshoffmann
+ */
+public class MzTabStreamingWriterTest {
+
+    @Rule
+    public LogMethodName methodNameLogger = new LogMethodName();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @ClassRule
+    public static final ExtractClassPathFiles EXTRACT_FILES = new ExtractClassPathFiles(
+        MTBLS263,
+        LIPIDOMICS_EXAMPLE
+    );
+
+    @Test
+    public void testOutputMatchesNonValidatingWriter() throws IOException {
+        for (String fileName : new String[]{MTBLS263.fileName(),
+            LIPIDOMICS_EXAMPLE.fileName()}) {
+            MzTab mzTab = parse(new File(EXTRACT_FILES.getBaseDir(), fileName));
+            MzTabWriterDefaults defaults = new MzTabWriterDefaults();
+            StringWriter streamed = new StringWriter();
+            try (MzTabStreamingWriter writer = new MzTabStreamingWriter(
+                streamed)) {
+                writer.writeMetadata(mzTab.getMetadata());
+                writer.startSmallMoleculeSummaries(defaults.optColumnMappings(
+                    mzTab.getSmallMoleculeSummary(),
+                    SmallMoleculeSummary::getOpt));
+                writer.writeSmallMoleculeSummaries(mzTab.
+                    getSmallMoleculeSummary().
+                    iterator());
+                writer.startSmallMoleculeFeatures(defaults.optColumnMappings(
+                    mzTab.getSmallMoleculeFeature(),
+                    SmallMoleculeFeature::getOpt));
+                writer.writeSmallMoleculeFeatures(mzTab.
+                    getSmallMoleculeFeature().
+                    iterator());
+                writer.startSmallMoleculeEvidences(defaults.optColumnMappings(
+                    mzTab.getSmallMoleculeEvidence(),
+                    SmallMoleculeEvidence::getOpt));
+                writer.writeSmallMoleculeEvidences(mzTab.
+                    getSmallMoleculeEvidence().
+                    iterator());
+            }
+            assertEquals(fileName, write(mzTab), streamed.toString());
+        }
+    }
+
+    @Test
+    public void testStreamingRoundTrip() throws IOException, MZTabException {
+        File testFile = new File(EXTRACT_FILES.getBaseDir(), LIPIDOMICS_EXAMPLE.
+            fileName());
+        MzTab expected = parse(testFile);
+        Path outFile = temporaryFolder.newFile("streamed.mztab").
+            toPath();
+        try (MzTabStreamingReader reader = new MzTabStreamingReader(testFile);
+            MzTabStreamingWriter writer = new MzTabStreamingWriter(outFile)) {
+            writer.writeMetadata(reader.getMetadata());
+            writer.writeSmallMoleculeSummaries(reader.
+                smallMoleculeSummaryIterator());
+            writer.writeSmallMoleculeFeatures(reader.
+                smallMoleculeFeatureIterator());
+            writer.writeSmallMoleculeEvidences(reader.
+                smallMoleculeEvidenceIterator());
+        }
+        MzTab actual = parse(outFile.toFile());
+        assertEquals(expected.getMetadata(), actual.getMetadata());
+        assertEquals(expected.getSmallMoleculeSummary(), actual.
+            getSmallMoleculeSummary());
+        assertEquals(expected.getSmallMoleculeFeature(), actual.
+            getSmallMoleculeFeature());
+        assertEquals(expected.getSmallMoleculeEvidence(), actual.
+            getSmallMoleculeEvidence());
+    }
+
+    @Test
+    public void testEmptySections() throws IOException {
+        MzTab mzTab = new MzTab().metadata(MzTabTestData.create2_0TestFile().
+            getMetadata());
+        StringWriter streamed = new StringWriter();
+        try (MzTabStreamingWriter writer = new MzTabStreamingWriter(streamed)) {
+            writer.writeMetadata(mzTab.getMetadata());
+        }
+        assertEquals(write(mzTab), streamed.toString());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testRowsBeforeMetadata() throws IOException {
+        try (MzTabStreamingWriter writer = new MzTabStreamingWriter(
+            new StringWriter())) {
+            writer.writeSmallMoleculeSummary(new SmallMoleculeSummary().smlId(1));
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testSectionOrder() throws IOException {
+        try (MzTabStreamingWriter writer = new MzTabStreamingWriter(
+            new StringWriter())) {
+            writer.writeMetadata(new Metadata().mzTabID("test"));
+            writer.startSmallMoleculeFeatures(Collections.emptyList());
+            writer.writeSmallMoleculeSummary(new SmallMoleculeSummary().smlId(1));
+        }
+    }
+
+    private MzTab parse(File file) throws IOException {
+        MzTabFileParser parser = new MzTabFileParser(file);
+        MZTabErrorList errorList = parser.parse(System.err,
+            MZTabErrorType.Level.Error, 500);
+        assertTrue(errorList.toString(), errorList.isEmpty());
+        MzTab mzTab = parser.getMZTabFile();
+        assertNotNull(mzTab);
+        return mzTab;
+    }
+
+    private String write(MzTab mzTab) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStreamWriter writer = new OutputStreamWriter(out,
+            StandardCharsets.UTF_8)) {
+            new MzTabNonValidatingWriter().write(writer, mzTab);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -15,6 +15,9 @@
  */
 package org.lifstools.mztab2.io;
 
+import org.lifstools.mztab2.model.MzTab;
+import org.lifstools.mztab2.model.SmallMoleculeFeature;
+import org.lifstools.mztab2.model.SmallMoleculeSummary;
 import org.lifstools.mztab2.model.ValidationMessage;
 import java.io.ByteArrayOutputStream;
 import java.io.File;
@@ -24,6 +27,7 @@ import java.util.Optional;
 import java.util.UUID;
 import org.junit.Assert;
 import org.junit.Test;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType.Level;
 
 /**
  *
@@ -93,6 +97,46 @@ public class MzTabValidatingWriterTest {
             contains("database"));
     }
 
+    /**
+     * The validator must not block if parsing stops before all rows have
+     * been written.
+     */
+    @Test(timeout = 60000)
+    public void testValidateStopsEarly() throws Exception {
+        MzTab mzTab = MzTabTestData.create2_0TestFile();
+        for (int i = 0; i < 10000; i++) {
+            mzTab.addSmallMoleculeSummaryItem(new SmallMoleculeSummary().smlId(
+                1000 + i));
+        }
+        List<ValidationMessage> messages = new MzTabValidatingWriter.WriteAndParseValidator(
+            System.out, Level.Info, 1).validate(mzTab);
+        Assert.assertEquals(messages.toString(), 1, messages.size());
+    }
+
+    /**
+     * A runtime exception of the writer thread must not be hidden by the
+     * parse of the truncated content.
+     */
+    @Test(timeout = 60000)
+    public void testValidateRethrowsWriterFailure() throws Exception {
+        MzTab template = MzTabTestData.create2_0TestFile();
+        MzTab mzTab = new MzTab() {
+            @Override
+            public List<SmallMoleculeFeature> getSmallMoleculeFeature() {
+                throw new IllegalStateException("writer failure");
+            }
+        };
+        mzTab.metadata(template.getMetadata()).
+            smallMoleculeSummary(template.getSmallMoleculeSummary());
+        try {
+            new MzTabValidatingWriter.WriteAndParseValidator(System.out,
+                Level.Info, 100).validate(mzTab);
+            Assert.fail("Expected IllegalStateException from writer thread");
+        } catch (IllegalStateException ex) {
+            Assert.assertEquals("writer failure", ex.getMessage());
+        }
+    }
+
     /**
      * Test of write method, of class MzTabValidatingWriter.
      */
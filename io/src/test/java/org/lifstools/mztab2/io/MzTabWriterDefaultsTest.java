@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.io;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.dataformat.csv.CsvMapper;
+import com.fasterxml.jackson.dataformat.csv.CsvSchema;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import org.junit.Rule;
+import org.junit.Test;
+import org.lifstools.mztab2.model.Metadata;
+import org.lifstools.mztab2.model.MzTab;
+import org.lifstools.mztab2.model.OptColumnMapping;
+import org.lifstools.mztab2.test.utils.LogMethodName;
+import uk.ac.ebi.pride.jmztab2.model.OptColumnMappingBuilder;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabException;
+
+/**
+ * Tests for the cached writers of MzTabWriterDefaults
+ *
+ * @author nilshoffmann
+ */
+public class MzTabWriterDefaultsTest {
+
+    @Rule
+    public LogMethodName methodNameLogger = new LogMethodName();
+
+    @Test
+    public void testWritersAreCachedByColumnLayout() throws MZTabException {
+        MzTabWriterDefaults defaults = new MzTabWriterDefaults();
+        Metadata metadata = MzTabTestData.create2_0TestFile().
+            getMetadata();
+        assertSame(defaults.metadataWriter(), defaults.metadataWriter());
+        ObjectWriter smlWriter = defaults.smallMoleculeSummaryWriter(metadata,
+            Collections.emptyList());
+        assertSame(smlWriter, defaults.smallMoleculeSummaryWriter(metadata,
+            Collections.emptyList()));
+        ObjectWriter smlOptWriter = defaults.smallMoleculeSummaryWriter(
+            metadata, Collections.singletonList(OptColumnMappingBuilder.
+                forGlobal().
+                withName("test").
+                build("1")));
+        assertNotSame(smlWriter, smlOptWriter);
+        assertNotSame(smlWriter, defaults.smallMoleculeFeatureWriter(metadata,
+            Collections.emptyList()));
+        assertNotSame(smlWriter, defaults.smallMoleculeEvidenceWriter(metadata,
+            Collections.emptyList()));
+    }
+
+    @Test
+    public void testSchemaIsBuiltOncePerColumnLayout() throws MZTabException {
+        AtomicInteger schemaBuilds = new AtomicInteger();
+        MzTabWriterDefaults defaults = new MzTabWriterDefaults() {
+            @Override
+            public CsvSchema smallMoleculeSummarySchema(CsvMapper mapper,
+                Metadata metadata, Collection<OptColumnMapping> optColumns) throws MZTabException {
+                schemaBuilds.incrementAndGet();
+                return super.smallMoleculeSummarySchema(mapper, metadata,
+                    optColumns);
+            }
+        };
+        MzTab mzTab = MzTabTestData.create2_0TestFile();
+        ObjectWriter smlWriter = defaults.smallMoleculeSummaryWriter(mzTab);
+        assertSame(smlWriter, defaults.smallMoleculeSummaryWriter(mzTab));
+        assertSame(smlWriter, defaults.smallMoleculeSummaryWriter(mzTab.
+            getMetadata(), Collections.emptyList()));
+        assertEquals(1, schemaBuilds.get());
+        defaults.smallMoleculeSummaryWriter(mzTab.getMetadata(),
+            Collections.singletonList(OptColumnMappingBuilder.
+                forGlobal().
+                withName("test").
+                build("1")));
+        assertEquals(2, schemaBuilds.get());
+    }
+
+    @Test
+    public void testConcurrentWrites() throws InterruptedException, ExecutionException, IOException {
+        MzTab mzTab = MzTabTestData.create2_0TestFile();
+        String expected = write(new MzTabNonValidatingWriter(
+            new MzTabWriterDefaults()), mzTab);
+        MzTabNonValidatingWriter writer = new MzTabNonValidatingWriter();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 32; i++) {
+                results.add(executor.submit(() -> write(writer, mzTab)));
+            }
+            for (Future<String> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private String write(MzTabNonValidatingWriter writer, MzTab mzTab) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (OutputStreamWriter osw = new OutputStreamWriter(out,
+            StandardCharsets.UTF_8)) {
+            writer.write(osw, mzTab);
+        }
+        return out.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.io;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.util.Arrays;
+import org.lifstools.mztab2.model.MzTab;
+import org.lifstools.mztab2.test.utils.LogMethodName;
+import org.lifstools.mztab2.test.utils.SyntheticMzTabGenerator;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
+
+/**
+ *
+ * @author nilshoffmann
+ */
+public class SyntheticMzTabGeneratorTest {
+
+    @Rule
+    public LogMethodName methodNameLogger = new LogMethodName();
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test
+    public void testGeneratedFileIsValid() throws IOException {
+        SyntheticMzTabGenerator generator = new SyntheticMzTabGenerator().
+            summaries(20).
+            featuresPerSummary(2).
+            evidencesPerFeature(3).
+            assays(5).
+            msRuns(2).
+            studyVariables(3).
+            optColumns(2);
+        File file = generator.write(temporaryFolder.newFile("synthetic.mztab").
+            toPath()).
+            toFile();
+        MzTabFileParser parser = new MzTabFileParser(file);
+        MZTabErrorList errorList = parser.parse(System.out,
+            MZTabErrorType.Level.Info, 500);
+        assertTrue(errorList.toString(), errorList.isEmpty());
+        MzTab mzTab = parser.getMZTabFile();
+        assertEquals(5, mzTab.getMetadata().
+            getAssay().
+            size());
+        assertEquals(2, mzTab.getMetadata().
+            getMsRun().
+            size());
+        assertEquals(3, mzTab.getMetadata().
+            getStudyVariable().
+            size());
+        assertEquals(20, mzTab.getSmallMoleculeSummary().
+            size());
+        assertEquals(40, mzTab.getSmallMoleculeFeature().
+            size());
+        assertEquals(120, mzTab.getSmallMoleculeEvidence().
+            size());
+        assertEquals(Arrays.asList(3, 4), mzTab.getSmallMoleculeSummary().
+            get(1).
+            getSmfIdRefs());
+        assertEquals(Arrays.asList(4, 5, 6), mzTab.getSmallMoleculeFeature().
+            get(1).
+            getSmeIdRefs());
+        assertEquals(2, mzTab.getSmallMoleculeEvidence().
+            get(0).
+            getOpt().
+            size());
+    }
+
+    @Test
+    public void testSeed() throws IOException {
+        assertEquals(generate(1L), generate(1L));
+        assertNotEquals(generate(1L), generate(2L));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMoreStudyVariablesThanAssays() throws IOException {
+        new SyntheticMzTabGenerator().
+            assays(2).
+            studyVariables(3).
+            write(new StringWriter());
+    }
+
+    private String generate(long seed) throws IOException {
+        StringWriter writer = new StringWriter();
+        new SyntheticMzTabGenerator().
+            seed(seed).
+            summaries(10).
+            write(writer);
+        return writer.toString();
+    }
+}
@@ -35,6 +35,8 @@ import static uk.ac.ebi.pride.jmztab2.model.MZTabConstants.REGEX_SPECTRA_REF_WIF
 import uk.ac.ebi.pride.jmztab2.model.SmallMoleculeEvidenceColumn;
 import static uk.ac.ebi.pride.jmztab2.model.SmallMoleculeEvidenceColumn.Stable.SPECTRA_REF;
 import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabError;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorType;
 import uk.ac.ebi.pride.jmztab2.utils.parser.MZTabParserContext;
 
 /**
@@ -110,6 +112,33 @@ public class SpectraRefValidatorTest {
         System.out.println(result.get(0));
     }
     
+    /**
+     * Errors of types that are not enabled must not be created.
+     */
+    @Test
+    public void testValidateLineSkipsDisabledErrorTypes() {
+        MZTabParserContext parserContext = new MZTabParserContext();
+        IMZTabColumn column = SmallMoleculeEvidenceColumn.Stable.columnFor(SPECTRA_REF);
+        MZTabErrorList errorList = new MZTabErrorList(MZTabErrorType.Level.Error);
+        SpectraRefValidator instance = new SpectraRefValidator(errorList::isEnabled);
+        Parameter param = new Parameter().cvLabel("MS").cvAccession("MS:1001526").name("spectrum from database integer nativeID format");
+        MsRun msRun = new MsRun().id(1).idFormat(param).format(new Parameter().cvLabel("MS").cvAccession("MS:1000584").name("mzML file")).location(URI.create("file:///some/path/to/file.mzML"));
+        MsRun noLocation = new MsRun().id(2).idFormat(param).location(null);
+        List<MZTabError> result = instance.validateLine(
+            0,
+            parserContext,
+            column,
+            "ms_run[1]:databasekey=1231|ms_run[2]:databasekey=1231",
+            Arrays.asList(new SpectraRef().msRun(msRun).reference("databasekey=1231"),
+                new SpectraRef().msRun(noLocation).reference("databasekey=1231"))
+        );
+        assertTrue("Did not expect errors here: " + result, result.isEmpty());
+        result = instance.validateLine(0, parserContext, column, "",
+            Collections.emptyList());
+        assertEquals(1, result.size());
+        assertEquals(1026, result.get(0).getType().getCode().longValue());
+    }
+
     /**
      * Test of validateLine method, of class SpectraRefValidator.
      */
@@ -0,0 +1,205 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.utils.parser;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.lifstools.mztab2.model.Assay;
+import org.lifstools.mztab2.model.Metadata;
+import org.lifstools.mztab2.model.Parameter;
+import org.lifstools.mztab2.model.SmallMoleculeSummary;
+import org.lifstools.mztab2.model.StudyVariable;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import uk.ac.ebi.pride.jmztab2.model.AbundanceColumn;
+import uk.ac.ebi.pride.jmztab2.model.ISmallMoleculeColumn;
+import uk.ac.ebi.pride.jmztab2.model.OptionColumn;
+import uk.ac.ebi.pride.jmztab2.model.SmallMoleculeColumn;
+import uk.ac.ebi.pride.jmztab2.utils.errors.MZTabErrorList;
+
+/**
+ *
+ * @author nilshoffmann
+ */
+public class ColumnDispatchTableTest {
+
+    private Metadata createMetadata(MZTabParserContext context) {
+        Metadata metadata = new Metadata();
+        metadata.smallMoleculeQuantificationUnit(new Parameter().cvLabel("PRIDE").
+            cvAccession("PRIDE:0000330").
+            name("Arbitrary quantification unit"));
+        metadata.smallMoleculeIdentificationReliability(new Parameter().
+            cvLabel("MS").
+            cvAccession("MS:1002896").
+            name("compound identification confidence level"));
+        context.addAssay(metadata, new Assay().id(1).
+            name("assay_1"));
+        context.addStudyVariable(metadata, new StudyVariable().id(1).
+            name("sv_1"));
+        return metadata;
+    }
+
+    private List<String> createHeader() {
+        List<String> header = SmallMoleculeColumn.Stable.columns().
+            stream().
+            map(ISmallMoleculeColumn::getHeader).
+            collect(Collectors.toCollection(ArrayList::new));
+        // physical order must not matter
+        Collections.reverse(header);
+        header.add("abundance_assay[1]");
+        header.add("abundance_study_variable[1]");
+        header.add("abundance_variation_study_variable[1]");
+        header.add("opt_global_comment");
+        header.add(0, "SMH");
+        return header;
+    }
+
+    @Test
+    public void testCompileAndParse() throws Exception {
+        MZTabParserContext context = new MZTabParserContext();
+        Metadata metadata = createMetadata(context);
+        List<String> header = createHeader();
+        String headerLine = String.join("\t", header);
+        MZTabErrorList errorList = new MZTabErrorList();
+        SMHLineParser smhParser = new SMHLineParser(context, metadata);
+        smhParser.parse(1, headerLine, errorList);
+        ColumnDispatchTable<SMLLineParser> dispatchTable = smhParser.
+            compileDispatchTable(new PositionMapping(smhParser.getFactory(),
+                headerLine));
+
+        assertNull(dispatchTable.getColumn(0));
+        assertNull(dispatchTable.getHandler(0));
+        assertNull(dispatchTable.getHandler(header.size()));
+        for (int i = 1; i < header.size(); i++) {
+            assertNotNull(header.get(i), dispatchTable.getColumn(i));
+            assertEquals(header.get(i), dispatchTable.getColumn(i).
+                getHeader());
+            assertNotNull(header.get(i), dispatchTable.getHandler(i));
+        }
+        assertTrue(dispatchTable.getColumn(header.size() - 2) instanceof AbundanceColumn);
+        assertTrue(dispatchTable.getColumn(header.size() - 1) instanceof OptionColumn);
+
+        String[] values = new String[header.size()];
+        values[0] = "SML";
+        for (int i = 1; i < header.size(); i++) {
+            values[i] = "null";
+        }
+        values[header.indexOf("SML_ID")] = "7";
+        values[header.indexOf("SMF_ID_REFS")] = "1|2";
+        values[header.indexOf("reliability")] = "2";
+        values[header.indexOf("abundance_assay[1]")] = "10.5";
+        values[header.indexOf("abundance_study_variable[1]")] = "11.5";
+        values[header.indexOf("abundance_variation_study_variable[1]")] = "0.5";
+        values[header.indexOf("opt_global_comment")] = "some comment";
+
+        SMLLineParser smlParser = new SMLLineParser(context, dispatchTable,
+            metadata, errorList);
+        smlParser.parse(2, String.join("\t", values), errorList);
+        assertTrue(errorList.toString(), errorList.isEmpty());
+        SmallMoleculeSummary sml = smlParser.getRecord();
+        assertEquals(Integer.valueOf(7), sml.getSmlId());
+        assertEquals(Arrays.asList(1, 2), sml.getSmfIdRefs());
+        assertEquals("2", sml.getReliability());
+        assertEquals(Arrays.asList(10.5), sml.getAbundanceAssay());
+        assertEquals(Arrays.asList(11.5), sml.getAbundanceStudyVariable());
+        assertEquals(Arrays.asList(0.5), sml.
+            getAbundanceVariationStudyVariable());
+        assertEquals(1, sml.getOpt().
+            size());
+        assertEquals("global_comment", sml.getOpt().
+            get(0).
+            getIdentifier());
+        assertEquals("some comment", sml.getOpt().
+            get(0).
+            getValue());
+    }
+
+    @Test
+    public void testSelect() throws Exception {
+        MZTabParserContext context = new MZTabParserContext();
+        Metadata metadata = createMetadata(context);
+        List<String> header = createHeader();
+        String headerLine = String.join("\t", header);
+        MZTabErrorList errorList = new MZTabErrorList();
+        SMHLineParser smhParser = new SMHLineParser(context, metadata);
+        smhParser.parse(1, headerLine, errorList);
+        ColumnDispatchTable<SMLLineParser> dispatchTable = smhParser.
+            compileDispatchTable(new PositionMapping(smhParser.getFactory(),
+                headerLine));
+        assertFalse(dispatchTable.isProjected());
+        assertSame(dispatchTable, dispatchTable.select((column) -> true));
+
+        ColumnDispatchTable<SMLLineParser> selected = dispatchTable.select(
+            (column) -> column.getHeader().
+                equals("SML_ID") || column.getHeader().
+                equals("chemical_name") || column.getHeader().
+                equals("abundance_assay[1]"));
+        assertTrue(selected.isProjected());
+        assertTrue(selected.isSelected("SML_ID"));
+        assertTrue(selected.isSelected("chemical_name"));
+        assertFalse(selected.isSelected("database_identifier"));
+        assertFalse(selected.isSelected("abundance_study_variable"));
+        for (int i = 1; i < header.size(); i++) {
+            assertEquals(header.get(i), dispatchTable.getColumn(i),
+                selected.getColumn(i));
+            if (selected.isSelected(selected.getColumn(i).
+                getName())) {
+                assertNotNull(header.get(i), selected.getHandler(i));
+            } else {
+                assertNull(header.get(i), selected.getHandler(i));
+            }
+        }
+
+        String[] values = new String[header.size()];
+        values[0] = "SML";
+        for (int i = 1; i < header.size(); i++) {
+            // invalid for all number columns
+            values[i] = "abc";
+        }
+        values[header.indexOf("SML_ID")] = "7";
+        values[header.indexOf("database_identifier")] = "null";
+        values[header.indexOf("chemical_name")] = "a|b";
+        values[header.indexOf("abundance_assay[1]")] = "10.5";
+
+        SMLLineParser smlParser = new SMLLineParser(context, selected,
+            metadata, errorList);
+        smlParser.parse(2, String.join("\t", values), errorList);
+        assertTrue(errorList.toString(), errorList.isEmpty());
+        SmallMoleculeSummary sml = smlParser.getRecord();
+        assertEquals(Integer.valueOf(7), sml.getSmlId());
+        assertEquals(Arrays.asList("a", "b"), sml.getChemicalName());
+        assertEquals(Arrays.asList(10.5), sml.getAbundanceAssay());
+        assertTrue(sml.getSmfIdRefs().
+            isEmpty());
+        assertTrue(sml.getAbundanceStudyVariable().
+            isEmpty());
+        assertNull(sml.getBestIdConfidenceValue());
+
+        // all columns are checked without the selection
+        smlParser = new SMLLineParser(context, dispatchTable, metadata,
+            errorList);
+        smlParser.parse(3, String.join("\t", values), errorList);
+        assertFalse(errorList.isEmpty());
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.utils.parser;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+import uk.ac.ebi.pride.jmztab2.model.MZTabConstants;
+
+/**
+ *
+ * @author nilshoffmann
+ */
+public class MTDDefineLabelTest {
+
+    private static final String[] LABELS = {
+        "mztab-version",
+        "mztab-id",
+        "title",
+        "ms_run[1]-location",
+        "ms_run[12]-id_format",
+        "assay[1]-ms_run_ref",
+        "assay[1]-sample_ref",
+        "assay[1]-custom[2]",
+        "assay[1]-quantification_mod[1]-site",
+        "study_variable[3]-average_function",
+        "sample[1]-species[2]",
+        "colunit-small_molecule",
+        "small_molecule-quantification_unit",
+        "id_confidence_measure[1]",
+        "ms_run[1]",
+        "ms_run[]-location",
+        "ms_run[1-location",
+        "ms_run[a]-location",
+        "ms_run[1]-",
+        "ms_run[1]--location",
+        "ms_run[1]-location-",
+        "ms_run[1]-a[2]-b-c",
+        "ms_run[1]-a[2-b",
+        "ms_run[1]-a-b[3]",
+        "[1]-x",
+        "-x",
+        " title",
+        "",
+        "-",
+        "[]",
+        "ms run[1]-location"
+    };
+
+    @Test
+    public void testMatchesRegex() {
+        Pattern pattern = Pattern.compile(MZTabConstants.REGEX_NORMAL_METADATA);
+        MTDDefineLabel label = new MTDDefineLabel();
+        for (String text : LABELS) {
+            Matcher matcher = pattern.matcher(text);
+            boolean found = matcher.find();
+            assertEquals(text, found, label.reset(text));
+            if (found) {
+                assertEquals(text, matcher.group(1), label.getElementName());
+                assertEquals(text, matcher.group(3), label.getId());
+                assertEquals(text, matcher.group(5), label.
+                    getSubElementName());
+                assertEquals(text, matcher.group(7), label.getSubId());
+                assertEquals(text, matcher.group(9), label.getPropertyName());
+            }
+        }
+    }
+
+    @Test
+    public void testReuse() {
+        MTDDefineLabel label = new MTDDefineLabel();
+        assertTrue(label.reset("assay[1]-quantification_mod[2]-site"));
+        assertEquals("site", label.getPropertyName());
+        assertTrue(label.reset("title"));
+        assertEquals("title", label.getElementName());
+        assertNull(label.getId());
+        assertNull(label.getSubElementName());
+        assertNull(label.getSubId());
+        assertNull(label.getPropertyName());
+        assertFalse(label.reset("--"));
+        assertNull(label.getElementName());
+    }
+}
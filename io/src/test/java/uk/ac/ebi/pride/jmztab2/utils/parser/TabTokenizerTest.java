@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.ebi.pride.jmztab2.utils.parser;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+/**
+ *
+ * @author nilshoffmann
+ */
+public class TabTokenizerTest {
+
+    private static final String[] LINES = {
+        "SML\t1\t1 | 2\tnull",
+        "SML\t1\t\t\tnull",
+        "SML \t 1 \t  value with spaces  \t null ",
+        "  MTD\tmzTab-version\t2.0.0-M  ",
+        "SML\t1\tnull\t\t\t",
+        "SML\t1\tnull\t \t \r",
+        "\tSML\t1",
+        " \t SML\t1",
+        "COM\tsome comment",
+        "COM some comment without tab",
+        "",
+        "   ",
+        "\t",
+        "\t\t \t",
+        "SML\t1\r\n",
+        "SML\t1 \n\t2"
+    };
+
+    @Test
+    public void testMatchesRegexSplit() {
+        TabTokenizer tokenizer = new TabTokenizer();
+        for (String line : LINES) {
+            tokenizer.reset(line);
+            assertArrayEquals("Line '" + line + "'", regexSplit(line),
+                tokenizer.toArray());
+        }
+    }
+
+    @Test
+    public void testFirstField() {
+        for (String line : LINES) {
+            String[] items = regexSplit(line);
+            String expected = items.length == 0 ? "" : items[0];
+            assertEquals("Line '" + line + "'", expected, TabTokenizer.
+                firstField(line));
+        }
+    }
+
+    @Test
+    public void testReuseAndGrow() {
+        TabTokenizer tokenizer = new TabTokenizer();
+        StringBuilder sb = new StringBuilder("SML");
+        for (int i = 0; i < 500; i++) {
+            sb.append('\t').
+                append(i);
+        }
+        tokenizer.reset(sb);
+        assertEquals(501, tokenizer.size());
+        assertEquals("499", tokenizer.get(500));
+        assertTrue(tokenizer.fieldEquals(0, "SML"));
+        tokenizer.reset("SMF\t1");
+        assertEquals(2, tokenizer.size());
+        assertFalse(tokenizer.fieldEquals(0, "SML"));
+        assertEquals("1", tokenizer.field(1).
+            toString());
+        assertEquals(4, tokenizer.start(1));
+        assertEquals(5, tokenizer.end(1));
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void testOutOfBounds() {
+        new TabTokenizer().reset("SML\t1").
+            get(2);
+    }
+
+    private static String[] regexSplit(String line) {
+        String[] items = line.split("\\s*\t\\s*");
+        if (items.length > 0) {
+            items[0] = items[0].trim();
+            items[items.length - 1] = items[items.length - 1].trim();
+        }
+        return items;
+    }
+}
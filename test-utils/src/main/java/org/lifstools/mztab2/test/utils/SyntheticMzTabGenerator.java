@@ -0,0 +1,515 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.test.utils;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.SplittableRandom;
+
+/**
+ * <p>
+ * Generates synthetic, structurally valid mzTab-M files of arbitrary size for
+ * scale and performance testing.</p>
+ *
+ * <p>
+ * Lines are written directly to the target, so the memory required is
+ * independent of the number of rows. Each small molecule summary (SML) row
+ * references {@link #featuresPerSummary(int)} consecutive feature (SMF) rows,
+ * each of which references {@link #evidencesPerFeature(int)} consecutive
+ * evidence (SME) rows, so that all id references resolve. The same
+ * configuration and seed always produce the same file.</p>
+ *
+ * <pre>
+ * new SyntheticMzTabGenerator().
+ *     seed(42).
+ *     summaries(1000000).
+ *     assays(100).
+ *     write(Paths.get("large.mztab"));
+ * </pre>
+ *
+ * @author nilshoffmann
+ */
+public class SyntheticMzTabGenerator {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+    private static final double PROTON_MASS = 1.007276;
+    private static final String NULL = "null";
+    private static final String ADDUCT = "[M+H]1+";
+    private static final String QUANTIFICATION_UNIT = "[MS, MS:1002887, Progenesis QI normalised abundance, ]";
+    private static final String ID_CONFIDENCE_MEASURE = "[MS, MS:1002889, Progenesis MetaScope Score, ]";
+
+    private long seed = 42L;
+    private int summaries = 1000;
+    private int featuresPerSummary = 1;
+    private int evidencesPerFeature = 1;
+    private int assays = 10;
+    private int studyVariables = 2;
+    private int msRuns = 10;
+    private int optColumns = 5;
+
+    /**
+     * Set the seed of the random number generator.
+     *
+     * @param seed the seed, default: 42.
+     * @return this generator.
+     */
+    public SyntheticMzTabGenerator seed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Set the number of small molecule summary (SML) rows.
+     *
+     * @param summaries the number of SML rows, default: 1000.
+     * @return this generator.
+     */
+    public SyntheticMzTabGenerator summaries(int summaries) {
+        this.summaries = summaries;
+        return this;
+    }
+
+    /**
+     * Set the number of small molecule feature (SMF) rows per SML row.
+     *
+     * @param featuresPerSummary the number of SMF rows per SML row, default:
+     * 1.
+     * @return this generator.
+     */
+    public SyntheticMzTabGenerator featuresPerSummary(int featuresPerSummary) {
+        this.featuresPerSummary = featuresPerSummary;
+        return this;
+    }
+
+    /**
+     * Set the number of small molecule evidence (SME) rows per SMF row.
+     *
+     * @param evidencesPerFeature the number of SME rows per SMF row, default:
+     * 1.
+     * @return this generator.
+     */
+    public SyntheticMzTabGenerator evidencesPerFeature(int evidencesPerFeature) {
+        this.evidencesPerFeature = evidencesPerFeature;
+        return this;
+    }
+
+    /**
+     * Set the number of assays. Assays are assigned to ms runs and study
+     * variables in round robin order.
+     *
+     * @param assays the number of assays, default: 10.
+     * @return this generator.
+     */
+    public SyntheticMzTabGenerator assays(int assays) {
+        this.assays = assays;
+        return this;
+    }
+
+    /**
+     * Set the number of study variables. Must not be larger than the number
+     * of assays.
+     *
+     * @param studyVariables the number of study variables, default: 2.
+     * @return this generator.
+     */
+    public SyntheticMzTabGenerator studyVariables(int studyVariables) {
+        this.studyVariables = studyVariables;
+        return this;
+    }
+
+    /**
+     * Set the number of ms runs. Must not be larger than the number of assays.
+     *
+     * @param msRuns the number of ms runs, default: 10.
+     * @return this generator.
+     */
+    public SyntheticMzTabGenerator msRuns(int msRuns) {
+        this.msRuns = msRuns;
+        return this;
+    }
+
+    /**
+     * Set the number of global optional columns added to each table section.
+     *
+     * @param optColumns the number of optional columns, default: 5.
+     * @return this generator.
+     */
+    public SyntheticMzTabGenerator optColumns(int optColumns) {
+        this.optColumns = optColumns;
+        return this;
+    }
+
+    /**
+     * Returns the number of SMF rows that will be generated.
+     *
+     * @return the number of SMF rows.
+     */
+    public long getFeatureCount() {
+        return (long) summaries * featuresPerSummary;
+    }
+
+    /**
+     * Returns the number of SME rows that will be generated.
+     *
+     * @return the number of SME rows.
+     */
+    public long getEvidenceCount() {
+        return getFeatureCount() * evidencesPerFeature;
+    }
+
+    /**
+     * Write the synthetic mzTab-M file to the given path, using UTF-8.
+     *
+     * @param file the file to write to, existing files are overwritten.
+     * @return the file.
+     * @throws IOException if writing fails.
+     */
+    public Path write(Path file) throws IOException {
+        try (Writer writer = new BufferedWriter(new OutputStreamWriter(Files.
+            newOutputStream(file), StandardCharsets.UTF_8), BUFFER_SIZE)) {
+            write(writer);
+        }
+        return file;
+    }
+
+    /**
+     * Write the synthetic mzTab-M file to the given writer. The writer is not
+     * closed.
+     *
+     * @param writer the writer, should be buffered.
+     * @throws IOException if writing fails.
+     */
+    public void write(Writer writer) throws IOException {
+        validate();
+        Random random = new Random(seed);
+        StringBuilder line = new StringBuilder(256);
+        writeMetadata(writer, line);
+        writeSummaries(writer, line, random);
+        writeFeatures(writer, line, random);
+        writeEvidences(writer, line, random);
+        writer.flush();
+    }
+
+    private void validate() {
+        if (summaries < 1 || featuresPerSummary < 1 || evidencesPerFeature < 1) {
+            throw new IllegalArgumentException(
+                "Summaries, features per summary and evidences per feature must be greater than 0!");
+        }
+        if (assays < 1 || studyVariables < 1 || msRuns < 1) {
+            throw new IllegalArgumentException(
+                "Assays, study variables and ms runs must be greater than 0!");
+        }
+        if (studyVariables > assays || msRuns > assays) {
+            throw new IllegalArgumentException(
+                "Study variables and ms runs must not outnumber assays!");
+        }
+        if (optColumns < 0) {
+            throw new IllegalArgumentException(
+                "Opt columns must not be negative!");
+        }
+    }
+
+    private void writeMetadata(Writer writer, StringBuilder line) throws IOException {
+        mtd(writer, line, "mzTab-version", "2.0.0-M");
+        mtd(writer, line, "mzTab-ID", "SYNTHETIC_" + seed);
+        mtd(writer, line, "title", "Synthetic mzTab-M file");
+        mtd(writer, line, "description", "A synthetic mzTab-M file with "
+            + summaries + " summaries, " + getFeatureCount() + " features and "
+            + getEvidenceCount() + " evidences.");
+        mtd(writer, line, "quantification_method",
+            "[MS, MS:1001834, LC-MS label-free quantitation analysis, ]");
+        mtd(writer, line, "software[1]", "[MS, MS:1002879, Progenesis QI, 2.3]");
+        for (int r = 1; r <= msRuns; r++) {
+            String msRun = "ms_run[" + r + "]";
+            mtd(writer, line, msRun + "-location",
+                "file:///data/run" + r + ".mzML");
+            mtd(writer, line, msRun + "-format",
+                "[MS, MS:1000584, mzML file, ]");
+            mtd(writer, line, msRun + "-scan_polarity[1]",
+                "[MS, MS:1000130, positive scan, ]");
+            mtd(writer, line, msRun + "-id_format",
+                "[MS, MS:1000774, multiple peak list nativeID format, ]");
+        }
+        for (int a = 1; a <= assays; a++) {
+            mtd(writer, line, "assay[" + a + "]", "Assay " + a);
+            mtd(writer, line, "assay[" + a + "]-ms_run_ref",
+                "ms_run[" + ((a - 1) % msRuns + 1) + "]");
+        }
+        for (int s = 1; s <= studyVariables; s++) {
+            String studyVariable = "study_variable[" + s + "]";
+            mtd(writer, line, studyVariable, "Group " + s);
+            mtd(writer, line, studyVariable + "-description", "Group " + s);
+            mtd(writer, line, studyVariable + "-average_function",
+                "[MS, MS:1002883, median, ]");
+            mtd(writer, line, studyVariable + "-variation_function",
+                "[MS, MS:1002885, standard error, ]");
+            StringBuilder assayRefs = new StringBuilder();
+            for (int a = s; a <= assays; a += studyVariables) {
+                if (assayRefs.length() > 0) {
+                    assayRefs.append('|');
+                }
+                assayRefs.append("assay[").
+                    append(a).
+                    append(']');
+            }
+            mtd(writer, line, studyVariable + "-assay_refs", assayRefs.
+                toString());
+        }
+        mtd(writer, line, "cv[1]-label", "MS");
+        mtd(writer, line, "cv[1]-uri",
+            "https://raw.githubusercontent.com/HUPO-PSI/psi-ms-CV/master/psi-ms.obo");
+        mtd(writer, line, "cv[1]-version", "4.1.138");
+        mtd(writer, line, "cv[1]-full_name", "PSI-MS controlled vocabulary");
+        mtd(writer, line, "small_molecule-quantification_unit",
+            QUANTIFICATION_UNIT);
+        mtd(writer, line, "small_molecule_feature-quantification_unit",
+            QUANTIFICATION_UNIT);
+        mtd(writer, line, "small_molecule-identification_reliability",
+            "[MS, MS:1002896, compound identification confidence level, ]");
+        mtd(writer, line, "database[1]", "[MIRIAM, MIR:00000051, HMDB, ]");
+        mtd(writer, line, "database[1]-prefix", "HMDB");
+        mtd(writer, line, "database[1]-uri", "http://www.hmdb.ca/");
+        mtd(writer, line, "database[1]-version", "4.0");
+        mtd(writer, line, "id_confidence_measure[1]", ID_CONFIDENCE_MEASURE);
+        writer.write('\n');
+    }
+
+    private void writeSummaries(Writer writer, StringBuilder line, Random random) throws IOException {
+        line.setLength(0);
+        line.append("SMH\tSML_ID\tSMF_ID_REFS\tdatabase_identifier\tchemical_formula\tsmiles\tinchi\tchemical_name\turi\ttheoretical_neutral_mass\tadduct_ions\treliability\tbest_id_confidence_measure\tbest_id_confidence_value");
+        indexedColumns(line, "abundance_assay", assays);
+        indexedColumns(line, "abundance_study_variable", studyVariables);
+        indexedColumns(line, "abundance_variation_study_variable",
+            studyVariables);
+        optColumns(line);
+        writeLine(writer, line);
+        for (int i = 1; i <= summaries; i++) {
+            Compound compound = new Compound(seed, i);
+            line.setLength(0);
+            line.append("SML\t").
+                append(i).
+                append('\t');
+            long firstFeature = (long) (i - 1) * featuresPerSummary + 1;
+            for (int f = 0; f < featuresPerSummary; f++) {
+                if (f > 0) {
+                    line.append('|');
+                }
+                line.append(firstFeature + f);
+            }
+            line.append('\t').
+                append(compound.databaseIdentifier()).
+                append('\t').
+                append(compound.formula).
+                append('\t').
+                append(NULL).
+                append('\t').
+                append(NULL).
+                append('\t').
+                append(compound.name()).
+                append('\t').
+                append(NULL).
+                append('\t').
+                append(compound.mass).
+                append('\t').
+                append(ADDUCT).
+                append('\t').
+                append(1 + random.nextInt(4)).
+                append('\t').
+                append(ID_CONFIDENCE_MEASURE).
+                append('\t').
+                append(random.nextDouble());
+            abundances(line, random, assays + 2 * studyVariables);
+            optValues(line, random);
+            writeLine(writer, line);
+        }
+        writer.write('\n');
+    }
+
+    private void writeFeatures(Writer writer, StringBuilder line, Random random) throws IOException {
+        line.setLength(0);
+        line.append("SFH\tSMF_ID\tSME_ID_REFS\tSME_ID_REF_ambiguity_code\tadduct_ion\tisotopomer\texp_mass_to_charge\tcharge\tretention_time_in_seconds\tretention_time_in_seconds_start\tretention_time_in_seconds_end");
+        indexedColumns(line, "abundance_assay", assays);
+        optColumns(line);
+        writeLine(writer, line);
+        long features = getFeatureCount();
+        for (long j = 1; j <= features; j++) {
+            Compound compound = new Compound(seed,
+                (j - 1) / featuresPerSummary + 1);
+            double rt = 60.0 + random.nextDouble() * 1200.0;
+            line.setLength(0);
+            line.append("SMF\t").
+                append(j).
+                append('\t');
+            long firstEvidence = (j - 1) * evidencesPerFeature + 1;
+            for (int e = 0; e < evidencesPerFeature; e++) {
+                if (e > 0) {
+                    line.append('|');
+                }
+                line.append(firstEvidence + e);
+            }
+            line.append('\t').
+                append(evidencesPerFeature > 1 ? "1" : NULL).
+                append('\t').
+                append(ADDUCT).
+                append('\t').
+                append(NULL).
+                append('\t').
+                append(compound.mass + PROTON_MASS).
+                append('\t').
+                append(1).
+                append('\t').
+                append(rt).
+                append('\t').
+                append(rt - 5.0).
+                append('\t').
+                append(rt + 5.0);
+            abundances(line, random, assays);
+            optValues(line, random);
+            writeLine(writer, line);
+        }
+        writer.write('\n');
+    }
+
+    private void writeEvidences(Writer writer, StringBuilder line, Random random) throws IOException {
+        line.setLength(0);
+        line.append("SEH\tSME_ID\tevidence_input_id\tdatabase_identifier\tchemical_formula\tsmiles\tinchi\tchemical_name\turi\tderivatized_form\tadduct_ion\texp_mass_to_charge\tcharge\ttheoretical_mass_to_charge\tspectra_ref\tidentification_method\tms_level\tid_confidence_measure[1]\trank");
+        optColumns(line);
+        writeLine(writer, line);
+        long evidences = getEvidenceCount();
+        long evidencesPerSummary = (long) featuresPerSummary * evidencesPerFeature;
+        for (long k = 1; k <= evidences; k++) {
+            Compound compound = new Compound(seed,
+                (k - 1) / evidencesPerSummary + 1);
+            double mz = compound.mass + PROTON_MASS;
+            line.setLength(0);
+            line.append("SME\t").
+                append(k).
+                append('\t').
+                append(k).
+                append('\t').
+                append(compound.databaseIdentifier()).
+                append('\t').
+                append(compound.formula).
+                append('\t').
+                append(NULL).
+                append('\t').
+                append(NULL).
+                append('\t').
+                append(compound.name()).
+                append('\t').
+                append(NULL).
+                append('\t').
+                append(NULL).
+                append('\t').
+                append(ADDUCT).
+                append('\t').
+                append(mz).
+                append('\t').
+                append(1).
+                append('\t').
+                append(mz).
+                append("\tms_run[").
+                append((k - 1) % msRuns + 1).
+                append("]:index=").
+                append(k).
+                append("\t[MS, MS:1001477, SpectraST, ]\t[MS, MS:1000511, ms level, 1]\t").
+                append(random.nextDouble()).
+                append('\t').
+                append(1);
+            optValues(line, random);
+            writeLine(writer, line);
+        }
+    }
+
+    private void indexedColumns(StringBuilder line, String name, int n) {
+        for (int i = 1; i <= n; i++) {
+            line.append('\t').
+                append(name).
+                append('[').
+                append(i).
+                append(']');
+        }
+    }
+
+    private void optColumns(StringBuilder line) {
+        for (int i = 1; i <= optColumns; i++) {
+            line.append("\topt_global_synthetic_").
+                append(i);
+        }
+    }
+
+    private void abundances(StringBuilder line, Random random, int n) {
+        for (int i = 0; i < n; i++) {
+            line.append('\t').
+                append(random.nextDouble() * 1.0e6);
+        }
+    }
+
+    private void optValues(StringBuilder line, Random random) {
+        for (int i = 0; i < optColumns; i++) {
+            line.append('\t').
+                append(random.nextInt(1000));
+        }
+    }
+
+    private static void mtd(Writer writer, StringBuilder line, String key,
+        String value) throws IOException {
+        line.setLength(0);
+        line.append("MTD\t").
+            append(key).
+            append('\t').
+            append(value);
+        writeLine(writer, line);
+    }
+
+    private static void writeLine(Writer writer, StringBuilder line) throws IOException {
+        line.append('\n');
+        writer.append(line);
+    }
+
+    /**
+     * The identity of a compound, derived from the seed and its SML id only,
+     * so that SML, SMF and SME rows agree without keeping earlier rows.
+     */
+    private static final class Compound {
+
+        private final long id;
+        private final double mass;
+        private final String formula;
+
+        Compound(long seed, long id) {
+            SplittableRandom random = new SplittableRandom(seed * 31 + id);
+            this.id = id;
+            this.mass = 200.0 + random.nextDouble() * 800.0;
+            this.formula = "C" + (10 + random.nextInt(30)) + "H" + (20 + random.
+                nextInt(60)) + "O" + (1 + random.nextInt(8));
+        }
+
+        String name() {
+            return "Compound " + id;
+        }
+
+        String databaseIdentifier() {
+            return "HMDB:HMDB" + (1000000 + id);
+        }
+    }
+}
@@ -14,6 +14,6 @@
  * limitations under the License.
  */
 /**
- * This package contains custom JUnit Rules for extraction of class path resource files and additional logging for testing.
+ * This package contains custom JUnit Rules for extraction of class path resource files, additional logging for testing and a generator for synthetic mzTab-M files of arbitrary size.
  */
 package org.lifstools.mztab2.test.utils;
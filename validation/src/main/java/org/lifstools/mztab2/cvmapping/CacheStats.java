@@ -0,0 +1,63 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.cvmapping;
+
+import lombok.Value;
+
+/**
+ * Immutable snapshot of the statistics of a {@link ConcurrentLruCache}.
+ *
+ * @author nilshoffmann
+ */
+@Value
+public class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long loadSuccessCount;
+    private final long loadFailureCount;
+    private final long totalLoadTimeNanos;
+    private final long evictionCount;
+
+    /**
+     * Returns the number of lookups, hits and misses.
+     *
+     * @return the number of lookups.
+     */
+    public long getRequestCount() {
+        return hitCount + missCount;
+    }
+
+    /**
+     * Returns the ratio of hits to lookups, or 1.0 if there were no lookups.
+     *
+     * @return the hit rate.
+     */
+    public double getHitRate() {
+        long requests = getRequestCount();
+        return requests == 0 ? 1.0 : (double) hitCount / requests;
+    }
+
+    /**
+     * Returns the average time spent loading a value in nanoseconds.
+     *
+     * @return the average load time in nanoseconds.
+     */
+    public double getAverageLoadPenalty() {
+        long loads = loadSuccessCount + loadFailureCount;
+        return loads == 0 ? 0.0 : (double) totalLoadTimeNanos / loads;
+    }
+}
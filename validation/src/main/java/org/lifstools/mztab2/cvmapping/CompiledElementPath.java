@@ -0,0 +1,340 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.cvmapping;
+
+import org.lifstools.mztab2.model.Parameter;
+import java.beans.BeanInfo;
+import java.beans.IntrospectionException;
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.jxpath.JXPathContext;
+import org.apache.commons.jxpath.Pointer;
+import org.apache.commons.lang3.tuple.Pair;
+
+/**
+ * A cv element path of a cv mapping rule, compiled into a chain of getter
+ * method handles on the model classes.
+ *
+ * The supported subset of paths are absolute child steps over bean properties
+ * that end in an attribute, e.g. <code>/metadata/instrument/@analyzer</code>.
+ * Collection valued properties are iterated. The selection, including
+ * <code>null</code> values and the paths returned by
+ * {@link Pointer#asPath()}, is the same as the one of
+ * {@link JxPathElement#toList(JXPathContext, String, Class)}. Paths outside
+ * of the subset, or over properties that can not be resolved on the static
+ * types, are evaluated with JXPath.
+ *
+ * @author nilshoffmann
+ */
+@Slf4j
+public final class CompiledElementPath {
+
+    private static final Pattern SUPPORTED_PATH = Pattern.compile(
+        "(/[A-Za-z_][A-Za-z0-9_]*)*/@[A-Za-z_][A-Za-z0-9_]*");
+
+    private final String path;
+    private final Step[] steps;
+
+    private CompiledElementPath(String path, Step[] steps) {
+        this.path = path;
+        this.steps = steps;
+    }
+
+    /**
+     * Compiles the path for objects of the given root type. If the path can
+     * not be compiled, the returned instance evaluates it with JXPath.
+     *
+     * @param path the cv element path.
+     * @param rootType the type of the context bean the path is evaluated on.
+     * @return the compiled path.
+     */
+    public static CompiledElementPath compile(String path, Class<?> rootType) {
+        if (path == null || !SUPPORTED_PATH.matcher(path).
+            matches()) {
+            return new CompiledElementPath(path, null);
+        }
+        String[] names = path.substring(1).
+            split("/");
+        Step[] steps = new Step[names.length];
+        Class<?> type = rootType;
+        for (int i = 0; i < names.length; i++) {
+            String name = names[i].startsWith("@") ? names[i].substring(1) : names[i];
+            steps[i] = Step.of(type, name);
+            if (steps[i] == null) {
+                log.debug("Evaluating path {} with JXPath, property {} is not resolvable on {}",
+                    path, name, type);
+                return new CompiledElementPath(path, null);
+            }
+            type = steps[i].elementType;
+        }
+        if (!Parameter.class.isAssignableFrom(type)) {
+            return new CompiledElementPath(path, null);
+        }
+        return new CompiledElementPath(path, steps);
+    }
+
+    /**
+     * Returns the path.
+     *
+     * @return the path.
+     */
+    public String getPath() {
+        return path;
+    }
+
+    /**
+     * Returns true, if the path was compiled and is not evaluated with JXPath.
+     *
+     * @return true, if the path was compiled.
+     */
+    public boolean isCompiled() {
+        return steps != null;
+    }
+
+    /**
+     * Selects the parameters addressed by this path from the context bean.
+     *
+     * @param context the context, whose context bean is the root object.
+     * @return the pairs of pointer and parameter, in document order.
+     */
+    public List<Pair<Pointer, Parameter>> select(JXPathContext context) {
+        if (steps == null) {
+            return JxPathElement.toList(context, path, Parameter.class);
+        }
+        Object root = context.getContextBean();
+        List<Pair<Pointer, Parameter>> selection = new ArrayList<>();
+        select(root, root, 0, null, selection);
+        return selection;
+    }
+
+    private void select(Object root, Object bean, int stepIndex,
+        Location parent, List<Pair<Pointer, Parameter>> selection) {
+        Step step = steps[stepIndex];
+        Object value = step.get(bean);
+        if (stepIndex == steps.length - 1) {
+            if (!step.collection) {
+                add(root, new Location(parent, step.name, 0), value, selection);
+            } else if (value == null) {
+                add(root, new Location(parent, step.name, 1), null, selection);
+            } else {
+                int index = 1;
+                for (Object element : (Collection<?>) value) {
+                    add(root, new Location(parent, step.name, index++), element,
+                        selection);
+                }
+            }
+        } else if (value != null) {
+            if (step.collection) {
+                int index = 1;
+                for (Object element : (Collection<?>) value) {
+                    Location location = new Location(parent, step.name, index++);
+                    if (element != null) {
+                        select(root, element, stepIndex + 1, location,
+                            selection);
+                    }
+                }
+            } else {
+                select(root, value, stepIndex + 1, new Location(parent,
+                    step.name, 0), selection);
+            }
+        }
+    }
+
+    private static void add(Object root, Location location, Object value,
+        List<Pair<Pointer, Parameter>> selection) {
+        selection.add(Pair.of(new CompiledPointer(root, location, value),
+            Parameter.class.cast(value)));
+    }
+
+    /**
+     * A single property access.
+     */
+    private static final class Step {
+
+        private static final MethodType GETTER_TYPE = MethodType.methodType(
+            Object.class, Object.class);
+
+        private final String name;
+        private final MethodHandle getter;
+        private final boolean collection;
+        private final Class<?> elementType;
+
+        private Step(String name, MethodHandle getter, boolean collection,
+            Class<?> elementType) {
+            this.name = name;
+            this.getter = getter;
+            this.collection = collection;
+            this.elementType = elementType;
+        }
+
+        static Step of(Class<?> type, String name) {
+            try {
+                BeanInfo beanInfo = Introspector.getBeanInfo(type);
+                for (PropertyDescriptor pd : beanInfo.getPropertyDescriptors()) {
+                    if (!pd.getName().
+                        equals(name) || pd.getReadMethod() == null) {
+                        continue;
+                    }
+                    Method readMethod = pd.getReadMethod();
+                    MethodHandle getter = MethodHandles.publicLookup().
+                        unreflect(readMethod).
+                        asType(GETTER_TYPE);
+                    if (Collection.class.isAssignableFrom(readMethod.
+                        getReturnType())) {
+                        Class<?> elementType = elementType(readMethod.
+                            getGenericReturnType());
+                        return elementType == null ? null : new Step(name,
+                            getter, true, elementType);
+                    }
+                    if (readMethod.getReturnType().
+                        isArray()) {
+                        return null;
+                    }
+                    return new Step(name, getter, false, readMethod.
+                        getReturnType());
+                }
+            } catch (IntrospectionException | IllegalAccessException ex) {
+                log.debug("Could not introspect property " + name + " of "
+                    + type, ex);
+            }
+            return null;
+        }
+
+        private static Class<?> elementType(Type type) {
+            if (type instanceof ParameterizedType) {
+                Type[] args = ((ParameterizedType) type).getActualTypeArguments();
+                if (args.length == 1 && args[0] instanceof Class) {
+                    return (Class<?>) args[0];
+                }
+            }
+            return null;
+        }
+
+        Object get(Object bean) {
+            try {
+                return getter.invokeExact(bean);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new IllegalStateException("Could not read property "
+                    + name + " of " + bean, t);
+            }
+        }
+    }
+
+    /**
+     * A step of a selected location, the path string is only built when
+     * requested.
+     */
+    private static final class Location {
+
+        private final Location parent;
+        private final String name;
+        private final int index;
+
+        Location(Location parent, String name, int index) {
+            this.parent = parent;
+            this.name = name;
+            this.index = index;
+        }
+
+        void appendTo(StringBuilder sb) {
+            if (parent != null) {
+                parent.appendTo(sb);
+            }
+            sb.append('/').
+                append(name);
+            if (index > 0) {
+                sb.append('[').
+                    append(index).
+                    append(']');
+            }
+        }
+    }
+
+    /**
+     * Read-only pointer to a selected value.
+     */
+    private static final class CompiledPointer implements Pointer {
+
+        private static final long serialVersionUID = 1L;
+
+        private final Object root;
+        private final Location location;
+        private final Object value;
+
+        CompiledPointer(Object root, Location location, Object value) {
+            this.root = root;
+            this.location = location;
+            this.value = value;
+        }
+
+        @Override
+        public Object getValue() {
+            return value;
+        }
+
+        @Override
+        public Object getNode() {
+            return value;
+        }
+
+        @Override
+        public void setValue(Object value) {
+            throw new UnsupportedOperationException(
+                "Pointers of compiled paths are read-only!");
+        }
+
+        @Override
+        public Object getRootNode() {
+            return root;
+        }
+
+        @Override
+        public String asPath() {
+            StringBuilder sb = new StringBuilder();
+            location.appendTo(sb);
+            return sb.toString();
+        }
+
+        @Override
+        public Object clone() {
+            return this;
+        }
+
+        @Override
+        public int compareTo(Object o) {
+            return asPath().
+                compareTo(((Pointer) o).asPath());
+        }
+
+        @Override
+        public String toString() {
+            return asPath();
+        }
+    }
+}
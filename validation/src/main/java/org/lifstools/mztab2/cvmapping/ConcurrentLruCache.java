@@ -0,0 +1,276 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.cvmapping;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * Thread-safe cache bounded by size and by the time since a value was loaded.
+ *
+ * Values are loaded with single-flight semantics: concurrent calls of
+ * {@link #get(Object, Function)} for the same key run the loader only once,
+ * all other callers wait for and share its result. Failed loads are not
+ * cached, the exception is rethrown to every waiting caller. When the cache
+ * grows beyond its maximum size, the least recently used entries are evicted
+ * in a batch.
+ *
+ * @param <K> the key type.
+ * @param <V> the value type.
+ * @author nilshoffmann
+ */
+public final class ConcurrentLruCache<K, V> {
+
+    private final ConcurrentHashMap<K, Node<V>> map;
+    private final int maxSize;
+    private final long expireAfterWriteNanos;
+    private final LongSupplier ticker;
+    private final AtomicLong accessClock = new AtomicLong();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadSuccesses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder totalLoadTime = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxSize the maximum number of entries.
+     * @param expireAfterWrite the time after which a loaded value is
+     * discarded, null or zero for no expiry.
+     */
+    public ConcurrentLruCache(int maxSize, Duration expireAfterWrite) {
+        this(maxSize, expireAfterWrite, System::nanoTime);
+    }
+
+    ConcurrentLruCache(int maxSize, Duration expireAfterWrite,
+        LongSupplier ticker) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException(
+                "maxSize must be at least 1, was: " + maxSize);
+        }
+        this.maxSize = maxSize;
+        this.expireAfterWriteNanos = expireAfterWrite == null || expireAfterWrite.
+            isZero() ? Long.MAX_VALUE : expireAfterWrite.toNanos();
+        this.ticker = ticker;
+        this.map = new ConcurrentHashMap<>(Math.min(maxSize, 1 << 16) * 4 / 3
+            + 1);
+    }
+
+    /**
+     * Returns the value for key, loading it with loader if it is not cached
+     * or has expired.
+     *
+     * @param key the key.
+     * @param loader computes the value for the key, must not return null.
+     * @return the cached or loaded value.
+     * @throws RuntimeException the exception thrown by the loader.
+     */
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        Node<V> node = map.get(key);
+        if (node != null && isExpired(node)) {
+            if (map.remove(key, node)) {
+                evictions.increment();
+            }
+            node = null;
+        }
+        if (node == null) {
+            Node<V> created = new Node<>();
+            node = map.putIfAbsent(key, created);
+            if (node == null) {
+                misses.increment();
+                created.accessed = accessClock.incrementAndGet();
+                return load(key, created, loader);
+            }
+        }
+        hits.increment();
+        node.accessed = accessClock.incrementAndGet();
+        return await(node);
+    }
+
+    /**
+     * Returns the value for key if it is cached and has not expired.
+     *
+     * @param key the key.
+     * @return the value, or null.
+     */
+    public V getIfPresent(K key) {
+        Node<V> node = map.get(key);
+        if (node == null || isExpired(node) || !node.future.isDone()
+            || node.future.isCompletedExceptionally()) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        node.accessed = accessClock.incrementAndGet();
+        return node.future.join();
+    }
+
+    /**
+     * Adds or replaces the value for key.
+     *
+     * @param key the key.
+     * @param value the value.
+     */
+    public void put(K key, V value) {
+        Node<V> node = new Node<>();
+        node.accessed = accessClock.incrementAndGet();
+        node.written = ticker.getAsLong();
+        node.future.complete(value);
+        map.put(key, node);
+        evictIfNecessary();
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        map.clear();
+    }
+
+    /**
+     * Returns the number of entries, including entries that are being loaded.
+     *
+     * @return the number of entries.
+     */
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * Returns a snapshot of the cache statistics.
+     *
+     * @return the statistics.
+     */
+    public CacheStats stats() {
+        return new CacheStats(hits.sum(), misses.sum(), loadSuccesses.sum(),
+            loadFailures.sum(), totalLoadTime.sum(), evictions.sum());
+    }
+
+    private V load(K key, Node<V> node, Function<? super K, ? extends V> loader) {
+        long start = ticker.getAsLong();
+        V value;
+        try {
+            value = loader.apply(key);
+            if (value == null) {
+                throw new NullPointerException("Loader returned null for key "
+                    + key);
+            }
+        } catch (RuntimeException | Error e) {
+            totalLoadTime.add(ticker.getAsLong() - start);
+            loadFailures.increment();
+            map.remove(key, node);
+            node.future.completeExceptionally(e);
+            throw e;
+        }
+        long end = ticker.getAsLong();
+        totalLoadTime.add(end - start);
+        loadSuccesses.increment();
+        node.written = end;
+        node.future.complete(value);
+        evictIfNecessary();
+        return value;
+    }
+
+    private V await(Node<V> node) {
+        try {
+            return node.future.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw e;
+        }
+    }
+
+    private boolean isExpired(Node<V> node) {
+        return expireAfterWriteNanos != Long.MAX_VALUE && node.future.isDone()
+            && ticker.getAsLong() - node.written >= expireAfterWriteNanos;
+    }
+
+    /**
+     * Evicts the least recently used tenth of the entries once the maximum
+     * size is exceeded, so that the sort is amortized over many insertions.
+     */
+    private void evictIfNecessary() {
+        if (map.size() <= maxSize || !evictionLock.tryLock()) {
+            return;
+        }
+        try {
+            int excess = map.size() - maxSize;
+            if (excess <= 0) {
+                return;
+            }
+            int toEvict = Math.min(map.size(), excess + maxSize / 10);
+            // access times are copied, since they change while sorting
+            List<Candidate<K, V>> candidates = new ArrayList<>(map.size());
+            for (Map.Entry<K, Node<V>> entry : map.entrySet()) {
+                candidates.add(new Candidate<>(entry.getKey(), entry.getValue()));
+            }
+            candidates.sort(Comparator.comparingLong((candidate) -> candidate.accessed));
+            for (Candidate<K, V> candidate : candidates) {
+                if (toEvict == 0) {
+                    break;
+                }
+                // entries that are still loading are left alone
+                if (candidate.node.future.isDone() && map.remove(candidate.key,
+                    candidate.node)) {
+                    evictions.increment();
+                    toEvict--;
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private static final class Node<V> {
+
+        private final CompletableFuture<V> future = new CompletableFuture<>();
+        private volatile long written;
+        private volatile long accessed;
+    }
+
+    private static final class Candidate<K, V> {
+
+        private final K key;
+        private final Node<V> node;
+        private final long accessed;
+
+        Candidate(K key, Node<V> node) {
+            this.key = key;
+            this.node = node;
+            this.accessed = node.accessed;
+        }
+    }
+}
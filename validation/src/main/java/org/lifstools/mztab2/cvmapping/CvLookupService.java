@@ -0,0 +1,109 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.cvmapping;
+
+import org.lifstools.mztab2.model.Parameter;
+import java.util.List;
+
+/**
+ * Lookup of parent and child terms of cv parameters, as used by the
+ * {@link org.lifstools.mztab2.validation.handlers.ResolvingCvRuleHandler}
+ * to check whether a parameter is allowed by a cv mapping rule.
+ *
+ * Implementations may query a remote service, like the
+ * {@link CvParameterLookupService}, or a local ontology, like the
+ * {@link OboCvParameterLookupService}.
+ *
+ * @author nilshoffmann
+ */
+public interface CvLookupService {
+
+    /**
+     * Resolve all parents of parameter up to an arbitrary depth (actually height, since we go from bottom to top).
+     * @param parameter the parameter to start from
+     * @return a list of all parent parameters for the given parameter
+     */
+    List<Parameter> resolveParents(Parameter parameter);
+
+    /**
+     * Resolve all parents of a parameter up to a given maximum depth (1 meaning the immediate parents, -1 meaning all).
+     * @param parameter the parameter to start from
+     * @param levels maximum levels to query
+     * @return a list of all parent parameters for the given parameter
+     */
+    List<Parameter> resolveParents(Parameter parameter, int levels);
+
+    /**
+     * Resolve all children of a parameter up to an arbitrary depth.
+     * @param parameter the parameter to start from
+     * @return a list of all child parameters for the given parameter
+     */
+    List<Parameter> resolveChildren(Parameter parameter);
+
+    /**
+     * Resolve all children of a parameter up to a given maximum depth (1 meaning immediate children, -1 meaning all).
+     * @param parameter the parameter to start from
+     * @param levels maximum levels to query
+     * @return a list of all child parameters for the given parameter
+     */
+    List<Parameter> resolveChildren(Parameter parameter, int levels);
+
+    /**
+     * Compares two parameters for their parent to child relationship. The result can be one of: IDENTICAL, if parent and potential child are the same node,
+     * CHILD_OF, if potentialChild is a child of parent (at least 1 level away), or NOT_RELATED, if there is no path from child to parent.
+     *
+     * The default implementation checks all parents of potentialChild, as
+     * returned by {@link #resolveParents(Parameter)}.
+     * @param parent the parent term to start from
+     * @param potentialChild the potential child term to check against parent
+     * @return the comparison result
+     */
+    default ParameterComparisonResult isChildOfOrSame(Parameter parent,
+        Parameter potentialChild) {
+        if (parent.getCvAccession().
+            toUpperCase().
+            equals(potentialChild.getCvAccession().
+                toUpperCase())) {
+            return ParameterComparisonResult.IDENTICAL;
+        }
+        List<Parameter> parentsOf = resolveParents(potentialChild);
+        boolean result = parentsOf.stream().
+            anyMatch((potentialParent) ->
+            {
+                return CvMappingUtils.isEqualTo(potentialParent, parent);
+            });
+        if (result) {
+            return ParameterComparisonResult.CHILD_OF;
+        }
+        return ParameterComparisonResult.NOT_RELATED;
+    }
+
+    /**
+     * Returns true, if lookups may query a remote service and are therefore
+     * worth resolving concurrently ahead of time. The default implementation
+     * returns true.
+     *
+     * @return true, if lookups may be slow remote queries
+     */
+    default boolean isRemote() {
+        return true;
+    }
+
+    /**
+     * Clears all query result caches (parent and child).
+     */
+    void clearCaches();
+}
@@ -16,9 +16,9 @@
 package org.lifstools.mztab2.cvmapping;
 
 import org.lifstools.mztab2.model.Parameter;
-import java.util.LinkedHashMap;
+import java.time.Duration;
 import java.util.List;
-import java.util.Map;
+import java.util.Locale;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import uk.ac.ebi.pride.utilities.ols.web.service.client.OLSClient;
@@ -29,23 +29,30 @@ import uk.ac.ebi.pride.utilities.ols.web.service.model.Identifier;
  * Abstraction over OLSClient to autoconvert Terms to Parameters and to allow
  * easy matching of Parameters against parent terms and their children.
  *
+ * Query results are kept in {@link ConcurrentLruCache}s keyed on the upper
+ * case cv accession and the number of levels, so that parameters with the same
+ * accession but a different name or value share one lookup. Concurrent lookups
+ * of the same term issue a single request, so that an instance can be shared
+ * by concurrent validations.
+ *
  * @author nilshoffmann
  */
 @Slf4j
-public class CvParameterLookupService {
+public class CvParameterLookupService implements CvLookupService {
+
+    /**
+     * Default maximum number of entries of the parent and child caches.
+     */
+    public static final int DEFAULT_CACHE_SIZE = 4096;
+
+    /**
+     * Default time after which cached query results are discarded.
+     */
+    public static final Duration DEFAULT_CACHE_EXPIRY = Duration.ofHours(24);
 
     private final OLSClient client;
-    private final Map<Parameter, List<Parameter>> childCache;
-    private final Map<Parameter, List<Parameter>> parentCache;
-
-    private static <K, V> Map<K, V> lruCache(final int maxSize) {
-        return new LinkedHashMap<K, V>(maxSize * 4 / 3, 0.75f, true) {
-            @Override
-            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-                return size() > maxSize;
-            }
-        };
-    }
+    private final ConcurrentLruCache<String, List<Parameter>> childCache;
+    private final ConcurrentLruCache<String, List<Parameter>> parentCache;
 
     /**
      * Create a new instance of the lookup service with default OLS configuration.
@@ -59,9 +66,21 @@ public class CvParameterLookupService {
      * @param client the custom OLS client
      */
     public CvParameterLookupService(OLSClient client) {
+        this(client, DEFAULT_CACHE_SIZE, DEFAULT_CACHE_EXPIRY);
+    }
+
+    /**
+     * Create a new instance of the lookup service with a custom OLSClient and
+     * custom cache bounds.
+     * @param client the custom OLS client
+     * @param cacheSize the maximum number of entries of the parent and of the child cache
+     * @param cacheExpiry the time after which cached query results are discarded, null or zero for no expiry
+     */
+    public CvParameterLookupService(OLSClient client, int cacheSize,
+        Duration cacheExpiry) {
         this.client = client;
-        this.childCache = lruCache(4096);
-        this.parentCache = lruCache(4096);
+        this.childCache = new ConcurrentLruCache<>(cacheSize, cacheExpiry);
+        this.parentCache = new ConcurrentLruCache<>(cacheSize, cacheExpiry);
     }
 
     /**
@@ -75,11 +94,28 @@ public class CvParameterLookupService {
     /**
      * Clears all query result caches (parent and child).
      */
+    @Override
     public void clearCaches() {
         this.childCache.clear();
         this.parentCache.clear();
     }
 
+    /**
+     * Returns the statistics of the parent cache.
+     * @return the parent cache statistics
+     */
+    public CacheStats getParentCacheStats() {
+        return parentCache.stats();
+    }
+
+    /**
+     * Returns the statistics of the child cache.
+     * @return the child cache statistics
+     */
+    public CacheStats getChildCacheStats() {
+        return childCache.stats();
+    }
+
     /**
      * Resolve all parents of parameter up to an arbitrary depth (actually height, since we go from bottom to top).
      * Use at your own risk, the OLS service may terminate your connection if the response is too large or takes too long.
@@ -87,6 +123,7 @@ public class CvParameterLookupService {
      * @return a list of all parent parameters for the given parameter
      * @throws org.springframework.web.client.HttpClientErrorException on http related errors
      */
+    @Override
     public List<Parameter> resolveParents(Parameter parameter) throws org.springframework.web.client.HttpClientErrorException {
         return resolveParents(parameter, -1);
     }
@@ -98,23 +135,22 @@ public class CvParameterLookupService {
      * @return a list of all parent parameters for the given parameter
      * @throws org.springframework.web.client.HttpClientErrorException on http related errors
      */
+    @Override
     public List<Parameter> resolveParents(Parameter parameter, int levels) throws org.springframework.web.client.HttpClientErrorException {
         if (parameter.getCvAccession() == null || parameter.getCvLabel() == null) {
             throw new IllegalArgumentException(
                 "Parameter must provide cvAccession and cvLabel!");
         }
-        if(parentCache.containsKey(parameter)) {
-            log.debug("Cache hit for parameter "+parameter+" in parent cache!");
-            return parentCache.get(parameter);
-        }
-        Identifier ident = new Identifier(parameter.getCvAccession(),
-            Identifier.IdentifierType.OBO);
-        List<Parameter> parents = client.getTermParents(ident, parameter.getCvLabel(), levels).
-            stream().
-            map(CvMappingUtils::asParameter).
-            collect(Collectors.toList());
-        parentCache.put(parameter, parents);
-        return parents;
+        return parentCache.get(cacheKey(parameter, levels), (key) ->
+        {
+            log.debug("Cache miss for parameter " + parameter + " in parent cache!");
+            Identifier ident = new Identifier(parameter.getCvAccession(),
+                Identifier.IdentifierType.OBO);
+            return client.getTermParents(ident, parameter.getCvLabel(), levels).
+                stream().
+                map(CvMappingUtils::asParameter).
+                collect(Collectors.toList());
+        });
     }
 
     /**
@@ -124,23 +160,22 @@ public class CvParameterLookupService {
      * @return a list of all child parameters for the given parameter
      * @throws org.springframework.web.client.HttpClientErrorException on http related errors
      */
+    @Override
     public List<Parameter> resolveChildren(Parameter parameter, int levels) throws org.springframework.web.client.HttpClientErrorException {
         if (parameter.getCvAccession() == null || parameter.getCvLabel() == null) {
             throw new IllegalArgumentException(
                 "Parameter must provide cvAccession and cvLabel!");
         }
-        if(childCache.containsKey(parameter)) {
-            log.debug("Cache hit for parameter "+parameter+" in child cache!");
-            return childCache.get(parameter);
-        }
-        Identifier ident = new Identifier(parameter.getCvAccession(),
-            Identifier.IdentifierType.OBO);
-        List<Parameter> children = client.getTermChildren(ident, parameter.getCvLabel(), levels).
-            stream().
-            map(CvMappingUtils::asParameter).
-            collect(Collectors.toList());
-        childCache.put(parameter, children);
-        return children;
+        return childCache.get(cacheKey(parameter, levels), (key) ->
+        {
+            log.debug("Cache miss for parameter " + parameter + " in child cache!");
+            Identifier ident = new Identifier(parameter.getCvAccession(),
+                Identifier.IdentifierType.OBO);
+            return client.getTermChildren(ident, parameter.getCvLabel(), levels).
+                stream().
+                map(CvMappingUtils::asParameter).
+                collect(Collectors.toList());
+        });
     }
 
     /**
@@ -150,36 +185,14 @@ public class CvParameterLookupService {
      * @return a list of all child parameters for the given parameter
      * @throws org.springframework.web.client.HttpClientErrorException on http related errors
      */
+    @Override
     public List<Parameter> resolveChildren(Parameter parameter) throws org.springframework.web.client.HttpClientErrorException {
         return resolveChildren(parameter, -1);
     }
 
-    /**
-     * Compares two parameters for their parent to child relationship. The result can be one of: IDENTICAL, if parent and potential child are the same node,
-     * CHILD_OF, if potentialChild is a child of parent (at least 1 level away), or NOT_RELATED, if there is no path from child to parent.
-     * @param parent the parent term to start from
-     * @param potentialChild the potential child term to check against parent
-     * @return the comparison result
-     * @throws org.springframework.web.client.HttpClientErrorException on http related errors
-     */
-    public ParameterComparisonResult isChildOfOrSame(Parameter parent,
-        Parameter potentialChild) throws org.springframework.web.client.HttpClientErrorException {
-        if (parent.getCvAccession().
-            toUpperCase().
-            equals(potentialChild.getCvAccession().
-                toUpperCase())) {
-            return ParameterComparisonResult.IDENTICAL;
-        }
-        List<Parameter> parentsOf = resolveParents(potentialChild);
-        boolean result = parentsOf.stream().
-            anyMatch((potentialParent) ->
-            {
-                return CvMappingUtils.isEqualTo(potentialParent, parent);
-            });
-        if (result) {
-            return ParameterComparisonResult.CHILD_OF;
-        }
-        return ParameterComparisonResult.NOT_RELATED;
+    private static String cacheKey(Parameter parameter, int levels) {
+        return parameter.getCvAccession().
+            toUpperCase(Locale.ROOT) + "/" + levels;
     }
 
 }
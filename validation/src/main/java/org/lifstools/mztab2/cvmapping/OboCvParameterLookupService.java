@@ -0,0 +1,345 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.cvmapping;
+
+import org.lifstools.mztab2.model.Parameter;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Offline implementation of the {@link CvLookupService} backed by local OBO
+ * files, e.g. snapshots of PSI-MS, UO or a subset of NCBITaxon.
+ *
+ * All <code>[Term]</code> stanzas of the given files are loaded into an
+ * in-memory directed acyclic graph following the <code>is_a</code>
+ * relationships. The ancestor closure of every term is computed once during
+ * construction, so that {@link #isChildOfOrSame(Parameter, Parameter)} is a
+ * single set lookup. Terms that are not defined in any of the files have
+ * neither parents nor children and are not related to any other term.
+ * Instances are immutable and thread-safe.
+ *
+ * @author nilshoffmann
+ */
+@Slf4j
+public class OboCvParameterLookupService implements CvLookupService {
+
+    private final Map<String, OboTerm> terms;
+    private final Map<String, Set<String>> ancestors;
+
+    /**
+     * Create a new instance of the lookup service from local OBO files.
+     * Directories are expanded to the <code>.obo</code> files that they
+     * contain.
+     *
+     * @param oboFiles the OBO files or directories to load
+     * @return the lookup service
+     * @throws IOException if a file can not be read
+     */
+    public static OboCvParameterLookupService of(Path... oboFiles) throws IOException {
+        Map<String, OboTerm> terms = new HashMap<>();
+        for (Path oboFile : oboFiles) {
+            if (Files.isDirectory(oboFile)) {
+                try (DirectoryStream<Path> stream = Files.newDirectoryStream(
+                    oboFile, "*.obo")) {
+                    for (Path file : stream) {
+                        read(file.toString(), Files.newBufferedReader(file,
+                            StandardCharsets.UTF_8), terms);
+                    }
+                }
+            } else {
+                read(oboFile.toString(), Files.newBufferedReader(oboFile,
+                    StandardCharsets.UTF_8), terms);
+            }
+        }
+        return new OboCvParameterLookupService(terms);
+    }
+
+    /**
+     * Create a new instance of the lookup service from OBO files at the given
+     * URLs, e.g. an ontology snapshot bundled on the classpath.
+     *
+     * @param oboFiles the OBO file URLs to load
+     * @return the lookup service
+     * @throws IOException if a file can not be read
+     */
+    public static OboCvParameterLookupService of(URL... oboFiles) throws IOException {
+        Map<String, OboTerm> terms = new HashMap<>();
+        for (URL oboFile : oboFiles) {
+            read(oboFile.toString(), new BufferedReader(new InputStreamReader(
+                oboFile.openStream(), StandardCharsets.UTF_8)), terms);
+        }
+        return new OboCvParameterLookupService(terms);
+    }
+
+    private OboCvParameterLookupService(Map<String, OboTerm> terms) {
+        this.terms = terms;
+        this.ancestors = new HashMap<>(terms.size() * 4 / 3 + 1);
+        for (OboTerm term : terms.values()) {
+            for (String parent : term.parents) {
+                OboTerm parentTerm = terms.get(parent);
+                if (parentTerm != null) {
+                    parentTerm.children.add(term.key);
+                }
+            }
+        }
+        for (String key : terms.keySet()) {
+            closure(key, new LinkedHashSet<>());
+        }
+        log.debug("Loaded {} terms from OBO files.", terms.size());
+    }
+
+    /**
+     * Returns the number of terms loaded from the OBO files.
+     *
+     * @return the number of terms
+     */
+    public int size() {
+        return terms.size();
+    }
+
+    @Override
+    public List<Parameter> resolveParents(Parameter parameter) {
+        return resolveParents(parameter, -1);
+    }
+
+    @Override
+    public List<Parameter> resolveParents(Parameter parameter, int levels) {
+        String key = keyOf(parameter);
+        if (levels < 0) {
+            return ancestors.getOrDefault(key, Collections.emptySet()).
+                stream().
+                map(this::asParameter).
+                collect(Collectors.toList());
+        }
+        return traverse(key, levels, (term) -> term.parents);
+    }
+
+    @Override
+    public List<Parameter> resolveChildren(Parameter parameter) {
+        return resolveChildren(parameter, -1);
+    }
+
+    @Override
+    public List<Parameter> resolveChildren(Parameter parameter, int levels) {
+        return traverse(keyOf(parameter), levels, (term) -> term.children);
+    }
+
+    @Override
+    public ParameterComparisonResult isChildOfOrSame(Parameter parent,
+        Parameter potentialChild) {
+        String parentKey = parent.getCvAccession().
+            toUpperCase(Locale.ROOT);
+        String childKey = potentialChild.getCvAccession().
+            toUpperCase(Locale.ROOT);
+        if (parentKey.equals(childKey)) {
+            return ParameterComparisonResult.IDENTICAL;
+        }
+        if (ancestors.getOrDefault(childKey, Collections.emptySet()).
+            contains(parentKey)) {
+            return ParameterComparisonResult.CHILD_OF;
+        }
+        return ParameterComparisonResult.NOT_RELATED;
+    }
+
+    /**
+     * Returns false, all terms are resolved from the local term graph.
+     *
+     * @return false
+     */
+    @Override
+    public boolean isRemote() {
+        return false;
+    }
+
+    /**
+     * Does nothing, the term graph is not a cache and is kept for the
+     * lifetime of this instance.
+     */
+    @Override
+    public void clearCaches() {
+    }
+
+    private Set<String> closure(String key, Set<String> visiting) {
+        Set<String> result = ancestors.get(key);
+        if (result != null) {
+            return result;
+        }
+        OboTerm term = terms.get(key);
+        if (term == null || !visiting.add(key)) {
+            return Collections.emptySet();
+        }
+        result = new LinkedHashSet<>(term.parents);
+        for (String parent : term.parents) {
+            result.addAll(closure(parent, visiting));
+        }
+        visiting.remove(key);
+        result.remove(key);
+        ancestors.put(key, result);
+        return result;
+    }
+
+    private List<Parameter> traverse(String key, int levels,
+        Function<OboTerm, List<String>> edges) {
+        Set<String> visited = new LinkedHashSet<>();
+        Deque<String> current = new ArrayDeque<>();
+        current.add(key);
+        for (int level = 0; !current.isEmpty() && (levels < 0 || level < levels); level++) {
+            Deque<String> next = new ArrayDeque<>();
+            for (String k : current) {
+                OboTerm term = terms.get(k);
+                if (term == null) {
+                    continue;
+                }
+                for (String edge : edges.apply(term)) {
+                    if (!edge.equals(key) && visited.add(edge)) {
+                        next.add(edge);
+                    }
+                }
+            }
+            current = next;
+        }
+        return visited.stream().
+            map(this::asParameter).
+            collect(Collectors.toList());
+    }
+
+    private Parameter asParameter(String key) {
+        OboTerm term = terms.get(key);
+        String accession = term == null ? key : term.id;
+        int colon = accession.indexOf(':');
+        return new Parameter().cvLabel(colon > 0 ? accession.substring(0,
+            colon) : accession).
+            cvAccession(accession).
+            name(term == null ? null : term.name);
+    }
+
+    private static String keyOf(Parameter parameter) {
+        if (parameter.getCvAccession() == null || parameter.getCvLabel() == null) {
+            throw new IllegalArgumentException(
+                "Parameter must provide cvAccession and cvLabel!");
+        }
+        return parameter.getCvAccession().
+            toUpperCase(Locale.ROOT);
+    }
+
+    private static void read(String source, BufferedReader reader,
+        Map<String, OboTerm> terms) throws IOException {
+        try (BufferedReader r = reader) {
+            OboTerm term = null;
+            boolean inTerm = false;
+            String line;
+            while ((line = r.readLine()) != null) {
+                line = line.trim();
+                if (line.startsWith("[")) {
+                    addTerm(term, terms);
+                    term = null;
+                    inTerm = "[Term]".equals(line);
+                    continue;
+                }
+                if (!inTerm || line.isEmpty() || line.startsWith("!")) {
+                    continue;
+                }
+                int colon = line.indexOf(':');
+                if (colon < 0) {
+                    continue;
+                }
+                String tag = line.substring(0, colon);
+                String value = line.substring(colon + 1).
+                    trim();
+                switch (tag) {
+                    case "id":
+                        term = new OboTerm(stripComment(value));
+                        break;
+                    case "name":
+                        if (term != null) {
+                            term.name = value;
+                        }
+                        break;
+                    case "is_a":
+                        if (term != null) {
+                            term.parents.add(stripComment(value).
+                                toUpperCase(Locale.ROOT));
+                        }
+                        break;
+                    case "is_obsolete":
+                        if (term != null) {
+                            term.obsolete = "true".equals(stripComment(value));
+                        }
+                        break;
+                    default:
+                        break;
+                }
+            }
+            addTerm(term, terms);
+        }
+        log.debug("Read OBO file {}, {} terms in total.", source, terms.size());
+    }
+
+    private static void addTerm(OboTerm term, Map<String, OboTerm> terms) {
+        if (term != null) {
+            if (term.obsolete) {
+                term.parents.clear();
+            }
+            terms.put(term.key, term);
+        }
+    }
+
+    private static String stripComment(String value) {
+        int comment = value.indexOf(" !");
+        if (comment >= 0) {
+            value = value.substring(0, comment);
+        }
+        int modifier = value.indexOf(" {");
+        if (modifier >= 0) {
+            value = value.substring(0, modifier);
+        }
+        return value.trim();
+    }
+
+    private static final class OboTerm {
+
+        private final String id;
+        private final String key;
+        private String name;
+        private boolean obsolete = false;
+        private final List<String> parents = new ArrayList<>(2);
+        private final List<String> children = new ArrayList<>(2);
+
+        OboTerm(String id) {
+            this.id = id;
+            this.key = id.toUpperCase(Locale.ROOT);
+        }
+    }
+}
@@ -0,0 +1,310 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.cvmapping;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.lifstools.mztab2.model.Parameter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link CvLookupService} that keeps the parent and child query results of
+ * another lookup service in a file, so that they can be reused by later runs,
+ * e.g. of the command line validator.
+ *
+ * The file is read on construction and written by {@link #save()} or
+ * {@link #close()}, if new results were added. Entries older than the time to
+ * live are discarded when the file is read and are looked up again. Files
+ * with a different format version, or that can not be read, are ignored, so
+ * that a broken cache never fails a validation.
+ *
+ * @author nilshoffmann
+ */
+@Slf4j
+public class PersistentCvLookupService implements CvLookupService, Closeable {
+
+    /**
+     * Version of the cache file format. Files with another version are
+     * ignored.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    /**
+     * Default time to live of cached query results.
+     */
+    public static final Duration DEFAULT_TTL = Duration.ofDays(30);
+
+    private static final String PARENTS = "parents";
+    private static final String CHILDREN = "children";
+
+    private final CvLookupService delegate;
+    private final Path cacheFile;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final ObjectMapper mapper = new ObjectMapper();
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean dirty = false;
+
+    /**
+     * Returns the default location of the cache file,
+     * <code>jmztabm/cv-lookup-cache.json</code> below
+     * <code>$XDG_CACHE_HOME</code>, or below <code>~/.cache</code> if that is
+     * not set.
+     *
+     * @return the default cache file location.
+     */
+    public static Path defaultCacheFile() {
+        String cacheHome = System.getenv("XDG_CACHE_HOME");
+        Path base = cacheHome == null || cacheHome.isEmpty() ? Paths.get(System.
+            getProperty("user.home"), ".cache") : Paths.get(cacheHome);
+        return base.resolve("jmztabm").
+            resolve("cv-lookup-cache.json");
+    }
+
+    /**
+     * Creates a new persistent lookup service and reads the cache file, if it
+     * exists.
+     *
+     * @param delegate the lookup service to query for uncached terms.
+     * @param cacheFile the cache file.
+     * @param ttl the time to live of cached query results.
+     */
+    public PersistentCvLookupService(CvLookupService delegate, Path cacheFile,
+        Duration ttl) {
+        this(delegate, cacheFile, ttl, Clock.systemUTC());
+    }
+
+    PersistentCvLookupService(CvLookupService delegate, Path cacheFile,
+        Duration ttl, Clock clock) {
+        this.delegate = delegate;
+        this.cacheFile = cacheFile;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        read();
+    }
+
+    /**
+     * Returns the number of cached query results.
+     *
+     * @return the number of cached query results.
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    @Override
+    public List<Parameter> resolveParents(Parameter parameter) {
+        return resolveParents(parameter, -1);
+    }
+
+    @Override
+    public List<Parameter> resolveParents(Parameter parameter, int levels) {
+        String key = key(PARENTS, parameter, levels);
+        List<Parameter> terms = lookup(key);
+        if (terms == null) {
+            terms = store(key, delegate.resolveParents(parameter, levels));
+        }
+        return terms;
+    }
+
+    @Override
+    public List<Parameter> resolveChildren(Parameter parameter) {
+        return resolveChildren(parameter, -1);
+    }
+
+    @Override
+    public List<Parameter> resolveChildren(Parameter parameter, int levels) {
+        String key = key(CHILDREN, parameter, levels);
+        List<Parameter> terms = lookup(key);
+        if (terms == null) {
+            terms = store(key, delegate.resolveChildren(parameter, levels));
+        }
+        return terms;
+    }
+
+    /**
+     * Returns true, if the delegate is remote, since uncached terms are
+     * resolved by the delegate.
+     *
+     * @return true, if the delegate is remote
+     */
+    @Override
+    public boolean isRemote() {
+        return delegate.isRemote();
+    }
+
+    /**
+     * Clears the cached query results and the caches of the delegate. The
+     * cache file is emptied on the next {@link #save()}.
+     */
+    @Override
+    public void clearCaches() {
+        entries.clear();
+        dirty = true;
+        delegate.clearCaches();
+    }
+
+    /**
+     * Writes the cached query results to the cache file, if there are new
+     * results. The file is replaced atomically, where supported.
+     *
+     * @throws IOException if the file can not be written.
+     */
+    public synchronized void save() throws IOException {
+        if (!dirty) {
+            return;
+        }
+        ObjectNode root = mapper.createObjectNode();
+        root.put("version", FORMAT_VERSION);
+        ArrayNode array = root.putArray("entries");
+        for (Map.Entry<String, Entry> e : entries.entrySet()) {
+            ObjectNode node = array.addObject();
+            node.put("key", e.getKey());
+            node.put("created", e.getValue().created);
+            node.set("terms", mapper.valueToTree(e.getValue().terms));
+        }
+        Path parent = cacheFile.toAbsolutePath().
+            getParent();
+        Files.createDirectories(parent);
+        Path tmpFile = Files.createTempFile(parent, cacheFile.getFileName().
+            toString(), ".tmp");
+        try {
+            try (OutputStream os = Files.newOutputStream(tmpFile)) {
+                mapper.writeValue(os, root);
+            }
+            try {
+                Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            } catch (IOException ex) {
+                Files.move(tmpFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(tmpFile);
+        }
+        dirty = false;
+        log.debug("Wrote {} cached lookup results to {}", entries.size(),
+            cacheFile);
+    }
+
+    /**
+     * Saves the cached query results, see {@link #save()}.
+     *
+     * @throws IOException if the file can not be written.
+     */
+    @Override
+    public void close() throws IOException {
+        save();
+    }
+
+    private List<Parameter> lookup(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (isExpired(entry.created)) {
+            entries.remove(key, entry);
+            dirty = true;
+            return null;
+        }
+        return entry.terms;
+    }
+
+    private List<Parameter> store(String key, List<Parameter> terms) {
+        List<Parameter> copy = Collections.unmodifiableList(new ArrayList<>(
+            terms));
+        entries.put(key, new Entry(clock.millis(), copy));
+        dirty = true;
+        return copy;
+    }
+
+    private boolean isExpired(long created) {
+        return clock.millis() - created >= ttlMillis;
+    }
+
+    private void read() {
+        if (!Files.isRegularFile(cacheFile)) {
+            return;
+        }
+        try {
+            JsonNode root = mapper.readTree(cacheFile.toFile());
+            if (root.path("version").
+                asInt(-1) != FORMAT_VERSION) {
+                log.info("Ignoring cv lookup cache {} with unsupported version {}",
+                    cacheFile, root.path("version"));
+                return;
+            }
+            int expired = 0;
+            for (JsonNode node : root.path("entries")) {
+                long created = node.path("created").
+                    asLong();
+                if (isExpired(created)) {
+                    expired++;
+                    continue;
+                }
+                List<Parameter> terms = new ArrayList<>();
+                for (JsonNode term : node.path("terms")) {
+                    terms.add(mapper.treeToValue(term, Parameter.class));
+                }
+                entries.put(node.path("key").
+                    asText(), new Entry(created, Collections.
+                        unmodifiableList(terms)));
+            }
+            dirty = expired > 0;
+            log.debug("Read {} cached lookup results from {}, {} expired",
+                entries.size(), cacheFile, expired);
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Ignoring unreadable cv lookup cache " + cacheFile, ex);
+            entries.clear();
+        }
+    }
+
+    private static String key(String type, Parameter parameter, int levels) {
+        if (parameter.getCvAccession() == null || parameter.getCvLabel() == null) {
+            throw new IllegalArgumentException(
+                "Parameter must provide cvAccession and cvLabel!");
+        }
+        return type + "/" + parameter.getCvAccession().
+            toUpperCase(Locale.ROOT) + "/" + levels;
+    }
+
+    private static final class Entry {
+
+        private final long created;
+        private final List<Parameter> terms;
+
+        Entry(long created, List<Parameter> terms) {
+            this.created = created;
+            this.terms = terms;
+        }
+    }
+}
@@ -16,9 +16,10 @@
 package org.lifstools.mztab2.validation;
 
 import org.lifstools.mztab2.validation.Validator;
+import org.lifstools.mztab2.cvmapping.CompiledElementPath;
 import org.lifstools.mztab2.cvmapping.CvMappingUtils;
+import org.lifstools.mztab2.cvmapping.CvLookupService;
 import org.lifstools.mztab2.cvmapping.CvParameterLookupService;
-import org.lifstools.mztab2.cvmapping.JxPathElement;
 import org.lifstools.mztab2.cvmapping.RemoveUserParams;
 import org.lifstools.mztab2.cvmapping.RuleEvaluationResult;
 import org.lifstools.mztab2.model.MzTab;
@@ -35,10 +36,14 @@ import info.psidev.cvmapping.CvMapping;
 import info.psidev.cvmapping.CvMappingRule;
 import java.io.File;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import jakarta.xml.bind.JAXBContext;
 import jakarta.xml.bind.JAXBException;
 import jakarta.xml.bind.Unmarshaller;
@@ -77,6 +82,7 @@ public class CvMappingValidator implements Validator<MzTab> {
     private final RemoveUserParams cvTermSelectionHandler;
     private final List<Validator<MzTab>> preValidators = new LinkedList<>();
     private final List<Validator<MzTab>> postValidators = new LinkedList<>();
+    private final Map<String, CompiledElementPath> elementPaths = new ConcurrentHashMap<>();
 
     /**
      * Create a new instance of CvMappingValidator. 
@@ -101,7 +107,7 @@ public class CvMappingValidator implements Validator<MzTab> {
     /**
      * Create a new instance of CvMappingValidator. 
      * 
-     * Uses the provided {@link CvParameterLookupService}.
+     * Uses the provided {@link CvLookupService}.
      * 
      * @param mappingFile the mapping file to use
      * @param client the ontology lookup service client
@@ -110,7 +116,7 @@ public class CvMappingValidator implements Validator<MzTab> {
      * @throws JAXBException if errors occur during unmarshalling of the mapping xml file.
      */
     public static CvMappingValidator of(File mappingFile,
-        CvParameterLookupService client, boolean errorIfTermNotInRule) throws JAXBException {
+        CvLookupService client, boolean errorIfTermNotInRule) throws JAXBException {
 
         JAXBContext jaxbContext = JAXBContext.newInstance(CvMapping.class);
         Unmarshaller u = jaxbContext.createUnmarshaller();
@@ -127,6 +133,7 @@ public class CvMappingValidator implements Validator<MzTab> {
             cvTermSelectionHandler(new RemoveUserParams()).
             emptyRuleHandler(new EmptyRuleHandler()).
             build().
+            compileElementPaths().
             withPreValidator(new CvDefinitionValidationHandler());
     }
 
@@ -171,7 +178,7 @@ public class CvMappingValidator implements Validator<MzTab> {
     /**
      * Create a new instance of CvMappingValidator. 
      * 
-     * Uses the provided {@link CvParameterLookupService}.
+     * Uses the provided {@link CvLookupService}.
      * 
      * @param mappingFile the mapping file URL to use
      * @param client the ontology lookup service client
@@ -180,7 +187,7 @@ public class CvMappingValidator implements Validator<MzTab> {
      * @throws JAXBException if errors occur during unmarshalling of the mapping xml file.
      */
     public static CvMappingValidator of(URL mappingFile,
-        CvParameterLookupService client, boolean errorIfTermNotInRule) throws JAXBException {
+        CvLookupService client, boolean errorIfTermNotInRule) throws JAXBException {
         JAXBContext jaxbContext = JAXBContext.newInstance(CvMapping.class);
         Unmarshaller u = jaxbContext.createUnmarshaller();
         CvMapping mapping = (CvMapping) u.unmarshal(mappingFile);
@@ -196,13 +203,14 @@ public class CvMappingValidator implements Validator<MzTab> {
             cvTermSelectionHandler(new RemoveUserParams()).
             emptyRuleHandler(new EmptyRuleHandler()).
             build().
+            compileElementPaths().
             withPreValidator(new CvDefinitionValidationHandler());
     }
 
     /**
      * Create a new instance of CvMappingValidator. 
      * 
-     * Uses the provided {@link CvParameterLookupService}.
+     * Uses the provided {@link CvLookupService}.
      * 
      * @param mapping the cv mapping to use
      * @param client the ontology lookup service client
@@ -210,7 +218,7 @@ public class CvMappingValidator implements Validator<MzTab> {
      * @return a new CvMappingValidator instance
      */
     public static CvMappingValidator of(CvMapping mapping,
-        CvParameterLookupService client,
+        CvLookupService client,
         boolean errorIfTermNotInRule) {
         return new CvMappingValidator.CvMappingValidatorBuilder().mapping(
             mapping).
@@ -224,9 +232,36 @@ public class CvMappingValidator implements Validator<MzTab> {
             cvTermSelectionHandler(new RemoveUserParams()).
             emptyRuleHandler(new EmptyRuleHandler()).
             build().
+            compileElementPaths().
             withPreValidator(new CvDefinitionValidationHandler());
     }
 
+    /**
+     * Compiles the cv element paths of all rules of the mapping into accessors
+     * on the model classes. Paths that are not compiled here are compiled on
+     * first use.
+     *
+     * @return an instance of this object
+     */
+    private CvMappingValidator compileElementPaths() {
+        mapping.getCvMappingRuleList().
+            getCvMappingRule().
+            forEach((rule) ->
+            {
+                elementPath(rule.getCvElementPath());
+            });
+        log.debug("Compiled {} of {} cv element paths.", elementPaths.values().
+            stream().
+            filter(CompiledElementPath::isCompiled).
+            count(), elementPaths.size());
+        return this;
+    }
+
+    private CompiledElementPath elementPath(String path) {
+        return elementPaths.computeIfAbsent(path, (p) ->
+            CompiledElementPath.compile(p, MzTab.class));
+    }
+
     @Override
     public List<ValidationMessage> validate(MzTab mzTab) {
         final List<ValidationMessage> messages = new LinkedList<>();
@@ -242,12 +277,26 @@ public class CvMappingValidator implements Validator<MzTab> {
             getCvMappingRuleList().
             getCvMappingRule().
             size());
+        // select the parameters of all rules first, so that the rule handler
+        // can resolve the terms of all rules in one batch
+        final List<RuleSelection> ruleSelections = new ArrayList<>();
+        final Map<CvMappingRule, List<Pair<Pointer, Parameter>>> selections = new LinkedHashMap<>();
         mapping.getCvMappingRuleList().
             getCvMappingRule().
             forEach((rule) ->
             {
-                messages.addAll(handleRule(context, rule, errorIfTermNotInRule));
+                RuleSelection ruleSelection = selectParameters(context, rule);
+                ruleSelections.add(ruleSelection);
+                if (ruleSelection.emptyRuleMessages.isEmpty()) {
+                    selections.put(rule, ruleSelection.filteredSelection);
+                }
             });
+        ruleHandler.prepare(selections);
+        ruleSelections.forEach((ruleSelection) ->
+        {
+            messages.addAll(handleRule(ruleHandler, ruleSelection,
+                errorIfTermNotInRule));
+        });
         log.debug("Applying {} post validation steps.", preValidators.size());
         postValidators.stream().
             forEach((validator) ->
@@ -257,20 +306,30 @@ public class CvMappingValidator implements Validator<MzTab> {
         return messages;
     }
 
-    private List<ValidationMessage> handleRule(JXPathContext context,
-        CvMappingRule rule, boolean errorOnTermNotInRule) {
+    private RuleSelection selectParameters(JXPathContext context,
+        CvMappingRule rule) {
         String path = rule.getCvElementPath();
-        List<Pair<Pointer, Parameter>> selection = JxPathElement.
-            toList(context, path, Parameter.class);
+        List<Pair<Pointer, Parameter>> selection = elementPath(path).
+            select(context);
 
         final List<ValidationMessage> messages = emptyRuleHandler.handleRule(
             rule, selection);
+        if (!messages.isEmpty()) {
+            return new RuleSelection(rule, messages, Collections.emptyList());
+        }
+        return new RuleSelection(rule, messages, cvTermSelectionHandler.
+            handleSelection(selection));
+    }
+
+    private List<ValidationMessage> handleRule(CvRuleHandler ruleHandler,
+        RuleSelection ruleSelection, boolean errorOnTermNotInRule) {
+        final CvMappingRule rule = ruleSelection.rule;
+        final List<ValidationMessage> messages = ruleSelection.emptyRuleMessages;
         if (!messages.isEmpty()) {
             return messages;
         }
 
-        final List<Pair<Pointer, Parameter>> filteredSelection = cvTermSelectionHandler.
-            handleSelection(selection);
+        final List<Pair<Pointer, Parameter>> filteredSelection = ruleSelection.filteredSelection;
 
         // and logic means that ALL of the defined terms or their children MUST appear
         // we only compare valid CVParameters here, user Params (no cv accession), are not compared!
@@ -316,4 +375,19 @@ public class CvMappingValidator implements Validator<MzTab> {
         return messages.isEmpty() ? Collections.emptyList() : messages;
     }
 
+    private static final class RuleSelection {
+
+        private final CvMappingRule rule;
+        private final List<ValidationMessage> emptyRuleMessages;
+        private final List<Pair<Pointer, Parameter>> filteredSelection;
+
+        RuleSelection(CvMappingRule rule,
+            List<ValidationMessage> emptyRuleMessages,
+            List<Pair<Pointer, Parameter>> filteredSelection) {
+            this.rule = rule;
+            this.emptyRuleMessages = emptyRuleMessages;
+            this.filteredSelection = filteredSelection;
+        }
+    }
+
 }
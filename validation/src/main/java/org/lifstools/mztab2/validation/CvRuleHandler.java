@@ -19,6 +19,7 @@ import org.lifstools.mztab2.cvmapping.RuleEvaluationResult;
 import org.lifstools.mztab2.model.Parameter;
 import info.psidev.cvmapping.CvMappingRule;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.jxpath.Pointer;
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -36,4 +37,15 @@ public interface CvRuleHandler {
      */
     RuleEvaluationResult handleRule(CvMappingRule rule,
         List<Pair<Pointer, Parameter>> filteredSelection);
+
+    /**
+     * Prepare the handling of the provided rules before
+     * {@link #handleRule(CvMappingRule, List)} is called for each of them,
+     * e.g. to resolve the terms of all selections in one batch. The default
+     * implementation does nothing.
+     * @param selections the filtered selections of all rules that will be handled
+     */
+    default void prepare(
+        Map<CvMappingRule, List<Pair<Pointer, Parameter>>> selections) {
+    }
 }
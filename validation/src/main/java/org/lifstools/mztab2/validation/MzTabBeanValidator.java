@@ -19,11 +19,17 @@ import org.lifstools.mztab2.validation.Validator;
 import org.lifstools.mztab2.model.MzTab;
 import org.lifstools.mztab2.model.ValidationMessage;
 import java.lang.annotation.Annotation;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicInteger;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintViolation;
+import jakarta.validation.ValidatorFactory;
 import jakarta.validation.Validation;
 import org.hibernate.validator.HibernateValidator;
 import org.hibernate.validator.HibernateValidatorConfiguration;
@@ -35,13 +41,47 @@ import org.hibernate.validator.cfg.ConstraintMapping;
  * implementation. It understands the standard annotations that are placed on
  * the domain objects generated from Swagger Codegen.</p>
  *
+ * <p>
+ * The validator factory is built on first use and reused for all following
+ * calls of {@link #validate(MzTab)}, until the constraint mapping is changed
+ * with one of the <code>addConstraintAndValidator</code> methods, which close
+ * the previous factory. Instances are thread-safe and may be shared for the
+ * validation of many files, but constraints should not be added while a
+ * validation is running.</p>
+ *
+ * <p>
+ * If a {@link ForkJoinPool} is passed to
+ * {@link #MzTabBeanValidator(boolean, ForkJoinPool, int)}, the metadata is
+ * validated once on the calling thread, while the rows of the small molecule
+ * summary, feature and evidence sections are partitioned and validated in the
+ * pool. Property paths of violations in rows keep the list index of the row,
+ * e.g. <code>smallMoleculeEvidence[42].evidenceInputId</code>. The number of
+ * reported messages can be bounded in both modes; once the bound is reached
+ * and a further violation is found, validation stops and a final warning
+ * message is added. Messages are always returned in row order, but in parallel
+ * mode, the rows whose violations are kept when the bound is reached depend on
+ * the scheduling of the row tasks and may differ between runs. Use the
+ * unbounded or the sequential mode, if a reproducible subset is required.</p>
+ *
  * @author nilshoffmann
  *
  */
 public class MzTabBeanValidator implements Validator<MzTab> {
 
+    /**
+     * Value for maxMessages to report all validation messages.
+     */
+    public static final int UNBOUNDED = Integer.MAX_VALUE;
+
+    private static final int ROWS_PER_TASK = 256;
+
     private final HibernateValidatorConfiguration configuration;
     private final ConstraintMapping constraintMapping;
+    private final boolean failFast;
+    private final ForkJoinPool pool;
+    private final int maxMessages;
+    private ValidatorFactory validatorFactory;
+    private volatile jakarta.validation.Validator validator;
 
     /**
      * Default constructor. Fail fast validation is disabled.
@@ -59,6 +99,30 @@ public class MzTabBeanValidator implements Validator<MzTab> {
      * validation errors.
      */
     public MzTabBeanValidator(boolean failFast) {
+        this(failFast, null, UNBOUNDED);
+    }
+
+    /**
+     * Constructor for parallel and / or bounded validation.
+     *
+     * @param failFast if true, first validation error will terminate any
+     * further validation. If false, validation will continue and report all
+     * validation errors.
+     * @param pool the pool to validate the section rows in. If null, the
+     * complete object graph is validated on the calling thread.
+     * @param maxMessages the maximum number of validation messages to report,
+     * use {@link #UNBOUNDED} to report all messages.
+     * @throws IllegalArgumentException if maxMessages is smaller than one.
+     */
+    public MzTabBeanValidator(boolean failFast, ForkJoinPool pool,
+        int maxMessages) {
+        if (maxMessages < 1) {
+            throw new IllegalArgumentException(
+                "maxMessages must be at least 1, was: " + maxMessages);
+        }
+        this.failFast = failFast;
+        this.pool = pool;
+        this.maxMessages = maxMessages;
         this.configuration = Validation
             .byProvider(HibernateValidator.class).
             configure();
@@ -66,7 +130,7 @@ public class MzTabBeanValidator implements Validator<MzTab> {
         this.configuration.failFast(failFast);
         this.constraintMapping = configuration.
             createConstraintMapping();
-
+        this.configuration.addMapping(constraintMapping);
     }
 
     /**
@@ -84,12 +148,13 @@ public class MzTabBeanValidator implements Validator<MzTab> {
      * same type will be applied, too. If false, only the registered validator
      * will be retained for that type.
      */
-    public <A extends Annotation, T extends Object, V extends ConstraintValidator<A, T>> void addConstraintAndValidator(
+    public synchronized <A extends Annotation, T extends Object, V extends ConstraintValidator<A, T>> void addConstraintAndValidator(
         Class<A> constraintDefinition, Class<V> validator,
         boolean includeExistingValidators) {
         constraintMapping.constraintDefinition(constraintDefinition).
             includeExistingValidators(includeExistingValidators).
             validatedBy(validator);
+        resetValidator();
     }
 
     /**
@@ -107,7 +172,7 @@ public class MzTabBeanValidator implements Validator<MzTab> {
      * same type will be applied, too. If false, only the registered validator
      * will be retained for that type.
      */
-    public <A extends Annotation, T extends Object, V extends ConstraintValidator<A, T>> void addConstraintAndValidator(
+    public synchronized <A extends Annotation, T extends Object, V extends ConstraintValidator<A, T>> void addConstraintAndValidator(
         Class<T> typeToValidate,
         Class<A> constraintDefinition, Class<V> validator,
         boolean includeExistingValidators) {
@@ -115,6 +180,41 @@ public class MzTabBeanValidator implements Validator<MzTab> {
             constraintDefinition(constraintDefinition).
             includeExistingValidators(includeExistingValidators).
             validatedBy(validator);
+        resetValidator();
+    }
+
+    /**
+     * Closes the validator factory of the previous constraint mapping, the
+     * next call of {@link #getValidator()} builds a new one.
+     */
+    private synchronized void resetValidator() {
+        this.validator = null;
+        if (validatorFactory != null) {
+            validatorFactory.close();
+            validatorFactory = null;
+        }
+    }
+
+    /**
+     * Returns the bean validator for the current configuration and constraint
+     * mapping. The validator is built on first access and after changes of the
+     * constraint mapping, and is shared otherwise.
+     *
+     * @return the thread-safe bean validator.
+     */
+    public jakarta.validation.Validator getValidator() {
+        jakarta.validation.Validator v = validator;
+        if (v == null) {
+            synchronized (this) {
+                v = validator;
+                if (v == null) {
+                    validatorFactory = configuration.buildValidatorFactory();
+                    v = validatorFactory.getValidator();
+                    validator = v;
+                }
+            }
+        }
+        return v;
     }
 
     /**
@@ -122,22 +222,172 @@ public class MzTabBeanValidator implements Validator<MzTab> {
      */
     @Override
     public List<ValidationMessage> validate(MzTab mzTab) {
-        List<ValidationMessage> list = new LinkedList<>();
-
-        jakarta.validation.Validator validator = configuration.addMapping(
-            constraintMapping).
-            buildValidatorFactory().
-            getValidator();
+        MessageBudget budget = new MessageBudget(failFast ? 1 : maxMessages);
+        List<ValidationMessage> list = pool == null ? validateGraph(mzTab,
+            budget) : validateRows(mzTab, budget);
+        if (budget.isTruncated() && !failFast) {
+            list.add(new ValidationMessage().message(
+                "Bean validation stopped after " + maxMessages
+                + " messages, further violations may not have been reported.").
+                messageType(ValidationMessage.MessageTypeEnum.WARN));
+        }
+        return list;
+    }
 
-        Set<ConstraintViolation<MzTab>> violations = validator.validate(mzTab);
+    private List<ValidationMessage> validateGraph(MzTab mzTab,
+        MessageBudget budget) {
+        List<ValidationMessage> list = new LinkedList<>();
+        Set<ConstraintViolation<MzTab>> violations = getValidator().
+            validate(mzTab);
         for (ConstraintViolation<MzTab> violation : violations) {
-            list.add(new ValidationMessage().message(getPathLocatorString(
-                violation) + ": " + violation.getMessage()).
-                messageType(ValidationMessage.MessageTypeEnum.ERROR));
+            if (!budget.acquire()) {
+                break;
+            }
+            list.add(toMessage(null, violation));
         }
         return list;
     }
 
+    private List<ValidationMessage> validateRows(MzTab mzTab,
+        MessageBudget budget) {
+        jakarta.validation.Validator v = getValidator();
+        List<ValidationMessage> list = new ArrayList<>();
+        for (MzTab.Properties property : MzTab.Properties.values()) {
+            addAll(list, v.validateProperty(mzTab, property.getPropertyName()),
+                null, budget);
+        }
+        if (mzTab.getMetadata() != null) {
+            addAll(list, v.validate(mzTab.getMetadata()),
+                MzTab.Properties.metadata.getPropertyName(), budget);
+        }
+        List<ForkJoinTask<List<ValidationMessage>>> tasks = new ArrayList<>();
+        tasks.add(submit(v, MzTab.Properties.smallMoleculeSummary, mzTab.
+            getSmallMoleculeSummary(), budget));
+        tasks.add(submit(v, MzTab.Properties.smallMoleculeFeature, mzTab.
+            getSmallMoleculeFeature(), budget));
+        tasks.add(submit(v, MzTab.Properties.smallMoleculeEvidence, mzTab.
+            getSmallMoleculeEvidence(), budget));
+        tasks.add(submit(v, MzTab.Properties.comment, mzTab.getComment(),
+            budget));
+        for (ForkJoinTask<List<ValidationMessage>> task : tasks) {
+            if (task != null) {
+                list.addAll(task.join());
+            }
+        }
+        return list;
+    }
+
+    private <T> ForkJoinTask<List<ValidationMessage>> submit(
+        jakarta.validation.Validator v, MzTab.Properties property,
+        List<T> rows, MessageBudget budget) {
+        if (rows == null || rows.isEmpty()) {
+            return null;
+        }
+        return pool.submit(new RowValidationTask<>(v, property.
+            getPropertyName(), rows, 0, rows.size(), budget));
+    }
+
+    private <T> void addAll(List<ValidationMessage> list,
+        Set<ConstraintViolation<T>> violations, String prefix,
+        MessageBudget budget) {
+        for (ConstraintViolation<T> violation : violations) {
+            if (!budget.acquire()) {
+                return;
+            }
+            list.add(toMessage(prefix, violation));
+        }
+    }
+
+    private ValidationMessage toMessage(String prefix,
+        ConstraintViolation<?> violation) {
+        String path = getPathLocatorString(violation);
+        if (prefix != null) {
+            path = path.isEmpty() ? prefix : prefix + "." + path;
+        }
+        return new ValidationMessage().message(path + ": " + violation.
+            getMessage()).
+            messageType(ValidationMessage.MessageTypeEnum.ERROR);
+    }
+
+    /**
+     * Validates the rows in [from, to) of one section, splitting the range
+     * until it contains at most {@link #ROWS_PER_TASK} rows. Messages are
+     * returned in row order.
+     */
+    private final class RowValidationTask<T> extends RecursiveTask<List<ValidationMessage>> {
+
+        private final jakarta.validation.Validator validator;
+        private final String property;
+        private final List<T> rows;
+        private final int from;
+        private final int to;
+        private final MessageBudget budget;
+
+        RowValidationTask(jakarta.validation.Validator validator,
+            String property, List<T> rows, int from, int to,
+            MessageBudget budget) {
+            this.validator = validator;
+            this.property = property;
+            this.rows = rows;
+            this.from = from;
+            this.to = to;
+            this.budget = budget;
+        }
+
+        @Override
+        protected List<ValidationMessage> compute() {
+            if (to - from > ROWS_PER_TASK) {
+                int mid = (from + to) >>> 1;
+                RowValidationTask<T> right = new RowValidationTask<>(validator,
+                    property, rows, mid, to, budget);
+                right.fork();
+                List<ValidationMessage> left = new RowValidationTask<>(
+                    validator, property, rows, from, mid, budget).compute();
+                left.addAll(right.join());
+                return left;
+            }
+            List<ValidationMessage> list = new ArrayList<>();
+            for (int i = from; i < to; i++) {
+                // with an exhausted budget, rows are still validated until a
+                // further violation marks the result as truncated
+                if (budget.isTruncated()) {
+                    break;
+                }
+                T row = rows.get(i);
+                if (row != null) {
+                    addAll(list, validator.validate(row), property + "[" + i
+                        + "]", budget);
+                }
+            }
+            return list;
+        }
+    }
+
+    /**
+     * Shared bound on the number of messages of one validation run.
+     */
+    private static final class MessageBudget {
+
+        private final AtomicInteger remaining;
+        private volatile boolean truncated = false;
+
+        MessageBudget(int maxMessages) {
+            this.remaining = new AtomicInteger(maxMessages);
+        }
+
+        boolean acquire() {
+            if (remaining.getAndUpdate(r -> r > 0 ? r - 1 : r) > 0) {
+                return true;
+            }
+            truncated = true;
+            return false;
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+    }
+
     /**
      * <p>
      * getPathLocatorString.</p>
@@ -16,7 +16,8 @@
 package org.lifstools.mztab2.validation.handlers;
 
 import org.lifstools.mztab2.cvmapping.CvMappingUtils;
-import org.lifstools.mztab2.cvmapping.CvParameterLookupService;
+import org.lifstools.mztab2.cvmapping.CvLookupService;
+import org.lifstools.mztab2.cvmapping.OboCvParameterLookupService;
 import org.lifstools.mztab2.cvmapping.ParameterComparisonResult;
 import org.lifstools.mztab2.cvmapping.RuleEvaluationResult;
 import org.lifstools.mztab2.model.Parameter;
@@ -25,22 +26,104 @@ import info.psidev.cvmapping.CvMappingRule;
 import info.psidev.cvmapping.CvTerm;
 import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.jxpath.Pointer;
 import org.apache.commons.lang3.tuple.Pair;
 
 /**
  * Implements resolution of cv parameters using the provided lookup service.
+ *
+ * When {@link #prepare(Map)} is called with the selections of all rules, the
+ * parents of all distinct parameters that are checked against rules allowing
+ * child terms are resolved concurrently on virtual threads, with at most
+ * parallelism lookups at the same time. This only warms the cache of the
+ * lookup service, the rules are always evaluated with
+ * {@link CvLookupService#isChildOfOrSame(Parameter, Parameter)} of the lookup
+ * service, so that the results do not depend on batching. Lookup services
+ * that are not {@link CvLookupService#isRemote() remote}, e.g.
+ * {@link OboCvParameterLookupService}, are not prepared.
+ *
  * @author nilshoffmann
  */
 @Slf4j
 public class ResolvingCvRuleHandler implements CvRuleHandler {
 
-    private final CvParameterLookupService client;
+    /**
+     * Default maximum number of concurrent lookups in {@link #prepare(Map)}.
+     */
+    public static final int DEFAULT_PARALLELISM = 8;
+
+    private final CvLookupService client;
+    private final int parallelism;
+
+    public ResolvingCvRuleHandler(CvLookupService client) {
+        this(client, DEFAULT_PARALLELISM);
+    }
 
-    public ResolvingCvRuleHandler(CvParameterLookupService client) {
+    /**
+     * Create a new rule handler.
+     * @param client the lookup service
+     * @param parallelism the maximum number of concurrent lookups, 1 disables batch resolution
+     */
+    public ResolvingCvRuleHandler(CvLookupService client, int parallelism) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException(
+                "parallelism must be at least 1, was: " + parallelism);
+        }
         this.client = client;
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public void prepare(
+        Map<CvMappingRule, List<Pair<Pointer, Parameter>>> selections) {
+        if (parallelism == 1 || !client.isRemote()) {
+            return;
+        }
+        final Map<String, Parameter> children = new LinkedHashMap<>();
+        selections.forEach((rule, filteredSelection) ->
+        {
+            if (rule.getCvTerm().
+                stream().
+                anyMatch(CvTerm::isAllowChildren)) {
+                for (Pair<Pointer, Parameter> pair : filteredSelection) {
+                    Parameter parameter = pair.getValue();
+                    if (parameter.getCvAccession() != null && parameter.
+                        getCvLabel() != null) {
+                        children.putIfAbsent(parameter.getCvAccession().
+                            toUpperCase(Locale.ROOT), parameter);
+                    }
+                }
+            }
+        });
+        if (children.isEmpty()) {
+            return;
+        }
+        log.debug("Resolving parents of {} distinct terms.", children.size());
+        final Semaphore permits = new Semaphore(parallelism);
+        try (ExecutorService executor = Executors.
+            newVirtualThreadPerTaskExecutor()) {
+            children.forEach((key, parameter) ->
+            {
+                executor.submit(() ->
+                {
+                    permits.acquireUninterruptibly();
+                    try {
+                        client.resolveParents(parameter);
+                    } catch (RuntimeException ex) {
+                        // looked up again while handling the rule, which reports the error
+                        log.debug("Could not resolve parents of " + key, ex);
+                    } finally {
+                        permits.release();
+                    }
+                });
+            });
+        }
     }
 
     @Override
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.cvmapping;
+
+import info.psidev.cvmapping.CvMapping;
+import info.psidev.cvmapping.CvMappingRule;
+import jakarta.xml.bind.JAXBContext;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.commons.jxpath.JXPathContext;
+import org.apache.commons.jxpath.Pointer;
+import org.apache.commons.lang3.tuple.Pair;
+import static org.junit.Assert.*;
+import org.junit.Test;
+import org.lifstools.mztab2.model.Instrument;
+import org.lifstools.mztab2.model.MzTab;
+import org.lifstools.mztab2.model.Parameter;
+import org.lifstools.mztab2.model.Sample;
+import org.lifstools.mztab2.model.SmallMoleculeEvidence;
+import static org.lifstools.mztab2.validation.MzTabValidatorTest.createTestFile;
+
+/**
+ *
+ * @author nilshoffmann
+ */
+public class CompiledElementPathTest {
+
+    private static MzTab createTestData() {
+        MzTab mzTab = createTestFile();
+        Parameter analyzer = new Parameter().cvLabel("MS").
+            cvAccession("MS:1000081").
+            name("quadrupole");
+        mzTab.getMetadata().
+            addInstrumentItem(new Instrument().id(1).
+                analyzer(new ArrayList<>(Arrays.asList(analyzer, null,
+                    analyzer)))).
+            addInstrumentItem(new Instrument().id(2).
+                analyzer(new ArrayList<>())).
+            addInstrumentItem(new Instrument().id(3));
+        mzTab.getMetadata().
+            getSample().
+            add(0, null);
+        mzTab.getMetadata().
+            addSampleItem(new Sample().id(2));
+        mzTab.addSmallMoleculeEvidenceItem(new SmallMoleculeEvidence().
+            smeId(1).
+            msLevel(new Parameter().cvLabel("MS").
+                cvAccession("MS:1000511").
+                name("ms level").
+                value("1"))).
+            addSmallMoleculeEvidenceItem(null).
+            addSmallMoleculeEvidenceItem(new SmallMoleculeEvidence().
+                smeId(2));
+        return mzTab;
+    }
+
+    @Test
+    public void testCompiledSelectionMatchesJxPath() throws Exception {
+        CvMapping mapping = (CvMapping) JAXBContext.newInstance(CvMapping.class).
+            createUnmarshaller().
+            unmarshal(CompiledElementPathTest.class.getResource(
+                "/mappings/mzTab-M-mapping.xml"));
+        MzTab mzTab = createTestData();
+        JXPathContext context = JXPathContext.newContext(mzTab);
+        List<CvMappingRule> rules = mapping.getCvMappingRuleList().
+            getCvMappingRule();
+        assertFalse(rules.isEmpty());
+        for (CvMappingRule rule : rules) {
+            String path = rule.getCvElementPath();
+            CompiledElementPath compiled = CompiledElementPath.compile(path,
+                MzTab.class);
+            assertTrue(path, compiled.isCompiled());
+            assertSameSelection(path, JxPathElement.toList(context, path,
+                Parameter.class), compiled.select(context));
+        }
+    }
+
+    @Test
+    public void testUnsupportedPathFallsBackToJxPath() {
+        MzTab mzTab = createTestData();
+        JXPathContext context = JXPathContext.newContext(mzTab);
+        for (String path : Arrays.asList("/metadata/instrument[1]/@analyzer",
+            "/metadata/unknownProperty/@name",
+            "/metadata/@mzTabVersion")) {
+            CompiledElementPath compiled = CompiledElementPath.compile(path,
+                MzTab.class);
+            assertFalse(path, compiled.isCompiled());
+        }
+        String path = "/metadata/instrument[1]/@analyzer";
+        assertSameSelection(path, JxPathElement.toList(context, path,
+            Parameter.class), CompiledElementPath.compile(path, MzTab.class).
+                select(context));
+    }
+
+    private static void assertSameSelection(String path,
+        List<Pair<Pointer, Parameter>> expected,
+        List<Pair<Pointer, Parameter>> actual) {
+        assertEquals(path, expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(path, expected.get(i).
+                getKey().
+                asPath(), actual.get(i).
+                    getKey().
+                    asPath());
+            assertSame(path, expected.get(i).
+                getValue(), actual.get(i).
+                    getValue());
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.cvmapping;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+/**
+ *
+ * @author nilshoffmann
+ */
+public class ConcurrentLruCacheTest {
+
+    @Test
+    public void testSingleFlightLoading() throws Exception {
+        ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(16,
+            null);
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.get("MS:1000560", (key) ->
+            {
+                loads.incrementAndGet();
+                loading.countDown();
+                try {
+                    release.await(10, TimeUnit.SECONDS);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().
+                        interrupt();
+                }
+                return key.toLowerCase();
+            })));
+            loading.await(10, TimeUnit.SECONDS);
+            for (int i = 0; i < 7; i++) {
+                results.add(executor.submit(() -> cache.get("MS:1000560",
+                    (key) ->
+                {
+                    loads.incrementAndGet();
+                    return key;
+                })));
+            }
+            release.countDown();
+            for (Future<String> result : results) {
+                assertEquals("ms:1000560", result.get(10, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, loads.get());
+        CacheStats stats = cache.stats();
+        assertEquals(1, stats.getMissCount());
+        assertEquals(7, stats.getHitCount());
+        assertEquals(1, stats.getLoadSuccessCount());
+    }
+
+    @Test
+    public void testFailedLoadIsNotCached() {
+        ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(16,
+            null);
+        IllegalStateException failure = new IllegalStateException("offline");
+        try {
+            cache.get("MS:1000560", (key) ->
+            {
+                throw failure;
+            });
+            fail("Expected the loader exception!");
+        } catch (IllegalStateException ex) {
+            assertSame(failure, ex);
+        }
+        assertEquals(0, cache.size());
+        assertEquals("MS:1000560", cache.get("MS:1000560", (key) -> key));
+        assertEquals(1, cache.stats().
+            getLoadFailureCount());
+    }
+
+    @Test
+    public void testLeastRecentlyUsedEviction() {
+        ConcurrentLruCache<Integer, Integer> cache = new ConcurrentLruCache<>(
+            10, null);
+        for (int i = 0; i < 10; i++) {
+            cache.put(i, i);
+        }
+        // touch the oldest entry, so that 1 is the least recently used one
+        assertEquals(Integer.valueOf(0), cache.getIfPresent(0));
+        cache.put(10, 10);
+        assertTrue(cache.size() <= 10);
+        assertEquals(Integer.valueOf(0), cache.getIfPresent(0));
+        assertNull(cache.getIfPresent(1));
+        assertEquals(Integer.valueOf(10), cache.getIfPresent(10));
+        assertTrue(cache.stats().
+            getEvictionCount() >= 1);
+    }
+
+    @Test
+    public void testExpiryAfterWrite() {
+        AtomicLong time = new AtomicLong();
+        ConcurrentLruCache<String, String> cache = new ConcurrentLruCache<>(16,
+            Duration.ofMinutes(1), time::get);
+        AtomicInteger loads = new AtomicInteger();
+        cache.get("UO:0000010", (key) -> key + loads.incrementAndGet());
+        time.addAndGet(Duration.ofSeconds(59).
+            toNanos());
+        assertEquals("UO:00000101", cache.get("UO:0000010", (key) -> key
+            + loads.incrementAndGet()));
+        time.addAndGet(Duration.ofSeconds(1).
+            toNanos());
+        assertNull(cache.getIfPresent("UO:0000010"));
+        assertEquals("UO:00000102", cache.get("UO:0000010", (key) -> key
+            + loads.incrementAndGet()));
+        assertEquals(1, cache.stats().
+            getEvictionCount());
+    }
+}
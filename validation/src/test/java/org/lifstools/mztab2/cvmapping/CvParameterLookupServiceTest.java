@@ -16,14 +16,25 @@
 package org.lifstools.mztab2.cvmapping;
 
 import org.lifstools.mztab2.model.Parameter;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import static org.hamcrest.CoreMatchers.allOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.greaterThanOrEqualTo;
 import org.junit.Assert;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
+import uk.ac.ebi.pride.utilities.ols.web.service.client.OLSClient;
+import uk.ac.ebi.pride.utilities.ols.web.service.config.OLSWsConfig;
+import uk.ac.ebi.pride.utilities.ols.web.service.model.Identifier;
+import uk.ac.ebi.pride.utilities.ols.web.service.model.Term;
 
 /**
  *
@@ -83,4 +94,41 @@ public class CvParameterLookupServiceTest {
         Assert.assertSame(ParameterComparisonResult.NOT_RELATED, childResult);
     }
     
+    @Test
+    public void testParentLookupIsCachedByAccession() throws Exception {
+        AtomicInteger requests = new AtomicInteger();
+        OLSClient client = new OLSClient(new OLSWsConfig()) {
+            @Override
+            public List<Term> getTermParents(Identifier id, String ontology,
+                int distance) {
+                requests.incrementAndGet();
+                return Collections.emptyList();
+            }
+        };
+        CvParameterLookupService service = new CvParameterLookupService(client);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<Parameter>>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                String name = i % 2 == 0 ? "PSI mzData format" : "mzData";
+                results.add(executor.submit(() -> service.resolveParents(
+                    new Parameter().cvLabel("MS").
+                        cvAccession("ms:1000564").
+                        name(name))));
+            }
+            for (Future<List<Parameter>> result : results) {
+                assertTrue(result.get().
+                    isEmpty());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(1, requests.get());
+        assertEquals(15, service.getParentCacheStats().
+            getHitCount());
+        service.resolveParents(new Parameter().cvLabel("MS").
+            cvAccession("MS:1000564"), 1);
+        assertEquals(2, requests.get());
+    }
+
 }
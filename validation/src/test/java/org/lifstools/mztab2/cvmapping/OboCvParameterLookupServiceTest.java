@@ -0,0 +1,138 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.cvmapping;
+
+import org.lifstools.mztab2.model.Parameter;
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.Assert;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+/**
+ *
+ * @author nilshoffmann
+ */
+public class OboCvParameterLookupServiceTest {
+
+    private static OboCvParameterLookupService service;
+
+    @BeforeClass
+    public static void loadOntology() throws IOException {
+        service = OboCvParameterLookupService.of(
+            OboCvParameterLookupServiceTest.class.getResource(
+                "/ontologies/psi-ms-subset.obo"));
+    }
+
+    @Test
+    public void testLoadFromDirectory() throws IOException, URISyntaxException {
+        Path directory = Paths.get(OboCvParameterLookupServiceTest.class.
+            getResource("/ontologies").
+            toURI());
+        OboCvParameterLookupService fromDirectory = OboCvParameterLookupService.
+            of(directory);
+        assertEquals(service.size(), fromDirectory.size());
+        assertEquals(15, fromDirectory.size());
+    }
+
+    @Test
+    public void testTermChildSearch() {
+        List<Parameter> children = service.resolveChildren(new Parameter().
+            cvLabel("MS").
+            cvAccession("MS:1000560"));
+        assertEquals(accessions("MS:1000564", "MS:1000584"), accessions(
+            children));
+        List<Parameter> instrumentModels = service.resolveChildren(
+            new Parameter().cvLabel("MS").
+                cvAccession("MS:1000031"), 2);
+        assertEquals(accessions("MS:1000483", "MS:1000494"), accessions(
+            instrumentModels));
+    }
+
+    @Test
+    public void testTermParentSearch() {
+        List<Parameter> parents = service.resolveParents(new Parameter().
+            cvLabel("MS").
+            cvAccession("MS:1000564"), 1);
+        Assert.assertEquals(1, parents.size());
+        assertTrue("Retrieved parent term equals reference", CvMappingUtils.
+            isEqualTo(parents.get(0), new Parameter().cvAccession(
+                "MS:1000560").
+                cvLabel("MS").
+                name("mass spectrometer file format")));
+        List<Parameter> ancestors = service.resolveParents(new Parameter().
+            cvLabel("MS").
+            cvAccession("MS:1000532"));
+        assertEquals(accessions("MS:1000693", "MS:1001455", "MS:1001456",
+            "MS:1000531", "MS:0000000"), accessions(ancestors));
+    }
+
+    @Test
+    public void testIsChildOf() {
+        Parameter msFileFormat = new Parameter().cvLabel("MS").
+            cvAccession("MS:1000560");
+        assertSame(ParameterComparisonResult.CHILD_OF, service.
+            isChildOfOrSame(msFileFormat, new Parameter().cvLabel("MS").
+                cvAccession("MS:1000564")));
+        assertSame(ParameterComparisonResult.CHILD_OF, service.
+            isChildOfOrSame(new Parameter().cvLabel("MS").
+                cvAccession("MS:1000031"), new Parameter().cvLabel("MS").
+                cvAccession("ms:1001742")));
+    }
+
+    @Test
+    public void testIsSame() {
+        Parameter msFileFormat = new Parameter().cvLabel("MS").
+            cvAccession("MS:1000560");
+        assertSame(ParameterComparisonResult.IDENTICAL, service.
+            isChildOfOrSame(msFileFormat, msFileFormat));
+    }
+
+    @Test
+    public void testIsUnrelated() {
+        Parameter msFileFormat = new Parameter().cvLabel("MS").
+            cvAccession("MS:1000560");
+        //compare unrelated branches ms file format and software
+        assertSame(ParameterComparisonResult.NOT_RELATED, service.
+            isChildOfOrSame(msFileFormat, new Parameter().cvLabel("MS").
+                cvAccession("MS:1000532")));
+        //terms that are not part of the ontology are not related to anything
+        assertSame(ParameterComparisonResult.NOT_RELATED, service.
+            isChildOfOrSame(msFileFormat, new Parameter().cvLabel("MS").
+                cvAccession("MS:9999999")));
+        assertTrue(service.resolveParents(new Parameter().cvLabel("MS").
+            cvAccession("MS:1000010")).
+            isEmpty());
+    }
+
+    private static List<String> accessions(String... accessions) {
+        return Arrays.asList(accessions);
+    }
+
+    private static List<String> accessions(List<Parameter> parameters) {
+        return parameters.stream().
+            map(Parameter::getCvAccession).
+            collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,179 @@
+/*
+ * Copyright 2026 Leibniz-Institut für Analytische Wissenschaften – ISAS – e.V..
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.lifstools.mztab2.cvmapping;
+
+import org.lifstools.mztab2.model.Parameter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.BeforeClass;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+/**
+ *
+ * @author nilshoffmann
+ */
+public class PersistentCvLookupServiceTest {
+
+    private static OboCvParameterLookupService ontology;
+
+    @Rule
+    public TemporaryFolder folder = new TemporaryFolder();
+
+    private final AtomicInteger lookups = new AtomicInteger();
+
+    @BeforeClass
+    public static void loadOntology() throws IOException {
+        ontology = OboCvParameterLookupService.of(
+            PersistentCvLookupServiceTest.class.getResource(
+                "/ontologies/psi-ms-subset.obo"));
+    }
+
+    @Test
+    public void testResultsAreReusedAcrossInstances() throws IOException {
+        Path cacheFile = folder.getRoot().
+            toPath().
+            resolve("cache").
+            resolve("cv-lookup-cache.json");
+        Parameter mzData = new Parameter().cvLabel("MS").
+            cvAccession("MS:1000564");
+        Parameter msFileFormat = new Parameter().cvLabel("MS").
+            cvAccession("MS:1000560");
+        List<Parameter> parents;
+        try (PersistentCvLookupService service = new PersistentCvLookupService(
+            countingDelegate(), cacheFile, Duration.ofDays(1))) {
+            parents = service.resolveParents(mzData);
+            assertSame(ParameterComparisonResult.CHILD_OF, service.
+                isChildOfOrSame(msFileFormat, mzData));
+            service.resolveChildren(msFileFormat, 1);
+            assertEquals(2, lookups.get());
+        }
+        assertTrue(Files.isRegularFile(cacheFile));
+
+        try (PersistentCvLookupService service = new PersistentCvLookupService(
+            countingDelegate(), cacheFile, Duration.ofDays(1))) {
+            assertEquals(2, service.size());
+            assertEquals(parents, service.resolveParents(mzData));
+            assertSame(ParameterComparisonResult.CHILD_OF, service.
+                isChildOfOrSame(msFileFormat, mzData));
+            assertEquals(2, service.resolveChildren(msFileFormat, 1).
+                size());
+            assertEquals(2, lookups.get());
+        }
+    }
+
+    @Test
+    public void testExpiredResultsAreLookedUpAgain() throws IOException {
+        Path cacheFile = folder.newFile("cv-lookup-cache.json").
+            toPath();
+        Instant now = Instant.parse("2026-01-01T00:00:00Z");
+        Parameter mzData = new Parameter().cvLabel("MS").
+            cvAccession("MS:1000564");
+        try (PersistentCvLookupService service = new PersistentCvLookupService(
+            countingDelegate(), cacheFile, Duration.ofDays(1), Clock.fixed(now,
+            ZoneOffset.UTC))) {
+            service.resolveParents(mzData);
+        }
+        try (PersistentCvLookupService service = new PersistentCvLookupService(
+            countingDelegate(), cacheFile, Duration.ofDays(1), Clock.fixed(now.
+                plus(Duration.ofDays(2)), ZoneOffset.UTC))) {
+            assertEquals(0, service.size());
+            service.resolveParents(mzData);
+        }
+        assertEquals(2, lookups.get());
+    }
+
+    @Test
+    public void testUnsupportedOrBrokenFilesAreIgnored() throws IOException {
+        Path cacheFile = folder.newFile("cv-lookup-cache.json").
+            toPath();
+        Files.write(cacheFile, "{\"version\":0,\"entries\":[{\"key\":\"parents/MS:1000564/-1\",\"created\":0,\"terms\":[]}]}".
+            getBytes(StandardCharsets.UTF_8));
+        try (PersistentCvLookupService service = new PersistentCvLookupService(
+            countingDelegate(), cacheFile, Duration.ofDays(1))) {
+            assertEquals(0, service.size());
+        }
+        Files.write(cacheFile, "{\"version\":1,\"entr".getBytes(
+            StandardCharsets.UTF_8));
+        try (PersistentCvLookupService service = new PersistentCvLookupService(
+            countingDelegate(), cacheFile, Duration.ofDays(1))) {
+            assertEquals(0, service.size());
+            assertEquals(5, service.resolveParents(new Parameter().cvLabel("MS").
+                cvAccession("MS:1000532")).
+                size());
+        }
+    }
+
+    @Test
+    public void testIsRemoteFollowsDelegate() throws IOException {
+        Path cacheFile = folder.newFile("cv-lookup-cache.json").
+            toPath();
+        assertFalse(ontology.isRemote());
+        try (PersistentCvLookupService service = new PersistentCvLookupService(
+            ontology, cacheFile, Duration.ofDays(1))) {
+            assertFalse(service.isRemote());
+        }
+        try (PersistentCvLookupService service = new PersistentCvLookupService(
+            countingDelegate(), cacheFile, Duration.ofDays(1))) {
+            assertTrue(service.isRemote());
+        }
+    }
+
+    private CvLookupService countingDelegate() {
+        return new CvLookupService() {
+            @Override
+            public List<Parameter> resolveParents(Parameter parameter) {
+                return resolveParents(parameter, -1);
+            }
+
+            @Override
+            public List<Parameter> resolveParents(Parameter parameter,
+                int levels) {
+                lookups.incrementAndGet();
+                return ontology.resolveParents(parameter, levels);
+            }
+
+            @Override
+            public List<Parameter> resolveChildren(Parameter parameter) {
+                return resolveChildren(parameter, -1);
+            }
+
+            @Override
+            public List<Parameter> resolveChildren(Parameter parameter,
+                int levels) {
+                lookups.incrementAndGet();
+                return ontology.resolveChildren(parameter, levels);
+            }
+
+            @Override
+            public void clearCaches() {
+            }
+        };
+    }
+}
@@ -15,8 +15,11 @@
  */
 package org.lifstools.mztab2.validation;
 
+import org.lifstools.mztab2.cvmapping.CvLookupService;
 import org.lifstools.mztab2.cvmapping.CvParameterLookupService;
+import org.lifstools.mztab2.cvmapping.OboCvParameterLookupService;
 import org.lifstools.mztab2.cvmapping.JxPathElement;
+import org.lifstools.mztab2.cvmapping.ParameterComparisonResult;
 import org.lifstools.mztab2.cvmapping.RuleEvaluationResult;
 import org.lifstools.mztab2.model.CV;
 import org.lifstools.mztab2.model.Instrument;
@@ -28,8 +31,14 @@ import org.lifstools.mztab2.validation.handlers.ResolvingCvRuleHandler;
 import info.psidev.cvmapping.CvMappingRule;
 import info.psidev.cvmapping.CvReference;
 import info.psidev.cvmapping.CvTerm;
+import java.io.IOException;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.net.URI;
 import org.apache.commons.jxpath.JXPathContext;
 import org.apache.commons.jxpath.Pointer;
@@ -97,6 +106,192 @@ public class CvMappingValidatorTest {
                 getCategory());
     }
 
+    @Test
+    public void testHandleParametersWithOfflineLookup() throws IOException {
+        org.lifstools.mztab2.validation.handlers.AndValidationHandler handler = new org.lifstools.mztab2.validation.handlers.AndValidationHandler();
+        CvMappingRule instrumentNameMay = prepareRule();
+        instrumentNameMay.setCvElementPath("/metadata/instrument/@name");
+
+        ResolvingCvRuleHandler ruleHandler = new ResolvingCvRuleHandler(
+            OboCvParameterLookupService.of(CvMappingValidatorTest.class.
+                getResource("/ontologies/psi-ms-subset.obo")));
+
+        RuleEvaluationResult result = applyRule(createTestData(), ruleHandler,
+            instrumentNameMay);
+        assertEquals(1, result.getAllowedParameters().
+            size());
+        List<ValidationMessage> messages = handler.
+            handleParameters(result, true);
+        assertTrue(messages.isEmpty());
+    }
+
+    @Test
+    public void testBatchedTermResolution() throws Exception {
+        OboCvParameterLookupService ontology = OboCvParameterLookupService.of(
+            CvMappingValidatorTest.class.getResource(
+                "/ontologies/psi-ms-subset.obo"));
+        Map<String, AtomicInteger> lookups = new ConcurrentHashMap<>();
+        Map<String, List<Parameter>> cache = new ConcurrentHashMap<>();
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        // a remote lookup service with a cache, which is warmed by prepare
+        CvLookupService slowLookup = new CvLookupService() {
+            @Override
+            public List<Parameter> resolveParents(Parameter parameter) {
+                // not computeIfAbsent, which would serialize the lookups
+                List<Parameter> parents = cache.get(parameter.getCvAccession());
+                if (parents == null) {
+                    parents = resolveParents(parameter, -1);
+                    cache.putIfAbsent(parameter.getCvAccession(), parents);
+                }
+                return parents;
+            }
+
+            @Override
+            public List<Parameter> resolveParents(Parameter parameter,
+                int levels) {
+                lookups.computeIfAbsent(parameter.getCvAccession(), (key) -> new AtomicInteger()).
+                    incrementAndGet();
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(20);
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().
+                        interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                return ontology.resolveParents(parameter, levels);
+            }
+
+            @Override
+            public List<Parameter> resolveChildren(Parameter parameter) {
+                return ontology.resolveChildren(parameter);
+            }
+
+            @Override
+            public List<Parameter> resolveChildren(Parameter parameter,
+                int levels) {
+                return ontology.resolveChildren(parameter, levels);
+            }
+
+            @Override
+            public void clearCaches() {
+            }
+        };
+        MzTab mzTab = createTestData();
+        List<String> batched = CvMappingValidator.of(
+            CvMappingValidatorTest.class.getResource(
+                "/mappings/mzTab-M-mapping.xml"), slowLookup, false).
+            validate(mzTab).
+            stream().
+            map(ValidationMessage::getMessage).
+            collect(Collectors.toList());
+        List<String> direct = CvMappingValidator.of(
+            CvMappingValidatorTest.class.getResource(
+                "/mappings/mzTab-M-mapping.xml"), ontology, false).
+            validate(mzTab).
+            stream().
+            map(ValidationMessage::getMessage).
+            collect(Collectors.toList());
+        assertEquals(direct, batched);
+        assertTrue(lookups.size() > 1);
+        // every distinct term is resolved once, and concurrently with others
+        lookups.forEach((accession, count) -> assertEquals(accession, 1, count.
+            get()));
+        assertTrue(maxRunning.get() > 1);
+    }
+
+    @Test
+    public void testBatchedResolutionKeepsLookupSemantics() throws Exception {
+        OboCvParameterLookupService ontology = OboCvParameterLookupService.of(
+            CvMappingValidatorTest.class.getResource(
+                "/ontologies/psi-ms-subset.obo"));
+        // a remote service that delegates all queries to the ontology
+        CvLookupService remote = new CvLookupService() {
+            @Override
+            public List<Parameter> resolveParents(Parameter parameter) {
+                return ontology.resolveParents(parameter);
+            }
+
+            @Override
+            public List<Parameter> resolveParents(Parameter parameter,
+                int levels) {
+                return ontology.resolveParents(parameter, levels);
+            }
+
+            @Override
+            public List<Parameter> resolveChildren(Parameter parameter) {
+                return ontology.resolveChildren(parameter);
+            }
+
+            @Override
+            public List<Parameter> resolveChildren(Parameter parameter,
+                int levels) {
+                return ontology.resolveChildren(parameter, levels);
+            }
+
+            @Override
+            public ParameterComparisonResult isChildOfOrSame(Parameter parent,
+                Parameter potentialChild) {
+                return ontology.isChildOfOrSame(parent, potentialChild);
+            }
+
+            @Override
+            public void clearCaches() {
+            }
+        };
+        MzTab mzTab = createTestData();
+        // differs from the term in the ontology by name and label
+        mzTab.getMetadata().
+            getInstrument().
+            get(0).
+            getName().
+            cvLabel("PSI-MS").
+            name("Orbitrap Velos");
+        CvMappingRule rule = prepareRule();
+        rule.setCvElementPath("/metadata/instrument/@name");
+        // the ontology matches on the accession only
+        rule.getCvTerm().
+            get(0).
+            setTermName("instrument model name");
+        JXPathContext context = JXPathContext.newContext(mzTab);
+        List<Pair<Pointer, Parameter>> selection = JxPathElement.toList(
+            context, rule.getCvElementPath(), Parameter.class);
+        for (CvLookupService service : new CvLookupService[]{ontology, remote}) {
+            ResolvingCvRuleHandler unbatched = new ResolvingCvRuleHandler(
+                service, 1);
+            ResolvingCvRuleHandler batched = new ResolvingCvRuleHandler(
+                service, 4);
+            RuleEvaluationResult expected = unbatched.handleRule(rule,
+                selection);
+            assertEquals(1, expected.getAllowedParameters().
+                size());
+            batched.prepare(Collections.singletonMap(rule, selection));
+            RuleEvaluationResult actual = batched.handleRule(rule, selection);
+            assertEquals(expected.getAllowedParameters(), actual.
+                getAllowedParameters());
+            assertEquals(expected.getFoundParameters(), actual.
+                getFoundParameters());
+        }
+        // the ontology is never prepared, the remote service is
+        List<String> unbatchedMessages = CvMappingValidator.of(
+            CvMappingValidatorTest.class.getResource(
+                "/mappings/mzTab-M-mapping.xml"), ontology, false).
+            validate(mzTab).
+            stream().
+            map(ValidationMessage::getMessage).
+            collect(Collectors.toList());
+        List<String> batchedMessages = CvMappingValidator.of(
+            CvMappingValidatorTest.class.getResource(
+                "/mappings/mzTab-M-mapping.xml"), remote, false).
+            validate(mzTab).
+            stream().
+            map(ValidationMessage::getMessage).
+            collect(Collectors.toList());
+        assertEquals(unbatchedMessages, batchedMessages);
+    }
+
     @Test
     public void testCheckCvDefinitions() {
         MzTab mzTabFile = createTestData();
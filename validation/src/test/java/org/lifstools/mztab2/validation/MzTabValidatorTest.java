@@ -23,17 +23,34 @@ import org.lifstools.mztab2.model.Parameter;
 import org.lifstools.mztab2.model.Publication;
 import org.lifstools.mztab2.model.PublicationItem;
 import org.lifstools.mztab2.model.Sample;
+import org.lifstools.mztab2.model.SmallMoleculeEvidence;
+import org.lifstools.mztab2.model.SmallMoleculeSummary;
 import org.lifstools.mztab2.model.ValidationMessage;
 import org.lifstools.mztab2.test.utils.LogMethodName;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
 import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Validation;
 import jakarta.validation.Validator;
 import jakarta.validation.ValidatorFactory;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
 import jakarta.xml.bind.JAXBException;
 import java.net.URI;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 import org.junit.Rule;
 import org.junit.Test;
 
@@ -175,6 +192,149 @@ public class MzTabValidatorTest {
         }
     }
 
+    @Test
+    public void testBeanValidatorIsReused() throws Exception {
+        MzTabBeanValidator beanValidator = new MzTabBeanValidator();
+        MzTab mzTab = createTestFile();
+        mzTab.getMetadata().
+            mzTabVersion(null);
+        jakarta.validation.Validator validator = beanValidator.getValidator();
+        List<String> expected = messages(beanValidator.validate(mzTab));
+        assertFalse(expected.isEmpty());
+        assertSame(validator, beanValidator.getValidator());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            List<Future<List<String>>> results = new ArrayList<>();
+            for (int i = 0; i < 16; i++) {
+                results.add(executor.submit(() -> messages(beanValidator.
+                    validate(mzTab))));
+            }
+            for (Future<List<String>> result : results) {
+                assertEquals(expected, result.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertSame(validator, beanValidator.getValidator());
+
+        // replace the default validator, the mzTabVersion violation vanishes
+        beanValidator.addConstraintAndValidator(NotNull.class,
+            AcceptingNotNullValidator.class, false);
+        assertNotSame(validator, beanValidator.getValidator());
+        List<String> replaced = messages(beanValidator.validate(mzTab));
+        assertTrue(replaced.size() < expected.size());
+
+        // closes the factory of the previous mapping and builds a new one
+        jakarta.validation.Validator replacedValidator = beanValidator.
+            getValidator();
+        beanValidator.addConstraintAndValidator(Size.class,
+            AcceptingSizeValidator.class, false);
+        assertNotSame(replacedValidator, beanValidator.getValidator());
+        assertTrue(messages(beanValidator.validate(mzTab)).
+            size() <= replaced.size());
+    }
+
+    @Test
+    public void testParallelBeanValidation() {
+        MzTab mzTab = createTestFile();
+        mzTab.getMetadata().
+            mzTabVersion(null);
+        for (int i = 0; i < 1000; i++) {
+            mzTab.addSmallMoleculeSummaryItem(new SmallMoleculeSummary().
+                smlId(i + 1));
+            mzTab.addSmallMoleculeEvidenceItem(new SmallMoleculeEvidence());
+        }
+        List<String> expected = messages(new MzTabBeanValidator().validate(
+            mzTab));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<String> actual = messages(new MzTabBeanValidator(false, pool,
+                MzTabBeanValidator.UNBOUNDED).validate(mzTab));
+            assertEquals(expected, actual);
+            assertTrue(actual.stream().
+                anyMatch((m) -> m.startsWith("metadata.mzTabVersion: ")));
+            assertTrue(actual.stream().
+                anyMatch((m) -> m.startsWith("smallMoleculeEvidence[999].")));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testBoundedBeanValidation() {
+        MzTab mzTab = createTestFile();
+        for (int i = 0; i < 1000; i++) {
+            mzTab.addSmallMoleculeEvidenceItem(new SmallMoleculeEvidence());
+        }
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (ForkJoinPool p : Arrays.asList(null, pool)) {
+                List<ValidationMessage> messages = new MzTabBeanValidator(false,
+                    p, 10).validate(mzTab);
+                assertEquals(11, messages.size());
+                assertEquals(ValidationMessage.MessageTypeEnum.WARN, messages.
+                    get(10).
+                    getMessageType());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void testBoundedBeanValidationWithExactBound() {
+        MzTab mzTab = createTestFile();
+        for (int i = 0; i < 600; i++) {
+            mzTab.addSmallMoleculeEvidenceItem(new SmallMoleculeEvidence());
+        }
+        int violations = new MzTabBeanValidator().validate(mzTab).
+            size();
+        assertTrue(violations > 1);
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (ForkJoinPool p : Arrays.asList(null, pool)) {
+                List<ValidationMessage> messages = new MzTabBeanValidator(false,
+                    p, violations).validate(mzTab);
+                assertEquals(violations, messages.size());
+                assertTrue(messages.stream().
+                    noneMatch((m) -> m.getMessageType()
+                    == ValidationMessage.MessageTypeEnum.WARN));
+                messages = new MzTabBeanValidator(false, p, violations - 1).
+                    validate(mzTab);
+                assertEquals(violations, messages.size());
+                assertEquals(ValidationMessage.MessageTypeEnum.WARN, messages.
+                    get(violations - 1).
+                    getMessageType());
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static List<String> messages(List<ValidationMessage> messages) {
+        return messages.stream().
+            map(ValidationMessage::getMessage).
+            sorted().
+            collect(Collectors.toList());
+    }
+
+    public static class AcceptingNotNullValidator implements ConstraintValidator<NotNull, Object> {
+
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            return true;
+        }
+    }
+
+    public static class AcceptingSizeValidator implements ConstraintValidator<Size, Object> {
+
+        @Override
+        public boolean isValid(Object value, ConstraintValidatorContext context) {
+            return true;
+        }
+    }
+
     @Test
     public void testDelegatingValidator() {
         List<ValidationMessage> messages = MzTabValidator.validate(